@@ -1,8 +1,13 @@
 import main.Controller.Controller; // Import Controller
 import main.Model.Database;
+import main.Model.TypeCatalog;
 import main.View.util.UIConstants;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -17,6 +22,10 @@ import java.util.logging.Level;
  */
 public class Main extends Application {
 
+    // Startup phase name -> nanoTime when it finished, in order
+    private final Map<String, Long> myStartupMarks = new LinkedHashMap<>();
+    private long myStartNanos;
+
     // Static block runs before JavaFX initialization to suppress CSS warnings
     static {
         try {
@@ -54,24 +63,74 @@ public class Main extends Application {
      */
     @Override
     public void start(final Stage thePrimaryStage) {
+        myStartNanos = System.nanoTime();
+
         // 1. Create the single Controller instance
         Controller mainController = new Controller();
+        markStartup("controller + model");
 
+        // Read monster and hero stats once so the factories never touch the database
         Database database = new Database();
+        TypeCatalog.load(database);
         database.closeConnection();
+        markStartup("database + type catalog");
 
         // 2. Create UIConstants, passing the stage and the controller
         //    UIConstants will, in turn, create GameUI and pass the controller to it.
         UIConstants uiConstants = new UIConstants(thePrimaryStage, mainController);
+        markStartup("UI construction");
 
         // 3. Access GameUI from UIConstants and show the initial screen
         //    The GameUI instance now has the correct controller.
         //    And all Screen instances created by GameUI will also receive this controller.
         if (uiConstants.getGameUI() != null) {
             uiConstants.getGameUI().showIntroScreen();
+            markStartup("intro screen shown");
+            // Runs after the first pulse has laid out and drawn the intro screen
+            Platform.runLater(() -> {
+                markStartup("first frame");
+                reportStartup();
+            });
         } else {
             System.err.println("Error: GameUI could not be initialized via UIConstants.");
             // Handle error, perhaps show a basic error dialog
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Records the end of a startup phase.
+     *
+     * @param thePhase phase name for the report.
+     */
+    private void markStartup(final String thePhase) {
+        myStartupMarks.put(thePhase, System.nanoTime());
+    }
+
+    /**
+     * Prints how long each startup phase took and the total time-to-intro-screen,
+     * so regressions in start() show up in the console.
+     */
+    private void reportStartup() {
+        StringBuilder report = new StringBuilder("=== STARTUP TIMING ===\n");
+        long previous = myStartNanos;
+        for (Map.Entry<String, Long> mark : myStartupMarks.entrySet()) {
+            report.append(String.format("%-26s %7.1f ms%n", mark.getKey(), (mark.getValue() - previous) / 1_000_000.0));
+            previous = mark.getValue();
+        }
+        long introNanos = myStartupMarks.getOrDefault("intro screen shown", previous) - myStartNanos;
+        report.append(String.format("%-26s %7.1f ms%n", "time-to-intro-screen", introNanos / 1_000_000.0));
+        report.append(String.format("%-26s %7d ms%n", "JVM uptime",
+                ManagementFactory.getRuntimeMXBean().getUptime()));
+        report.append("======================");
+        System.out.println(report);
+    }
+
+    /**
+     * Called by JavaFX when the application exits.
+     * Stops pre-generation, flushes saves and closes the shared database connections.
+     */
+    @Override
+    public void stop() {
+        Controller.shutdownServices();
+    }
+}
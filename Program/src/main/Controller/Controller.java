@@ -1,8 +1,11 @@
 package main.Controller;
 
+import main.Model.ConnectionManager;
 import main.Model.Model;
 import main.Model.character.Hero;
 import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonPool;
+import main.Model.journal.GameJournal;
 import main.Model.util.HeroType;
 import main.View.GameUI;
 import javafx.event.ActionEvent;
@@ -113,9 +116,23 @@ public class Controller {
      * @param theEvent ActionEvent that triggered this method call
      */
     public void exitProgram(final ActionEvent theEvent) {
+        shutdownServices();
         System.exit(0);
     }
 
+    /**
+     * Stops background services in order, for every way the application exits.
+     * Dungeon pre-generation stops first so no dungeon is left half built, then queued
+     * saves and journal events are flushed while the database connections are still open,
+     * and the connections close last. Safe to call more than once.
+     */
+    public static void shutdownServices() {
+        DungeonPool.shutdown();
+        SavePipeline.shutdown();
+        GameJournal.shutdown();
+        ConnectionManager.shutdown();
+    }
+
     /**
      * Sets hero's name based on user input
      * Validates input and sets name flag appropriately
@@ -194,9 +211,29 @@ public class Controller {
 
         myGameModel.initializeNewGame(selectedType, myHeroName);
         initializeGameControllers(theUI); // Initialize controllers AFTER model is ready
+        myGameController.startJournal();
         theUI.showGameScreen(); // Show game screen AFTER controllers are set up
     }
 
+    /**
+     * Continues the game that was running when the program last stopped,
+     * rebuilt from its journal checkpoint and the events after it
+     *
+     * @param theEvent ActionEvent that triggered this method call
+     * @param theUI GameUI instance used to show the game screen
+     */
+    public void continueGame(final ActionEvent theEvent, final GameUI theUI) {
+        GameJournal.Recovery recovery = GameJournal.getInstance().recover();
+        if (recovery == null) {
+            System.err.println("Continue Error: No recoverable game found.");
+            theUI.showIntroScreen();
+            return;
+        }
+        initializeGameControllersForLoadedGame(theUI);
+        myGameController.loadRecoveredGame(recovery);
+        theUI.showGameScreen();
+    }
+
     /**
      * Displays help menu screen
      * Shows game instructions and controls player
@@ -248,6 +285,7 @@ public class Controller {
      * @param theUI GameUI instance used to transition to intro screen
      */
     public void quitToMenu(final GameUI theUI) {
+        GameJournal.getInstance().endSession();
         myGameModel.resetGame();
         myGameController = null;
         myInputController = null;
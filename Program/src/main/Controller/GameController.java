@@ -1,15 +1,20 @@
 package main.Controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import javafx.application.Platform;
 import main.Model.Model;
 import main.Model.character.Hero;
 import main.Model.character.Monster;
 import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.Pathfinder;
 import main.Model.dungeon.Room;
 import main.Model.element.Item;
 import main.Model.element.Pillar;
 import main.Model.element.VisionPotion;
+import main.Model.journal.GameEvent;
+import main.Model.journal.GameJournal;
 import main.Model.util.Direction;
 import main.View.GameUI;
 import main.Controller.StateController.GameState;
@@ -28,6 +33,21 @@ import java.util.List;
  */
 public class GameController {
 
+    /**
+     * Shared, thread-safe writer for the small game state JSON stored with each save
+     */
+    private static final ObjectWriter GAME_STATE_WRITER = new ObjectMapper().writerFor(GameStateData.class);
+
+    /**
+     * Largest side of the explored map thumbnail stored with each save, in cells
+     */
+    private static final int SAVE_THUMBNAIL_SIZE = 32;
+
+    /**
+     * Rooms away the hero can see from the room they enter, down straight lines through doors
+     */
+    private static final int SIGHT_RADIUS = 3;
+
     /**
      * The main game model containing all game state, dungeon data, and player information
      */
@@ -190,14 +210,19 @@ public class GameController {
 
         Hero player = myGameModel.getPlayer();
         Point currentPos = player.getPosition();
-        Point newPos = new Point(currentPos.getX(), currentPos.getY() - 1);
+        // The room's own point, so a move allocates no position
+        Room newRoom = myGameModel.getDungeon().getRoom(currentPos.getX(), currentPos.getY() - 1);
+        if (newRoom == null) {
+            return;
+        }
+        Point newPos = newRoom.getPosition();
 
         // Move player to new room
         player.setPosition(newPos);
 
         // Enter new room and handle room effects
-        Room newRoom = myGameModel.getDungeon().getRoom(newPos);
         enterRoom(newRoom);
+        journal(GameEvent.Type.ROOM_ENTERED, newRoom);
 
         // Notify UI of room change
         notifyRoomChanged();
@@ -215,11 +240,15 @@ public class GameController {
 
         Hero player = myGameModel.getPlayer();
         Point currentPos = player.getPosition();
-        Point newPos = new Point(currentPos.getX(), currentPos.getY() + 1);
+        Room newRoom = myGameModel.getDungeon().getRoom(currentPos.getX(), currentPos.getY() + 1);
+        if (newRoom == null) {
+            return;
+        }
+        Point newPos = newRoom.getPosition();
 
         player.setPosition(newPos);
-        Room newRoom = myGameModel.getDungeon().getRoom(newPos);
         enterRoom(newRoom);
+        journal(GameEvent.Type.ROOM_ENTERED, newRoom);
         notifyRoomChanged();
 
         System.out.println("Player moved south to " + newPos);
@@ -235,11 +264,15 @@ public class GameController {
 
         Hero player = myGameModel.getPlayer();
         Point currentPos = player.getPosition();
-        Point newPos = new Point(currentPos.getX() + 1, currentPos.getY());
+        Room newRoom = myGameModel.getDungeon().getRoom(currentPos.getX() + 1, currentPos.getY());
+        if (newRoom == null) {
+            return;
+        }
+        Point newPos = newRoom.getPosition();
 
         player.setPosition(newPos);
-        Room newRoom = myGameModel.getDungeon().getRoom(newPos);
         enterRoom(newRoom);
+        journal(GameEvent.Type.ROOM_ENTERED, newRoom);
         notifyRoomChanged();
 
         System.out.println("Player moved east to " + newPos);
@@ -255,16 +288,65 @@ public class GameController {
 
         Hero player = myGameModel.getPlayer();
         Point currentPos = player.getPosition();
-        Point newPos = new Point(currentPos.getX() - 1, currentPos.getY());
+        Room newRoom = myGameModel.getDungeon().getRoom(currentPos.getX() - 1, currentPos.getY());
+        if (newRoom == null) {
+            return;
+        }
+        Point newPos = newRoom.getPosition();
 
         player.setPosition(newPos);
-        Room newRoom = myGameModel.getDungeon().getRoom(newPos);
         enterRoom(newRoom);
+        journal(GameEvent.Type.ROOM_ENTERED, newRoom);
         notifyRoomChanged();
 
         System.out.println("Player moved west to " + newPos);
     }
 
+    /**
+     * Walks the hero room by room along the shortest route to the nearest pillar not yet
+     * activated, or to the exit once every pillar is. Each step enters its room as a
+     * normal move would, so the walk stops as soon as a room starts combat.
+     */
+    public void autoTravel() {
+        if (!canMovePlayer()) {
+            return;
+        }
+        Dungeon dungeon = myGameModel.getDungeon();
+        Pathfinder pathfinder = dungeon.getPathfinder();
+        if (pathfinder == null) {
+            System.out.println("Auto-travel is not available in this dungeon");
+            return;
+        }
+        Point start = myGameModel.getPlayer().getPosition();
+        List<Point> route = pathfinder.findPathToNearest(start, point -> {
+            Room room = dungeon.getRoom(point);
+            return room.hasPillar() && !room.getPillar().isActivated();
+        });
+        if (route.isEmpty()) {
+            route = pathfinder.findPathHierarchical(start, dungeon.getExitPoint());
+        }
+        if (route.size() < 2) {
+            System.out.println("Auto-travel: nowhere to go from " + start);
+            return;
+        }
+
+        for (int i = 1; i < route.size() && canMovePlayer(); i++) {
+            Point from = route.get(i - 1);
+            Point to = route.get(i);
+            if (to.getX() > from.getX()) {
+                movePlayerEast();
+            } else if (to.getX() < from.getX()) {
+                movePlayerWest();
+            } else if (to.getY() > from.getY()) {
+                movePlayerSouth();
+            } else {
+                movePlayerNorth();
+            }
+        }
+        System.out.println("Auto-travel stopped at " + myGameModel.getPlayer().getPosition()
+                + ", route was " + (route.size() - 1) + " rooms");
+    }
+
     /**
      * Stops all player movement
      */
@@ -313,11 +395,12 @@ public class GameController {
             return;
         }
 
-        // Mark room as visited
+        // Mark room as visited, and the rooms the hero can see from it on the map
         theRoom.setVisited(true);
+        myGameModel.getDungeon().revealVisible(theRoom.getPosition(), SIGHT_RADIUS);
 
         // Check for monsters first
-        if (!theRoom.getMonsters().isEmpty()) {
+        if (theRoom.hasMonsters()) {
             System.out.println("DEBUG: Setting myEnteringCombat to true");
             myEnteringCombat = true;
             stopPlayerMovement();
@@ -367,12 +450,7 @@ public class GameController {
      * Sets all rooms in the dungeon as visited, making them visible to the player
      */
     public void activateDungeonVisionCheat() {
-        Dungeon dungeon = myGameModel.getDungeon();
-        for (int row = 0; row < dungeon.getHeight(); row++) {
-            for (int col = 0; col < dungeon.getWidth(); col++) {
-                dungeon.getRoom(row, col).setVisited(true);
-            }
-        }
+        myGameModel.getDungeon().revealAll();
     }
 
     /**
@@ -392,7 +470,7 @@ public class GameController {
             System.out.println("Player triggered a trap and took " + damage + " damage!");
 
             // Mark the trap as sprung so it won't trigger again
-            theRoom.getTrap().trigger(player);
+            theRoom.springTrap(player);
 
             // Trigger the damage flash effect
             triggerDamageFlash();
@@ -431,13 +509,16 @@ public class GameController {
 
             System.out.println("DEBUG: Before activation - Player pillars: " + player.getPillarsActivated());
 
-            boolean activated = player.activatePillar(pillar);
+            boolean activated = theRoom.activatePillar(player);
 
             if (activated) {
                 System.out.println("DEBUG: After activation - Player pillars: " + player.getPillarsActivated());
 
                 // Record pillar activation in dungeon
-                myGameModel.getDungeon().recordPillarActivation();
+                Dungeon dungeon = myGameModel.getDungeon();
+                dungeon.recordPillarActivation();
+                // The last pillar spawns the boss in the exit room
+                journal(GameEvent.Type.PILLAR_ACTIVATED, theRoom, dungeon.getRoom(dungeon.getExitPoint()));
 
                 // Update UI to show pillar activation and stat changes
                 myGameUI.showPillarActivated(pillar);
@@ -482,6 +563,7 @@ public class GameController {
 
         if (allPillarsActivated && atExit) {
             System.out.println("🎉 WIN CONDITION MET! 🎉");
+            GameJournal.getInstance().endSession();
             myStateController.changeState(GameState.VICTORY);
             myGameUI.showVictoryScreen();
         } else {
@@ -499,6 +581,8 @@ public class GameController {
     private void checkPlayerStatus() {
         if (myGameModel.getPlayer().getHealth() <= 0) {
             System.out.println("Player has died!");
+            // A lost game is not worth recovering
+            GameJournal.getInstance().endSession();
             myStateController.changeState(GameState.GAME_OVER);
             myGameUI.showGameOverScreen();
         }
@@ -537,7 +621,7 @@ public class GameController {
         }
 
         // Check for items on the ground
-        if (!currentRoom.getItems().isEmpty()) {
+        if (currentRoom.hasUncollectedItems()) {
             collectItems(currentRoom);
             return;
         }
@@ -593,6 +677,7 @@ public class GameController {
 
             // Update UI
             if (!collectedItems.isEmpty()) {
+                journal(GameEvent.Type.ITEM_PICKED_UP, theRoom);
                 myGameUI.updateInventory();
                 myGameUI.showItemCollectionMessage(collectedItems);
             }
@@ -871,6 +956,10 @@ public class GameController {
         myEnteringCombat = false; // Reset the combat flag
         myLastCombatEndTime = System.currentTimeMillis();
 
+        Room currentRoom = myGameModel.getDungeon().getRoom(myGameModel.getPlayer().getPosition());
+        journal(currentRoom.getMonsters().isEmpty() ? GameEvent.Type.COMBAT_WON : GameEvent.Type.COMBAT_FLED,
+                currentRoom);
+
         myStateController.changeState(GameState.EXPLORING);
         myGameUI.hideCombatScreen();
         System.out.println("Combat ended, returning to exploration");
@@ -893,6 +982,7 @@ public class GameController {
 
             // Get items from chest
             currentRoom.openChest(player);
+            journal(GameEvent.Type.ITEM_PICKED_UP, currentRoom);
 
             // Update UI
             myGameUI.showChestContents(currentRoom.getChest());
@@ -1003,41 +1093,46 @@ public class GameController {
     }
 
     /**
-     * Loads game from database data
+     * Loads game from database data.
+     * Payloads may be in the binary save format or legacy JSON.
+     */
+    public boolean loadGameFromSaveData(byte[] playerData, byte[] dungeonData, String gameStateData) {
+        return loadGameFromSaveData(null, playerData, dungeonData, null, gameStateData);
+    }
+
+    /**
+     * Loads game from database data, laying the rooms written by delta saves over the dungeon payload.
+     * Later saves to the same slot then only write rooms changed after the load.
+     *
+     * @param saveName slot the data came from, or null if it is not from a slot.
+     * @param playerData hero payload.
+     * @param dungeonData dungeon payload from the slot's last full save.
+     * @param dungeonChanges rooms from Database.loadDungeonDelta, or null.
+     * @param gameStateData game state JSON.
+     * @return true if the game was loaded.
      */
-    public boolean loadGameFromSaveData(String playerData, String dungeonData, String gameStateData) {
+    public boolean loadGameFromSaveData(String saveName, byte[] playerData, byte[] dungeonData,
+                                        DungeonDelta dungeonChanges, String gameStateData) {
         try {
             // Restore player
-            Hero loadedPlayer = Hero.fromJson(playerData);
+            Hero loadedPlayer = Hero.fromSaveBytes(playerData);
+            if (loadedPlayer == null) {
+                return false;
+            }
             myGameModel.setPlayer(loadedPlayer);
 
             // Restore dungeon
-            Dungeon loadedDungeon = Dungeon.fromJson(dungeonData);
-            myGameModel.setDungeon(loadedDungeon);
-
-            // Right here VisonPlaceholder potions are replaced with vision. Getting the dungeon needed for
-            // vision potion parameters was hard in the reload hero stuff, so a placeholders were put into
-            // the inventory for replacing here.
-            int inventorySize = loadedPlayer.getInventory().size() - 1;
-            while (inventorySize >= 0) {
-                if (loadedPlayer.getInventory().get(inventorySize).getName().equals("VisionPlaceholder")) {
-                    loadedPlayer.useItem(loadedPlayer.getInventory().get(inventorySize));
-                    loadedPlayer.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", loadedDungeon));
-                }
-                inventorySize--;
+            Dungeon loadedDungeon = Dungeon.fromSaveBytes(dungeonData);
+            if (loadedDungeon == null) {
+                return false;
             }
-
-
-            // DON'T restore the saved game state - always start in EXPLORING
-            // The saved state might be PAUSED, COMBAT, etc. which we don't want
-            // ObjectMapper mapper = new ObjectMapper();
-            // GameStateData stateData = mapper.readValue(gameStateData, GameStateData.class);
-            // myStateController.changeState(GameState.valueOf(stateData.currentState));
-
-            // INSTEAD: Always set to EXPLORING when loading
-            myStateController.changeState(GameState.EXPLORING);
+            loadedDungeon.applyChanges(dungeonChanges);
+            loadedDungeon.setSaveSlot(saveName);
+            myGameModel.setDungeon(loadedDungeon);
+            resumeLoadedGame(loadedPlayer, loadedDungeon);
 
             System.out.println("Game loaded successfully from save data - State set to EXPLORING");
+            startJournal();
             return true;
         } catch (Exception e) {
             System.err.println("Error loading game from save data: " + e.getMessage());
@@ -1047,39 +1142,134 @@ public class GameController {
     }
 
     /**
-     * Saves the game with a custom name
+     * Resumes a game rebuilt by GameJournal.recover after the program stopped without saving.
+     *
+     * @param theRecovery recovered hero and dungeon.
      */
-    public void saveGameWithName(String saveName) {
-        try {
-            //serialize player data
-            String playerData = myGameModel.getPlayer().toJson();
+    public void loadRecoveredGame(final GameJournal.Recovery theRecovery) {
+        myGameModel.setPlayer(theRecovery.getHero());
+        myGameModel.setDungeon(theRecovery.getDungeon());
+        resumeLoadedGame(theRecovery.getHero(), theRecovery.getDungeon());
+        startJournal();
+        System.out.println("Recovered game after " + theRecovery.getReplayedEvents() + " journaled events");
+    }
 
-            //serialize dungeon data
-            String dungeonData = myGameModel.getDungeon().toJson();
+    /**
+     * Finishes a load once the hero and dungeon are in the model.
+     */
+    private void resumeLoadedGame(final Hero loadedPlayer, final Dungeon loadedDungeon) {
+        // Right here VisonPlaceholder potions are replaced with vision. Getting the dungeon needed for
+        // vision potion parameters was hard in the reload hero stuff, so a placeholders were put into
+        // the inventory for replacing here.
+        int inventorySize = loadedPlayer.getInventory().size() - 1;
+        while (inventorySize >= 0) {
+            if (loadedPlayer.getInventory().get(inventorySize).getName().equals("VisionPlaceholder")) {
+                loadedPlayer.useItem(loadedPlayer.getInventory().get(inventorySize));
+                loadedPlayer.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", loadedDungeon));
+            }
+            inventorySize--;
+        }
 
-            //create game state info
-            GameStateData stateData = new GameStateData();
-            stateData.currentState = myStateController.getCurrentState().name();
-            stateData.saveTimestamp = System.currentTimeMillis();
 
-            ObjectMapper mapper = new ObjectMapper();
-            String gameStateJson = mapper.writeValueAsString(stateData);
+        // DON'T restore the saved game state - always start in EXPLORING
+        // The saved state might be PAUSED, COMBAT, etc. which we don't want
+        // ObjectMapper mapper = new ObjectMapper();
+        // GameStateData stateData = mapper.readValue(gameStateData, GameStateData.class);
+        // myStateController.changeState(GameState.valueOf(stateData.currentState));
 
-            //save to database with custom name
-            boolean saved = myGameModel.getDatabase().saveGameData(
-                    saveName,
-                    playerData,
-                    dungeonData,
-                    gameStateJson
-            );
+        // INSTEAD: Always set to EXPLORING when loading
+        myStateController.changeState(GameState.EXPLORING);
+    }
 
-            if (saved) {
-                System.out.println("Game saved successfully as: " + saveName);
-                myGameUI.showSaveSuccessMessage();
-            } else {
-                System.out.println("Failed to save game: " + saveName);
+    /**
+     * Starts journaling the current game from a checkpoint of its present state.
+     */
+    public void startJournal() {
+        GameJournal.getInstance().startSession(myGameModel.getPlayer().toSaveBytes(),
+                myGameModel.getDungeon().toSaveBytes());
+    }
+
+    /**
+     * Journals an event with the hero as it is now and the rooms the event changed,
+     * and writes a new checkpoint when enough events have built up since the last one.
+     *
+     * @param theType what happened.
+     * @param theRooms rooms the event changed.
+     */
+    public void journal(final GameEvent.Type theType, final Room... theRooms) {
+        Hero player = myGameModel.getPlayer();
+        Dungeon dungeon = myGameModel.getDungeon();
+        GameJournal journal = GameJournal.getInstance();
+        journal.append(new GameEvent(theType, System.currentTimeMillis(), player.toSaveBytes(),
+                dungeon.snapshotRooms(theRooms)));
+        if (journal.isCheckpointDue()) {
+            journal.checkpoint(player.toSaveBytes(), dungeon.toSaveBytes());
+        }
+    }
+
+    /**
+     * Saves the game with a custom name.
+     * The hero and dungeon are snapshotted into binary payloads here on the FX thread,
+     * the dungeon in full only on the first save to a slot and as changed rooms after that,
+     * then SavePipeline commits them on its writer thread and reports back through
+     * showSaveSuccessMessage or showSaveFailureMessage.
+     */
+    public void saveGameWithName(String saveName) {
+        try {
+            long start = System.nanoTime();
+
+            //snapshot player data
+            byte[] playerData = myGameModel.getPlayer().toSaveBytes();
+
+            //snapshot dungeon data: the whole dungeon the first time this slot is written,
+            //afterwards only the rooms changed since the last save
+            Dungeon dungeon = myGameModel.getDungeon();
+            byte[] dungeonBase = null;
+            if (!dungeon.isSavedTo(saveName)) {
+                dungeonBase = dungeon.toSaveBytes();
+                if (dungeonBase == null) {
+                    myGameUI.showSaveFailureMessage();
+                    return;
+                }
+            }
+            if (playerData == null) {
                 myGameUI.showSaveFailureMessage();
+                return;
+            }
+            DungeonDelta delta = dungeon.takeChanges();
+            if (dungeonBase != null) {
+                // the base already holds these rooms
+                delta = null;
+                dungeon.setSaveSlot(saveName);
             }
+            final int roomsWritten = dungeonBase != null
+                    ? dungeon.getWidth() * dungeon.getHeight() : delta.getRoomCount();
+
+            //create game state info
+            GameStateData stateData = new GameStateData();
+            stateData.currentState = myStateController.getCurrentState().name();
+            stateData.saveTimestamp = System.currentTimeMillis();
+            String gameStateJson = GAME_STATE_WRITER.writeValueAsString(stateData);
+
+            SavePipeline pipeline = SavePipeline.getInstance();
+            byte[] thumbnail = dungeon.createThumbnail(SAVE_THUMBNAIL_SIZE);
+            pipeline.submit(myGameModel.getDatabase(), saveName, playerData, dungeonBase, delta, gameStateJson,
+                    thumbnail, theSaved -> {
+                if (theSaved) {
+                    System.out.println("Game saved successfully as: " + saveName + ", " + roomsWritten + " rooms"
+                            + " (" + String.format("%.1f", pipeline.getLastLatencyMillis()) + " ms)");
+                    myGameUI.showSaveSuccessMessage();
+                } else {
+                    // the changed rooms were not written, so the next save must be a full one
+                    if (dungeon.isSavedTo(saveName)) {
+                        dungeon.setSaveSlot(null);
+                    }
+                    System.out.println("Failed to save game: " + saveName);
+                    myGameUI.showSaveFailureMessage();
+                }
+            });
+            System.out.println("Save snapshot for " + saveName + " took "
+                    + (System.nanoTime() - start) / 1_000 + " us, queue depth " + pipeline.getQueueDepth());
         } catch (Exception e) {
             System.err.println("Error saving game: " + e.getMessage());
             myGameUI.showSaveFailureMessage();
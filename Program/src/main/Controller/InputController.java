@@ -205,6 +205,9 @@ public class InputController {
             case I:
                 myGameController.openInventory();
                 break;
+            case T:
+                myGameController.autoTravel();
+                break;
             case ESCAPE:
                 myGameController.pauseGame();
                 break;
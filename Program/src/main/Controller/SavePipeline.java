@@ -0,0 +1,334 @@
+package main.Controller;
+
+import javafx.application.Platform;
+import main.Model.Database;
+import main.Model.codec.PayloadCodecs;
+import main.Model.dungeon.DungeonDelta;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Writes game saves on one background thread so the JavaFX thread never waits on SQLite.
+ * The caller snapshots the hero and dungeon into save payloads on the FX thread and
+ * submits them; the writer thread commits them and reports back on the callback executor.
+ * A save submitted while an earlier save to the same slot is still queued replaces it,
+ * so only the newest state for a slot is written. Queued dungeon deltas are merged
+ * rather than replaced, since each one only holds the rooms changed since the one before.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class SavePipeline {
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    private static SavePipeline myInstance;
+
+    private final ExecutorService myWriter;
+    private final Executor myCallbackExecutor;
+
+    /** Saves queued but not started yet, by slot name. Guarded by itself. */
+    private final Map<String, PendingSave> myPending;
+
+    private final AtomicInteger myQueueDepth = new AtomicInteger();
+    private final AtomicLong mySubmitted = new AtomicLong();
+    private final AtomicLong myCoalesced = new AtomicLong();
+    private final AtomicLong myCompleted = new AtomicLong();
+    private final AtomicLong myFailed = new AtomicLong();
+    private final AtomicLong myTotalLatencyNanos = new AtomicLong();
+    private final AtomicLong myMaxLatencyNanos = new AtomicLong();
+    private final AtomicLong myLastLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates a pipeline with its own writer thread.
+     *
+     * @param theCallbackExecutor where completion callbacks run, Platform::runLater in the game.
+     */
+    public SavePipeline(final Executor theCallbackExecutor) {
+        if (theCallbackExecutor == null) {
+            throw new IllegalArgumentException("Callback executor cannot be null for SavePipeline.");
+        }
+        this.myCallbackExecutor = theCallbackExecutor;
+        this.myPending = new LinkedHashMap<>();
+        this.myWriter = Executors.newSingleThreadExecutor(theTask -> {
+            Thread thread = new Thread(theTask, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the shared pipeline, which reports back on the JavaFX thread.
+     *
+     * @return the shared pipeline.
+     */
+    public static synchronized SavePipeline getInstance() {
+        if (myInstance == null) {
+            myInstance = new SavePipeline(Platform::runLater);
+        }
+        return myInstance;
+    }
+
+    /**
+     * Finishes every queued save and stops the shared writer thread.
+     * The next getInstance call starts a fresh pipeline.
+     */
+    public static synchronized void shutdown() {
+        if (myInstance != null) {
+            myInstance.close();
+            System.out.println("Save pipeline stopped. " + myInstance.getStats());
+            String codecStats = PayloadCodecs.getMetrics().getStats();
+            if (!codecStats.isEmpty()) {
+                System.out.println("Save compression:\n" + codecStats);
+            }
+            myInstance = null;
+        }
+    }
+
+    /**
+     * Queues a full save. If a save to the same slot is still waiting, its payloads are
+     * replaced by these and no extra write happens.
+     *
+     * @param theDatabase database to write to.
+     * @param theSaveName slot name.
+     * @param thePlayerData hero payload.
+     * @param theDungeonData dungeon payload.
+     * @param theGameState game state JSON.
+     * @param theOnDone called with true on success, false on failure, on the callback executor.
+     */
+    public void submit(final Database theDatabase, final String theSaveName, final byte[] thePlayerData,
+                       final byte[] theDungeonData, final String theGameState, final Consumer<Boolean> theOnDone) {
+        submit(theDatabase, theSaveName, thePlayerData, theDungeonData, null, theGameState, theOnDone);
+    }
+
+    /**
+     * Queues a save of a full dungeon payload, a delta of changed rooms, or both.
+     * If a save to the same slot is still waiting the two are combined: a new full
+     * payload replaces everything queued, while a delta alone is merged into the queued
+     * delta and keeps the queued full payload.
+     *
+     * @param theDatabase database to write to.
+     * @param theSaveName slot name.
+     * @param thePlayerData hero payload.
+     * @param theDungeonBase full dungeon payload, or null for a delta save.
+     * @param theDelta rooms changed since the last save, or null.
+     * @param theGameState game state JSON.
+     * @param theOnDone called with true on success, false on failure, on the callback executor.
+     */
+    public void submit(final Database theDatabase, final String theSaveName, final byte[] thePlayerData,
+                       final byte[] theDungeonBase, final DungeonDelta theDelta, final String theGameState,
+                       final Consumer<Boolean> theOnDone) {
+        submit(theDatabase, theSaveName, thePlayerData, theDungeonBase, theDelta, theGameState, null, theOnDone);
+    }
+
+    /**
+     * Queues a save like the method above, with a map thumbnail for the saves browser.
+     * Combined saves keep the newest thumbnail.
+     *
+     * @param theDatabase database to write to.
+     * @param theSaveName slot name.
+     * @param thePlayerData hero payload.
+     * @param theDungeonBase full dungeon payload, or null for a delta save.
+     * @param theDelta rooms changed since the last save, or null.
+     * @param theGameState game state JSON.
+     * @param theThumbnail map from Dungeon.createThumbnail, or null.
+     * @param theOnDone called with true on success, false on failure, on the callback executor.
+     */
+    public void submit(final Database theDatabase, final String theSaveName, final byte[] thePlayerData,
+                       final byte[] theDungeonBase, final DungeonDelta theDelta, final String theGameState,
+                       final byte[] theThumbnail, final Consumer<Boolean> theOnDone) {
+        if (theDatabase == null || theSaveName == null || theOnDone == null) {
+            throw new IllegalArgumentException("Database, save name and callback cannot be null for a save.");
+        }
+        mySubmitted.incrementAndGet();
+        long now = System.nanoTime();
+
+        synchronized (myPending) {
+            PendingSave previous = myPending.get(theSaveName);
+            if (previous != null) {
+                // The queued task for this slot will pick up the newer payloads.
+                // Both callers hear the result, and latency counts from the first request.
+                byte[] base = theDungeonBase;
+                DungeonDelta delta = theDelta;
+                if (base == null) {
+                    base = previous.myDungeonBase;
+                    if (previous.myDelta != null) {
+                        delta = theDelta == null ? previous.myDelta : previous.myDelta.mergedWith(theDelta);
+                    }
+                }
+                byte[] thumbnail = theThumbnail == null ? previous.myThumbnail : theThumbnail;
+                myPending.put(theSaveName, new PendingSave(theDatabase, theSaveName, thePlayerData,
+                        base, delta, theGameState, thumbnail, previous.myOnDone.andThen(theOnDone),
+                        previous.mySubmittedNanos));
+                myCoalesced.incrementAndGet();
+                return;
+            }
+            myPending.put(theSaveName, new PendingSave(theDatabase, theSaveName, thePlayerData,
+                    theDungeonBase, theDelta, theGameState, theThumbnail, theOnDone, now));
+        }
+        myQueueDepth.incrementAndGet();
+        myWriter.execute(() -> write(theSaveName));
+    }
+
+    /**
+     * Runs on the writer thread.
+     *
+     * @param theSaveName slot to write.
+     */
+    private void write(final String theSaveName) {
+        PendingSave save;
+        synchronized (myPending) {
+            save = myPending.remove(theSaveName);
+        }
+        myQueueDepth.decrementAndGet();
+        if (save == null) {
+            return;
+        }
+
+        boolean saved;
+        try {
+            saved = save.myPlayerData != null && (save.myDungeonBase != null || save.myDelta != null)
+                    && save.myDatabase.saveGame(save.mySaveName, save.myPlayerData,
+                    save.myDungeonBase, save.myDelta, save.myGameState, save.myThumbnail);
+        } catch (RuntimeException e) {
+            System.err.println("Error saving game: " + e.getMessage());
+            saved = false;
+        }
+
+        long latency = System.nanoTime() - save.mySubmittedNanos;
+        myLastLatencyNanos.set(latency);
+        myTotalLatencyNanos.addAndGet(latency);
+        myMaxLatencyNanos.accumulateAndGet(latency, Math::max);
+        if (saved) {
+            myCompleted.incrementAndGet();
+        } else {
+            myFailed.incrementAndGet();
+        }
+
+        final boolean result = saved;
+        try {
+            myCallbackExecutor.execute(() -> save.myOnDone.accept(result));
+        } catch (IllegalStateException e) {
+            // The UI toolkit is already gone when the last saves flush at exit
+            System.out.println("Save of " + save.mySaveName + (result ? " finished" : " failed") + " after UI exit");
+        }
+    }
+
+    /**
+     * Waits for queued saves to finish and stops the writer thread.
+     */
+    public void close() {
+        myWriter.shutdown();
+        try {
+            if (!myWriter.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Timed out waiting for " + getQueueDepth() + " queued saves");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of save tasks waiting for the writer thread.
+     *
+     * @return queue depth.
+     */
+    public int getQueueDepth() {
+        return myQueueDepth.get();
+    }
+
+    public long getSubmittedCount() {
+        return mySubmitted.get();
+    }
+
+    public long getCoalescedCount() {
+        return myCoalesced.get();
+    }
+
+    public long getCompletedCount() {
+        return myCompleted.get();
+    }
+
+    public long getFailedCount() {
+        return myFailed.get();
+    }
+
+    /**
+     * Gets the time from submit to commit of the most recent save.
+     *
+     * @return latency in milliseconds.
+     */
+    public double getLastLatencyMillis() {
+        return myLastLatencyNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Gets the slowest submit to commit time so far.
+     *
+     * @return latency in milliseconds.
+     */
+    public double getMaxLatencyMillis() {
+        return myMaxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * Gets the average submit to commit time of written saves.
+     *
+     * @return latency in milliseconds, 0 before the first save.
+     */
+    public double getAverageLatencyMillis() {
+        long written = myCompleted.get() + myFailed.get();
+        return written == 0 ? 0 : myTotalLatencyNanos.get() / 1_000_000.0 / written;
+    }
+
+    /**
+     * Gets a one line summary of the queue and latency counters.
+     *
+     * @return counter summary.
+     */
+    public String getStats() {
+        return String.format("Saves submitted: %d, coalesced: %d, completed: %d, failed: %d, queued: %d, "
+                        + "latency avg %.1f ms, max %.1f ms",
+                getSubmittedCount(), getCoalescedCount(), getCompletedCount(), getFailedCount(),
+                getQueueDepth(), getAverageLatencyMillis(), getMaxLatencyMillis());
+    }
+
+    /**
+     * One save waiting for the writer thread.
+     */
+    private static final class PendingSave {
+        private final Database myDatabase;
+        private final String mySaveName;
+        private final byte[] myPlayerData;
+        private final byte[] myDungeonBase;
+        private final DungeonDelta myDelta;
+        private final String myGameState;
+        private final byte[] myThumbnail;
+        private final Consumer<Boolean> myOnDone;
+        private final long mySubmittedNanos;
+
+        private PendingSave(final Database theDatabase, final String theSaveName, final byte[] thePlayerData,
+                            final byte[] theDungeonBase, final DungeonDelta theDelta, final String theGameState,
+                            final byte[] theThumbnail, final Consumer<Boolean> theOnDone,
+                            final long theSubmittedNanos) {
+            this.myDatabase = theDatabase;
+            this.mySaveName = theSaveName;
+            this.myPlayerData = thePlayerData;
+            this.myDungeonBase = theDungeonBase;
+            this.myDelta = theDelta;
+            this.myGameState = theGameState;
+            this.myThumbnail = theThumbnail;
+            this.myOnDone = theOnDone;
+            this.mySubmittedNanos = theSubmittedNanos;
+        }
+    }
+}
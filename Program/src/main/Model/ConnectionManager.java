@@ -0,0 +1,290 @@
+package main.Model;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide owner of the SQLite connections.
+ * SQLite runs in WAL mode so a small pool of read-only connections can query
+ * while the single writer connection commits. Every connection keeps its
+ * prepared statements cached by SQL text.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class ConnectionManager {
+    private static final String DB_NAME = "dungeondive.db"; // In the root of the project
+    private static final int READER_COUNT = 3;
+    private static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long READER_WAIT_SECONDS = 10;
+
+    private static ConnectionManager myInstance;
+
+    private final PooledConnection myWriter;
+    private final ReentrantLock myWriteLock;
+    private final BlockingQueue<PooledConnection> myReaders;
+    private final List<PooledConnection> myAllConnections;
+
+    private final AtomicLong myPoolHits = new AtomicLong();
+    private final AtomicLong myPoolWaits = new AtomicLong();
+    private final AtomicLong myStatementCacheHits = new AtomicLong();
+    private final AtomicLong myStatementCacheMisses = new AtomicLong();
+
+    /**
+     * Opens the writer and reader connections.
+     *
+     * @throws SQLException if a connection cannot be opened.
+     */
+    private ConnectionManager() throws SQLException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite JDBC Driver not found: " + e.getMessage(), e);
+        }
+        myAllConnections = new ArrayList<>();
+        myWriteLock = new ReentrantLock();
+        myReaders = new ArrayBlockingQueue<>(READER_COUNT);
+        try {
+            // The writer is opened first so WAL mode is on before any reader attaches
+            myWriter = open(false);
+            for (int i = 0; i < READER_COUNT; i++) {
+                myReaders.add(open(true));
+            }
+        } catch (SQLException e) {
+            closeAll();
+            throw e;
+        }
+        System.out.println("Connection pool ready: 1 writer, " + READER_COUNT + " readers (WAL) on " + DB_NAME);
+    }
+
+    /**
+     * Gets the shared manager, opening the pool on first use.
+     *
+     * @return the shared connection manager.
+     * @throws SQLException if the pool cannot be opened.
+     */
+    public static synchronized ConnectionManager getInstance() throws SQLException {
+        if (myInstance == null) {
+            myInstance = new ConnectionManager();
+        }
+        return myInstance;
+    }
+
+    /**
+     * Closes every pooled connection. The next getInstance call opens a fresh pool.
+     */
+    public static synchronized void shutdown() {
+        if (myInstance != null) {
+            System.out.println("Closing connection pool. " + myInstance.getStats());
+            myInstance.closeAll();
+            myInstance = null;
+        }
+    }
+
+    /**
+     * Opens one tuned connection.
+     *
+     * @param theReadOnly true for a pooled reader.
+     * @return the pooled connection.
+     * @throws SQLException if the connection cannot be opened.
+     */
+    private PooledConnection open(final boolean theReadOnly) throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + DB_NAME);
+        PooledConnection pooled = new PooledConnection(connection);
+        myAllConnections.add(pooled);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("PRAGMA mmap_size=268435456");   // 256 MB memory-mapped I/O
+            statement.execute("PRAGMA cache_size=-16000");     // 16 MB page cache
+            statement.execute("PRAGMA busy_timeout=5000");
+            if (theReadOnly) {
+                statement.execute("PRAGMA query_only=ON");
+            }
+        }
+        return pooled;
+    }
+
+    /**
+     * Runs work on a pooled reader. Any number of threads up to the pool size
+     * read at the same time, and readers never block the writer.
+     *
+     * @param theWork the query work.
+     * @param <T> result type.
+     * @return the work's result.
+     * @throws SQLException on database errors or if no reader frees up in time.
+     */
+    public <T> T read(final SqlWork<T> theWork) throws SQLException {
+        PooledConnection reader = myReaders.poll();
+        if (reader != null) {
+            myPoolHits.incrementAndGet();
+        } else {
+            myPoolWaits.incrementAndGet();
+            try {
+                reader = myReaders.poll(READER_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted waiting for a reader connection", e);
+            }
+            if (reader == null) {
+                throw new SQLException("Timed out waiting for a reader connection");
+            }
+        }
+        try {
+            return theWork.run(reader);
+        } finally {
+            myReaders.add(reader);
+        }
+    }
+
+    /**
+     * Runs work on the single writer connection. Writers are serialized.
+     *
+     * @param theWork the update work.
+     * @param <T> result type.
+     * @return the work's result.
+     * @throws SQLException on database errors.
+     */
+    public <T> T write(final SqlWork<T> theWork) throws SQLException {
+        myWriteLock.lock();
+        try {
+            return theWork.run(myWriter);
+        } finally {
+            myWriteLock.unlock();
+        }
+    }
+
+    private void closeAll() {
+        for (PooledConnection pooled : myAllConnections) {
+            pooled.close();
+        }
+        myAllConnections.clear();
+        myReaders.clear();
+    }
+
+    public long getPoolHits() {
+        return myPoolHits.get();
+    }
+
+    public long getPoolWaits() {
+        return myPoolWaits.get();
+    }
+
+    public long getStatementCacheHits() {
+        return myStatementCacheHits.get();
+    }
+
+    public long getStatementCacheMisses() {
+        return myStatementCacheMisses.get();
+    }
+
+    /**
+     * Gets a one line summary of the pool and statement cache counters.
+     *
+     * @return counter summary.
+     */
+    public String getStats() {
+        return "Pool hits: " + getPoolHits() + ", pool waits: " + getPoolWaits()
+                + ", statement cache hits: " + getStatementCacheHits()
+                + ", statement cache misses: " + getStatementCacheMisses();
+    }
+
+    /**
+     * Work to run against a pooled connection.
+     *
+     * @param <T> result type.
+     */
+    @FunctionalInterface
+    public interface SqlWork<T> {
+        T run(PooledConnection theConnection) throws SQLException;
+    }
+
+    /**
+     * A connection owned by the pool together with its prepared statement cache.
+     * Only one thread uses a pooled connection at a time.
+     */
+    public final class PooledConnection {
+        private final Connection myConnection;
+        private final Map<String, PreparedStatement> myStatements;
+
+        private PooledConnection(final Connection theConnection) {
+            this.myConnection = theConnection;
+            // Access ordered so the least recently used statement is closed first
+            this.myStatements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> theEldest) {
+                    if (size() > STATEMENT_CACHE_SIZE) {
+                        closeQuietly(theEldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Gets a cached prepared statement for the SQL text, preparing it on first use.
+         * The statement stays open for reuse, so callers must not close it
+         * but must close any ResultSet they get from it.
+         *
+         * @param theSql SQL text.
+         * @return a prepared statement with cleared parameters.
+         * @throws SQLException if the statement cannot be prepared.
+         */
+        public PreparedStatement prepare(final String theSql) throws SQLException {
+            PreparedStatement statement = myStatements.get(theSql);
+            if (statement != null && !statement.isClosed()) {
+                myStatementCacheHits.incrementAndGet();
+                statement.clearParameters();
+                return statement;
+            }
+            myStatementCacheMisses.incrementAndGet();
+            statement = myConnection.prepareStatement(theSql);
+            myStatements.put(theSql, statement);
+            return statement;
+        }
+
+        /**
+         * Gets the raw connection for DDL and transaction control.
+         *
+         * @return the JDBC connection.
+         */
+        public Connection getConnection() {
+            return myConnection;
+        }
+
+        private void close() {
+            for (PreparedStatement statement : myStatements.values()) {
+                closeQuietly(statement);
+            }
+            myStatements.clear();
+            try {
+                myConnection.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing pooled connection: " + e.getMessage());
+            }
+        }
+
+        private void closeQuietly(final PreparedStatement theStatement) {
+            try {
+                theStatement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing cached statement: " + e.getMessage());
+            }
+        }
+    }
+}
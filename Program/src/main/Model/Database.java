@@ -1,19 +1,36 @@
 package main.Model;
 
+import main.Model.ConnectionManager.PooledConnection;
+import main.Model.character.Hero;
+import main.Model.codec.PayloadCodec;
+import main.Model.codec.PayloadCodecs;
+import main.Model.dungeon.DungeonDelta;
 import main.Model.util.HeroType;
 import main.Model.util.MonsterType;
+import main.Model.util.PillarType;
+import main.Model.util.Point;
 import main.Model.util.RoomType;
 
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetProvider;
+import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Database handler for DungeonDive game.
- * Manages database connection, table creation, and initial data population.
+ * Manages table creation, initial data population and game saves.
+ * Connections come from the shared ConnectionManager, so creating a Database
+ * no longer opens a new connection. Queries hand back detached rows, so no
+ * statement or pooled connection is held once a method returns.
  *
  * @author Jacob Hilliker
  * @author Emanuel Feria
@@ -21,36 +38,245 @@ import java.sql.Statement;
  * @version 6/13/2025
  */
 public class Database {
-    private Connection myConnection;
+    private ConnectionManager myManager;
     private static final String DB_NAME = "dungeondive.db"; // In the root of the project
 
     /**
-     * Constructor initializes database connection.
+     * Schema version stored in PRAGMA user_version.
+     * Bump this and add a step to migrate() whenever the schema or seed data changes.
+     */
+    private static final int SCHEMA_VERSION = 5;
+
+    /**
+     * Pool whose database file has already been checked against SCHEMA_VERSION in this process.
+     */
+    private static ConnectionManager mySchemaCheckedFor;
+
+    /** Writes a slot's summary. A null thumbnail keeps the one already stored. */
+    private static final String UPSERT_SUMMARY = "INSERT INTO save_summaries "
+            + "(save_name, hero_name, hero_type, pillars, gold, save_date, payload_size, thumbnail) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT(save_name) DO UPDATE SET "
+            + "hero_name = excluded.hero_name, hero_type = excluded.hero_type, pillars = excluded.pillars, "
+            + "gold = excluded.gold, save_date = excluded.save_date, payload_size = excluded.payload_size, "
+            + "thumbnail = COALESCE(excluded.thumbnail, save_summaries.thumbnail)";
+
+    private static final String SUMMARY_COLUMNS =
+            "save_name, hero_name, hero_type, pillars, gold, save_date, payload_size, thumbnail";
+
+    /**
+     * Constructor attaches to the shared connection pool
+     * and brings the schema up to date if it is behind.
      */
     public Database() {
         try {
-            // Load SQLite JDBC driver
-            Class.forName("org.sqlite.JDBC");
-            // Create connection to database (will create the file if it doesn't exist)
-            myConnection = DriverManager.getConnection("jdbc:sqlite:" + DB_NAME);
-            System.out.println("Database connection established to " + DB_NAME);
-            initializeTables();
-            populateInitialData();
-            System.out.println("Database file is at: " + new java.io.File("dungeondive.db").getAbsolutePath());
-        } catch (ClassNotFoundException e) {
-            System.err.println("SQLite JDBC Driver not found: " + e.getMessage());
-            e.printStackTrace(); // For more detailed error info
+            // Opens the pool on first use (will create the file if it doesn't exist)
+            myManager = ConnectionManager.getInstance();
+            ensureSchema(myManager);
         } catch (SQLException e) {
             System.err.println("Database error during initialization: " + e.getMessage());
             e.printStackTrace(); // For more detailed error info
+            myManager = null;
+        }
+    }
+
+    /**
+     * Checks PRAGMA user_version once per pool and runs any pending migrations
+     * in a single transaction. When the schema is current nothing else runs.
+     *
+     * @param theManager the shared pool.
+     * @throws SQLException if a migration fails; the transaction is rolled back.
+     */
+    private static synchronized void ensureSchema(final ConnectionManager theManager) throws SQLException {
+        if (mySchemaCheckedFor == theManager) {
+            return;
+        }
+        theManager.write(theWriter -> {
+            Connection connection = theWriter.getConnection();
+            int version = readSchemaVersion(connection);
+            if (version == SCHEMA_VERSION) {
+                System.out.println("Database schema is current (version " + version + ")");
+                return null;
+            }
+            if (version > SCHEMA_VERSION) {
+                System.err.println("Warning: database schema version " + version
+                        + " is newer than this build (" + SCHEMA_VERSION + ")");
+                return null;
+            }
+
+            long start = System.nanoTime();
+            connection.setAutoCommit(false);
+            try {
+                migrate(theWriter, version);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+            System.out.println("Database schema migrated from version " + version + " to " + SCHEMA_VERSION
+                    + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            System.out.println("Database file is at: " + new java.io.File(DB_NAME).getAbsolutePath());
+            return null;
+        });
+        mySchemaCheckedFor = theManager;
+    }
+
+    private static int readSchemaVersion(final Connection theConnection) throws SQLException {
+        try (Statement statement = theConnection.createStatement();
+             ResultSet rs = statement.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Applies every migration step newer than the stored version, in order.
+     * Step 1 is safe on databases created before versioning existed,
+     * because it only creates missing tables and seeds empty ones.
+     *
+     * @param theWriter the writer connection, already inside a transaction.
+     * @param theFromVersion the stored schema version.
+     */
+    private static void migrate(final PooledConnection theWriter, final int theFromVersion) throws SQLException {
+        if (theFromVersion < 1) {
+            initializeTables(theWriter.getConnection());
+            populateInitialData(theWriter);
+        }
+        if (theFromVersion < 2) {
+            migrateSavePayloadsToBlob(theWriter.getConnection());
+        }
+        if (theFromVersion < 3) {
+            addRoomStateColumns(theWriter.getConnection());
+        }
+        if (theFromVersion < 4) {
+            createSaveSummaries(theWriter);
+        }
+        if (theFromVersion < 5) {
+            addPayloadCodecColumns(theWriter.getConnection());
+        }
+    }
+
+    /**
+     * Version 5: each payload column records the codec that encoded it and its raw size.
+     * Existing rows default to codec 0 and keep loading as they were stored.
+     *
+     * @param theConnection the writer connection, already inside a transaction.
+     */
+    private static void addPayloadCodecColumns(final Connection theConnection) throws SQLException {
+        try (Statement statement = theConnection.createStatement()) {
+            statement.execute("ALTER TABLE save_games ADD COLUMN player_codec INTEGER DEFAULT 0");
+            statement.execute("ALTER TABLE save_games ADD COLUMN dungeon_codec INTEGER DEFAULT 0");
+            statement.execute("ALTER TABLE save_games ADD COLUMN player_raw_size INTEGER"); //null: stored as is
+            statement.execute("ALTER TABLE save_games ADD COLUMN dungeon_raw_size INTEGER");
+            System.out.println("Table migrated: save_games payloads record their codec");
+        }
+    }
+
+    /**
+     * Version 4: a save_summaries row per slot holds what the saves browser lists,
+     * so paging through saves never reads the payload columns. Existing saves are
+     * summarized from their hero payloads.
+     *
+     * @param theWriter the writer connection, already inside a transaction.
+     */
+    private static void createSaveSummaries(final PooledConnection theWriter) throws SQLException {
+        try (Statement statement = theWriter.getConnection().createStatement()) {
+            statement.execute(
+                    "CREATE TABLE IF NOT EXISTS save_summaries (" +
+                            "save_name TEXT PRIMARY KEY," +
+                            "hero_name TEXT," +
+                            "hero_type TEXT," +
+                            "pillars INTEGER DEFAULT 0," +
+                            "gold INTEGER DEFAULT 0," +
+                            "save_date TEXT NOT NULL," +
+                            "payload_size INTEGER DEFAULT 0," + //bytes in the save_games payload columns
+                            "thumbnail BLOB" + //explored map from Dungeon.createThumbnail, optional
+                            ");"
+            );
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_save_summaries_date "
+                    + "ON save_summaries (save_date DESC, save_name DESC)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_save_summaries_name "
+                    + "ON save_summaries (save_name COLLATE NOCASE, save_name)");
+        }
+
+        List<SaveSummary> summaries = new ArrayList<>();
+        try (Statement statement = theWriter.getConnection().createStatement();
+             ResultSet rs = statement.executeQuery("SELECT save_name, save_date, player_data, "
+                     + "length(player_data) + length(dungeon_data) AS payload_size FROM save_games")) {
+            while (rs.next()) {
+                SaveSummary.Builder summary = new SaveSummary.Builder(rs.getString("save_name"))
+                        .setSaveDate(rs.getString("save_date"))
+                        .setPayloadSize(rs.getLong("payload_size"));
+                Hero.describeSave(getPayload(rs, "player_data"), summary);
+                summaries.add(summary.build());
+            }
+        }
+        PreparedStatement insert = theWriter.prepare(UPSERT_SUMMARY);
+        for (SaveSummary summary : summaries) {
+            bindSummary(insert, summary);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        System.out.println("Table created: save_summaries, " + summaries.size() + " saves summarized");
+    }
+
+    /**
+     * Version 3: rooms rows hold everything a delta save writes, and the child tables
+     * are indexed by room so changed rooms can be replaced without scanning.
+     *
+     * @param theConnection the writer connection, already inside a transaction.
+     */
+    private static void addRoomStateColumns(final Connection theConnection) throws SQLException {
+        try (Statement statement = theConnection.createStatement()) {
+            statement.execute("ALTER TABLE rooms ADD COLUMN chest_opened BOOLEAN DEFAULT 0");
+            statement.execute("ALTER TABLE rooms ADD COLUMN items_collected BOOLEAN DEFAULT 0");
+            statement.execute("ALTER TABLE rooms ADD COLUMN trap_name TEXT");
+            statement.execute("ALTER TABLE rooms ADD COLUMN trap_damage INTEGER DEFAULT 0");
+            statement.execute("ALTER TABLE rooms ADD COLUMN trap_sprung BOOLEAN DEFAULT 0");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_monsters_room ON monsters (room_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_items_room ON items (room_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_pillars_room ON pillars (room_id)");
+            System.out.println("Table migrated: rooms hold delta save state");
+        }
+    }
+
+    /**
+     * Version 2: save payload columns hold BLOBs in the binary save format.
+     * SQLite cannot change a column type in place, so the table is rebuilt.
+     * Existing rows are copied unchanged and keep loading as legacy JSON.
+     *
+     * @param theConnection the writer connection, already inside a transaction.
+     */
+    private static void migrateSavePayloadsToBlob(final Connection theConnection) throws SQLException {
+        try (Statement statement = theConnection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE save_games_v2 (" +
+                            "id INTEGER PRIMARY KEY AUTOINCREMENT," +
+                            "save_name TEXT NOT NULL UNIQUE," +
+                            "save_date TEXT NOT NULL," +
+                            "player_data BLOB NOT NULL," + //binary save format, or JSON in older rows
+                            "dungeon_data BLOB NOT NULL," + //binary save format, or JSON in older rows
+                            "game_state TEXT NOT NULL" + //current game state info
+                            ");"
+            );
+            statement.execute("INSERT INTO save_games_v2 (id, save_name, save_date, player_data, dungeon_data, game_state) "
+                    + "SELECT id, save_name, save_date, player_data, dungeon_data, game_state FROM save_games");
+            statement.execute("DROP TABLE save_games");
+            statement.execute("ALTER TABLE save_games_v2 RENAME TO save_games");
+            System.out.println("Table migrated: save_games payloads are now BLOB");
         }
     }
 
     /**
      * Creates necessary tables if they do not already exist.
+     *
+     * @param theConnection the writer connection.
      */
-    private void initializeTables() throws SQLException {
-        try (Statement statement = myConnection.createStatement()) {
+    private static void initializeTables(final Connection theConnection) throws SQLException {
+        try (Statement statement = theConnection.createStatement()) {
             System.out.println("Attempting to create table: character_types");
             statement.execute(
                     "CREATE TABLE IF NOT EXISTS character_types (" +
@@ -231,75 +457,79 @@ public class Database {
 
     /**
      * Populates tables with initial game data from Enums if they are empty.
+     * Rows are sent as JDBC batches inside the migration transaction.
+     *
+     * @param theWriter the writer connection.
      */
-    private void populateInitialData() throws SQLException {
-        if (isTableEmpty("character_types")) {
+    private static void populateInitialData(final PooledConnection theWriter) throws SQLException {
+        Connection connection = theWriter.getConnection();
+        if (isTableEmpty(connection, "character_types")) {
             System.out.println("Populating character_types...");
             String sql = "INSERT INTO character_types (name, base_health, base_attack, special_attack_name, special_attack_damage, crit_chance, crit_multiplier, description) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement pstmt = myConnection.prepareStatement(sql)) {
-                for (HeroType type : HeroType.values()) {
-                    pstmt.setString(1, type.getDisplayName());
-                    pstmt.setInt(2, type.getBaseHealth());
-                    pstmt.setInt(3, type.getBaseAttack());
-                    pstmt.setString(4, type.getSpecialAttackName());
-                    pstmt.setInt(5, type.getSpecialAttackDamage());
-                    pstmt.setDouble(6, type.getCritChance());
-                    pstmt.setDouble(7, type.getCritMultiplier());
-                    pstmt.setString(8, type.getDescription());
-                    pstmt.executeUpdate();
-                }
-                System.out.println("Populated character_types from HeroType enum.");
+            PreparedStatement pstmt = theWriter.prepare(sql);
+            for (HeroType type : HeroType.values()) {
+                pstmt.setString(1, type.getDisplayName());
+                pstmt.setInt(2, type.getBaseHealth());
+                pstmt.setInt(3, type.getBaseAttack());
+                pstmt.setString(4, type.getSpecialAttackName());
+                pstmt.setInt(5, type.getSpecialAttackDamage());
+                pstmt.setDouble(6, type.getCritChance());
+                pstmt.setDouble(7, type.getCritMultiplier());
+                pstmt.setString(8, type.getDescription());
+                pstmt.addBatch();
             }
+            pstmt.executeBatch();
+            System.out.println("Populated character_types from HeroType enum.");
         }
 
-        if (isTableEmpty("monster_types")) {
+        if (isTableEmpty(connection, "monster_types")) {
             System.out.println("Populating monster_types...");
             String sql = "INSERT INTO monster_types (name, health, attack, special_attack_name, crit_chance, crit_multiplier, gold_reward, is_elite, is_boss, description) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-            try (PreparedStatement pstmt = myConnection.prepareStatement(sql)) {
-                for (MonsterType type : MonsterType.values()) {
-                    pstmt.setString(1, type.getName());
-                    pstmt.setInt(2, type.getBaseHealth());
-                    pstmt.setInt(3, type.getBaseAttack());
-                    pstmt.setString(4, type.getSpecialAttackName());
-                    pstmt.setDouble(5, type.getCritChance());
-                    pstmt.setDouble(6, type.getCritMultiplier());
-                    pstmt.setInt(7, type.getGoldReward());
-                    pstmt.setBoolean(8, type.isElite());
-                    pstmt.setBoolean(9, type.isBoss());
-                    pstmt.setString(10, type.getDescription());
-                    pstmt.executeUpdate();
-                }
-                System.out.println("Populated monster_types from MonsterType enum.");
+            PreparedStatement pstmt = theWriter.prepare(sql);
+            for (MonsterType type : MonsterType.values()) {
+                pstmt.setString(1, type.getName());
+                pstmt.setInt(2, type.getBaseHealth());
+                pstmt.setInt(3, type.getBaseAttack());
+                pstmt.setString(4, type.getSpecialAttackName());
+                pstmt.setDouble(5, type.getCritChance());
+                pstmt.setDouble(6, type.getCritMultiplier());
+                pstmt.setInt(7, type.getGoldReward());
+                pstmt.setBoolean(8, type.isElite());
+                pstmt.setBoolean(9, type.isBoss());
+                pstmt.setString(10, type.getDescription());
+                pstmt.addBatch();
             }
+            pstmt.executeBatch();
+            System.out.println("Populated monster_types from MonsterType enum.");
         }
 
-        if (isTableEmpty("item_types")) {
+        if (isTableEmpty(connection, "item_types")) {
             System.out.println("Populating item_types...");
-            executeUpdate("INSERT INTO item_types (name, effect, value, description) VALUES " +
+            executeUpdate(connection, "INSERT INTO item_types (name, effect, value, description) VALUES " +
                     "('Health Potion', 'heal', 25, 'Restores 25 health points')," +
                     "('Vision Potion', 'vision', 0, 'Reveals surrounding rooms')," + // Value 0 as it's an effect, not a quantity
                     "('Bomb', 'damage', 20, 'Deals 20 damage to enemies in the room')");
             System.out.println("Populated item_types with default items.");
         }
 
-        if (isTableEmpty("room_types")) {
+        if (isTableEmpty(connection, "room_types")) {
             System.out.println("Populating room_types...");
             String sql = "INSERT INTO room_types (name, description) VALUES (?, ?)";
-            try (PreparedStatement pstmt = myConnection.prepareStatement(sql)) {
-                for (RoomType type : RoomType.values()) {
-                    pstmt.setString(1, type.getDisplayName());
-                    pstmt.setString(2, type.getDescription());
-                    pstmt.executeUpdate();
-                }
-                System.out.println("Populated room_types from RoomType enum.");
+            PreparedStatement pstmt = theWriter.prepare(sql);
+            for (RoomType type : RoomType.values()) {
+                pstmt.setString(1, type.getDisplayName());
+                pstmt.setString(2, type.getDescription());
+                pstmt.addBatch();
             }
+            pstmt.executeBatch();
+            System.out.println("Populated room_types from RoomType enum.");
         }
         System.out.println("Initial game data population check complete.");
     }
 
-    private boolean isTableEmpty(final String theTableName) throws SQLException {
+    private static boolean isTableEmpty(final Connection theConnection, final String theTableName) throws SQLException {
         String sql = "SELECT COUNT(*) as count FROM " + theTableName;
-        try (Statement stmt = myConnection.createStatement();
+        try (Statement stmt = theConnection.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             if (rs.next()) {
                 return rs.getInt("count") == 0;
@@ -308,57 +538,654 @@ public class Database {
         return true;
     }
 
-    public void executeUpdate(final String theSql) {
-        try (Statement stmt = myConnection.createStatement()) {
+    private static void executeUpdate(final Connection theConnection, final String theSql) throws SQLException {
+        try (Statement stmt = theConnection.createStatement()) {
             stmt.executeUpdate(theSql);
+        }
+    }
+
+    public void executeUpdate(final String theSql) {
+        if (!isConnected()) {
+            System.err.println("Error executing update: database not connected (SQL: " + theSql + ")");
+            return;
+        }
+        try {
+            myManager.write(theWriter -> {
+                executeUpdate(theWriter.getConnection(), theSql);
+                return null;
+            });
         } catch (SQLException e) {
             System.err.println("Error executing update: " + e.getMessage() + " (SQL: " + theSql + ")");
         }
     }
 
+    /**
+     * Runs a query on a pooled reader.
+     *
+     * @param theSql the query.
+     * @return detached rows, or null if the query failed.
+     */
     public ResultSet executeQuery(final String theSql) {
+        if (!isConnected()) {
+            System.err.println("Error executing query: database not connected (SQL: " + theSql + ")");
+            return null;
+        }
         try {
-            Statement stmt = myConnection.createStatement();
-            return stmt.executeQuery(theSql);
+            return myManager.read(theReader -> {
+                try (ResultSet rs = theReader.prepare(theSql).executeQuery()) {
+                    return detach(rs);
+                }
+            });
         } catch (SQLException e) {
             System.err.println("Error executing query: " + e.getMessage() + " (SQL: " + theSql + ")");
         }
         return null;
     }
 
+    /**
+     * Copies rows into a CachedRowSet so the statement and pooled connection can be released.
+     * Callers keep reading it through the normal ResultSet API.
+     *
+     * @param theResultSet open result set.
+     * @return detached copy of the rows.
+     * @throws SQLException if the rows cannot be read.
+     */
+    private static ResultSet detach(final ResultSet theResultSet) throws SQLException {
+        RowSetFactory factory = RowSetProvider.newFactory();
+        CachedRowSet rows = factory.createCachedRowSet();
+        rows.populate(theResultSet);
+        return rows;
+    }
+
+    /**
+     * Checks whether the shared pool was opened successfully.
+     *
+     * @return true if queries can be run against this database.
+     */
+    public boolean isConnected() {
+        return myManager != null;
+    }
+
+    /**
+     * Releases this handle. The pooled connections are shared and stay open
+     * until ConnectionManager.shutdown() runs at application exit.
+     */
     public void closeConnection() {
+        myManager = null;
+    }
+
+    public boolean saveGameData(String saveName, String playerData, String dungeonData, String gameState) {
+        if (!isConnected()) {
+            System.err.println("Error saving game: database not connected");
+            return false;
+        }
+        String sql = "INSERT OR REPLACE INTO save_games (save_name, save_date, player_data, dungeon_data, game_state) VALUES (?, ?, ?, ?, ?)";
         try {
-            if (myConnection != null && !myConnection.isClosed()) {
-                myConnection.close();
-                System.out.println("Database connection closed successfully");
-            }
+            return myManager.write(theWriter -> {
+                Connection connection = theWriter.getConnection();
+                connection.setAutoCommit(false);
+                try {
+                    String now = java.time.LocalDateTime.now().toString();
+                    PreparedStatement pstmt = theWriter.prepare(sql);
+                    pstmt.setString(1, saveName);
+                    pstmt.setString(2, now);
+                    pstmt.setString(3, playerData);
+                    pstmt.setString(4, dungeonData);
+                    pstmt.setString(5, gameState);
+                    pstmt.executeUpdate();
+                    writeSummary(theWriter, saveName, now,
+                            playerData.getBytes(java.nio.charset.StandardCharsets.UTF_8), null);
+                    connection.commit();
+                    return true;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            });
         } catch (SQLException e) {
-            System.err.println("Error closing database connection: " + e.getMessage());
+            System.err.println("Error saving game: " + e.getMessage());
+            return false;
         }
     }
 
-    public boolean saveGameData(String saveName, String playerData, String dungeonData, String gameState) {
-        String sql = "INSERT OR REPLACE INTO save_games (save_name, save_date, player_data, dungeon_data, game_state) VALUES (?, ?, ?, ?, ?)";
-        try (PreparedStatement pstmt = myConnection.prepareStatement(sql)) {
-            pstmt.setString(1, saveName);
-            pstmt.setString(2, java.time.LocalDateTime.now().toString());
-            pstmt.setString(3, playerData);
-            pstmt.setString(4, dungeonData);
-            pstmt.setString(5, gameState);
-            pstmt.executeUpdate();
-            return true;
+    /**
+     * Saves a game with hero and dungeon payloads in the binary save format.
+     *
+     * @param saveName save slot name.
+     * @param playerData hero payload from Hero.toSaveBytes().
+     * @param dungeonData dungeon payload from Dungeon.toSaveBytes().
+     * @param gameState game state JSON.
+     * @return true if the row was written.
+     */
+    public boolean saveGameData(String saveName, byte[] playerData, byte[] dungeonData, String gameState) {
+        if (dungeonData == null) {
+            System.err.println("Error saving game: no dungeon data");
+            return false;
+        }
+        return saveGame(saveName, playerData, dungeonData, null, gameState);
+    }
+
+    /**
+     * Saves a game in one transaction, writing only the dungeon rooms that changed.
+     * With a dungeon base payload the slot is rewritten from scratch: the save_games row
+     * is replaced and the slot's rows in the dungeon tables are dropped. Without one the
+     * slot must already exist, and only the hero, the game state and the delta rows are written.
+     * Loading reads the base payload and lays loadDungeonDelta over it.
+     *
+     * @param saveName save slot name.
+     * @param playerData hero payload from Hero.toSaveBytes().
+     * @param dungeonBase full dungeon payload for the first save of a slot, or null.
+     * @param delta rooms changed since the last save, or null.
+     * @param gameState game state JSON.
+     * @return true if the save was committed.
+     */
+    public boolean saveGame(String saveName, byte[] playerData, byte[] dungeonBase,
+                            DungeonDelta delta, String gameState) {
+        return saveGame(saveName, playerData, dungeonBase, delta, gameState, null);
+    }
+
+    /**
+     * Saves a game like saveGame above and stores a thumbnail with the slot's summary.
+     *
+     * @param saveName save slot name.
+     * @param playerData hero payload from Hero.toSaveBytes().
+     * @param dungeonBase full dungeon payload for the first save of a slot, or null.
+     * @param delta rooms changed since the last save, or null.
+     * @param gameState game state JSON.
+     * @param thumbnail map from Dungeon.createThumbnail, or null to keep the stored one.
+     * @return true if the save was committed.
+     */
+    public boolean saveGame(String saveName, byte[] playerData, byte[] dungeonBase,
+                            DungeonDelta delta, String gameState, byte[] thumbnail) {
+        if (!isConnected()) {
+            System.err.println("Error saving game: database not connected");
+            return false;
+        }
+        // encode before taking the writer so other writes are not held up by compression
+        EncodedPayload player = EncodedPayload.encode(playerData);
+        EncodedPayload dungeon = dungeonBase == null ? null : EncodedPayload.encode(dungeonBase);
+        System.out.println("Save payloads for " + saveName + ": player " + player
+                + (dungeon == null ? "" : ", dungeon " + dungeon));
+        try {
+            return myManager.write(theWriter -> {
+                Connection connection = theWriter.getConnection();
+                connection.setAutoCommit(false);
+                try {
+                    String now = java.time.LocalDateTime.now().toString();
+                    if (dungeon != null) {
+                        PreparedStatement pstmt = theWriter.prepare("INSERT OR REPLACE INTO save_games "
+                                + "(save_name, save_date, player_data, dungeon_data, game_state, player_codec, "
+                                + "dungeon_codec, player_raw_size, dungeon_raw_size) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+                        pstmt.setString(1, saveName);
+                        pstmt.setString(2, now);
+                        pstmt.setBytes(3, player.myBytes);
+                        pstmt.setBytes(4, dungeon.myBytes);
+                        pstmt.setString(5, gameState);
+                        pstmt.setInt(6, player.myCodec);
+                        pstmt.setInt(7, dungeon.myCodec);
+                        pstmt.setInt(8, player.myRawSize);
+                        pstmt.setInt(9, dungeon.myRawSize);
+                        pstmt.executeUpdate();
+                        deleteDungeonRows(theWriter, saveName);
+                    } else {
+                        PreparedStatement pstmt = theWriter.prepare("UPDATE save_games SET save_date = ?, "
+                                + "player_data = ?, game_state = ?, player_codec = ?, player_raw_size = ? "
+                                + "WHERE save_name = ?");
+                        pstmt.setString(1, now);
+                        pstmt.setBytes(2, player.myBytes);
+                        pstmt.setString(3, gameState);
+                        pstmt.setInt(4, player.myCodec);
+                        pstmt.setInt(5, player.myRawSize);
+                        pstmt.setString(6, saveName);
+                        if (pstmt.executeUpdate() == 0) {
+                            connection.rollback();
+                            System.err.println("Error saving game: no full save to update for " + saveName);
+                            return false;
+                        }
+                    }
+                    if (delta != null) {
+                        writeDungeonDelta(theWriter, saveName, delta);
+                    }
+                    writeSummary(theWriter, saveName, now, playerData, thumbnail);
+                    connection.commit();
+                    return true;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            });
         } catch (SQLException e) {
             System.err.println("Error saving game: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Writes a slot's summary row from the hero payload just saved.
+     *
+     * @param theWriter the writer connection, already inside a transaction.
+     * @param theSaveName slot name.
+     * @param theSaveDate save date written to save_games.
+     * @param thePlayerData hero payload.
+     * @param theThumbnail map thumbnail, or null to keep the stored one.
+     */
+    private static void writeSummary(final PooledConnection theWriter, final String theSaveName,
+                                     final String theSaveDate, final byte[] thePlayerData,
+                                     final byte[] theThumbnail) throws SQLException {
+        // summaries list the decoded size, so they read the same whichever codec stored the slot
+        PreparedStatement size = theWriter.prepare("SELECT COALESCE(player_raw_size, length(player_data)) "
+                + "+ COALESCE(dungeon_raw_size, length(dungeon_data)) FROM save_games WHERE save_name = ?");
+        size.setString(1, theSaveName);
+        long payloadSize;
+        try (ResultSet rs = size.executeQuery()) {
+            payloadSize = rs.next() ? rs.getLong(1) : 0;
+        }
+        SaveSummary.Builder summary = new SaveSummary.Builder(theSaveName)
+                .setSaveDate(theSaveDate)
+                .setPayloadSize(payloadSize)
+                .setThumbnail(theThumbnail);
+        Hero.describeSave(thePlayerData, summary);
+        PreparedStatement upsert = theWriter.prepare(UPSERT_SUMMARY);
+        bindSummary(upsert, summary.build());
+        upsert.executeUpdate();
+    }
+
+    private static void bindSummary(final PreparedStatement theStatement, final SaveSummary theSummary)
+            throws SQLException {
+        theStatement.setString(1, theSummary.getSaveName());
+        theStatement.setString(2, theSummary.getHeroName());
+        theStatement.setString(3, theSummary.getHeroType() == null ? null : theSummary.getHeroType().name());
+        theStatement.setInt(4, theSummary.getPillars());
+        theStatement.setInt(5, theSummary.getGold());
+        theStatement.setString(6, theSummary.getSaveDate());
+        theStatement.setLong(7, theSummary.getPayloadSize());
+        theStatement.setBytes(8, theSummary.getThumbnail());
+    }
+
+    /**
+     * Drops a slot's dungeon, room, monster, item and pillar rows.
+     *
+     * @param theWriter the writer connection, already inside a transaction.
+     * @param theSaveName slot name, which is the dungeon row's name.
+     */
+    private static void deleteDungeonRows(final PooledConnection theWriter, final String theSaveName)
+            throws SQLException {
+        String slotRooms = "SELECT r.id FROM rooms r JOIN dungeon d ON r.dungeon_id = d.id WHERE d.name = ?";
+        String[] deletes = {
+                "DELETE FROM monsters WHERE room_id IN (" + slotRooms + ")",
+                "DELETE FROM items WHERE room_id IN (" + slotRooms + ")",
+                "DELETE FROM pillars WHERE room_id IN (" + slotRooms + ")",
+                "DELETE FROM rooms WHERE dungeon_id IN (SELECT id FROM dungeon WHERE name = ?)",
+                "DELETE FROM dungeon WHERE name = ?"
+        };
+        for (String sql : deletes) {
+            PreparedStatement pstmt = theWriter.prepare(sql);
+            pstmt.setString(1, theSaveName);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Upserts the changed rooms of a slot and replaces their monsters, items and pillars.
+     * Each table is written with one JDBC batch.
+     *
+     * @param theWriter the writer connection, already inside a transaction.
+     * @param theSaveName slot name, which is the dungeon row's name.
+     * @param theDelta changed rooms.
+     */
+    private static void writeDungeonDelta(final PooledConnection theWriter, final String theSaveName,
+                                          final DungeonDelta theDelta) throws SQLException {
+        PreparedStatement dungeon = theWriter.prepare("INSERT INTO dungeon (name, pillars_activated, boss_spawned) "
+                + "VALUES (?, ?, ?) ON CONFLICT(name) DO UPDATE SET "
+                + "pillars_activated = excluded.pillars_activated, boss_spawned = excluded.boss_spawned");
+        dungeon.setString(1, theSaveName);
+        dungeon.setInt(2, theDelta.getActivatedPillars());
+        dungeon.setBoolean(3, theDelta.isBossSpawned());
+        dungeon.executeUpdate();
+        if (theDelta.getRoomCount() == 0) {
+            return;
+        }
+
+        int dungeonId;
+        PreparedStatement idQuery = theWriter.prepare("SELECT id FROM dungeon WHERE name = ?");
+        idQuery.setString(1, theSaveName);
+        try (ResultSet rs = idQuery.executeQuery()) {
+            if (!rs.next()) {
+                throw new SQLException("Dungeon row missing for save " + theSaveName);
+            }
+            dungeonId = rs.getInt(1);
+        }
+
+        PreparedStatement rooms = theWriter.prepare("INSERT INTO rooms (dungeon_id, x_position, y_position, "
+                + "room_type_id, is_visited, has_north_door, has_east_door, has_south_door, has_west_door, "
+                + "contains_pillar, pillar_activated, chest_opened, items_collected, trap_name, trap_damage, trap_sprung) "
+                + "VALUES (?, ?, ?, (SELECT id FROM room_types WHERE name = ?), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+                + "ON CONFLICT(dungeon_id, x_position, y_position) DO UPDATE SET "
+                + "room_type_id = excluded.room_type_id, is_visited = excluded.is_visited, "
+                + "has_north_door = excluded.has_north_door, has_east_door = excluded.has_east_door, "
+                + "has_south_door = excluded.has_south_door, has_west_door = excluded.has_west_door, "
+                + "contains_pillar = excluded.contains_pillar, pillar_activated = excluded.pillar_activated, "
+                + "chest_opened = excluded.chest_opened, items_collected = excluded.items_collected, "
+                + "trap_name = excluded.trap_name, trap_damage = excluded.trap_damage, trap_sprung = excluded.trap_sprung");
+        String roomId = "(SELECT id FROM rooms WHERE dungeon_id = ? AND x_position = ? AND y_position = ?)";
+        PreparedStatement clearMonsters = theWriter.prepare("DELETE FROM monsters WHERE room_id = " + roomId);
+        PreparedStatement clearItems = theWriter.prepare("DELETE FROM items WHERE room_id = " + roomId);
+        PreparedStatement clearPillars = theWriter.prepare("DELETE FROM pillars WHERE room_id = " + roomId);
+        PreparedStatement monsters = theWriter.prepare("INSERT INTO monsters "
+                + "(monster_type_id, current_health, x_position, y_position, dungeon_id, room_id) "
+                + "VALUES ((SELECT id FROM monster_types WHERE name = ?), ?, ?, ?, ?, " + roomId + ")");
+        PreparedStatement items = theWriter.prepare("INSERT INTO items (item_type_id, room_id) "
+                + "VALUES ((SELECT id FROM item_types WHERE name = ?), " + roomId + ")");
+        PreparedStatement pillars = theWriter.prepare("INSERT INTO pillars (pillar_type_name, is_activated, room_id) "
+                + "VALUES (?, ?, " + roomId + ")");
+
+        for (DungeonDelta.RoomState room : theDelta.getRooms()) {
+            int x = room.getPosition().getX();
+            int y = room.getPosition().getY();
+            rooms.setInt(1, dungeonId);
+            rooms.setInt(2, x);
+            rooms.setInt(3, y);
+            rooms.setString(4, room.getRoomType().getDisplayName());
+            rooms.setBoolean(5, room.isVisited());
+            rooms.setBoolean(6, room.hasNorthDoor());
+            rooms.setBoolean(7, room.hasEastDoor());
+            rooms.setBoolean(8, room.hasSouthDoor());
+            rooms.setBoolean(9, room.hasWestDoor());
+            rooms.setBoolean(10, room.getPillarType() != null);
+            rooms.setBoolean(11, room.isPillarActivated());
+            rooms.setBoolean(12, room.isChestOpened());
+            rooms.setBoolean(13, room.isItemsCollected());
+            rooms.setString(14, room.getTrapName());
+            rooms.setInt(15, room.getTrapDamage());
+            rooms.setBoolean(16, room.isTrapSprung());
+            rooms.addBatch();
+
+            for (PreparedStatement clear : new PreparedStatement[] {clearMonsters, clearItems, clearPillars}) {
+                setRoomId(clear, 1, dungeonId, x, y);
+                clear.addBatch();
+            }
+            if (room.getMonsterType() != null) {
+                monsters.setString(1, room.getMonsterType().getName());
+                monsters.setInt(2, room.getMonsterHealth());
+                monsters.setInt(3, x);
+                monsters.setInt(4, y);
+                monsters.setInt(5, dungeonId);
+                setRoomId(monsters, 6, dungeonId, x, y);
+                monsters.addBatch();
+            }
+            for (String item : room.getItemNames()) {
+                items.setString(1, item);
+                setRoomId(items, 2, dungeonId, x, y);
+                items.addBatch();
+            }
+            if (room.getPillarType() != null) {
+                pillars.setString(1, room.getPillarType().name());
+                pillars.setBoolean(2, room.isPillarActivated());
+                setRoomId(pillars, 3, dungeonId, x, y);
+                pillars.addBatch();
+            }
+        }
+        // Rooms first so the child rows can find their room ids
+        rooms.executeBatch();
+        clearMonsters.executeBatch();
+        clearItems.executeBatch();
+        clearPillars.executeBatch();
+        monsters.executeBatch();
+        items.executeBatch();
+        pillars.executeBatch();
+    }
+
+    private static void setRoomId(final PreparedStatement theStatement, final int theFirstIndex,
+                                  final int theDungeonId, final int theX, final int theY) throws SQLException {
+        theStatement.setInt(theFirstIndex, theDungeonId);
+        theStatement.setInt(theFirstIndex + 1, theX);
+        theStatement.setInt(theFirstIndex + 2, theY);
+    }
+
+    /**
+     * Reads the rooms written by delta saves to a slot, to lay over the slot's base payload.
+     *
+     * @param saveName save slot name.
+     * @return the saved room changes, or null if the slot has none or they cannot be read.
+     */
+    public DungeonDelta loadDungeonDelta(String saveName) {
+        if (!isConnected()) {
+            System.err.println("Error loading game: database not connected");
+            return null;
+        }
+        try {
+            return myManager.read(theReader -> {
+                Connection connection = theReader.getConnection();
+                // One read transaction so every table comes from the same commit
+                connection.setAutoCommit(false);
+                try {
+                    return readDungeonDelta(theReader, saveName);
+                } finally {
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                }
+            });
+        } catch (SQLException e) {
+            System.err.println("Error loading dungeon changes: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static DungeonDelta readDungeonDelta(final PooledConnection theReader, final String theSaveName)
+            throws SQLException {
+        int dungeonId;
+        int activatedPillars;
+        boolean bossSpawned;
+        PreparedStatement dungeon = theReader.prepare(
+                "SELECT id, pillars_activated, boss_spawned FROM dungeon WHERE name = ?");
+        dungeon.setString(1, theSaveName);
+        try (ResultSet rs = dungeon.executeQuery()) {
+            if (!rs.next()) {
+                return null;
+            }
+            dungeonId = rs.getInt("id");
+            activatedPillars = rs.getInt("pillars_activated");
+            bossSpawned = rs.getBoolean("boss_spawned");
+        }
+
+        Map<Integer, DungeonDelta.RoomState.Builder> builders = new HashMap<>();
+        PreparedStatement rooms = theReader.prepare("SELECT r.*, rt.name AS room_type_name FROM rooms r "
+                + "JOIN room_types rt ON r.room_type_id = rt.id WHERE r.dungeon_id = ?");
+        rooms.setInt(1, dungeonId);
+        try (ResultSet rs = rooms.executeQuery()) {
+            while (rs.next()) {
+                RoomType type = roomTypeNamed(rs.getString("room_type_name"));
+                if (type == null) {
+                    continue;
+                }
+                DungeonDelta.RoomState.Builder builder = new DungeonDelta.RoomState.Builder(
+                        new Point(rs.getInt("x_position"), rs.getInt("y_position")), type)
+                        .setVisited(rs.getBoolean("is_visited"))
+                        .setChestOpened(rs.getBoolean("chest_opened"))
+                        .setItemsCollected(rs.getBoolean("items_collected"))
+                        .setDoors(rs.getBoolean("has_north_door"), rs.getBoolean("has_east_door"),
+                                rs.getBoolean("has_south_door"), rs.getBoolean("has_west_door"));
+                String trapName = rs.getString("trap_name");
+                if (trapName != null) {
+                    builder.setTrap(trapName, rs.getInt("trap_damage"), rs.getBoolean("trap_sprung"));
+                }
+                builders.put(rs.getInt("id"), builder);
+            }
+        }
+
+        PreparedStatement monsters = theReader.prepare("SELECT m.room_id, mt.name, m.current_health FROM monsters m "
+                + "JOIN monster_types mt ON m.monster_type_id = mt.id WHERE m.dungeon_id = ? ORDER BY m.id");
+        monsters.setInt(1, dungeonId);
+        try (ResultSet rs = monsters.executeQuery()) {
+            while (rs.next()) {
+                DungeonDelta.RoomState.Builder builder = builders.get(rs.getInt("room_id"));
+                MonsterType type = monsterTypeNamed(rs.getString("name"));
+                if (builder != null && type != null) {
+                    builder.setMonster(type, rs.getInt("current_health"));
+                }
+            }
+        }
+
+        String slotRooms = " JOIN rooms r ON c.room_id = r.id WHERE r.dungeon_id = ? ORDER BY c.id";
+        PreparedStatement items = theReader.prepare("SELECT c.room_id, it.name FROM items c "
+                + "LEFT JOIN item_types it ON c.item_type_id = it.id" + slotRooms);
+        items.setInt(1, dungeonId);
+        try (ResultSet rs = items.executeQuery()) {
+            while (rs.next()) {
+                DungeonDelta.RoomState.Builder builder = builders.get(rs.getInt("room_id"));
+                if (builder != null) {
+                    builder.addItem(rs.getString("name"));
+                }
+            }
+        }
+
+        PreparedStatement pillars = theReader.prepare(
+                "SELECT c.room_id, c.pillar_type_name, c.is_activated FROM pillars c" + slotRooms);
+        pillars.setInt(1, dungeonId);
+        try (ResultSet rs = pillars.executeQuery()) {
+            while (rs.next()) {
+                DungeonDelta.RoomState.Builder builder = builders.get(rs.getInt("room_id"));
+                if (builder != null) {
+                    builder.setPillar(PillarType.valueOf(rs.getString("pillar_type_name")),
+                            rs.getBoolean("is_activated"));
+                }
+            }
+        }
+
+        List<DungeonDelta.RoomState> states = new ArrayList<>(builders.size());
+        for (DungeonDelta.RoomState.Builder builder : builders.values()) {
+            states.add(builder.build());
+        }
+        return new DungeonDelta(activatedPillars, bossSpawned, states);
+    }
+
+    private static RoomType roomTypeNamed(final String theName) {
+        for (RoomType type : RoomType.values()) {
+            if (type.getDisplayName().equals(theName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static MonsterType monsterTypeNamed(final String theName) {
+        for (MonsterType type : MonsterType.values()) {
+            if (type.getName().equals(theName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a save payload column from a loadGameData row.
+     * Binary rows come back as bytes, legacy JSON rows as their UTF-8 text bytes,
+     * so Hero.fromSaveBytes and Dungeon.fromSaveBytes can read either.
+     * Compressed payloads are decoded with the codec stored beside them.
+     *
+     * @param theRow row positioned on a save.
+     * @param theColumn player_data or dungeon_data.
+     * @return the payload bytes, or null if the column is empty.
+     * @throws SQLException if the column cannot be read or its payload cannot be decoded.
+     */
+    public static byte[] getPayload(final ResultSet theRow, final String theColumn) throws SQLException {
+        Object value = theRow.getObject(theColumn);
+        byte[] stored;
+        if (value instanceof byte[] bytes) {
+            stored = bytes;
+        } else if (value instanceof java.sql.Blob blob) {
+            stored = blob.getBytes(1, (int) blob.length());
+        } else if (value != null) {
+            return value.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+
+        int codecId = readCodecId(theRow, theColumn.replace("_data", "_codec"));
+        if (codecId == PayloadCodecs.NONE_ID) {
+            return stored;
+        }
+        try {
+            PayloadCodec codec = PayloadCodecs.forId(codecId);
+            long start = System.nanoTime();
+            byte[] raw = codec.decode(stored);
+            PayloadCodecs.getMetrics().recordDecode(codec.getName(), System.nanoTime() - start);
+            return raw;
+        } catch (IOException e) {
+            throw new SQLException("Cannot decode " + theColumn + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a payload's codec id. Rows selected before version 5, or without the
+     * codec columns, were stored as is.
+     */
+    private static int readCodecId(final ResultSet theRow, final String theCodecColumn) {
+        try {
+            return theRow.getInt(theCodecColumn);
+        } catch (SQLException e) {
+            return PayloadCodecs.NONE_ID;
+        }
+    }
+
+    /**
+     * A payload encoded with the default codec, ready to store. Payloads the codec
+     * cannot shrink, such as tiny heroes, are stored as is under codec 0.
+     */
+    private static final class EncodedPayload {
+        private final int myCodec;
+        private final byte[] myBytes;
+        private final int myRawSize;
+        private final String myCodecName;
+        private final long myNanos;
+
+        private EncodedPayload(final int theCodec, final byte[] theBytes, final int theRawSize,
+                               final String theCodecName, final long theNanos) {
+            this.myCodec = theCodec;
+            this.myBytes = theBytes;
+            this.myRawSize = theRawSize;
+            this.myCodecName = theCodecName;
+            this.myNanos = theNanos;
+        }
+
+        private static EncodedPayload encode(final byte[] theRaw) {
+            PayloadCodec codec = PayloadCodecs.getDefault();
+            long start = System.nanoTime();
+            byte[] encoded = codec.encode(theRaw);
+            long nanos = System.nanoTime() - start;
+            PayloadCodecs.getMetrics().recordEncode(codec.getName(), theRaw.length,
+                    Math.min(encoded.length, theRaw.length), nanos);
+            if (encoded.length >= theRaw.length) {
+                return new EncodedPayload(PayloadCodecs.NONE_ID, theRaw, theRaw.length, codec.getName(), nanos);
+            }
+            return new EncodedPayload(codec.getId(), encoded, theRaw.length, codec.getName(), nanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d -> %d bytes (%s, %.2f ms)", myRawSize, myBytes.length,
+                    myCodec == PayloadCodecs.NONE_ID ? "stored" : myCodecName, myNanos / 1_000_000.0);
+        }
+    }
+
     public ResultSet loadGameData(String saveName) {
+        if (!isConnected()) {
+            System.err.println("Error loading game: database not connected");
+            return null;
+        }
         String sql = "SELECT * FROM save_games WHERE save_name = ?";
         try {
-            PreparedStatement pstmt = myConnection.prepareStatement(sql);
-            pstmt.setString(1, saveName);
-            return pstmt.executeQuery();
+            return myManager.read(theReader -> {
+                PreparedStatement pstmt = theReader.prepare(sql);
+                pstmt.setString(1, saveName);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return detach(rs);
+                }
+            });
         } catch (SQLException e) {
             System.err.println("Error loading game: " + e.getMessage());
             return null;
@@ -366,22 +1193,150 @@ public class Database {
     }
 
     public ResultSet getAllSaveGames() {
+        if (!isConnected()) {
+            System.err.println("Error getting save games: database not connected");
+            return null;
+        }
         String sql = "SELECT save_name, save_date FROM save_games ORDER BY save_date DESC";
         try {
-            Statement stmt = myConnection.createStatement();
-            return stmt.executeQuery(sql);
+            return myManager.read(theReader -> {
+                try (ResultSet rs = theReader.prepare(sql).executeQuery()) {
+                    return detach(rs);
+                }
+            });
         } catch (SQLException e) {
             System.err.println("Error getting save games: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Gets one page of save summaries without reading any payload.
+     * Pages are keyset paginated: passing the last summary of the previous page seeks
+     * straight to it through the date or name index, so a late page costs the same as the first.
+     *
+     * @param theSearch text the save or hero name must contain, ignoring case, or null for all saves.
+     * @param theHeroType hero type to list, or null for all types.
+     * @param theOrder NEWEST for latest saves first, NAME for save names A to Z.
+     * @param theAfter last summary of the previous page, or null for the first page.
+     * @param theLimit most summaries to return.
+     * @return the page, empty when there are no more saves or the query failed.
+     */
+    public List<SaveSummary> getSaveSummaries(final String theSearch, final HeroType theHeroType,
+                                              final SaveSummary.Order theOrder, final SaveSummary theAfter,
+                                              final int theLimit) {
+        if (theOrder == null || theLimit < 1) {
+            throw new IllegalArgumentException("Save summaries need an order and a positive page size.");
+        }
+        if (!isConnected()) {
+            System.err.println("Error getting save summaries: database not connected");
+            return List.of();
+        }
+        boolean search = theSearch != null && !theSearch.isBlank();
+        List<String> conditions = new ArrayList<>();
+        if (search) {
+            conditions.add("(save_name LIKE ? ESCAPE '\\' OR hero_name LIKE ? ESCAPE '\\')");
+        }
+        if (theHeroType != null) {
+            conditions.add("hero_type = ?");
+        }
+        if (theAfter != null) {
+            conditions.add(theOrder == SaveSummary.Order.NEWEST
+                    ? "(save_date, save_name) < (?, ?)"
+                    : "(save_name COLLATE NOCASE > ? OR (save_name COLLATE NOCASE = ? AND save_name > ?))");
+        }
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM save_summaries"
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + (theOrder == SaveSummary.Order.NEWEST
+                        ? " ORDER BY save_date DESC, save_name DESC"
+                        : " ORDER BY save_name COLLATE NOCASE, save_name")
+                + " LIMIT ?";
+        try {
+            return myManager.read(theReader -> {
+                PreparedStatement pstmt = theReader.prepare(sql);
+                int index = 1;
+                if (search) {
+                    String pattern = "%" + theSearch.trim().replace("\\", "\\\\")
+                            .replace("%", "\\%").replace("_", "\\_") + "%";
+                    pstmt.setString(index++, pattern);
+                    pstmt.setString(index++, pattern);
+                }
+                if (theHeroType != null) {
+                    pstmt.setString(index++, theHeroType.name());
+                }
+                if (theAfter != null) {
+                    if (theOrder == SaveSummary.Order.NEWEST) {
+                        pstmt.setString(index++, theAfter.getSaveDate());
+                    } else {
+                        pstmt.setString(index++, theAfter.getSaveName());
+                        pstmt.setString(index++, theAfter.getSaveName());
+                    }
+                    pstmt.setString(index++, theAfter.getSaveName());
+                }
+                pstmt.setInt(index, theLimit);
+
+                List<SaveSummary> page = new ArrayList<>(theLimit);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        page.add(readSummary(rs));
+                    }
+                }
+                return page;
+            });
+        } catch (SQLException e) {
+            System.err.println("Error getting save summaries: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static SaveSummary readSummary(final ResultSet theRow) throws SQLException {
+        String heroType = theRow.getString("hero_type");
+        HeroType type = null;
+        if (heroType != null) {
+            try {
+                type = HeroType.valueOf(heroType);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Warning: unknown hero type in save summary: " + heroType);
+            }
+        }
+        return new SaveSummary.Builder(theRow.getString("save_name"))
+                .setHeroName(theRow.getString("hero_name"))
+                .setHeroType(type)
+                .setPillars(theRow.getInt("pillars"))
+                .setGold(theRow.getInt("gold"))
+                .setSaveDate(theRow.getString("save_date"))
+                .setPayloadSize(theRow.getLong("payload_size"))
+                .setThumbnail(theRow.getBytes("thumbnail"))
+                .build();
+    }
+
     public boolean deleteSaveGame(String saveName) {
+        if (!isConnected()) {
+            System.err.println("Error deleting save game: database not connected");
+            return false;
+        }
         String sql = "DELETE FROM save_games WHERE save_name = ?";
-        try (PreparedStatement pstmt = myConnection.prepareStatement(sql)) {
-            pstmt.setString(1, saveName);
-            int rowsAffected = pstmt.executeUpdate();
-            return rowsAffected > 0;
+        try {
+            return myManager.write(theWriter -> {
+                Connection connection = theWriter.getConnection();
+                connection.setAutoCommit(false);
+                try {
+                    PreparedStatement pstmt = theWriter.prepare(sql);
+                    pstmt.setString(1, saveName);
+                    int rowsAffected = pstmt.executeUpdate();
+                    deleteDungeonRows(theWriter, saveName);
+                    PreparedStatement summary = theWriter.prepare("DELETE FROM save_summaries WHERE save_name = ?");
+                    summary.setString(1, saveName);
+                    summary.executeUpdate();
+                    connection.commit();
+                    return rowsAffected > 0;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            });
         } catch (SQLException e) {
             System.err.println("Error deleting save game: " + e.getMessage());
             return false;
@@ -3,6 +3,7 @@ package main.Model;
 import main.Model.character.Hero;
 import main.Model.character.HeroFactory;
 import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonPool;
 import main.Model.util.HeroType;
 import main.Model.util.Point;
 
@@ -47,7 +48,8 @@ public class Model {
         Point startPosition = new Point(0, 0); // Default, will be overridden by dungeon spawn
         this.myPlayer = myHeroFactory.getHero(theHeroName, theHeroType, startPosition);
 
-        this.myDungeon = new Dungeon(DEFAULT_DUNGEON_WIDTH, DEFAULT_DUNGEON_HEIGHT, DEFAULT_DIFFICULTY, true);
+        this.myDungeon = DungeonPool.getInstance().take(DEFAULT_DUNGEON_WIDTH, DEFAULT_DUNGEON_HEIGHT,
+                DEFAULT_DIFFICULTY);
 
         if (this.myDungeon.getHeroSpawnPoint() != null) {
             this.myPlayer.setPosition(this.myDungeon.getHeroSpawnPoint());
@@ -60,6 +62,14 @@ public class Model {
         System.out.println("Dungeon generated: " + myDungeon.getWidth() + "x" + myDungeon.getHeight() + ", Difficulty: " + myDungeon.getDifficulty());
     }
 
+    /**
+     * Starts generating dungeons for the next new game in the background,
+     * so initializeNewGame can take one that is already built.
+     */
+    public void prepareNewGame() {
+        DungeonPool.getInstance().prefill(DEFAULT_DUNGEON_WIDTH, DEFAULT_DUNGEON_HEIGHT, DEFAULT_DIFFICULTY);
+    }
+
     /**
      * Resets the current game state by clearing the player and dungeon.
      * This is typically used when quitting to the main menu.
@@ -0,0 +1,150 @@
+package main.Model;
+
+import main.Model.util.HeroType;
+
+/**
+ * What the saves browser shows for one slot, read from the small save_summaries table
+ * so listing saves never touches the payload columns of save_games.
+ * Summaries also serve as keyset cursors: the next page starts after the last summary shown.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class SaveSummary {
+    /**
+     * Orders the saves browser can list in, each backed by an index on save_summaries.
+     */
+    public enum Order {
+        NEWEST,
+        NAME
+    }
+
+    private final String mySaveName;
+    private final String myHeroName;
+    private final HeroType myHeroType;
+    private final int myPillars;
+    private final int myGold;
+    private final String mySaveDate;
+    private final long myPayloadSize;
+    private final byte[] myThumbnail;
+
+    private SaveSummary(final Builder theBuilder) {
+        this.mySaveName = theBuilder.mySaveName;
+        this.myHeroName = theBuilder.myHeroName;
+        this.myHeroType = theBuilder.myHeroType;
+        this.myPillars = theBuilder.myPillars;
+        this.myGold = theBuilder.myGold;
+        this.mySaveDate = theBuilder.mySaveDate;
+        this.myPayloadSize = theBuilder.myPayloadSize;
+        this.myThumbnail = theBuilder.myThumbnail;
+    }
+
+    public String getSaveName() {
+        return mySaveName;
+    }
+
+    /**
+     * @return hero name, or null if the payload could not be read.
+     */
+    public String getHeroName() {
+        return myHeroName;
+    }
+
+    /**
+     * @return hero type, or null if the payload could not be read.
+     */
+    public HeroType getHeroType() {
+        return myHeroType;
+    }
+
+    public int getPillars() {
+        return myPillars;
+    }
+
+    public int getGold() {
+        return myGold;
+    }
+
+    /**
+     * @return ISO local date time of the last save.
+     */
+    public String getSaveDate() {
+        return mySaveDate;
+    }
+
+    /**
+     * @return size in bytes of the slot's hero and dungeon payloads.
+     */
+    public long getPayloadSize() {
+        return myPayloadSize;
+    }
+
+    /**
+     * @return explored map thumbnail from Dungeon.createThumbnail, or null.
+     */
+    public byte[] getThumbnail() {
+        return myThumbnail;
+    }
+
+    /**
+     * Builds a summary. Only the save name is required.
+     */
+    public static final class Builder {
+        private final String mySaveName;
+        private String myHeroName;
+        private HeroType myHeroType;
+        private int myPillars;
+        private int myGold;
+        private String mySaveDate;
+        private long myPayloadSize;
+        private byte[] myThumbnail;
+
+        public Builder(final String theSaveName) {
+            if (theSaveName == null) {
+                throw new IllegalArgumentException("Save name cannot be null for a SaveSummary.");
+            }
+            this.mySaveName = theSaveName;
+        }
+
+        public Builder setHeroName(final String theHeroName) {
+            this.myHeroName = theHeroName;
+            return this;
+        }
+
+        public Builder setHeroType(final HeroType theHeroType) {
+            this.myHeroType = theHeroType;
+            return this;
+        }
+
+        public Builder setPillars(final int thePillars) {
+            this.myPillars = thePillars;
+            return this;
+        }
+
+        public Builder setGold(final int theGold) {
+            this.myGold = theGold;
+            return this;
+        }
+
+        public Builder setSaveDate(final String theSaveDate) {
+            this.mySaveDate = theSaveDate;
+            return this;
+        }
+
+        public Builder setPayloadSize(final long thePayloadSize) {
+            this.myPayloadSize = thePayloadSize;
+            return this;
+        }
+
+        public Builder setThumbnail(final byte[] theThumbnail) {
+            this.myThumbnail = theThumbnail;
+            return this;
+        }
+
+        public SaveSummary build() {
+            return new SaveSummary(this);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package main.Model;
+
+import main.Model.util.HeroType;
+import main.Model.util.MonsterType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * In-memory catalog of monster and hero base stats.
+ * The catalog is read once from the monster_types and character_types tables
+ * so the factories can build characters without touching the database.
+ * Any type missing from the database falls back to the stats defined on its enum,
+ * which are the same values the database is seeded with.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class TypeCatalog {
+    private static volatile TypeCatalog myInstance;
+
+    private final Map<MonsterType, MonsterStats> myMonsterStats;
+    private final Map<HeroType, HeroStats> myHeroStats;
+    private final boolean myLoadedFromDatabase;
+
+    /**
+     * Private constructor, use load or getInstance.
+     *
+     * @param theMonsterStats monster stats per type.
+     * @param theHeroStats hero stats per type.
+     * @param theLoadedFromDatabase true if the rows came from the database.
+     */
+    private TypeCatalog(final Map<MonsterType, MonsterStats> theMonsterStats,
+                        final Map<HeroType, HeroStats> theHeroStats,
+                        final boolean theLoadedFromDatabase) {
+        this.myMonsterStats = Collections.unmodifiableMap(theMonsterStats);
+        this.myHeroStats = Collections.unmodifiableMap(theHeroStats);
+        this.myLoadedFromDatabase = theLoadedFromDatabase;
+    }
+
+    /**
+     * Gets the shared catalog, loading it from a fresh database connection the first time.
+     *
+     * @return the shared catalog.
+     */
+    public static TypeCatalog getInstance() {
+        TypeCatalog catalog = myInstance;
+        if (catalog == null) {
+            synchronized (TypeCatalog.class) {
+                catalog = myInstance;
+                if (catalog == null) {
+                    catalog = reload();
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Loads the catalog from an already open database and makes it the shared instance.
+     * Called once at startup.
+     *
+     * @param theDatabase open database to read the type tables from.
+     * @return the loaded catalog.
+     */
+    public static synchronized TypeCatalog load(final Database theDatabase) {
+        if (theDatabase == null) {
+            throw new IllegalArgumentException("Database cannot be null for TypeCatalog.");
+        }
+        myInstance = readFrom(theDatabase);
+        return myInstance;
+    }
+
+    /**
+     * Reload hook. Opens a database connection, re-reads both type tables
+     * and replaces the shared instance.
+     *
+     * @return the reloaded catalog.
+     */
+    public static synchronized TypeCatalog reload() {
+        Database database = new Database();
+        try {
+            myInstance = readFrom(database);
+        } finally {
+            database.closeConnection();
+        }
+        return myInstance;
+    }
+
+    /**
+     * Reads both type tables into EnumMaps.
+     *
+     * @param theDatabase database to read from.
+     * @return a new catalog.
+     */
+    private static TypeCatalog readFrom(final Database theDatabase) {
+        Map<MonsterType, MonsterStats> monsters = new EnumMap<>(MonsterType.class);
+        Map<HeroType, HeroStats> heroes = new EnumMap<>(HeroType.class);
+        boolean fromDatabase = false;
+
+        if (theDatabase.isConnected()) {
+            try {
+                readMonsterTypes(theDatabase, monsters);
+                readHeroTypes(theDatabase, heroes);
+                fromDatabase = true;
+            } catch (SQLException e) {
+                System.err.println("Error loading type catalog, using enum defaults: " + e.getMessage());
+            }
+        }
+
+        // Anything the database did not provide comes from the enum definitions.
+        for (MonsterType type : MonsterType.values()) {
+            monsters.computeIfAbsent(type, MonsterStats::fromEnum);
+        }
+        for (HeroType type : HeroType.values()) {
+            heroes.computeIfAbsent(type, HeroStats::fromEnum);
+        }
+
+        System.out.println("Type catalog loaded: " + monsters.size() + " monster types, "
+                + heroes.size() + " hero types" + (fromDatabase ? " from database." : " from defaults."));
+        return new TypeCatalog(monsters, heroes, fromDatabase);
+    }
+
+    private static void readMonsterTypes(final Database theDatabase,
+                                         final Map<MonsterType, MonsterStats> theMonsters) throws SQLException {
+        ResultSet rs = theDatabase.executeQuery("SELECT * FROM monster_types");
+        if (rs == null) {
+            throw new SQLException("monster_types could not be queried");
+        }
+        try (rs) {
+            while (rs.next()) {
+                MonsterType type = monsterTypeForName(rs.getString("name"));
+                if (type != null) {
+                    theMonsters.put(type, new MonsterStats(rs.getString("name"),
+                            rs.getInt("health"),
+                            rs.getInt("attack"),
+                            rs.getString("special_attack_name"),
+                            rs.getDouble("crit_chance"),
+                            rs.getDouble("crit_multiplier"),
+                            rs.getInt("gold_reward"),
+                            rs.getBoolean("is_elite"),
+                            rs.getBoolean("is_boss"),
+                            rs.getString("description")));
+                }
+            }
+        }
+    }
+
+    private static void readHeroTypes(final Database theDatabase,
+                                      final Map<HeroType, HeroStats> theHeroes) throws SQLException {
+        ResultSet rs = theDatabase.executeQuery("SELECT * FROM character_types");
+        if (rs == null) {
+            throw new SQLException("character_types could not be queried");
+        }
+        try (rs) {
+            while (rs.next()) {
+                HeroType type = heroTypeForName(rs.getString("name"));
+                if (type != null) {
+                    theHeroes.put(type, new HeroStats(rs.getInt("base_health"),
+                            rs.getInt("base_attack"),
+                            rs.getString("special_attack_name"),
+                            rs.getInt("special_attack_damage"),
+                            rs.getDouble("crit_chance"),
+                            rs.getDouble("crit_multiplier"),
+                            rs.getString("description")));
+                }
+            }
+        }
+    }
+
+    private static MonsterType monsterTypeForName(final String theName) {
+        for (MonsterType type : MonsterType.values()) {
+            if (type.getName().equals(theName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static HeroType heroTypeForName(final String theName) {
+        for (HeroType type : HeroType.values()) {
+            if (type.getDisplayName().equals(theName)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the stats for a monster type.
+     *
+     * @param theType monster type.
+     * @return stats for that type.
+     */
+    public MonsterStats getMonsterStats(final MonsterType theType) {
+        if (theType == null) {
+            throw new NullPointerException("Monster type cannot be null.");
+        }
+        return myMonsterStats.get(theType);
+    }
+
+    /**
+     * Gets the stats for a hero type.
+     *
+     * @param theType hero type.
+     * @return stats for that type.
+     */
+    public HeroStats getHeroStats(final HeroType theType) {
+        if (theType == null) {
+            throw new IllegalArgumentException("Hero type cannot be null.");
+        }
+        return myHeroStats.get(theType);
+    }
+
+    /**
+     * Checks where the stats came from.
+     *
+     * @return true if the type tables were read from the database, false if enum defaults were used.
+     */
+    public boolean isLoadedFromDatabase() {
+        return myLoadedFromDatabase;
+    }
+
+    /**
+     * Immutable base stats for one monster type, matching a monster_types row.
+     */
+    public static final class MonsterStats {
+        private final String myName;
+        private final int myHealth;
+        private final int myAttack;
+        private final String mySpecialAttackName;
+        private final double myCritChance;
+        private final double myCritMultiplier;
+        private final int myGoldReward;
+        private final boolean myIsElite;
+        private final boolean myIsBoss;
+        private final String myDescription;
+
+        MonsterStats(final String theName, final int theHealth, final int theAttack,
+                     final String theSpecialAttackName, final double theCritChance,
+                     final double theCritMultiplier, final int theGoldReward,
+                     final boolean theIsElite, final boolean theIsBoss, final String theDescription) {
+            this.myName = theName;
+            this.myHealth = theHealth;
+            this.myAttack = theAttack;
+            this.mySpecialAttackName = theSpecialAttackName;
+            this.myCritChance = theCritChance;
+            this.myCritMultiplier = theCritMultiplier;
+            this.myGoldReward = theGoldReward;
+            this.myIsElite = theIsElite;
+            this.myIsBoss = theIsBoss;
+            this.myDescription = theDescription;
+        }
+
+        private static MonsterStats fromEnum(final MonsterType theType) {
+            return new MonsterStats(theType.getName(), theType.getBaseHealth(), theType.getBaseAttack(),
+                    theType.getSpecialAttackName(), theType.getCritChance(), theType.getCritMultiplier(),
+                    theType.getGoldReward(), theType.isElite(), theType.isBoss(), theType.getDescription());
+        }
+
+        public String getName() { return myName; }
+        public int getHealth() { return myHealth; }
+        public int getAttack() { return myAttack; }
+        public String getSpecialAttackName() { return mySpecialAttackName; }
+        public double getCritChance() { return myCritChance; }
+        public double getCritMultiplier() { return myCritMultiplier; }
+        public int getGoldReward() { return myGoldReward; }
+        public boolean isElite() { return myIsElite; }
+        public boolean isBoss() { return myIsBoss; }
+        public String getDescription() { return myDescription; }
+    }
+
+    /**
+     * Immutable base stats for one hero type, matching a character_types row.
+     */
+    public static final class HeroStats {
+        private final int myBaseHealth;
+        private final int myBaseAttack;
+        private final String mySpecialAttackName;
+        private final int mySpecialAttackDamage;
+        private final double myCritChance;
+        private final double myCritMultiplier;
+        private final String myDescription;
+
+        HeroStats(final int theBaseHealth, final int theBaseAttack, final String theSpecialAttackName,
+                  final int theSpecialAttackDamage, final double theCritChance,
+                  final double theCritMultiplier, final String theDescription) {
+            this.myBaseHealth = theBaseHealth;
+            this.myBaseAttack = theBaseAttack;
+            this.mySpecialAttackName = theSpecialAttackName;
+            this.mySpecialAttackDamage = theSpecialAttackDamage;
+            this.myCritChance = theCritChance;
+            this.myCritMultiplier = theCritMultiplier;
+            this.myDescription = theDescription;
+        }
+
+        private static HeroStats fromEnum(final HeroType theType) {
+            return new HeroStats(theType.getBaseHealth(), theType.getBaseAttack(), theType.getSpecialAttackName(),
+                    theType.getSpecialAttackDamage(), theType.getCritChance(), theType.getCritMultiplier(),
+                    theType.getDescription());
+        }
+
+        public int getBaseHealth() { return myBaseHealth; }
+        public int getBaseAttack() { return myBaseAttack; }
+        public String getSpecialAttackName() { return mySpecialAttackName; }
+        public int getSpecialAttackDamage() { return mySpecialAttackDamage; }
+        public double getCritChance() { return myCritChance; }
+        public double getCritMultiplier() { return myCritMultiplier; }
+        public String getDescription() { return myDescription; }
+    }
+}
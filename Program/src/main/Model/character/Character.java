@@ -69,23 +69,23 @@ public abstract class Character {
     }
 
     /**
-     * Moves character.
+     * Moves character, to the shared point of the new position where there is one.
      *
      * @param theDirection direction to be moved in.
      */
     public void move(final Direction theDirection) {
         switch (theDirection) {
             case NORTH:
-                myPosition = new Point(myPosition.getX(), myPosition.getY() - 1);
+                myPosition = Point.of(myPosition.getX(), myPosition.getY() - 1);
                 break;
             case SOUTH:
-                myPosition = new Point(myPosition.getX(), myPosition.getY() + 1);
+                myPosition = Point.of(myPosition.getX(), myPosition.getY() + 1);
                 break;
             case EAST:
-                myPosition = new Point(myPosition.getX() + 1, myPosition.getY());
+                myPosition = Point.of(myPosition.getX() + 1, myPosition.getY());
                 break;
             case WEST:
-                myPosition = new Point(myPosition.getX() - 1, myPosition.getY());
+                myPosition = Point.of(myPosition.getX() - 1, myPosition.getY());
                 break;
         }
     }
@@ -1,7 +1,14 @@
 package main.Model.character;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
+import main.Model.SaveSummary;
 import main.Model.dungeon.Room;
 import main.Model.element.HealthPotion;
 import main.Model.element.Item;
@@ -10,9 +17,13 @@ import main.Model.element.VisionPotion;
 import main.Model.util.HeroType;
 import javafx.scene.image.Image;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import main.Model.util.Point;
+import main.Model.util.SaveFormat;
 
 /**
  * Represents the player character.
@@ -33,6 +44,10 @@ public class Hero extends Character {
     private static final double BASE_MOVEMENT_SPEED = 2.0;
     public static final int SPRITE_FRAME_WIDTH = 232;
     public static final int SPRITE_FRAME_HEIGHT = 212;
+    private static final byte SAVE_ITEM_HEALTH = 0;
+    private static final byte SAVE_ITEM_VISION = 1;
+    // Streams legacy JSON payloads for save summaries; shared, as factories are thread safe
+    private static final JsonFactory SUMMARY_JSON = new JsonFactory();
 
     // Core hero attributes
     private final HeroType myHeroType;
@@ -572,51 +587,68 @@ public class Hero extends Character {
         try {
             ObjectMapper mapper = new ObjectMapper();
             HeroSaveData saveData = mapper.readValue(json, HeroSaveData.class);
+            return restore(saveData);
+        } catch (Exception e) {
+            System.err.println("Error deserializing hero: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
 
-            HeroType heroType = HeroType.valueOf(saveData.heroType);
-            Hero hero = new HeroBuilder()
-                    .setName(saveData.name)
-                    .setHeroType(heroType)
-                    .setHealth(saveData.health)
-                    .setMaxHealth(saveData.maxHealth)
-                    .setPosition(new Point(saveData.positionX, saveData.positionY))
-                    .build();
-
-            // Restore all the saved data
-            hero.myGold = saveData.gold;
-            hero.myPillarsActivated = saveData.pillarsActivated;
-
-            // CRITICAL: Restore pixel position
-            hero.myPixelX = saveData.pixelX;
-            hero.myPixelY = saveData.pixelY;
-            hero.myAttackBuff = saveData.attackBuff;
-            hero.mySpecialMana = saveData.specialMana;
-            hero.myManaBuff = saveData.manaBuff;
-
-            // CRITICAL: Reset movement state to ensure clean state
-            hero.myMovementState.setMovingNorth(false);
-            hero.myMovementState.setMovingSouth(false);
-            hero.myMovementState.setMovingEast(false);
-            hero.myMovementState.setMovingWest(false);
-
-            // Restore inventory
-            for (String itemName : saveData.inventoryItems) {
-                if (itemName.equals("Health Potion")) {
-                    hero.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
-                } else {
-                    // Because a dungeon object is reloaded after Hero, and a dungeon is needed for the vision potion,
-                    // a placeholder is put here then replaced at GameController loadGameFromSave.
-                    hero.addItem(new HealthPotion("VisionPlaceholder", "Description", 0));
-                }
+    /**
+     * Serializes hero to the compact binary save format.
+     * Inventory items are stored as one byte each, see SAVE_ITEM_HEALTH.
+     *
+     * @return binary payload, or null if serialization fails
+     */
+    public byte[] toSaveBytes() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + myInventory.size());
+            DataOutputStream out = new DataOutputStream(bytes);
+            SaveFormat.writeHeader(out, SaveFormat.KIND_HERO);
+            SaveFormat.writeString(out, getName());
+            out.writeByte(myHeroType.ordinal());
+            SaveFormat.writeSignedVarInt(out, getHealth());
+            SaveFormat.writeSignedVarInt(out, getMaxHealth());
+            SaveFormat.writeSignedVarInt(out, myAttackBuff);
+            SaveFormat.writeSignedVarInt(out, mySpecialMana);
+            out.writeBoolean(myManaBuff);
+            SaveFormat.writeSignedVarInt(out, myGold);
+            SaveFormat.writeSignedVarInt(out, myPillarsActivated);
+            SaveFormat.writeSignedVarInt(out, getPosition().getX());
+            SaveFormat.writeSignedVarInt(out, getPosition().getY());
+            out.writeDouble(myPixelX);
+            out.writeDouble(myPixelY);
+
+            SaveFormat.writeVarInt(out, myInventory.size());
+            for (Item item : myInventory) {
+                out.writeByte("Health Potion".equals(item.getName()) ? SAVE_ITEM_HEALTH : SAVE_ITEM_VISION);
             }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            System.err.println("Error serializing hero: " + e.getMessage());
+            return null;
+        }
+    }
 
-            // CRITICAL: Reload sprite sheet since it's transient
-            hero.loadSpriteSheet();
-
-            System.out.println("Hero loaded - Position: " + hero.getPosition() +
-                              ", Pixel: (" + hero.myPixelX + "," + hero.myPixelY + ")");
-
-            return hero;
+    /**
+     * Restores a hero from a stored save payload.
+     * Binary payloads are decoded directly, anything else is read as a legacy JSON row.
+     *
+     * @param theData stored payload
+     * @return new Hero instance, or null if the payload cannot be read
+     */
+    public static Hero fromSaveBytes(final byte[] theData) {
+        if (theData == null) {
+            System.err.println("Error deserializing hero: no save data");
+            return null;
+        }
+        if (!SaveFormat.isBinary(theData)) {
+            return fromJson(new String(theData, StandardCharsets.UTF_8));
+        }
+        try {
+            return restore(readSaveData(theData));
         } catch (Exception e) {
             System.err.println("Error deserializing hero: " + e.getMessage());
             e.printStackTrace();
@@ -624,6 +656,178 @@ public class Hero extends Character {
         }
     }
 
+    /**
+     * Fills in the hero fields of a save summary straight from a stored payload,
+     * without building a hero. Only the fields the summary needs are read: a binary
+     * payload is read up to the pillar count, and a JSON one is streamed until those
+     * fields have gone by, so the position and inventory after them are never decoded.
+     *
+     * @param theData stored payload, binary or legacy JSON
+     * @param theSummary summary to fill in
+     * @return true if the payload could be read
+     */
+    public static boolean describeSave(final byte[] theData, final SaveSummary.Builder theSummary) {
+        if (theData == null) {
+            return false;
+        }
+        try {
+            if (SaveFormat.isBinary(theData)) {
+                describeBinary(theData, theSummary);
+            } else {
+                describeJson(theData, theSummary);
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error reading hero save summary: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static void describeBinary(final byte[] theData, final SaveSummary.Builder theSummary)
+            throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(theData));
+        SaveFormat.readHeader(in, SaveFormat.KIND_HERO);
+        String name = SaveFormat.readString(in);
+        HeroType heroType = SaveFormat.readOrdinal(in, HeroType.values());
+        // Health, max health, attack buff and special mana, then the mana buff, as readSaveData reads them
+        for (int i = 0; i < 4; i++) {
+            SaveFormat.readSignedVarInt(in);
+        }
+        in.readBoolean();
+        int gold = SaveFormat.readSignedVarInt(in);
+        int pillars = SaveFormat.readSignedVarInt(in);
+        theSummary.setHeroName(name)
+                .setHeroType(heroType)
+                .setGold(gold)
+                .setPillars(pillars);
+    }
+
+    private static void describeJson(final byte[] theData, final SaveSummary.Builder theSummary)
+            throws IOException {
+        try (JsonParser parser = SUMMARY_JSON.createParser(theData)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Hero save must be a JSON object");
+            }
+            String name = null;
+            String heroType = null;
+            int gold = 0;
+            int pillars = 0;
+            int found = 0;
+            while (found < 4 && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> name = parser.getValueAsString();
+                    case "heroType" -> heroType = parser.getValueAsString();
+                    case "gold" -> gold = parser.getIntValue();
+                    case "pillarsActivated" -> pillars = parser.getIntValue();
+                    default -> {
+                        parser.skipChildren();
+                        continue;
+                    }
+                }
+                found++;
+            }
+            if (name == null || heroType == null) {
+                throw new IOException("Hero save is missing its name or type");
+            }
+            theSummary.setHeroName(name)
+                    .setHeroType(HeroType.valueOf(heroType))
+                    .setGold(gold)
+                    .setPillars(pillars);
+        }
+    }
+
+    /**
+     * Decodes a binary payload into save values.
+     *
+     * @param theData binary payload
+     * @return decoded save values
+     * @throws IOException if the payload is truncated or corrupt
+     */
+    private static HeroSaveData readSaveData(final byte[] theData) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(theData));
+        SaveFormat.readHeader(in, SaveFormat.KIND_HERO);
+
+        HeroSaveData saveData = new HeroSaveData();
+        saveData.name = SaveFormat.readString(in);
+        saveData.heroType = SaveFormat.readOrdinal(in, HeroType.values()).name();
+        saveData.health = SaveFormat.readSignedVarInt(in);
+        saveData.maxHealth = SaveFormat.readSignedVarInt(in);
+        saveData.attackBuff = SaveFormat.readSignedVarInt(in);
+        saveData.specialMana = SaveFormat.readSignedVarInt(in);
+        saveData.manaBuff = in.readBoolean();
+        saveData.gold = SaveFormat.readSignedVarInt(in);
+        saveData.pillarsActivated = SaveFormat.readSignedVarInt(in);
+        saveData.positionX = SaveFormat.readSignedVarInt(in);
+        saveData.positionY = SaveFormat.readSignedVarInt(in);
+        saveData.pixelX = in.readDouble();
+        saveData.pixelY = in.readDouble();
+
+        int itemCount = SaveFormat.readVarInt(in);
+        if (itemCount > MAX_INVENTORY_SIZE) {
+            throw new IOException("Inventory of " + itemCount + " items is larger than " + MAX_INVENTORY_SIZE);
+        }
+        saveData.inventoryItems = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            saveData.inventoryItems.add(in.readByte() == SAVE_ITEM_HEALTH ? "Health Potion" : "Vision Potion");
+        }
+        return saveData;
+    }
+
+    /**
+     * Builds a hero from decoded save values, shared by the JSON and binary readers.
+     *
+     * @param saveData decoded save values
+     * @return new Hero instance
+     */
+    private static Hero restore(final HeroSaveData saveData) {
+        HeroType heroType = HeroType.valueOf(saveData.heroType);
+        Hero hero = new HeroBuilder()
+                .setName(saveData.name)
+                .setHeroType(heroType)
+                .setHealth(saveData.health)
+                .setMaxHealth(saveData.maxHealth)
+                .setPosition(new Point(saveData.positionX, saveData.positionY))
+                .build();
+
+        // Restore all the saved data
+        hero.myGold = saveData.gold;
+        hero.myPillarsActivated = saveData.pillarsActivated;
+
+        // CRITICAL: Restore pixel position
+        hero.myPixelX = saveData.pixelX;
+        hero.myPixelY = saveData.pixelY;
+        hero.myAttackBuff = saveData.attackBuff;
+        hero.mySpecialMana = saveData.specialMana;
+        hero.myManaBuff = saveData.manaBuff;
+
+        // CRITICAL: Reset movement state to ensure clean state
+        hero.myMovementState.setMovingNorth(false);
+        hero.myMovementState.setMovingSouth(false);
+        hero.myMovementState.setMovingEast(false);
+        hero.myMovementState.setMovingWest(false);
+
+        // Restore inventory
+        for (String itemName : saveData.inventoryItems) {
+            if (itemName.equals("Health Potion")) {
+                hero.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
+            } else {
+                // Because a dungeon object is reloaded after Hero, and a dungeon is needed for the vision potion,
+                // a placeholder is put here then replaced at GameController loadGameFromSave.
+                hero.addItem(new HealthPotion("VisionPlaceholder", "Description", 0));
+            }
+        }
+
+        // CRITICAL: Reload sprite sheet since it's transient
+        hero.loadSpriteSheet();
+
+        System.out.println("Hero loaded - Position: " + hero.getPosition() +
+                          ", Pixel: (" + hero.myPixelX + "," + hero.myPixelY + ")");
+
+        return hero;
+    }
+
     // inner class for save data
     private static class HeroSaveData {
         public String name;
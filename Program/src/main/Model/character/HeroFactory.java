@@ -1,19 +1,18 @@
 package main.Model.character;
 
-import main.Model.Database;
+import main.Model.TypeCatalog;
+import main.Model.TypeCatalog.HeroStats;
 import main.Model.util.HeroType;
 import main.Model.util.Point;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
-
 /**
  * Factory class for hero creation.
+ * Stats come from the shared TypeCatalog, so no database work happens per hero.
  *
  * @author Jacob Hilliker
  * @author Emanuel Feria
  * @author Vladyslav Glavatskyi
- * @version 6/13/2025
+ * @version 10/18/2026
  */
 public class HeroFactory {
     /**
@@ -26,66 +25,40 @@ public class HeroFactory {
      */
     public Hero getHero(final String theHeroName, final HeroType theHeroType,
                         final Point theStartingPoint) {
-        Hero hero;
         if (theHeroName == null || theHeroName.trim().isEmpty()) {
             throw new IllegalArgumentException("Hero name cannot be null or empty...");
         } else if (theHeroType == null) {
             throw new IllegalArgumentException("Hero Type cannot be null...");
         } else if (theStartingPoint == null) {
             throw new IllegalArgumentException("Hero Starting Point cannot be null...");
-        } else {
-            Database database = new Database();
-            ResultSet rs;
-            switch (theHeroType) {
-                case theHeroType.WARRIOR:
-                    rs = database.executeQuery("SELECT * FROM character_types WHERE id = 1");
-                    hero = buildHero(rs, theHeroName, theHeroType, theStartingPoint);
-                    break;
-                case  theHeroType.PRIESTESS:
-                    rs = database.executeQuery("SELECT * FROM character_types WHERE id = 2");
-                    hero = buildHero(rs, theHeroName, theHeroType, theStartingPoint);
-                    break;
-                case theHeroType.THIEF:
-                     rs = database.executeQuery("SELECT * FROM character_types WHERE id = 3");
-                     hero = buildHero(rs, theHeroName, theHeroType, theStartingPoint);
-                     break;
-                default:
-                     throw new IllegalArgumentException("Not valid HeroType");
-            }
-            database.closeConnection();
         }
-        return hero;
+        return buildHero(TypeCatalog.getInstance().getHeroStats(theHeroType),
+                theHeroName, theHeroType, theStartingPoint);
     }
 
     /**
      * Builder method for creating a hero.
      *
-     * @param theRS the result set for SQLite.
+     * @param theStats catalog stats for the hero type.
      * @param theHeroName name.
      * @param theHeroType type.
      * @param theStartingPoint starting spot.
      * @return a new Hero.
      */
-    private Hero buildHero(final ResultSet theRS, final String theHeroName,
+    private Hero buildHero(final HeroStats theStats, final String theHeroName,
                            final HeroType theHeroType, final Point theStartingPoint) {
-        try {
-            return new Hero.HeroBuilder().setName(theHeroName).
-                    setPosition(theStartingPoint).
-                    setHealth(theRS.getInt("base_health")).
-                    setMaxHealth(theRS.getInt("base_health")).
-                    setBaseAttackDamage(theRS.getInt("base_attack")).
-                    setSpecialAttackDamage(theRS.getInt("special_attack_damage")).
-                    setSpecialAttackName(theRS.getString("special_attack_name")).
-                    setCritChance(theRS.getDouble("crit_chance")).
-                    setCritMultiplier(theRS.getDouble("crit_multiplier")).
-                    setDescription(theRS.getString("description")).
-                    setHeroType(theHeroType).
-                    build();
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new IllegalArgumentException("SQL issues in buildHero of HeroFactory");
-        }
+        return new Hero.HeroBuilder().setName(theHeroName).
+                setPosition(theStartingPoint).
+                setHealth(theStats.getBaseHealth()).
+                setMaxHealth(theStats.getBaseHealth()).
+                setBaseAttackDamage(theStats.getBaseAttack()).
+                setSpecialAttackDamage(theStats.getSpecialAttackDamage()).
+                setSpecialAttackName(theStats.getSpecialAttackName()).
+                setCritChance(theStats.getCritChance()).
+                setCritMultiplier(theStats.getCritMultiplier()).
+                setDescription(theStats.getDescription()).
+                setHeroType(theHeroType).
+                build();
     }
 
 }
-
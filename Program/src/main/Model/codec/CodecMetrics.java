@@ -0,0 +1,89 @@
+package main.Model.codec;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Running totals of save payload sizes and coding times, kept per codec so the
+ * tradeoff between them can be compared on real save volume.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class CodecMetrics {
+    private final Map<String, Totals> myTotals = new TreeMap<>();
+
+    /**
+     * Records one encoded save.
+     *
+     * @param theCodec codec name.
+     * @param theRawBytes payload bytes before encoding.
+     * @param theEncodedBytes payload bytes after encoding.
+     * @param theNanos time spent encoding.
+     */
+    public synchronized void recordEncode(final String theCodec, final long theRawBytes,
+                                          final long theEncodedBytes, final long theNanos) {
+        Totals totals = myTotals.computeIfAbsent(theCodec, theName -> new Totals());
+        totals.myEncodes++;
+        totals.myRawBytes += theRawBytes;
+        totals.myEncodedBytes += theEncodedBytes;
+        totals.myEncodeNanos += theNanos;
+    }
+
+    /**
+     * Records one decoded payload.
+     *
+     * @param theCodec codec name.
+     * @param theNanos time spent decoding.
+     */
+    public synchronized void recordDecode(final String theCodec, final long theNanos) {
+        Totals totals = myTotals.computeIfAbsent(theCodec, theName -> new Totals());
+        totals.myDecodes++;
+        totals.myDecodeNanos += theNanos;
+    }
+
+    /**
+     * Gets how many saves were encoded with a codec.
+     *
+     * @param theCodec codec name.
+     * @return encode count.
+     */
+    public synchronized long getEncodeCount(final String theCodec) {
+        Totals totals = myTotals.get(theCodec);
+        return totals == null ? 0 : totals.myEncodes;
+    }
+
+    /**
+     * Gets a one line summary per codec used in this run.
+     *
+     * @return counter summary, empty if nothing was coded.
+     */
+    public synchronized String getStats() {
+        StringBuilder stats = new StringBuilder();
+        for (Map.Entry<String, Totals> entry : myTotals.entrySet()) {
+            Totals totals = entry.getValue();
+            if (!stats.isEmpty()) {
+                stats.append('\n');
+            }
+            stats.append(String.format("%s: %d saves, %d -> %d bytes (%.1f%%), encode avg %.2f ms, "
+                            + "%d loads, decode avg %.2f ms",
+                    entry.getKey(), totals.myEncodes, totals.myRawBytes, totals.myEncodedBytes,
+                    totals.myRawBytes == 0 ? 100.0 : 100.0 * totals.myEncodedBytes / totals.myRawBytes,
+                    totals.myEncodes == 0 ? 0.0 : totals.myEncodeNanos / 1_000_000.0 / totals.myEncodes,
+                    totals.myDecodes,
+                    totals.myDecodes == 0 ? 0.0 : totals.myDecodeNanos / 1_000_000.0 / totals.myDecodes));
+        }
+        return stats.toString();
+    }
+
+    private static final class Totals {
+        private long myEncodes;
+        private long myRawBytes;
+        private long myEncodedBytes;
+        private long myEncodeNanos;
+        private long myDecodes;
+        private long myDecodeNanos;
+    }
+}
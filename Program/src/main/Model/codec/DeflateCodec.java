@@ -0,0 +1,151 @@
+package main.Model.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflate compression, optionally primed with a preset dictionary of byte runs
+ * common in save payloads. A dictionary lets even a small payload refer back to
+ * runs it has not repeated itself yet.
+ *
+ * Encoded layout: raw length as a varint, then a zlib stream. The zlib header of a
+ * dictionary stream carries the dictionary's checksum, so a mismatched dictionary
+ * is reported instead of producing garbage.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class DeflateCodec implements PayloadCodec {
+    /** Largest payload decode will allocate for, to reject corrupt length prefixes. */
+    private static final int MAX_RAW_SIZE = 256 * 1024 * 1024;
+
+    private final int myId;
+    private final int myLevel;
+    private final byte[] myDictionary;
+
+    /**
+     * Creates a codec.
+     *
+     * @param theId id stored with rows; must differ for every dictionary.
+     * @param theLevel Deflater level, 1 (fastest) to 9 (smallest). Only encoding uses it.
+     * @param theDictionary preset dictionary, or null for plain deflate.
+     */
+    public DeflateCodec(final int theId, final int theLevel, final byte[] theDictionary) {
+        if (theLevel < Deflater.BEST_SPEED || theLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Deflate level must be between 1 and 9.");
+        }
+        this.myId = theId;
+        this.myLevel = theLevel;
+        this.myDictionary = theDictionary;
+    }
+
+    @Override
+    public int getId() {
+        return myId;
+    }
+
+    @Override
+    public String getName() {
+        return (myDictionary == null ? "deflate:" : "dictionary:") + myLevel;
+    }
+
+    public int getLevel() {
+        return myLevel;
+    }
+
+    /**
+     * Gets a codec with the same id and dictionary that encodes at another level.
+     * Rows it writes decode with either codec.
+     *
+     * @param theLevel Deflater level, 1 to 9.
+     * @return codec at that level.
+     */
+    public DeflateCodec withLevel(final int theLevel) {
+        return theLevel == myLevel ? this : new DeflateCodec(myId, theLevel, myDictionary);
+    }
+
+    @Override
+    public byte[] encode(final byte[] theData) {
+        Deflater deflater = new Deflater(myLevel);
+        try {
+            if (myDictionary != null) {
+                deflater.setDictionary(myDictionary);
+            }
+            deflater.setInput(theData);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(theData.length / 4 + 16);
+            writeVarInt(out, theData.length);
+            byte[] buffer = new byte[Math.max(256, Math.min(theData.length, 64 * 1024))];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decode(final byte[] theData) throws IOException {
+        int[] position = {0};
+        int rawLength = readVarInt(theData, position);
+        if (rawLength < 0 || rawLength > MAX_RAW_SIZE) {
+            throw new IOException("Bad raw payload length " + rawLength);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(theData, position[0], theData.length - position[0]);
+            byte[] raw = new byte[rawLength];
+            int filled = 0;
+            while (filled < rawLength) {
+                int count = inflater.inflate(raw, filled, rawLength - filled);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (myDictionary == null) {
+                            throw new IOException("Payload needs a dictionary codec " + getName() + " lacks");
+                        }
+                        inflater.setDictionary(myDictionary);
+                    } else if (inflater.finished() || inflater.needsInput()) {
+                        throw new IOException("Payload ended after " + filled + " of " + rawLength + " bytes");
+                    }
+                }
+                filled += count;
+            }
+            return raw;
+        } catch (DataFormatException | IllegalArgumentException e) {
+            throw new IOException("Corrupt " + getName() + " payload: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarInt(final ByteArrayOutputStream theOut, final int theValue) {
+        int value = theValue;
+        while ((value & ~0x7F) != 0) {
+            theOut.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        theOut.write(value);
+    }
+
+    private static int readVarInt(final byte[] theData, final int[] thePosition) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (thePosition[0] >= theData.length) {
+                throw new IOException("Payload length is cut short");
+            }
+            int b = theData[thePosition[0]++] & 0xFF;
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Payload length is too long");
+    }
+}
@@ -0,0 +1,48 @@
+package main.Model.codec;
+
+import java.io.IOException;
+
+/**
+ * Reversible transform applied to save payloads before they are stored.
+ * Each codec has a fixed id that is stored with the row, so a row can always be
+ * decoded by the codec that wrote it even after the default codec changes.
+ * Ids are never reused.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public interface PayloadCodec {
+
+    /**
+     * Gets the id stored with rows written by this codec.
+     *
+     * @return codec id.
+     */
+    int getId();
+
+    /**
+     * Gets a short name for logs and metrics.
+     *
+     * @return codec name.
+     */
+    String getName();
+
+    /**
+     * Encodes a payload.
+     *
+     * @param theData raw payload.
+     * @return encoded payload.
+     */
+    byte[] encode(byte[] theData);
+
+    /**
+     * Decodes a payload written by encode.
+     *
+     * @param theData encoded payload.
+     * @return raw payload.
+     * @throws IOException if the payload is corrupt.
+     */
+    byte[] decode(byte[] theData) throws IOException;
+}
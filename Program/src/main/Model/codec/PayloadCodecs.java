@@ -0,0 +1,165 @@
+package main.Model.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+
+/**
+ * Registry of the save payload codecs and the one new saves are written with.
+ * The default is set with the system property dungeondive.saveCodec, one of
+ * "none", "deflate[:level]" or "dictionary[:level]", and falls back to
+ * dictionary:6 when the property is missing or unreadable.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class PayloadCodecs {
+    /** Id of rows stored as is, including every row written before codecs existed. */
+    public static final int NONE_ID = 0;
+
+    /** Id of rows written with plain deflate at any level. */
+    public static final int DEFLATE_ID = 1;
+
+    /** Id of rows written with deflate primed by save-dictionary-1.bin. */
+    public static final int DICTIONARY_ID = 2;
+
+    /** Property naming the codec new saves use. */
+    public static final String CODEC_PROPERTY = "dungeondive.saveCodec";
+
+    private static final String DICTIONARY_RESOURCE = "/main/Model/codec/save-dictionary-1.bin";
+
+    /** Stores payloads unchanged. */
+    public static final PayloadCodec NONE = new PayloadCodec() {
+        @Override
+        public int getId() {
+            return NONE_ID;
+        }
+
+        @Override
+        public String getName() {
+            return "none";
+        }
+
+        @Override
+        public byte[] encode(final byte[] theData) {
+            return theData;
+        }
+
+        @Override
+        public byte[] decode(final byte[] theData) {
+            return theData;
+        }
+    };
+
+    private static final DeflateCodec DEFLATE = new DeflateCodec(DEFLATE_ID, 6, null);
+    private static final DeflateCodec DICTIONARY = loadDictionaryCodec();
+    private static final CodecMetrics METRICS = new CodecMetrics();
+
+    private static volatile PayloadCodec myDefault = parse(System.getProperty(CODEC_PROPERTY, "dictionary:6"));
+
+    private PayloadCodecs() {
+    }
+
+    /**
+     * Gets the codec new saves are written with.
+     *
+     * @return default codec.
+     */
+    public static PayloadCodec getDefault() {
+        return myDefault;
+    }
+
+    /**
+     * Sets the codec new saves are written with. Existing rows keep decoding with their own codec.
+     *
+     * @param theCodec codec to use.
+     */
+    public static void setDefault(final PayloadCodec theCodec) {
+        if (theCodec == null) {
+            throw new IllegalArgumentException("Default codec cannot be null.");
+        }
+        myDefault = theCodec;
+    }
+
+    /**
+     * Gets the codec that decodes rows stored with an id.
+     *
+     * @param theId id stored with the row.
+     * @return the codec.
+     * @throws IOException if no codec of this build has that id.
+     */
+    public static PayloadCodec forId(final int theId) throws IOException {
+        switch (theId) {
+            case NONE_ID:
+                return NONE;
+            case DEFLATE_ID:
+                return DEFLATE;
+            case DICTIONARY_ID:
+                if (DICTIONARY == null) {
+                    throw new IOException("Save dictionary " + DICTIONARY_RESOURCE + " is missing");
+                }
+                return DICTIONARY;
+            default:
+                throw new IOException("Unknown save payload codec " + theId);
+        }
+    }
+
+    /**
+     * Parses a codec setting such as "deflate:9". Unreadable settings fall back to dictionary:6,
+     * or to deflate:6 when the dictionary is missing.
+     *
+     * @param theSetting codec setting.
+     * @return the codec.
+     */
+    public static PayloadCodec parse(final String theSetting) {
+        String setting = theSetting == null ? "" : theSetting.trim().toLowerCase();
+        String[] parts = setting.split(":", 2);
+        int level = 6;
+        if (parts.length == 2) {
+            try {
+                level = Math.clamp(Integer.parseInt(parts[1].trim()), Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION);
+            } catch (NumberFormatException e) {
+                System.err.println("Ignoring bad save codec level: " + theSetting);
+            }
+        }
+        switch (parts[0]) {
+            case "none":
+                return NONE;
+            case "deflate":
+                return DEFLATE.withLevel(level);
+            case "dictionary":
+                if (DICTIONARY != null) {
+                    return DICTIONARY.withLevel(level);
+                }
+                System.err.println("Save dictionary missing, falling back to deflate");
+                return DEFLATE.withLevel(level);
+            default:
+                System.err.println("Unknown save codec '" + theSetting + "', using dictionary:6");
+                return DICTIONARY != null ? DICTIONARY.withLevel(6) : DEFLATE.withLevel(6);
+        }
+    }
+
+    /**
+     * Gets the save compression counters for this run.
+     *
+     * @return shared metrics.
+     */
+    public static CodecMetrics getMetrics() {
+        return METRICS;
+    }
+
+    private static DeflateCodec loadDictionaryCodec() {
+        try (InputStream in = PayloadCodecs.class.getResourceAsStream(DICTIONARY_RESOURCE)) {
+            if (in == null) {
+                System.err.println("Save dictionary not found: " + DICTIONARY_RESOURCE);
+                return null;
+            }
+            return new DeflateCodec(DICTIONARY_ID, 6, in.readAllBytes());
+        } catch (IOException e) {
+            System.err.println("Error reading save dictionary: " + e.getMessage());
+            return null;
+        }
+    }
+}
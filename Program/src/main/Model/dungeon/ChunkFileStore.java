@@ -0,0 +1,113 @@
+package main.Model.dungeon;
+
+import main.Model.util.SaveFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Chunk store keeping one file per changed chunk in a directory.
+ * File: "DDK", version, CRC32 of the body, then the body: pillar and boss counters,
+ * room count and the rooms in DungeonDelta.RoomState's binary form. A chunk is
+ * written to a temporary file and moved into place, so a crash leaves either the
+ * old or the new chunk.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class ChunkFileStore implements ChunkStore {
+    private static final byte[] MAGIC = {'D', 'D', 'K'};
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_SIZE = 3 + 1 + 8;
+
+    private final Path myDirectory;
+
+    /**
+     * Creates a store in a directory, created on the first save.
+     *
+     * @param theDirectory directory for the chunk files
+     */
+    public ChunkFileStore(final Path theDirectory) {
+        if (theDirectory == null) {
+            throw new IllegalArgumentException("Directory cannot be null for ChunkFileStore.");
+        }
+        this.myDirectory = theDirectory;
+    }
+
+    @Override
+    public DungeonDelta load(final int theChunkX, final int theChunkY) throws IOException {
+        byte[] data;
+        try {
+            data = Files.readAllBytes(path(theChunkX, theChunkY));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (data.length < HEADER_SIZE || data[0] != MAGIC[0] || data[1] != MAGIC[1] || data[2] != MAGIC[2]) {
+            throw new IOException("Not a chunk file: " + path(theChunkX, theChunkY));
+        }
+        if (data[3] != FILE_VERSION) {
+            throw new IOException("Unsupported chunk file version " + data[3]);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 4, data.length - 4));
+        long checksum = in.readLong();
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        if (crc.getValue() != checksum) {
+            throw new IOException("Chunk (" + theChunkX + ", " + theChunkY + ") is corrupt");
+        }
+
+        int activatedPillars = SaveFormat.readVarInt(in);
+        boolean bossSpawned = in.readBoolean();
+        int roomCount = SaveFormat.readVarInt(in);
+        List<DungeonDelta.RoomState> rooms = new ArrayList<>(Math.min(roomCount, 4096));
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(DungeonDelta.RoomState.read(in));
+        }
+        return new DungeonDelta(activatedPillars, bossSpawned, rooms);
+    }
+
+    @Override
+    public void save(final int theChunkX, final int theChunkY, final DungeonDelta theRooms) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER_SIZE + theRooms.getRoomCount() * 8);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(MAGIC);
+        out.writeByte(FILE_VERSION);
+        out.writeLong(0); // CRC32, filled in below
+        SaveFormat.writeVarInt(out, theRooms.getActivatedPillars());
+        out.writeBoolean(theRooms.isBossSpawned());
+        SaveFormat.writeVarInt(out, theRooms.getRoomCount());
+        for (DungeonDelta.RoomState room : theRooms.getRooms()) {
+            room.write(out);
+        }
+        out.flush();
+        byte[] data = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(data, HEADER_SIZE, data.length - HEADER_SIZE);
+        long checksum = crc.getValue();
+        for (int i = 0; i < 8; i++) {
+            data[4 + i] = (byte) (checksum >>> (56 - 8 * i));
+        }
+
+        Files.createDirectories(myDirectory);
+        Path target = path(theChunkX, theChunkY);
+        Path temp = myDirectory.resolve(target.getFileName() + ".tmp");
+        Files.write(temp, data);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path path(final int theChunkX, final int theChunkY) {
+        return myDirectory.resolve("chunk_" + theChunkX + "_" + theChunkY + ".bin");
+    }
+}
@@ -0,0 +1,631 @@
+package main.Model.dungeon;
+
+import main.Model.util.Coordinates;
+import main.Model.util.Direction;
+import main.Model.util.LongObjectMap;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Holds a dungeon's rooms in square chunks, so only part of a large world has to be
+ * in memory. A fixed dungeon pins every chunk. A world loads chunks through a Loader
+ * on first access, keeps at most a budget of them in least recently used order, and
+ * hands changed chunks back to the Loader before evicting them. The chunk the hero is in
+ * can be pinned so it is never evicted, and chunks ahead of the hero can be loaded early
+ * on a background thread.
+ * Rooms of an evicted chunk are stale, so callers should fetch rooms again after a move
+ * rather than hold on to them. A change made to a stale room anyway loads its chunk back
+ * and puts the changed room in it, unless the reloaded chunk changed in the meantime.
+ * Chunks are saved outside the lock, so other threads can keep reaching rooms while a
+ * store writes. A changed chunk evicted over the budget waits in memory until it is
+ * saved, and comes back from there if it is needed again before then.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class ChunkManager {
+    /** Rooms along each side of a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 32;
+
+    /** Seconds an idle prefetch thread waits for more work before it exits. */
+    private static final long PREFETCH_KEEP_ALIVE_SECONDS = 30;
+
+    /** Key of no chunk, as no chunk lies at negative coordinates. */
+    private static final long NO_CHUNK = key(-1, -1);
+
+    /**
+     * Produces and persists the chunks of a world. Load runs on the prefetch thread as
+     * well as the caller's, so it must not touch the world's other chunks.
+     */
+    interface Loader {
+
+        /**
+         * Builds a chunk that is not in memory, from its saved state or from the seed.
+         *
+         * @param theChunkX chunk column
+         * @param theChunkY chunk row
+         * @return the chunk's rooms, row by row
+         */
+        Room[] load(int theChunkX, int theChunkY);
+
+        /**
+         * Saves a changed chunk.
+         *
+         * @param theChunkX chunk column
+         * @param theChunkY chunk row
+         * @param theRooms the chunk's rooms, row by row
+         * @throws IOException if the chunk cannot be saved
+         */
+        void store(int theChunkX, int theChunkY, Room[] theRooms) throws IOException;
+    }
+
+    private final int myWidth;
+    private final int myHeight;
+    private final int myChunkSize;
+    private final int myMaxResident;
+    private final Loader myLoader;
+
+    /** Resident chunks by packed chunk position. Guarded by this. */
+    private final LongObjectMap<Chunk> myResident;
+    /** Chunks the prefetch thread is loading. Guarded by this. */
+    private final LongObjectMap<Future<?>> myPrefetching;
+    // Changed chunks evicted but not saved yet
+    private final LongObjectMap<Chunk> myEvicted;
+    private Chunk myLastChunk;
+    // Chunk of the hero, never evicted
+    private long myPinnedKey = NO_CHUNK;
+    // Ticks on every lookup of a resident chunk, stamping it so eviction can find the least recently used
+    private long myUseClock;
+    private ThreadPoolExecutor myPrefetcher;
+
+    private long myHits;
+    private long myMisses;
+    private long myPrefetched;
+    private long myEvictions;
+
+    /**
+     * Creates a manager for a fixed dungeon: rooms are set with setRoom and chunks are never evicted.
+     *
+     * @param theWidth rooms per row
+     * @param theHeight rows
+     * @param theChunkSize rooms along each side of a chunk
+     */
+    ChunkManager(final int theWidth, final int theHeight, final int theChunkSize) {
+        this(theWidth, theHeight, theChunkSize, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a manager for a world whose chunks come from a loader.
+     *
+     * @param theWidth rooms per row
+     * @param theHeight rows
+     * @param theChunkSize rooms along each side of a chunk
+     * @param theMaxResident most chunks kept in memory, at least 2; a pinned chunk that is
+     *                       not the one in use can hold one more
+     * @param theLoader builds and saves chunks, or null to pin every chunk
+     */
+    ChunkManager(final int theWidth, final int theHeight, final int theChunkSize, final int theMaxResident,
+                 final Loader theLoader) {
+        if (theWidth <= 0 || theHeight <= 0 || theChunkSize <= 0) {
+            throw new IllegalArgumentException("Dungeon and chunk dimensions must be positive.");
+        }
+        if (theMaxResident < 2) {
+            throw new IllegalArgumentException("At least two chunks must fit in memory.");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myChunkSize = theChunkSize;
+        this.myMaxResident = theLoader == null ? Integer.MAX_VALUE : theMaxResident;
+        this.myLoader = theLoader;
+        this.myResident = new LongObjectMap<>();
+        this.myPrefetching = new LongObjectMap<>();
+        this.myEvicted = new LongObjectMap<>();
+    }
+
+    public int getChunkSize() {
+        return myChunkSize;
+    }
+
+    /**
+     * Gets a room, loading its chunk if needed.
+     *
+     * @param theX room column, inside the dungeon
+     * @param theY room row, inside the dungeon
+     * @return the room, or null if a fixed dungeon has not set it yet
+     */
+    Room getRoom(final int theX, final int theY) {
+        Chunk chunk = chunk(theX / myChunkSize, theY / myChunkSize);
+        return chunk.myRooms[chunk.index(theX, theY)];
+    }
+
+    /**
+     * Gets a room only if its chunk is already in memory.
+     *
+     * @param theX room column, inside the dungeon
+     * @param theY room row, inside the dungeon
+     * @return the room, or null if its chunk is not resident
+     */
+    synchronized Room peekRoom(final int theX, final int theY) {
+        Chunk chunk = reclaim(key(theX / myChunkSize, theY / myChunkSize));
+        return chunk == null ? null : chunk.myRooms[chunk.index(theX, theY)];
+    }
+
+    /**
+     * Puts a room in place, for fixed dungeons being generated or restored.
+     *
+     * @param theX room column, inside the dungeon
+     * @param theY room row, inside the dungeon
+     * @param theRoom the room
+     */
+    void setRoom(final int theX, final int theY, final Room theRoom) {
+        Chunk chunk = chunk(theX / myChunkSize, theY / myChunkSize);
+        synchronized (this) {
+            chunk.myRooms[chunk.index(theX, theY)] = theRoom;
+        }
+    }
+
+    /**
+     * Keeps the chunk holding a room in memory until another one is pinned, so the rooms
+     * the hero is using never go stale.
+     *
+     * @param theX room column, inside the dungeon
+     * @param theY room row, inside the dungeon
+     */
+    synchronized void pin(final int theX, final int theY) {
+        myPinnedKey = key(theX / myChunkSize, theY / myChunkSize);
+    }
+
+    /**
+     * Records that a room changed, so its chunk is saved before it is evicted.
+     * If the room is stale because its chunk was evicted, the chunk is loaded back and
+     * the changed room takes its place there. The evicted chunk was saved with the room
+     * as it was before this change, so nothing else is lost. If the reloaded chunk has
+     * changes of its own, the two copies cannot be merged, and the change is reported
+     * and lost.
+     *
+     * @param theX room column
+     * @param theY room row
+     * @param theRoom the changed room
+     */
+    void markDirty(final int theX, final int theY, final Room theRoom) {
+        int chunkX = theX / myChunkSize;
+        int chunkY = theY / myChunkSize;
+        boolean taken = false;
+        synchronized (this) {
+            Chunk chunk = reclaim(key(chunkX, chunkY));
+            if (chunk != null) {
+                if (!takeChange(chunk, theX, theY, theRoom)) {
+                    reportLostChange(theX, theY);
+                }
+                taken = true;
+            } else if (myLoader == null) {
+                return;
+            }
+        }
+        if (taken) {
+            // Bringing an evicted chunk back can evict another
+            saveEvicted();
+            return;
+        }
+        // Load outside the lock, as getRoom does, then take the change if no one else has
+        Chunk chunk = chunk(chunkX, chunkY);
+        synchronized (this) {
+            if (!takeChange(chunk, theX, theY, theRoom)) {
+                reportLostChange(theX, theY);
+            }
+        }
+    }
+
+    /**
+     * Runs an action on every room of every resident chunk.
+     *
+     * @param theAction action for each room; rooms a fixed dungeon has not set are skipped
+     */
+    void forEachResidentRoom(final Consumer<Room> theAction) {
+        List<Chunk> chunks;
+        synchronized (this) {
+            chunks = new ArrayList<>(myResident.values());
+        }
+        for (Chunk chunk : chunks) {
+            for (Room room : chunk.myRooms) {
+                if (room != null) {
+                    theAction.accept(room);
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts loading the chunk next to a room's chunk in the direction of travel.
+     * Does nothing for fixed dungeons or when that chunk is resident, being loaded, or outside.
+     *
+     * @param theX column of the room the hero entered
+     * @param theY row of the room the hero entered
+     * @param theDirection direction the hero is moving
+     */
+    public synchronized void prefetch(final int theX, final int theY, final Direction theDirection) {
+        if (myLoader == null || theDirection == null) {
+            return;
+        }
+        int chunkX = theX / myChunkSize;
+        int chunkY = theY / myChunkSize;
+        switch (theDirection) {
+            case NORTH: chunkY--; break;
+            case SOUTH: chunkY++; break;
+            case EAST: chunkX++; break;
+            case WEST: chunkX--; break;
+            default: break;
+        }
+        if (chunkX < 0 || chunkY < 0 || chunkX * myChunkSize >= myWidth || chunkY * myChunkSize >= myHeight) {
+            return;
+        }
+        long key = key(chunkX, chunkY);
+        if (myResident.containsKey(key) || myPrefetching.containsKey(key) || myEvicted.containsKey(key)) {
+            return;
+        }
+        if (myPrefetcher == null) {
+            // Threads exit when idle, so a world that is dropped without close leaks nothing
+            myPrefetcher = new ThreadPoolExecutor(1, 1, PREFETCH_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), theTask -> {
+                        Thread thread = new Thread(theTask, "chunk-prefetch");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            myPrefetcher.allowCoreThreadTimeOut(true);
+        }
+        final int targetX = chunkX;
+        final int targetY = chunkY;
+        myPrefetching.put(key, myPrefetcher.submit(() -> {
+            Room[] rooms = myLoader.load(targetX, targetY);
+            synchronized (this) {
+                myPrefetching.remove(key);
+                if (reclaim(key) == null) {
+                    install(new Chunk(key, targetX, targetY, chunkWidth(targetX), rooms));
+                    myPrefetched++;
+                }
+            }
+            saveEvicted();
+        }));
+    }
+
+    /**
+     * Saves every changed chunk, keeping the resident ones in memory.
+     *
+     * @throws IOException if a chunk cannot be saved; chunks saved before it stay saved
+     */
+    public void flush() throws IOException {
+        if (myLoader == null) {
+            return;
+        }
+        saveEvicted();
+        List<Chunk> dirty = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < myResident.size(); i++) {
+                Chunk chunk = myResident.valueAt(i);
+                if (chunk.myDirty && !chunk.myStoring) {
+                    claim(chunk);
+                    dirty.add(chunk);
+                }
+            }
+        }
+        for (int i = 0; i < dirty.size(); i++) {
+            try {
+                save(dirty.get(i));
+            } catch (IOException e) {
+                synchronized (this) {
+                    for (Chunk unsaved : dirty.subList(i + 1, dirty.size())) {
+                        unsaved.myStoring = false;
+                        unsaved.myDirty = true;
+                    }
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stops the prefetch thread. Chunks still load on demand afterwards.
+     */
+    public synchronized void close() {
+        if (myPrefetcher != null) {
+            myPrefetcher.shutdownNow();
+            myPrefetcher = null;
+        }
+        myPrefetching.clear();
+    }
+
+    public synchronized int getResidentChunkCount() {
+        return myResident.size();
+    }
+
+    public int getMaxResidentChunks() {
+        return myMaxResident;
+    }
+
+    /** @return room lookups whose chunk was already in memory. */
+    public synchronized long getHitCount() {
+        return myHits;
+    }
+
+    /** @return room lookups that had to load their chunk, including waits on a prefetch. */
+    public synchronized long getMissCount() {
+        return myMisses;
+    }
+
+    /** @return chunks the prefetch thread loaded before they were asked for. */
+    public synchronized long getPrefetchCount() {
+        return myPrefetched;
+    }
+
+    public synchronized long getEvictionCount() {
+        return myEvictions;
+    }
+
+    private Chunk chunk(final int theChunkX, final int theChunkY) {
+        long key = key(theChunkX, theChunkY);
+        Future<?> prefetch;
+        synchronized (this) {
+            if (myLastChunk != null && myLastChunk.myKey == key) {
+                myHits++;
+                return myLastChunk;
+            }
+            Chunk chunk = reclaim(key);
+            if (chunk != null) {
+                myHits++;
+                myLastChunk = chunk;
+                return chunk;
+            }
+            myMisses++;
+            if (myLoader == null) {
+                chunk = install(new Chunk(key, theChunkX, theChunkY, chunkWidth(theChunkX),
+                        new Room[chunkWidth(theChunkX) * chunkHeight(theChunkY)]));
+                myLastChunk = chunk;
+                return chunk;
+            }
+            prefetch = myPrefetching.get(key);
+        }
+
+        // Load outside the lock so the prefetch thread can finish its own chunk
+        if (prefetch != null) {
+            try {
+                prefetch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.err.println("Prefetch of chunk (" + theChunkX + ", " + theChunkY + ") failed: "
+                        + e.getCause());
+            } catch (CancellationException e) {
+                // closed while loading, load it here instead
+            }
+        }
+        synchronized (this) {
+            Chunk chunk = reclaim(key);
+            if (chunk != null) {
+                myLastChunk = chunk;
+                return chunk;
+            }
+        }
+        Room[] rooms = myLoader.load(theChunkX, theChunkY);
+        Chunk chunk;
+        synchronized (this) {
+            chunk = reclaim(key);
+            if (chunk == null) {
+                chunk = install(new Chunk(key, theChunkX, theChunkY, chunkWidth(theChunkX), rooms));
+            }
+            myLastChunk = chunk;
+        }
+        saveEvicted();
+        return chunk;
+    }
+
+    /**
+     * Gets a resident chunk and marks it as just used. Called with the lock held.
+     *
+     * @return the chunk, or null if it is not resident
+     */
+    private Chunk resident(final long theKey) {
+        Chunk chunk = myResident.get(theKey);
+        if (chunk != null) {
+            chunk.myLastUse = ++myUseClock;
+        }
+        return chunk;
+    }
+
+    /**
+     * Gets a chunk that is still in memory, resident or evicted and waiting to be saved,
+     * bringing an evicted one back. Called with the lock held.
+     *
+     * @return the chunk, or null if it has to be loaded
+     */
+    private Chunk reclaim(final long theKey) {
+        Chunk chunk = resident(theKey);
+        if (chunk == null) {
+            chunk = myEvicted.remove(theKey);
+            if (chunk != null) {
+                install(chunk);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Adds a chunk and evicts the least recently used ones over the budget. Changed ones
+     * move to myEvicted, for saveEvicted to save once the lock is released. Called with
+     * the lock held.
+     */
+    private Chunk install(final Chunk theChunk) {
+        theChunk.myLastUse = ++myUseClock;
+        myResident.put(theChunk.myKey, theChunk);
+        // Evict from least recently used on until the budget is met
+        while (myResident.size() > myMaxResident) {
+            Chunk candidate = null;
+            for (int i = 0; i < myResident.size(); i++) {
+                Chunk resident = myResident.valueAt(i);
+                // The chunk just added, the one the caller is in and the hero's are in use
+                if (resident != theChunk && resident != myLastChunk && resident.myKey != myPinnedKey
+                        && (candidate == null || resident.myLastUse < candidate.myLastUse)) {
+                    candidate = resident;
+                }
+            }
+            if (candidate == null) {
+                break;
+            }
+            myResident.remove(candidate.myKey);
+            // A chunk being saved may change again before the store returns, so it waits too
+            if (candidate.myDirty || candidate.myStoring) {
+                myEvicted.put(candidate.myKey, candidate);
+            }
+            myEvictions++;
+        }
+        return theChunk;
+    }
+
+    /**
+     * Saves the evicted chunks waiting for it, one at a time. Called without the lock.
+     * A chunk that cannot be saved goes back among the resident ones rather than lose its
+     * changes, so the budget is exceeded until a save works.
+     */
+    private void saveEvicted() {
+        while (true) {
+            Chunk chunk = null;
+            synchronized (this) {
+                for (int i = 0; i < myEvicted.size() && chunk == null; i++) {
+                    if (!myEvicted.valueAt(i).myStoring) {
+                        chunk = myEvicted.valueAt(i);
+                    }
+                }
+                if (chunk == null) {
+                    return;
+                }
+                claim(chunk);
+            }
+            try {
+                save(chunk);
+            } catch (IOException e) {
+                System.err.println("Could not save chunk (" + chunk.myChunkX + ", " + chunk.myChunkY
+                        + "), keeping it in memory: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Marks a chunk as being saved by the calling thread, so no other thread saves it too.
+     * A change made while the store runs marks it dirty again. Called with the lock held.
+     */
+    private void claim(final Chunk theChunk) {
+        theChunk.myStoring = true;
+        theChunk.myDirty = false;
+    }
+
+    /**
+     * Saves a claimed chunk without the lock, then settles it: an evicted chunk that was
+     * saved and not changed since is dropped, and one that could not be saved is resident
+     * and dirty again.
+     *
+     * @throws IOException if the chunk cannot be saved
+     */
+    private void save(final Chunk theChunk) throws IOException {
+        IOException failure = null;
+        try {
+            myLoader.store(theChunk.myChunkX, theChunk.myChunkY, theChunk.myRooms);
+        } catch (IOException e) {
+            failure = e;
+        }
+        synchronized (this) {
+            theChunk.myStoring = false;
+            boolean evicted = myEvicted.get(theChunk.myKey) == theChunk;
+            if (failure != null) {
+                theChunk.myDirty = true;
+                if (evicted) {
+                    myEvicted.remove(theChunk.myKey);
+                    myResident.put(theChunk.myKey, theChunk);
+                }
+            } else if (evicted && !theChunk.myDirty) {
+                myEvicted.remove(theChunk.myKey);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Marks a chunk changed by a room, putting the room in place if the chunk holds a
+     * copy of it loaded after it was evicted. Called with the lock held.
+     *
+     * @return false if the chunk holds another copy that may have changed since it loaded
+     */
+    private boolean takeChange(final Chunk theChunk, final int theX, final int theY, final Room theRoom) {
+        int index = theChunk.index(theX, theY);
+        if (theChunk.myRooms[index] != theRoom) {
+            if (myLoader == null) {
+                // A fixed dungeon never evicts, so this is not one of its rooms
+                return true;
+            }
+            if (theChunk.myChanged) {
+                return false;
+            }
+            theChunk.myRooms[index] = theRoom;
+        }
+        theChunk.myDirty = true;
+        theChunk.myChanged = true;
+        return true;
+    }
+
+    private void reportLostChange(final int theX, final int theY) {
+        System.err.println("Change to room (" + theX + ", " + theY + ") after its chunk was evicted and changed"
+                + " again is lost");
+    }
+
+    private int chunkWidth(final int theChunkX) {
+        return Math.min(myChunkSize, myWidth - theChunkX * myChunkSize);
+    }
+
+    private int chunkHeight(final int theChunkY) {
+        return Math.min(myChunkSize, myHeight - theChunkY * myChunkSize);
+    }
+
+    private static long key(final int theChunkX, final int theChunkY) {
+        return Coordinates.pack(theChunkX, theChunkY);
+    }
+
+    /**
+     * One chunk in memory: its rooms row by row, whether any changed since it was saved
+     * and since it was loaded, and whether a thread is saving it.
+     */
+    private final class Chunk {
+        private final long myKey;
+        private final int myChunkX;
+        private final int myChunkY;
+        private final int myChunkWidth;
+        private final Room[] myRooms;
+        private boolean myDirty;
+        private boolean myChanged;
+        private boolean myStoring;
+        private long myLastUse;
+
+        private Chunk(final long theKey, final int theChunkX, final int theChunkY, final int theChunkWidth,
+                      final Room[] theRooms) {
+            this.myKey = theKey;
+            this.myChunkX = theChunkX;
+            this.myChunkY = theChunkY;
+            this.myChunkWidth = theChunkWidth;
+            this.myRooms = theRooms;
+        }
+
+        private int index(final int theX, final int theY) {
+            return (theY - myChunkY * myChunkSize) * myChunkWidth + (theX - myChunkX * myChunkSize);
+        }
+    }
+}
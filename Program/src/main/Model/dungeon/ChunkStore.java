@@ -0,0 +1,36 @@
+package main.Model.dungeon;
+
+import java.io.IOException;
+
+/**
+ * Keeps the world chunks the player changed, so they survive eviction. Chunks
+ * never saved are regenerated from the world seed instead. A store belongs to
+ * one world: chunks saved by a world with another seed would be served as-is.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public interface ChunkStore {
+
+    /**
+     * Reads a saved chunk.
+     *
+     * @param theChunkX chunk column
+     * @param theChunkY chunk row
+     * @return every room of the chunk, or null if it was never saved
+     * @throws IOException if the saved chunk cannot be read
+     */
+    DungeonDelta load(int theChunkX, int theChunkY) throws IOException;
+
+    /**
+     * Saves a chunk, replacing any earlier save of it.
+     *
+     * @param theChunkX chunk column
+     * @param theChunkY chunk row
+     * @param theRooms every room of the chunk
+     * @throws IOException if the chunk cannot be written
+     */
+    void save(int theChunkX, int theChunkY, DungeonDelta theRooms) throws IOException;
+}
@@ -0,0 +1,176 @@
+package main.Model.dungeon;
+
+import main.Model.util.Point;
+
+import java.util.Arrays;
+
+/**
+ * Number of moves from one room to every other room through the doors of a maze,
+ * found by one breadth-first search. Distances are kept in a flat int array indexed
+ * like Maze cells, and the search queue is an int ring buffer that only grows to the
+ * widest frontier, which in a maze is far smaller than the maze.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class DistanceField {
+    /** Distance of a room no door path reaches. */
+    public static final int UNREACHABLE = -1;
+
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
+
+    private final int myWidth;
+    private final int myHeight;
+    private final int[] myDistances;
+    private final int myMaxDistance;
+    private final int myReachable;
+
+    private DistanceField(final int theWidth, final int theHeight, final int[] theDistances,
+                          final int theMaxDistance, final int theReachable) {
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myDistances = theDistances;
+        this.myMaxDistance = theMaxDistance;
+        this.myReachable = theReachable;
+    }
+
+    /**
+     * Measures the distance from a room to every room of a maze in one linear pass.
+     *
+     * @param theMaze carved maze
+     * @param theSourceX column of the room distances are measured from
+     * @param theSourceY row of the room distances are measured from
+     * @return the field
+     */
+    public static DistanceField compute(final Maze theMaze, final int theSourceX, final int theSourceY) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null.");
+        }
+        int width = theMaze.getWidth();
+        int height = theMaze.getHeight();
+        if (theSourceX < 0 || theSourceX >= width || theSourceY < 0 || theSourceY >= height) {
+            throw new IllegalArgumentException("Source (" + theSourceX + ", " + theSourceY + ") is outside the maze.");
+        }
+        int[] distances = new int[theMaze.getCellCount()];
+        Arrays.fill(distances, UNREACHABLE);
+
+        int[] queue = new int[INITIAL_QUEUE_CAPACITY];
+        int head = 0;
+        int size = 1;
+        int source = theMaze.cell(theSourceX, theSourceY);
+        distances[source] = 0;
+        queue[0] = source;
+        int maxDistance = 0;
+        int reachable = 0;
+        while (size > 0) {
+            int cell = queue[head];
+            head = (head + 1) & (queue.length - 1);
+            size--;
+            reachable++;
+            int distance = distances[cell];
+            maxDistance = Math.max(maxDistance, distance);
+
+            int doors = theMaze.getDoors(cell);
+            for (int door = Maze.NORTH; door <= Maze.WEST; door <<= 1) {
+                if ((doors & door) == 0) {
+                    continue;
+                }
+                int next = switch (door) {
+                    case Maze.NORTH -> cell - width;
+                    case Maze.EAST -> cell + 1;
+                    case Maze.SOUTH -> cell + width;
+                    default -> cell - 1;
+                };
+                if (distances[next] != UNREACHABLE) {
+                    continue;
+                }
+                distances[next] = distance + 1;
+                if (size == queue.length) {
+                    // Full: unwrap into an array twice the size
+                    int[] grown = new int[queue.length * 2];
+                    int firstPart = queue.length - head;
+                    System.arraycopy(queue, head, grown, 0, firstPart);
+                    System.arraycopy(queue, 0, grown, firstPart, head);
+                    queue = grown;
+                    head = 0;
+                }
+                queue[(head + size) & (queue.length - 1)] = next;
+                size++;
+            }
+        }
+        return new DistanceField(width, height, distances, maxDistance, reachable);
+    }
+
+    /**
+     * Gets the distance to a room.
+     *
+     * @param theX room column
+     * @param theY room row
+     * @return moves from the source, or UNREACHABLE
+     */
+    public int getDistance(final int theX, final int theY) {
+        if (theX < 0 || theX >= myWidth || theY < 0 || theY >= myHeight) {
+            throw new IndexOutOfBoundsException("(" + theX + ", " + theY + ") is outside the field.");
+        }
+        return myDistances[theY * myWidth + theX];
+    }
+
+    /**
+     * Gets the distance to a room.
+     *
+     * @param thePoint room position
+     * @return moves from the source, or UNREACHABLE
+     */
+    public int getDistance(final Point thePoint) {
+        return getDistance(thePoint.getX(), thePoint.getY());
+    }
+
+    /**
+     * Gets the distance to a packed cell, see Maze.cell. Not bounds checked beyond the array.
+     *
+     * @param theCell y * width + x
+     * @return moves from the source, or UNREACHABLE
+     */
+    int distanceAt(final int theCell) {
+        return myDistances[theCell];
+    }
+
+    /**
+     * Gets how deep a room lies, as a fraction of the farthest distance.
+     *
+     * @param theCell y * width + x
+     * @return 0 at the source up to 1 at the farthest room, 0 for unreachable rooms
+     */
+    double depthAt(final int theCell) {
+        int distance = myDistances[theCell];
+        return distance <= 0 || myMaxDistance == 0 ? 0.0 : (double) distance / myMaxDistance;
+    }
+
+    /**
+     * Gets the distance to the farthest reachable room.
+     *
+     * @return the largest distance
+     */
+    public int getMaxDistance() {
+        return myMaxDistance;
+    }
+
+    /**
+     * Gets how many rooms the source reaches, itself included.
+     *
+     * @return reachable rooms
+     */
+    public int getReachableCount() {
+        return myReachable;
+    }
+
+    public int getWidth() {
+        return myWidth;
+    }
+
+    public int getHeight() {
+        return myHeight;
+    }
+}
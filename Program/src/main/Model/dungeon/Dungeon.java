@@ -3,19 +3,34 @@ package main.Model.dungeon;
 import main.Model.character.Monster;
 import main.Model.character.MonsterFactory;
 import main.Model.element.*;
+import main.Model.util.Direction;
 import main.Model.util.MonsterType;
 import main.Model.util.PillarType;
 import main.Model.util.Point;
 import main.Model.util.RoomType;
-
+import main.Model.util.SaveFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Represents the entire dungeon, composed of multiple rooms.
- * Uses DFS to generate a randomized layout.
+ * Uses DFS to generate a randomized layout by default; other MazeGenerator
+ * algorithms can be passed to the seeded constructor.
+ * Generation is driven by a single seed: the same seed and GENERATOR_VERSION always
+ * produce the same layout, so a generated dungeon can be replayed from its seed.
+ * A world made with createWorld is generated a chunk at a time as it is reached instead,
+ * and keeps only some chunks in memory, see ChunkManager.
+ * A fixed dungeon keeps its rooms packed in a RoomGrid by default and hands out views of
+ * them, see Storage; worlds always hold Room objects.
  * IMPORTANT: FULL DUNGEON PRINT MENU OPTION IS IN HELP MENU, BUTTON CALLED "VISION CHEAT"
  * THIS VISION CHEAT SHOWS FULL DUNGEON ON THE MINIMAP.
  *
@@ -25,7 +40,33 @@ import com.fasterxml.jackson.core.JsonProcessingException;
  * @version 6/13/2025
  */
 public class Dungeon {
-    private final Room[][] myRooms;
+    /**
+     * Version of the generation algorithm. Bump it whenever a change makes a seed
+     * produce a different layout, so stored seeds are not replayed with the wrong algorithm.
+     */
+    public static final int GENERATOR_VERSION = 4;
+
+    /** How far the deepest rooms push monster odds towards the elite types, from 0 to 1. */
+    private static final double DEPTH_ELITE_SKEW = 0.5;
+
+    /** Rooms along each side of a tile filled by one task during generation. */
+    static final int POPULATION_TILE_SIZE = ChunkManager.DEFAULT_CHUNK_SIZE;
+
+    /**
+     * How a fixed dungeon holds its rooms.
+     */
+    public enum Storage {
+        /** One Room object per room, with its own lists, in pinned chunks. */
+        OBJECTS,
+        /** Doors, flags and types in flat arrays, contents in a sparse side table; getRoom returns views. */
+        PACKED
+    }
+
+    // Rooms in chunks: all pinned for a fixed dungeon, loaded and evicted on demand for a world;
+    // null for a packed fixed dungeon
+    private final ChunkManager myChunks;
+    // Rooms of a packed fixed dungeon, null when rooms are objects in myChunks
+    private final RoomGrid myGrid;
     private final int myWidth;
     private final int myHeight;
     private Point myHeroSpawnPoint;
@@ -35,6 +76,26 @@ public class Dungeon {
     private boolean myBossSpawned;
     private String myDifficulty;
     private final MonsterFactory myMonsterFactory;
+    // Seed the layout was generated from, meaningful only when myGeneratorVersion is not 0
+    private long mySeed;
+    // GENERATOR_VERSION that used mySeed, 0 for demo layouts and saves older than seeds
+    private int myGeneratorVersion;
+    // Algorithm that carved the maze, null when the layout did not come from a seed
+    private MazeGenerator myMazeGenerator;
+
+    // Generates a world's chunks from its seed, null for fixed dungeons
+    private final WorldChunkGenerator myWorld;
+
+    // Door distances from the spawn and the exit, built with the layout or on first use; null for worlds
+    private DistanceField mySpawnDistances;
+    private DistanceField myExitDistances;
+    // Routes through the doors, made on first use; null for worlds
+    private Pathfinder myPathfinder;
+
+    // Rooms changed since the last save, indexed by y * width + x; null for worlds, which save chunks
+    private final BitSet myDirtyRooms;
+    // Save slot holding this dungeon's full base payload, null until the first save
+    private String mySaveSlot;
 
     /**
      * Constructor for the dungeon
@@ -45,183 +106,301 @@ public class Dungeon {
      * @param theNewDungeon keeps track if this is a new or loaded dungeon
      */
     public Dungeon(final int theWidth, final int theHeight, final String theDifficulty, final boolean theNewDungeon) {
+        this(theWidth, theHeight, theDifficulty, theNewDungeon, theNewDungeon ? new SplittableRandom().nextLong() : 0,
+                MazeGenerators.BACKTRACKER, Storage.PACKED);
+    }
+
+    /**
+     * Generates the dungeon for a seed. The same seed always gives the same layout.
+     *
+     * @param theWidth dungeon width
+     * @param theHeight dungeon height
+     * @param theDifficulty dungeon difficulty
+     * @param theSeed generation seed, see getSeed
+     */
+    public Dungeon(final int theWidth, final int theHeight, final String theDifficulty, final long theSeed) {
+        this(theWidth, theHeight, theDifficulty, true, theSeed, MazeGenerators.BACKTRACKER, Storage.PACKED);
+    }
+
+    /**
+     * Generates the dungeon for a seed with a chosen maze algorithm.
+     *
+     * @param theWidth dungeon width
+     * @param theHeight dungeon height
+     * @param theDifficulty dungeon difficulty
+     * @param theSeed generation seed, see getSeed
+     * @param theMazeGenerator algorithm carving the corridors, see MazeGenerators
+     */
+    public Dungeon(final int theWidth, final int theHeight, final String theDifficulty, final long theSeed,
+                   final MazeGenerator theMazeGenerator) {
+        this(theWidth, theHeight, theDifficulty, true, theSeed, theMazeGenerator, Storage.PACKED);
+    }
+
+    /**
+     * Generates the dungeon for a seed with a chosen maze algorithm and room storage.
+     * The storage does not change the layout a seed gives.
+     *
+     * @param theWidth dungeon width
+     * @param theHeight dungeon height
+     * @param theDifficulty dungeon difficulty
+     * @param theSeed generation seed, see getSeed
+     * @param theMazeGenerator algorithm carving the corridors, see MazeGenerators
+     * @param theStorage how the rooms are held
+     */
+    public Dungeon(final int theWidth, final int theHeight, final String theDifficulty, final long theSeed,
+                   final MazeGenerator theMazeGenerator, final Storage theStorage) {
+        this(theWidth, theHeight, theDifficulty, true, theSeed, theMazeGenerator, theStorage);
+    }
+
+    private Dungeon(final int theWidth, final int theHeight, final String theDifficulty,
+                    final boolean theNewDungeon, final long theSeed, final MazeGenerator theMazeGenerator,
+                    final Storage theStorage) {
+        if (theMazeGenerator == null || theStorage == null) {
+            throw new IllegalArgumentException("Maze generator and storage cannot be null.");
+        }
         if (theWidth <= 0 || theHeight <= 0) {
             throw new IllegalArgumentException("Dungeon dimensions must be positive.");
         }
         this.myWidth = theWidth;
         this.myHeight = theHeight;
-        this.myRooms = new Room[theHeight][theWidth];
+        if (theStorage == Storage.PACKED) {
+            this.myChunks = null;
+            this.myGrid = new RoomGrid(theWidth, theHeight);
+        } else {
+            this.myChunks = new ChunkManager(theWidth, theHeight, ChunkManager.DEFAULT_CHUNK_SIZE);
+            this.myGrid = null;
+        }
+        this.myWorld = null;
         this.myDifficulty = theDifficulty;
         this.myTotalPillars = 0;
         this.myActivatedPillars = 0;
         this.myBossSpawned = false;
         this.myMonsterFactory = new MonsterFactory();
+        this.myDirtyRooms = new BitSet(theWidth * theHeight);
         // This stops a load from save file from creating new random placements.
         if (theNewDungeon) {
             //generateDemoLayout(); // Demo purposes
-             generateLayout();
+             this.mySeed = theSeed;
+             this.myGeneratorVersion = GENERATOR_VERSION;
+             this.myMazeGenerator = theMazeGenerator;
+             generateLayout(new SplittableRandom(theSeed));
+             trackChanges();
         }
     }
 
-    /**
-     * Generates a randomized dungeon layout using Depth-First Search (DFS).
-     * Ensures connectivity and places special rooms.
-     */
-    private void generateLayout() {
-        Random random = new Random();
-
-        // 1. Initialize all rooms with all walls up (no doors)
-        for (int y = 0; y < myHeight; y++) {
-            for (int x = 0; x < myWidth; x++) {
-                myRooms[y][x] = new Room(new Point(x, y), RoomType.EMPTY);
-            }
+    private Dungeon(final int theWidth, final int theHeight, final String theDifficulty, final long theSeed,
+                    final MazeGenerator theMazeGenerator, final MazeFile theMap, final ChunkStore theStore,
+                    final int theMaxResidentChunks) {
+        if (theMazeGenerator == null || theStore == null) {
+            throw new IllegalArgumentException("Maze generator and chunk store cannot be null.");
         }
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Dungeon dimensions must be positive.");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myDifficulty = theDifficulty;
+        this.myMonsterFactory = new MonsterFactory();
+        this.myDirtyRooms = null;
+        this.mySeed = theSeed;
+        this.myGeneratorVersion = GENERATOR_VERSION;
+        this.myMazeGenerator = theMazeGenerator;
+        this.myGrid = null;
+        this.myWorld = new WorldChunkGenerator(this, theSeed, theMazeGenerator, theMap,
+                ChunkManager.DEFAULT_CHUNK_SIZE);
+        this.myHeroSpawnPoint = myWorld.getEntrance();
+        this.myExitPoint = myWorld.getExit();
+        this.myTotalPillars = myWorld.getPillarCount();
+        this.myChunks = new ChunkManager(theWidth, theHeight, ChunkManager.DEFAULT_CHUNK_SIZE, theMaxResidentChunks,
+                new ChunkManager.Loader() {
+                    @Override
+                    public Room[] load(final int theChunkX, final int theChunkY) {
+                        return loadChunk(theStore, theChunkX, theChunkY);
+                    }
 
-        // 2. DFS for Maze Generation
-        Stack<Point> stack = new Stack<>();
-        boolean[][] visited = new boolean[myHeight][myWidth];
-        myHeroSpawnPoint = new Point(0, 0); // Define start
-        myExitPoint = new Point(myWidth - 1, myHeight - 1); // Define end
+                    @Override
+                    public void store(final int theChunkX, final int theChunkY, final Room[] theRooms)
+                            throws IOException {
+                        List<DungeonDelta.RoomState> rooms = new ArrayList<>(theRooms.length);
+                        for (Room room : theRooms) {
+                            rooms.add(toRoomState(room));
+                        }
+                        theStore.save(theChunkX, theChunkY, new DungeonDelta(myActivatedPillars, myBossSpawned, rooms));
+                    }
+                });
+        System.out.println("World created: " + theWidth + "x" + theHeight + ", seed " + theSeed + " ("
+                + (theMap != null ? "maze file" : theMazeGenerator.getName()) + "), " + myTotalPillars
+                + " pillars, up to " + theMaxResidentChunks + " chunks of " + ChunkManager.DEFAULT_CHUNK_SIZE + "x"
+                + ChunkManager.DEFAULT_CHUNK_SIZE + " rooms in memory");
+    }
 
-        Point current = myHeroSpawnPoint;
-        visited[current.getY()][current.getX()] = true;
-        stack.push(current);
+    /**
+     * Creates a world: a dungeon whose rooms are generated a chunk at a time from the seed
+     * when first reached, so its size is not limited by memory. At most a budget of chunks
+     * stay in memory; chunks the player changed are saved to the store before they are
+     * dropped, and the rest are generated again when needed. Worlds persist through their
+     * chunk store rather than save payloads, see flushChunks.
+     *
+     * @param theWidth world width in rooms
+     * @param theHeight world height in rooms
+     * @param theDifficulty dungeon difficulty
+     * @param theSeed world seed
+     * @param theMazeGenerator algorithm carving each chunk, see MazeGenerators
+     * @param theStore keeps changed chunks, empty or holding chunks of this same world
+     * @param theMaxResidentChunks most chunks in memory, at least 2
+     * @return the world, with no chunk generated yet
+     */
+    public static Dungeon createWorld(final int theWidth, final int theHeight, final String theDifficulty,
+                                      final long theSeed, final MazeGenerator theMazeGenerator,
+                                      final ChunkStore theStore, final int theMaxResidentChunks) {
+        return new Dungeon(theWidth, theHeight, theDifficulty, theSeed, theMazeGenerator, null, theStore,
+                theMaxResidentChunks);
+    }
 
-        while (!stack.isEmpty()) {
-            current = stack.peek();
-            List<Point> neighbors = getUnvisitedNeighbors(current, visited);
+    /**
+     * Creates a world on a streamed map: like the other createWorld, but each chunk takes
+     * its doors from a maze file written by EllerMaze.stream instead of carving a maze of
+     * its own, so the world is as large as the file and only the chunks in memory are
+     * ever read from it. The seed still places the pillars, loops and contents. The file
+     * stays the caller's to close, after the world is done with.
+     *
+     * @param theMap maze file with every row written, open for reading
+     * @param theDifficulty dungeon difficulty
+     * @param theSeed world seed
+     * @param theStore keeps changed chunks, empty or holding chunks of this same world
+     * @param theMaxResidentChunks most chunks in memory, at least 2
+     * @return the world, as large as the map, with no chunk generated yet
+     */
+    public static Dungeon createWorld(final MazeFile theMap, final String theDifficulty, final long theSeed,
+                                      final ChunkStore theStore, final int theMaxResidentChunks) {
+        if (theMap == null) {
+            throw new IllegalArgumentException("Maze file cannot be null.");
+        }
+        if (theMap.getRowsWritten() != theMap.getHeight()) {
+            throw new IllegalArgumentException("Maze file has only " + theMap.getRowsWritten() + " of "
+                    + theMap.getHeight() + " rows.");
+        }
+        return new Dungeon(theMap.getWidth(), theMap.getHeight(), theDifficulty, theSeed, MazeGenerators.ELLER,
+                theMap, theStore, theMaxResidentChunks);
+    }
 
-            if (!neighbors.isEmpty()) {
-                Point next = neighbors.get(random.nextInt(neighbors.size()));
-                removeWall(current, next); // Carve path (add doors)
-                visited[next.getY()][next.getX()] = true;
-                stack.push(next);
-            } else {
-                stack.pop(); // Backtrack
+    /**
+     * Builds a world chunk from its saved state, or from the seed if it was never saved
+     * or cannot be read.
+     */
+    private Room[] loadChunk(final ChunkStore theStore, final int theChunkX, final int theChunkY) {
+        Room[] rooms = null;
+        try {
+            DungeonDelta saved = theStore.load(theChunkX, theChunkY);
+            if (saved != null) {
+                rooms = new Room[saved.getRoomCount()];
+                int chunkSize = ChunkManager.DEFAULT_CHUNK_SIZE;
+                int width = Math.min(chunkSize, myWidth - theChunkX * chunkSize);
+                for (DungeonDelta.RoomState state : saved.getRooms()) {
+                    Point position = state.getPosition();
+                    rooms[(position.getY() - theChunkY * chunkSize) * width
+                            + position.getX() - theChunkX * chunkSize] = fromRoomState(state);
+                }
             }
+            if (rooms != null && Arrays.asList(rooms).contains(null)) {
+                throw new IOException("saved chunk is missing rooms");
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Could not load chunk (" + theChunkX + ", " + theChunkY
+                    + "), generating it again: " + e.getMessage());
+            rooms = null;
+        }
+        if (rooms == null) {
+            rooms = myWorld.generate(theChunkX, theChunkY);
         }
+        for (Room room : rooms) {
+            room.setDungeon(this);
+        }
+        return rooms;
+    }
+
+    /**
+     * Generates a randomized dungeon layout with the dungeon's MazeGenerator.
+     * Ensures connectivity and places special rooms.
+     * Each phase draws from its own stream split off the seed, so a change to how
+     * many numbers one phase uses does not shift the phases after it.
+     * The rooms are built and filled in tiles of POPULATION_TILE_SIZE rooms, in parallel
+     * on a ForkJoinPool. The entrance, exit and pillars are placed before the tiles run,
+     * every tile gets its own stream and share of the content split off in tile order,
+     * so the layout does not depend on how many threads fill the tiles.
+     *
+     * @param theRandom generator seeded with mySeed
+     */
+    private void generateLayout(final SplittableRandom theRandom) {
+        SplittableRandom mazeRandom = theRandom.split();
+        SplittableRandom loopRandom = theRandom.split();
+        SplittableRandom pillarRandom = theRandom.split();
+        SplittableRandom tileRandom = theRandom.split();
+
+        // 1. Maze Generation, carved on packed cells before any Room exists
+        Maze maze = new Maze(myWidth, myHeight);
+        myHeroSpawnPoint = new Point(0, 0); // Define start
+        myExitPoint = new Point(myWidth - 1, myHeight - 1); // Define end, where the boss appears
+        myMazeGenerator.generate(maze, mazeRandom);
 
         // Optional: Add some loops by removing a few extra walls
         int extraDoors = (myWidth * myHeight) / 10; // e.g., 10% extra doors
+        int[] neighbors = new int[4];
         for (int i = 0; i < extraDoors; i++) {
-            int randX = random.nextInt(myWidth);
-            int randY = random.nextInt(myHeight);
-            Point roomPoint = new Point(randX, randY);
-            List<Point> allNeighbors = getAllNeighbors(roomPoint);
-            if (!allNeighbors.isEmpty()) {
-                removeWall(roomPoint, allNeighbors.get(random.nextInt(allNeighbors.size())));
+            int randX = loopRandom.nextInt(myWidth);
+            int randY = loopRandom.nextInt(myHeight);
+            int cell = maze.cell(randX, randY);
+            int count = maze.neighbors(cell, neighbors);
+            if (count > 0) {
+                maze.carve(cell, neighbors[loopRandom.nextInt(count)]);
             }
         }
 
+        // 2. Distance fields over the carved doors, one breadth-first pass each
+        mySpawnDistances = DistanceField.compute(maze, myHeroSpawnPoint.getX(), myHeroSpawnPoint.getY());
+        myExitDistances = DistanceField.compute(maze, myExitPoint.getX(), myExitPoint.getY());
 
-        // 3. Set Start/Exit Types
-        getRoom(myHeroSpawnPoint).setRoomType(RoomType.ENTRANCE);
-        getRoom(myExitPoint).setRoomType(RoomType.EXIT);
-
-        // 4. Place Pillars (Ensure 4 are placed and reachable)
-        myTotalPillars = 0;
+        // Pillars: four distinct spots other than the entrance and exit, one in each band of
+        // distance from the spawn, so collecting them leads deeper into the dungeon
         PillarType[] pillarTypes = PillarType.values();
-        List<Point> availableSpots = new ArrayList<>();
-        for (int y = 0; y < myHeight; y++) {
-            for (int x = 0; x < myWidth; x++) {
-                Point p = new Point(x, y);
-                // Add spots that are not start/exit
-                if (!p.equals(myHeroSpawnPoint) && !p.equals(myExitPoint)) {
-                    availableSpots.add(p);
-                }
+        int pillarsToPlace = (int) Math.min(Math.min(4, pillarTypes.length), (long) myWidth * myHeight - 2);
+        int[] pillarCells = new int[Math.max(0, pillarsToPlace)];
+        Arrays.fill(pillarCells, -1);
+        int entranceCell = maze.cell(myHeroSpawnPoint.getX(), myHeroSpawnPoint.getY());
+        int exitCell = maze.cell(myExitPoint.getX(), myExitPoint.getY());
+        placePillarsByDistance(pillarCells, entranceCell, exitCell, pillarRandom);
+        for (int i = 0; i < pillarCells.length; i++) {
+            if (pillarCells[i] < 0) {
+                // Band too thin in a small dungeon: any free spot will do
+                int cell;
+                do {
+                    cell = maze.cell(pillarRandom.nextInt(myWidth), pillarRandom.nextInt(myHeight));
+                } while (cell == entranceCell || cell == exitCell || indexOf(pillarCells, cell) >= 0);
+                pillarCells[i] = cell;
             }
         }
-        Collections.shuffle(availableSpots, random); // Randomize potential spots
-
-        int pillarsToPlace = Math.min(4, pillarTypes.length); // Ensure we don't exceed available pillar types
-        Set<Point> pillarLocations = new HashSet<>(); // Track pillar locations
-        for (int i = 0; i < pillarsToPlace && !availableSpots.isEmpty(); i++) {
-            Point pillarPoint = availableSpots.remove(0); // Pick a random spot
-            Room room = getRoom(pillarPoint);
-
-            // Place the pillar
-            room.setPillar(new Pillar(pillarTypes[i]));
-            pillarLocations.add(pillarPoint); // Track this location
-            myTotalPillars++;
-
-            System.out.println("Placed pillar " + (i + 1) + ": " + pillarTypes[i].getDisplayName() +
-                    " at " + pillarPoint);
+        myTotalPillars = pillarCells.length;
+
+        // 3. Rooms and their content, one task per tile
+        int tilesX = (myWidth + POPULATION_TILE_SIZE - 1) / POPULATION_TILE_SIZE;
+        int tilesY = (myHeight + POPULATION_TILE_SIZE - 1) / POPULATION_TILE_SIZE;
+        SplittableRandom[] tileRandoms = new SplittableRandom[tilesX * tilesY];
+        for (int i = 0; i < tileRandoms.length; i++) {
+            tileRandoms[i] = tileRandom.split();
         }
+        PopulateTiles tiles = new PopulateTiles(maze, tilesX, pillarCells, entranceCell, exitCell, tileRandoms,
+                0, tileRandoms.length);
+        int actualPillars = tileRandoms.length == 1 ? tiles.compute() : tiles.invoke();
 
-        // 5. Place Other Rooms (Monsters, Traps)
-        int monsterCount = (myWidth * myHeight) / 5; // Adjust density as needed
-        int trapCount = (myWidth * myHeight) / 10;
-        int chestCount = (myWidth * myHeight) / 10;
-        int potionCount = (myWidth * myHeight) / 10;
-
-        availableSpots.removeIf(point -> {
-            Room room = getRoom(point);
-            return room.getRoomType() != RoomType.EMPTY || pillarLocations.contains(point);
-        });
-
-        while ((monsterCount > 0 || trapCount > 0 || chestCount > 0) && !availableSpots.isEmpty()) {
-            Point spot = availableSpots.remove(0); // Pick another random spot
-            Room room = getRoom(spot);
-
-            if (room.getRoomType() == RoomType.EMPTY && !room.hasPillar()) {
-                if (monsterCount > 0 && random.nextBoolean()) { // Alternate placing monsters/traps
-                    room.setRoomType(RoomType.MONSTER);
-                    // Add an actual monster
-                    addMonsterToRoom(room, spot);
-                    monsterCount--;
-                } else if (trapCount > 0) {
-                    room.setTrap(new Trap("Floor Spikes", "Sharp spikes emerge from the floor.", 5 + random.nextInt(10)));
-                    trapCount--;
-                } else if (chestCount > 0) {
-                    createChest(room);
-                    room.setRoomType(RoomType.TREASURE);
-                    chestCount--;
-                }
-            }
+        for (int i = 0; i < pillarCells.length; i++) {
+            System.out.println("Placed pillar " + (i + 1) + ": " + pillarTypes[i].getDisplayName()
+                    + " at (" + pillarCells[i] % myWidth + ", " + pillarCells[i] / myWidth + ")");
         }
-
-        // 6. Place potions in remaining empty rooms
-        // Get remaining empty spots (avoiding all special rooms)
-        List<Point> potionSpots = new ArrayList<>();
-        for (int y = 0; y < myHeight; y++) {
-            for (int x = 0; x < myWidth; x++) {
-                Point p = new Point(x, y);
-                Room room = getRoom(p);
-                if (room.getRoomType() == RoomType.EMPTY && !room.hasPillar()) {
-                    potionSpots.add(p);
-                }
-            }
-        }
-        Collections.shuffle(potionSpots, random);
-
-        int potionsPlaced = 0;
-        while (potionCount > 0 && potionsPlaced < potionSpots.size()) {
-            Point spot = potionSpots.get(potionsPlaced);
-            Room room = getRoom(spot);
-
-            if (potionCount % 2 == 0) {
-                room.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
-            } else {
-                room.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", this));
-            }
-
-            potionCount--;
-            potionsPlaced++;
-        }
-
         System.out.println("Dungeon generation complete:");
+        System.out.println("- Seed: " + mySeed + " (generator " + myGeneratorVersion + ", "
+                + myMazeGenerator.getName() + ")");
         System.out.println("- Total Pillars: " + myTotalPillars);
         System.out.println("- Expected Pillars: 4");
-
-        // Debug: Count actual pillars in dungeon
-        int actualPillars = 0;
-        for (int y = 0; y < myHeight; y++) {
-            for (int x = 0; x < myWidth; x++) {
-                if (getRoom(x, y).hasPillar()) {
-                    actualPillars++;
-                }
-            }
-        }
         System.out.println("- Actual Pillars in Dungeon: " + actualPillars);
 
         if (actualPillars != 4) {
@@ -230,41 +409,160 @@ public class Dungeon {
     }
 
     /**
-     * Helper to find all *unvisited* neighbors for DFS.
+     * Picks one pillar cell in each band of spawn distance, with two passes over the
+     * field: one counting the candidates in every band, one taking the chosen candidate.
+     * Pillar i goes in band i + 1 of pillarCells.length + 1 equal bands, so none sits
+     * next to the spawn. Bands with no candidate are left at -1.
      */
-    private List<Point> getUnvisitedNeighbors(final Point theCurrent, final boolean[][] theVisited) {
-        List<Point> neighbors = new ArrayList<>();
-        int x = theCurrent.getX();
-        int y = theCurrent.getY();
+    private void placePillarsByDistance(final int[] thePillarCells, final int theEntranceCell,
+                                        final int theExitCell, final SplittableRandom theRandom) {
+        int bands = thePillarCells.length;
+        if (bands == 0) {
+            return;
+        }
+        int maxDistance = mySpawnDistances.getMaxDistance();
+        int cells = myWidth * myHeight;
+        int[] counts = new int[bands];
+        for (int cell = 0; cell < cells; cell++) {
+            int band = pillarBand(cell, theEntranceCell, theExitCell, maxDistance, bands);
+            if (band >= 0) {
+                counts[band]++;
+            }
+        }
+        int[] chosen = new int[bands];
+        for (int band = 0; band < bands; band++) {
+            chosen[band] = counts[band] == 0 ? -1 : theRandom.nextInt(counts[band]);
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            int band = pillarBand(cell, theEntranceCell, theExitCell, maxDistance, bands);
+            if (band >= 0 && chosen[band]-- == 0) {
+                thePillarCells[band] = cell;
+            }
+        }
+    }
 
-        // North
-        if (y > 0 && !theVisited[y - 1][x]) neighbors.add(new Point(x, y - 1));
-        // South
-        if (y < myHeight - 1 && !theVisited[y + 1][x]) neighbors.add(new Point(x, y + 1));
-        // West
-        if (x > 0 && !theVisited[y][x - 1]) neighbors.add(new Point(x - 1, y));
-        // East
-        if (x < myWidth - 1 && !theVisited[y][x + 1]) neighbors.add(new Point(x + 1, y));
+    private int pillarBand(final int theCell, final int theEntranceCell, final int theExitCell,
+                           final int theMaxDistance, final int theBands) {
+        int distance = mySpawnDistances.distanceAt(theCell);
+        if (theCell == theEntranceCell || theCell == theExitCell || distance <= 0) {
+            return -1;
+        }
+        int band = (int) ((long) distance * (theBands + 1) / (theMaxDistance + 1)) - 1;
+        return band < theBands ? band : -1;
+    }
 
-        return neighbors;
+    private static int indexOf(final int[] theCells, final int theCell) {
+        for (int i = 0; i < theCells.length; i++) {
+            if (theCells[i] == theCell) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Helper to find *all* neighbors (for adding loops).
+     * Builds and fills the rooms of a range of tiles, splitting the range in half until
+     * one tile is left. Tiles share nothing but the finished maze, which they only read.
      */
-    private List<Point> getAllNeighbors(final Point theCurrent) {
-        List<Point> neighbors = new ArrayList<>();
-        int x = theCurrent.getX();
-        int y = theCurrent.getY();
+    @SuppressWarnings("serial") // ForkJoinTask is Serializable, but these tasks never leave the pool
+    private final class PopulateTiles extends RecursiveTask<Integer> {
+        private final Maze myMaze;
+        private final int myTilesX;
+        private final int[] myPillarCells;
+        private final int myEntranceCell;
+        private final int myExitCell;
+        private final SplittableRandom[] myTileRandoms;
+        private final int myFrom;
+        private final int myTo;
+
+        PopulateTiles(final Maze theMaze, final int theTilesX, final int[] thePillarCells, final int theEntranceCell,
+                      final int theExitCell, final SplittableRandom[] theTileRandoms, final int theFrom,
+                      final int theTo) {
+            this.myMaze = theMaze;
+            this.myTilesX = theTilesX;
+            this.myPillarCells = thePillarCells;
+            this.myEntranceCell = theEntranceCell;
+            this.myExitCell = theExitCell;
+            this.myTileRandoms = theTileRandoms;
+            this.myFrom = theFrom;
+            this.myTo = theTo;
+        }
+
+        /**
+         * @return pillars placed in the range
+         */
+        @Override
+        protected Integer compute() {
+            if (myTo - myFrom == 1) {
+                return populateTile(myFrom);
+            }
+            int middle = (myFrom + myTo) >>> 1;
+            PopulateTiles left = new PopulateTiles(myMaze, myTilesX, myPillarCells, myEntranceCell, myExitCell,
+                    myTileRandoms, myFrom, middle);
+            PopulateTiles right = new PopulateTiles(myMaze, myTilesX, myPillarCells, myEntranceCell, myExitCell,
+                    myTileRandoms, middle, myTo);
+            left.fork();
+            return right.compute() + left.join();
+        }
 
-        if (y > 0) neighbors.add(new Point(x, y - 1));
-        if (y < myHeight - 1) neighbors.add(new Point(x, y + 1));
-        if (x > 0) neighbors.add(new Point(x - 1, y));
-        if (x < myWidth - 1) neighbors.add(new Point(x + 1, y));
+        private int populateTile(final int theTile) {
+            int originX = theTile % myTilesX * POPULATION_TILE_SIZE;
+            int originY = theTile / myTilesX * POPULATION_TILE_SIZE;
+            int width = Math.min(POPULATION_TILE_SIZE, myWidth - originX);
+            int height = Math.min(POPULATION_TILE_SIZE, myHeight - originY);
+            PillarType[] pillarTypes = PillarType.values();
+            Room[] rooms = new Room[width * height];
+            PlacementSampler available = new PlacementSampler(rooms.length);
+            int pillars = 0;
+            for (int y = originY; y < originY + height; y++) {
+                for (int x = originX; x < originX + width; x++) {
+                    int cell = myMaze.cell(x, y);
+                    Room room = myGrid != null ? myGrid.getRoom(x, y) : new Room(new Point(x, y), RoomType.EMPTY);
+                    int doors = myMaze.getDoors(cell);
+                    room.setNorthDoor((doors & Maze.NORTH) != 0);
+                    room.setEastDoor((doors & Maze.EAST) != 0);
+                    room.setSouthDoor((doors & Maze.SOUTH) != 0);
+                    room.setWestDoor((doors & Maze.WEST) != 0);
+                    int index = (y - originY) * width + x - originX;
+                    int pillar = indexOf(myPillarCells, cell);
+                    if (cell == myExitCell) {
+                        room.setRoomType(RoomType.EXIT);
+                    } else if (cell == myEntranceCell) {
+                        room.setRoomType(RoomType.ENTRANCE);
+                    } else if (pillar >= 0) {
+                        room.setPillar(new Pillar(pillarTypes[pillar]));
+                        pillars++;
+                    } else {
+                        available.add(index);
+                    }
+                    rooms[index] = room;
+                    if (myChunks != null) {
+                        myChunks.setRoom(x, y, room);
+                    }
+                }
+            }
 
-        return neighbors;
+            // This tile's share of each count, apportioned by area so the shares add up exactly
+            long total = (long) myWidth * myHeight;
+            long before = (long) originY * myWidth + (long) originX * height;
+            long after = before + rooms.length;
+            PlacementDensities densities = PlacementDensities.forDifficulty(myDifficulty);
+            int[] counts = new int[4];
+            for (int category = 0; category < counts.length; category++) {
+                counts[category] = share(densities.count(category, total), before, after, total);
+            }
+            RoomPopulator.populate(Dungeon.this, rooms, available, counts, mySpawnDistances, myTileRandoms[theTile]);
+            return pillars;
+        }
     }
 
+    /**
+     * Gets the part of a total owed to the rooms between two positions in row-major
+     * tile order. Consecutive shares add up to exactly the total.
+     */
+    private static int share(final long theTotal, final long theBefore, final long theAfter, final long theRooms) {
+        return (int) (theTotal * theAfter / theRooms - theTotal * theBefore / theRooms);
+    }
 
     /**
      * Helper to "remove a wall" between two adjacent rooms by setting their door flags.
@@ -295,15 +593,98 @@ public class Dungeon {
         }
     }
 
+    /**
+     * Gets the seed this dungeon was generated from. A dungeon created with
+     * new Dungeon(width, height, difficulty, getSeed(), getMazeGenerator()) has the same layout,
+     * as long as getGeneratorVersion() still equals GENERATOR_VERSION.
+     *
+     * @return generation seed, meaningless when getGeneratorVersion() is 0
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+    /**
+     * Gets the generator version the seed belongs to.
+     *
+     * @return GENERATOR_VERSION at generation time, or 0 if the layout did not come from a seed
+     */
+    public int getGeneratorVersion() {
+        return myGeneratorVersion;
+    }
+
+    /**
+     * Gets the maze algorithm the seed was carved with.
+     *
+     * @return the algorithm, or null if the layout did not come from a seed
+     */
+    public MazeGenerator getMazeGenerator() {
+        return myMazeGenerator;
+    }
+
+    /**
+     * Checks whether this is a world made with createWorld, whose rooms come and go in chunks.
+     *
+     * @return true for a world, false for a fixed dungeon
+     */
+    public boolean isWorld() {
+        return myWorld != null;
+    }
+
+    /**
+     * Gets the chunks holding the rooms, for their memory and prefetch counters.
+     *
+     * @return the chunk manager, or null for a packed fixed dungeon
+     */
+    public ChunkManager getChunkManager() {
+        return myChunks;
+    }
+
+    /**
+     * Gets how the rooms are held. Worlds hold Room objects.
+     *
+     * @return the storage
+     */
+    public Storage getStorage() {
+        return myGrid != null ? Storage.PACKED : Storage.OBJECTS;
+    }
+
+    /**
+     * Pins the chunk the hero just entered, so its rooms never go stale while the hero is
+     * in them, and starts loading the chunk the hero is heading into, so crossing into it
+     * does not wait for generation. Does nothing for fixed dungeons.
+     *
+     * @param thePosition room the hero just entered
+     * @param theDirection direction the hero moved
+     */
+    public void prefetchAhead(final Point thePosition, final Direction theDirection) {
+        if (myWorld != null && thePosition != null && getRoom(thePosition) != null) {
+            myChunks.pin(thePosition.getX(), thePosition.getY());
+            myChunks.prefetch(thePosition.getX(), thePosition.getY(), theDirection);
+        }
+    }
+
+    /**
+     * Saves the changed chunks of a world that are still in memory. Chunks evicted
+     * earlier were saved when they left. Does nothing for fixed dungeons.
+     *
+     * @throws IOException if a chunk cannot be saved
+     */
+    public void flushChunks() throws IOException {
+        if (myChunks != null) {
+            myChunks.flush();
+        }
+    }
+
     /**
      * Gets room at a location
      * @param theX the x coordinate of room
      * @param theY the y coordinate of room
-     * @return a room.
+     * @return a room, a fresh view of it for a packed dungeon.
      */
     public Room getRoom(final int theX, final int theY) {
         if (theX >= 0 && theX < myWidth && theY >= 0 && theY < myHeight) {
-            return myRooms[theY][theX];
+            return myGrid != null ? myGrid.getRoom(theX, theY) : myChunks.getRoom(theX, theY);
         }
         return null;
     }
@@ -350,6 +731,317 @@ public class Dungeon {
         return myExitPoint;
     }
 
+    /**
+     * Gets how many moves through the doors each room is from the hero spawn point.
+     * Built with the layout, or on first use for a loaded dungeon, then cached.
+     *
+     * @return the field, or null for a world, which is too large to measure whole
+     */
+    public DistanceField getSpawnDistances() {
+        if (mySpawnDistances == null && myWorld == null && myHeroSpawnPoint != null) {
+            mySpawnDistances = DistanceField.compute(toMaze(), myHeroSpawnPoint.getX(), myHeroSpawnPoint.getY());
+        }
+        return mySpawnDistances;
+    }
+
+    /**
+     * Gets how many moves through the doors each room is from the exit, where the boss appears.
+     * Built with the layout, or on first use for a loaded dungeon, then cached.
+     *
+     * @return the field, or null for a world, which is too large to measure whole
+     */
+    public DistanceField getExitDistances() {
+        if (myExitDistances == null && myWorld == null && myExitPoint != null) {
+            myExitDistances = DistanceField.compute(toMaze(), myExitPoint.getX(), myExitPoint.getY());
+        }
+        return myExitDistances;
+    }
+
+    /**
+     * Gets the pathfinder over this dungeon's doors, for routes such as auto-travel.
+     * Made on first use; it follows later door changes on its own.
+     *
+     * @return the pathfinder, or null for a world, which is too large to route over whole
+     */
+    public Pathfinder getPathfinder() {
+        if (myPathfinder == null && myWorld == null) {
+            myPathfinder = new Pathfinder(toMaze(), Pathfinder.DEFAULT_CLUSTER_SIZE);
+        }
+        return myPathfinder;
+    }
+
+    /**
+     * Gets which rooms have been explored, the visited bit of every room packed into a
+     * long[] bitset.
+     *
+     * @return the mask, or null unless this is a fixed dungeon with packed rooms
+     */
+    public ExplorationMask getExploration() {
+        return myGrid == null ? null : myGrid.getExplored();
+    }
+
+    /**
+     * Marks every room in a rectangle visited, clipped to the dungeon.
+     *
+     * @param theLeft first column
+     * @param theTop first row
+     * @param theRight last column, inclusive
+     * @param theBottom last row, inclusive
+     * @return rooms newly visited
+     */
+    public int revealRect(final int theLeft, final int theTop, final int theRight, final int theBottom) {
+        if (myGrid != null) {
+            return myGrid.getExplored().revealRect(theLeft, theTop, theRight, theBottom, dirtyTracker());
+        }
+        return revealRoomByRoom(theLeft, theTop, theRight, theBottom, 0, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Marks every room within a straight line distance of a room visited, through walls.
+     *
+     * @param theCenter center room
+     * @param theRadius distance in rooms, at least 0
+     * @return rooms newly visited
+     */
+    public int revealRadius(final Point theCenter, final int theRadius) {
+        if (theCenter == null) {
+            throw new IllegalArgumentException("Reveal center cannot be null.");
+        }
+        if (theRadius < 0) {
+            throw new IllegalArgumentException("Reveal radius cannot be negative.");
+        }
+        int x = theCenter.getX();
+        int y = theCenter.getY();
+        if (myGrid != null) {
+            return myGrid.getExplored().revealRadius(x, y, theRadius, dirtyTracker());
+        }
+        return revealRoomByRoom(x - theRadius, y - theRadius, x + theRadius, y + theRadius,
+                x, y, (long) theRadius * theRadius);
+    }
+
+    /**
+     * Marks visited every room within a distance of a room that can be seen from it in a
+     * straight line through doors, by shadowcasting over the rooms around it.
+     *
+     * @param theCenter viewer's room, inside the dungeon
+     * @param theRadius distance in rooms, at least 0
+     * @return rooms newly visited
+     */
+    public int revealVisible(final Point theCenter, final int theRadius) {
+        if (theCenter == null || getRoom(theCenter) == null) {
+            throw new IllegalArgumentException("Viewer must be a room of the dungeon.");
+        }
+        if (theRadius < 0) {
+            throw new IllegalArgumentException("Vision radius cannot be negative.");
+        }
+        // Only the square the radius reaches is scanned, so a world works too
+        int left = Math.max(0, theCenter.getX() - theRadius);
+        int top = Math.max(0, theCenter.getY() - theRadius);
+        int width = Math.min(myWidth - 1, theCenter.getX() + theRadius) - left + 1;
+        int height = Math.min(myHeight - 1, theCenter.getY() + theRadius) - top + 1;
+        int centerX = theCenter.getX() - left;
+        int centerY = theCenter.getY() - top;
+        int[] revealed = new int[1];
+        if (myGrid != null) {
+            // Cells of the scanned square map to cells of the grid
+            ExplorationMask explored = myGrid.getExplored();
+            IntConsumer dirty = dirtyTracker();
+            new FieldOfView(width, height, cell -> insideDoors(left + cell % width, top + cell / width,
+                    myGrid.getDoors(gridCell(left, top, width, cell))))
+                    .cast(centerX, centerY, theRadius, cell -> {
+                        int gridCell = gridCell(left, top, width, cell);
+                        if (explored.set(gridCell, true)) {
+                            revealed[0]++;
+                            if (dirty != null) {
+                                dirty.accept(gridCell);
+                            }
+                        }
+                    });
+            return revealed[0];
+        }
+        new FieldOfView(width, height, cell -> doorBits(getRoom(left + cell % width, top + cell / width)))
+                .cast(centerX, centerY, theRadius, cell -> {
+                    Room room = getRoom(left + cell % width, top + cell / width);
+                    if (!room.isVisited()) {
+                        room.setVisited(true);
+                        revealed[0]++;
+                    }
+                });
+        return revealed[0];
+    }
+
+    /**
+     * Marks every room visited.
+     *
+     * @return rooms newly visited
+     * @throws IllegalStateException for a world, which is too large to reveal at once
+     */
+    public int revealAll() {
+        if (myWorld != null) {
+            throw new IllegalStateException("A world is too large to reveal at once.");
+        }
+        if (myGrid != null) {
+            return myGrid.getExplored().revealAll(dirtyTracker());
+        }
+        return revealRoomByRoom(0, 0, myWidth - 1, myHeight - 1, 0, 0, Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets how many rooms were visited. A packed dungeon keeps the count as it goes; other
+     * dungeons count their rooms, and a world only the rooms of its chunks in memory.
+     *
+     * @return visited rooms
+     */
+    public long getExploredCount() {
+        if (myGrid != null) {
+            return myGrid.getExplored().getExploredCount();
+        }
+        long[] count = new long[1];
+        forEachResidentRoom(room -> count[0] += room.isVisited() ? 1 : 0);
+        return count[0];
+    }
+
+    /**
+     * Gets the share of rooms visited, for the HUD.
+     *
+     * @return 0 to 1
+     */
+    public double getExploredFraction() {
+        return getExploredCount() / ((double) myWidth * myHeight);
+    }
+
+    /**
+     * Reveals rooms one by one through their views, for dungeons without an exploration mask.
+     */
+    private int revealRoomByRoom(final int theLeft, final int theTop, final int theRight, final int theBottom,
+                                 final int theCenterX, final int theCenterY, final long theRadiusSquared) {
+        int revealed = 0;
+        for (int y = Math.max(0, theTop); y <= Math.min(myHeight - 1, theBottom); y++) {
+            for (int x = Math.max(0, theLeft); x <= Math.min(myWidth - 1, theRight); x++) {
+                long dx = x - theCenterX;
+                long dy = y - theCenterY;
+                if (dx * dx + dy * dy > theRadiusSquared) {
+                    continue;
+                }
+                Room room = getRoom(x, y);
+                if (!room.isVisited()) {
+                    room.setVisited(true);
+                    revealed++;
+                }
+            }
+        }
+        return revealed;
+    }
+
+    private int gridCell(final int theLeft, final int theTop, final int theWidth, final int theCell) {
+        return (theTop + theCell / theWidth) * myWidth + theLeft + theCell % theWidth;
+    }
+
+    /**
+     * Gets what marks rooms revealed in bulk for the next save, the same as a view's
+     * setVisited would.
+     *
+     * @return the marker, or null while changes are not tracked
+     */
+    private IntConsumer dirtyTracker() {
+        return myGrid.getDungeon() == null ? null : myDirtyRooms::set;
+    }
+
+    /**
+     * Drops what was measured from the old doors of a room: the distance fields, and the
+     * pathfinder's measurements of the room's cluster.
+     *
+     * @param theRoom room whose doors changed
+     */
+    void roomDoorsChanged(final Room theRoom) {
+        mySpawnDistances = null;
+        myExitDistances = null;
+        if (myPathfinder != null) {
+            Point position = theRoom.getPosition();
+            myPathfinder.setDoors(position.getX(), position.getY(), doorBits(theRoom));
+        }
+    }
+
+    /**
+     * Packs the doors of every room into a maze.
+     */
+    private Maze toMaze() {
+        Maze maze = new Maze(myWidth, myHeight);
+        for (int y = 0; y < myHeight; y++) {
+            for (int x = 0; x < myWidth; x++) {
+                int cell = maze.cell(x, y);
+                if (myGrid != null) {
+                    // Read the packed doors directly rather than through a view per room
+                    maze.setDoors(cell, insideDoors(x, y, myGrid.getDoors(cell)));
+                } else {
+                    Room room = getRoom(x, y);
+                    if (room != null) {
+                        maze.setDoors(cell, doorBits(room));
+                    }
+                }
+            }
+        }
+        return maze;
+    }
+
+    /**
+     * Gets a room's doors as Maze bits, dropping doors that lead out of the dungeon.
+     */
+    private int doorBits(final Room theRoom) {
+        int doors = 0;
+        doors |= theRoom.hasNorthDoor() ? Maze.NORTH : 0;
+        doors |= theRoom.hasEastDoor() ? Maze.EAST : 0;
+        doors |= theRoom.hasSouthDoor() ? Maze.SOUTH : 0;
+        doors |= theRoom.hasWestDoor() ? Maze.WEST : 0;
+        return insideDoors(theRoom.getPosition().getX(), theRoom.getPosition().getY(), doors);
+    }
+
+    private int insideDoors(final int theX, final int theY, final int theDoors) {
+        int doors = theDoors;
+        doors &= theY > 0 ? ~0 : ~Maze.NORTH;
+        doors &= theX + 1 < myWidth ? ~0 : ~Maze.EAST;
+        doors &= theY + 1 < myHeight ? ~0 : ~Maze.SOUTH;
+        doors &= theX > 0 ? ~0 : ~Maze.WEST;
+        return doors;
+    }
+
+    /**
+     * Draws the explored part of the dungeon as a tiny map for the saves browser.
+     * Each cell covers a block of rooms and is 1 if any of them was visited, else 0.
+     * For a world only the chunks in memory are drawn.
+     * Layout: width byte, height byte, then one byte per cell row by row.
+     *
+     * @param theMaxSize largest width or height of the thumbnail in cells, 1 to 255
+     * @return thumbnail bytes
+     */
+    public byte[] createThumbnail(final int theMaxSize) {
+        if (theMaxSize < 1 || theMaxSize > 255) {
+            throw new IllegalArgumentException("Thumbnail size must be between 1 and 255.");
+        }
+        int scale = (Math.max(myWidth, myHeight) + theMaxSize - 1) / theMaxSize;
+        int width = (myWidth + scale - 1) / scale;
+        int height = (myHeight + scale - 1) / scale;
+        byte[] thumbnail = new byte[2 + width * height];
+        thumbnail[0] = (byte) width;
+        thumbnail[1] = (byte) height;
+        ExplorationMask explored = getExploration();
+        if (explored != null) {
+            // Walk only the visited rooms, skipping unvisited ones a word at a time
+            for (int cell = explored.nextExplored(0); cell >= 0; cell = explored.nextExplored(cell + 1)) {
+                thumbnail[2 + (cell / myWidth / scale) * width + cell % myWidth / scale] = 1;
+            }
+            return thumbnail;
+        }
+        // A world only has its resident chunks to draw; a fixed dungeon has every room resident
+        forEachResidentRoom(room -> {
+            if (room.isVisited()) {
+                Point position = room.getPosition();
+                thumbnail[2 + (position.getY() / scale) * width + position.getX() / scale] = 1;
+            }
+        });
+        return thumbnail;
+    }
+
     /**
      * gets total pillars
      * @return pillar count
@@ -403,8 +1095,8 @@ public class Dungeon {
         Room bossRoom = getRoom(myExitPoint);
         if (bossRoom != null) {
             bossRoom.setRoomType(RoomType.BOSS);
-            if (!bossRoom.getMonsters().isEmpty()) {
-                bossRoom.getMonsters().clear();
+            for (Monster monster : bossRoom.getMonsters().toArray(new Monster[0])) {
+                bossRoom.removeMonster(monster);
             }
 
             // Assuming MonsterType.GIANT is defined as a boss type
@@ -437,8 +1129,10 @@ public class Dungeon {
         StringBuilder sb = new StringBuilder();
         for (int y = 0; y < myHeight; y++) {
             for (int x = 0; x < myWidth; x++) {
-                Room room = myRooms[y][x];
-                if (room.getPosition().equals(theHeroCurrentPosition)) {
+                Room room = myGrid != null ? myGrid.getRoom(x, y) : myChunks.peekRoom(x, y);
+                if (room == null) {
+                    sb.append("[#]");
+                } else if (room.getPosition().equals(theHeroCurrentPosition)) {
                     sb.append("[H]");
                 } else if (room.isVisited()) {
                     switch (room.getRoomType()) {
@@ -446,8 +1140,8 @@ public class Dungeon {
                         case EXIT: sb.append("[X]"); break;
                         case BOSS: sb.append("[B]"); break;
                         case PILLAR: sb.append(room.getPillar() != null && room.getPillar().isActivated() ? "[A]" : "[P]"); break;
-                        case MONSTER: sb.append(room.getMonsters().isEmpty() ? "[ ]" : "[M]"); break;
-                        case TREASURE: sb.append(room.getItems().isEmpty() ? "[ ]" : "[$]"); break;
+                        case MONSTER: sb.append(room.hasMonsters() ? "[M]" : "[ ]"); break;
+                        case TREASURE: sb.append(room.hasUncollectedItems() ? "[$]" : "[ ]"); break;
                         case TRAP: sb.append(room.getTrap() != null && room.getTrap().isSprung() ? "[_]" : "[!]"); break;
                         case EMPTY: sb.append("[ ]"); break;
                         default: sb.append("[?]"); break;
@@ -466,10 +1160,14 @@ public class Dungeon {
      * gives percent chances of each monster spawning
      * @param theRoom room to spawn
      * @param theSpot point to spawn at
+     * @param theRandom monster phase stream
+     * @param theDepth how deep the room lies, 0 at the spawn to 1 at the farthest room
      */
-    private void addMonsterToRoom(final Room theRoom, final Point theSpot) {
-        Random rand = new Random();
-        double percentChance = rand.nextDouble(1);
+    void addMonsterToRoom(final Room theRoom, final Point theSpot, final SplittableRandom theRandom,
+                          final double theDepth) {
+        double percentChance = theRandom.nextDouble();
+        // Deeper rooms shift the roll towards the elite types at the top of the table
+        percentChance += (1 - percentChance) * theDepth * DEPTH_ELITE_SKEW;
         if (percentChance < .3) {
             theRoom.addMonster(myMonsterFactory.getMonster(MonsterType.GOBLIN, theSpot));
         } else if (percentChance < .5) {
@@ -488,10 +1186,10 @@ public class Dungeon {
     /**
      * makes a chest in the room
      * @param theRoom room for the chest
+     * @param theRandom chest phase stream
      */
-    private void createChest(final Room theRoom) {
-        Random rand = new Random();
-        int itemAmount = rand.nextInt(5) + 1;
+    void createChest(final Room theRoom, final SplittableRandom theRandom) {
+        int itemAmount = theRandom.nextInt(5) + 1;
         List<Item> chestItems = new ArrayList<>();
         while (itemAmount != 0) {
             if (itemAmount % 2 == 0) {
@@ -508,88 +1206,31 @@ public class Dungeon {
     /**
      * serializes dungeon to JSON format for saving
      * Converts entire dungeon state including dimensions, pillar status,
-     * spawn points, and all room data into a JSON string that can be stored in database
+     * spawn points, and all room data into a JSON string that can be stored in database.
+     * Rooms are streamed row by row, see DungeonJsonCodec.
      *
      * @return JSON string representation of dungeon, or null if serialization fails
      */
     public String toJson() {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            DungeonSaveData saveData = new DungeonSaveData();
-            saveData.width = myWidth;
-            saveData.height = myHeight;
-            saveData.difficulty = myDifficulty;
-            saveData.totalPillars = myTotalPillars;
-            saveData.activatedPillars = myActivatedPillars;
-            saveData.bossSpawned = myBossSpawned;
-            saveData.heroSpawnX = myHeroSpawnPoint.getX();
-            saveData.heroSpawnY = myHeroSpawnPoint.getY();
-            saveData.exitX = myExitPoint.getX();
-            saveData.exitY = myExitPoint.getY();
-
-            //serialize room data
-            saveData.roomData = new RoomSaveData[myHeight][myWidth];
-            for (int y = 0; y < myHeight; y++) {
-                for (int x = 0; x < myWidth; x++) {
-                    Room room = myRooms[y][x];
-                    RoomSaveData roomSave = new RoomSaveData();
-                    roomSave.x = x;
-                    roomSave.y = y;
-                    roomSave.roomType = room.getRoomType().name();
-                    roomSave.visited = room.isVisited();
-                    roomSave.chestOpened = room.getChestOpened();
-                    roomSave.hasNorthDoor = room.hasNorthDoor();
-                    roomSave.hasEastDoor = room.hasEastDoor();
-                    roomSave.hasSouthDoor = room.hasSouthDoor();
-                    roomSave.hasWestDoor = room.hasWestDoor();
-
-                    //save pillar data if present
-                    if (room.hasPillar()) {
-                        roomSave.pillarType = room.getPillar().getType().name();
-                        roomSave.pillarActivated = room.getPillar().isActivated();
-                    }
-
-                    //save trap data if present
-                    if (room.hasTrap()) {
-                        roomSave.trapName = room.getTrap().getName();
-                        roomSave.trapDamage = room.getTrap().getDamage();
-                        roomSave.trapSprung = room.getTrap().isSprung();
-                    }
-
-                    // If it has a monster save it
-                    if (room.getRoomType() == RoomType.MONSTER && !room.getMonsters().isEmpty()) {
-                        // Assuming here that there is only one monster per room
-                        roomSave.monster = room.getMonsters().getFirst().getType();
-                        roomSave.isDefeated = false;
-                    } else {
-                        // Otherwise just assign goblin to monster to avoid null errors.
-                        // isDefeated being true should stop monster from being spawned.
-                        roomSave.monster = MonsterType.GOBLIN;
-                        roomSave.isDefeated = true;
-                    }
-
-                    if (room.getRoomType() == RoomType.TREASURE && !room.getChest().isEmpty()) {
-                        roomSave.itemCount = 0;
-                        for (Item item : room.getChest()) {
-                            roomSave.itemCount++;
-                        }
-                        roomSave.potionType = "Chest";
-                    } else if (!room.getItems().isEmpty()) {
-                        roomSave.itemCount = 1;
-                        roomSave.potionType = room.getItems().getFirst().getName();
-                    }
-
-                    saveData.roomData[y][x] = roomSave;
-                }
-            }
-
-            return mapper.writeValueAsString(saveData);
-        } catch (JsonProcessingException e) {
+            StringWriter out = new StringWriter(myWidth * myHeight * 200);
+            DungeonJsonCodec.write(this, out);
+            return out.toString();
+        } catch (IOException e) {
             System.err.println("Error serializing dungeon: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Streams the dungeon as JSON straight to an output stream without building a save object graph.
+     *
+     * @param theOut stream to write UTF-8 JSON to, left open
+     * @throws IOException if writing fails
+     */
+    public void writeJson(final OutputStream theOut) throws IOException {
+        DungeonJsonCodec.write(this, theOut);
+    }
 
     /**
      * deserializes a dungeon from JSON format
@@ -601,97 +1242,370 @@ public class Dungeon {
      */
     public static Dungeon fromJson(String json) {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            DungeonSaveData saveData = mapper.readValue(json, DungeonSaveData.class);
+            return DungeonJsonCodec.read(new StringReader(json));
+        } catch (Exception e) {
+            System.err.println("Error deserializing dungeon: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a dungeon from a JSON stream in a single pass.
+     *
+     * @param theIn stream containing UTF-8 JSON dungeon data
+     * @return the restored dungeon
+     * @throws IOException if the stream cannot be read or is not a dungeon save
+     */
+    public static Dungeon readJson(final InputStream theIn) throws IOException {
+        return DungeonJsonCodec.read(theIn);
+    }
+
+    /**
+     * Serializes the dungeon to the compact binary save format.
+     *
+     * @return binary payload, or null if serialization fails
+     */
+    public byte[] toSaveBytes() {
+        try {
+            return DungeonBinaryCodec.encode(this);
+        } catch (IOException e) {
+            System.err.println("Error serializing dungeon: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Restores a dungeon from a stored save payload.
+     * Binary payloads are decoded directly, anything else is read as a legacy JSON row.
+     *
+     * @param theData stored payload
+     * @return restored dungeon, or null if the payload cannot be read
+     */
+    public static Dungeon fromSaveBytes(final byte[] theData) {
+        if (theData == null) {
+            System.err.println("Error deserializing dungeon: no save data");
+            return null;
+        }
+        if (!SaveFormat.isBinary(theData)) {
+            return fromJson(new String(theData, StandardCharsets.UTF_8));
+        }
+        try {
+            return DungeonBinaryCodec.decode(theData);
+        } catch (Exception e) {
+            System.err.println("Error deserializing dungeon: " + e.getMessage());
+            return null;
+        }
+    }
 
-            //create new dungeon with saved dimensions and difficulty
-            Dungeon dungeon = new Dungeon(saveData.width, saveData.height, saveData.difficulty, false);
+    /**
+     * Creates an empty loaded dungeon from saved header values, with every room EMPTY and closed.
+     * Rooms are then filled in one at a time with restoreRoom.
+     *
+     * @param theSaveData saved header values, roomData is ignored
+     * @return dungeon ready for restoreRoom calls
+     */
+    static Dungeon restoreShell(final DungeonSaveData theSaveData) {
+        //create new dungeon with saved dimensions and difficulty
+        Dungeon dungeon = new Dungeon(theSaveData.width, theSaveData.height, theSaveData.difficulty, false);
+
+        //restore dungeon state
+        dungeon.myTotalPillars = theSaveData.totalPillars;
+        dungeon.myActivatedPillars = theSaveData.activatedPillars;
+        dungeon.myBossSpawned = theSaveData.bossSpawned;
+        dungeon.myHeroSpawnPoint = new Point(theSaveData.heroSpawnX, theSaveData.heroSpawnY);
+        dungeon.myExitPoint = new Point(theSaveData.exitX, theSaveData.exitY);
+        dungeon.mySeed = theSaveData.seed;
+        dungeon.myGeneratorVersion = theSaveData.generatorVersion;
+        if (theSaveData.generatorVersion != 0) {
+            // Seeded saves from before maze algorithms were pluggable all used the backtracker
+            MazeGenerator generator = MazeGenerators.forName(theSaveData.mazeAlgorithm);
+            dungeon.myMazeGenerator = generator != null ? generator : MazeGenerators.BACKTRACKER;
+            if (generator == null && theSaveData.mazeAlgorithm != null) {
+                System.err.println("Unknown maze algorithm in save: " + theSaveData.mazeAlgorithm);
+            }
+        }
+
+        dungeon.placeEmptyRooms();
+        return dungeon;
+    }
 
-            //restore dungeon state
-            dungeon.myTotalPillars = saveData.totalPillars;
-            dungeon.myActivatedPillars = saveData.activatedPillars;
-            dungeon.myBossSpawned = saveData.bossSpawned;
-            dungeon.myHeroSpawnPoint = new Point(saveData.heroSpawnX, saveData.heroSpawnY);
-            dungeon.myExitPoint = new Point(saveData.exitX, saveData.exitY);
+    /**
+     * Attaches every room so later changes are tracked, and forgets changes made so far.
+     * Called once the dungeon is generated or restored.
+     */
+    void trackChanges() {
+        if (myGrid != null) {
+            myGrid.setDungeon(this);
+        } else {
+            myChunks.forEachResidentRoom(room -> room.setDungeon(this));
+        }
+        if (myDirtyRooms != null) {
+            myDirtyRooms.clear();
+        }
+    }
+
+    /**
+     * Fills an object dungeon with EMPTY rooms without doors. A packed dungeon starts out that way.
+     */
+    private void placeEmptyRooms() {
+        if (myChunks == null) {
+            return;
+        }
+        for (int y = 0; y < myHeight; y++) {
+            for (int x = 0; x < myWidth; x++) {
+                myChunks.setRoom(x, y, new Room(new Point(x, y), RoomType.EMPTY));
+            }
+        }
+    }
 
+    /**
+     * Runs an action on every room in memory: every room of a fixed dungeon, the resident chunks of a world.
+     */
+    private void forEachResidentRoom(final Consumer<Room> theAction) {
+        if (myGrid != null) {
+            myGrid.forEachRoom(theAction);
+        } else {
+            myChunks.forEachResidentRoom(theAction);
+        }
+    }
 
-            for (int y = 0; y < dungeon.getHeight(); y++) {
-                for (int x = 0; x < dungeon.getWidth(); x++) {
-                    dungeon.myRooms[y][x] = new Room(new Point(x, y), RoomType.EMPTY);
+    /**
+     * Records that a room changed since the last save.
+     *
+     * @param theRoom changed room
+     */
+    void markRoomDirty(final Room theRoom) {
+        Point position = theRoom.getPosition();
+        if (myDirtyRooms != null) {
+            myDirtyRooms.set(position.getY() * myWidth + position.getX());
+        }
+        if (myChunks != null) {
+            myChunks.markDirty(position.getX(), position.getY(), theRoom);
+        }
+    }
+
+    /**
+     * Gets how many rooms changed since the last save.
+     *
+     * @return changed room count
+     */
+    public int getDirtyRoomCount() {
+        return myDirtyRooms == null ? 0 : myDirtyRooms.cardinality();
+    }
+
+    /**
+     * Snapshots the rooms changed since the last call and starts tracking afresh.
+     *
+     * @return the changed rooms with the current pillar and boss counters
+     */
+    public DungeonDelta takeChanges() {
+        if (myDirtyRooms == null) {
+            return new DungeonDelta(myActivatedPillars, myBossSpawned, List.of());
+        }
+        List<DungeonDelta.RoomState> rooms = new ArrayList<>(myDirtyRooms.cardinality());
+        for (int i = myDirtyRooms.nextSetBit(0); i >= 0; i = myDirtyRooms.nextSetBit(i + 1)) {
+            rooms.add(toRoomState(getRoom(i % myWidth, i / myWidth)));
+        }
+        myDirtyRooms.clear();
+        return new DungeonDelta(myActivatedPillars, myBossSpawned, rooms);
+    }
+
+    /**
+     * Snapshots the given rooms without touching the changes tracked for saving.
+     *
+     * @param theRooms rooms to snapshot, nulls are skipped
+     * @return the rooms with the current pillar and boss counters
+     */
+    public DungeonDelta snapshotRooms(final Room... theRooms) {
+        List<DungeonDelta.RoomState> rooms = new ArrayList<>(theRooms.length);
+        for (Room room : theRooms) {
+            if (room != null) {
+                rooms.add(toRoomState(room));
+            }
+        }
+        return new DungeonDelta(myActivatedPillars, myBossSpawned, rooms);
+    }
+
+    /**
+     * Lays saved room changes over this dungeon, as read back from the normalized tables.
+     * The applied rooms do not count as changed.
+     *
+     * @param theDelta changes to apply, null is ignored
+     */
+    public void applyChanges(final DungeonDelta theDelta) {
+        if (theDelta == null) {
+            return;
+        }
+        for (DungeonDelta.RoomState state : theDelta.getRooms()) {
+            Point position = state.getPosition();
+            if (getRoom(position) != null) {
+                Room room = fromRoomState(state);
+                if (myGrid != null) {
+                    myGrid.setRoom(position.getX(), position.getY(), room);
+                } else {
+                    myChunks.setRoom(position.getX(), position.getY(), room);
                 }
+                roomDoorsChanged(room);
             }
+        }
+        myActivatedPillars = theDelta.getActivatedPillars();
+        myBossSpawned = theDelta.isBossSpawned();
+        trackChanges();
+    }
 
-            //restore room data
-            for (int y = 0; y < saveData.height; y++) {
-                for (int x = 0; x < saveData.width; x++) {
-                    RoomSaveData roomSave = saveData.roomData[y][x];
-                    Room room = dungeon.myRooms[y][x];
-
-                    room.setRoomType(RoomType.valueOf(roomSave.roomType));
-                    room.setVisited(roomSave.visited);
-                    room.setChestOpened(roomSave.chestOpened);
-                    room.setItemsCollected(roomSave.itemsCollected);
-                    room.setNorthDoor(roomSave.hasNorthDoor);
-                    room.setEastDoor(roomSave.hasEastDoor);
-                    room.setSouthDoor(roomSave.hasSouthDoor);
-                    room.setWestDoor(roomSave.hasWestDoor);
-
-                    //restore pillar if present
-                    if (roomSave.pillarType != null) {
-                        PillarType pillarType = PillarType.valueOf(roomSave.pillarType);
-                        Pillar pillar = new Pillar(pillarType);
-                        if (roomSave.pillarActivated) {
-                            room.removePillar();
-                        } else {
-                            room.setPillar(pillar);
-                        }
-                    }
+    /**
+     * Checks whether the slot already holds this dungeon's base payload, so a save
+     * there only needs the changed rooms.
+     *
+     * @param theSaveName slot name
+     * @return true if a delta save to the slot is enough
+     */
+    public boolean isSavedTo(final String theSaveName) {
+        return mySaveSlot != null && mySaveSlot.equals(theSaveName);
+    }
 
-                    if (room.getRoomType() == RoomType.MONSTER && !roomSave.isDefeated) {
-                        MonsterFactory m = new MonsterFactory();
-                        room.addMonster(m.getMonster(roomSave.monster, room.getPosition()));
-                    }
+    /**
+     * Records the slot holding this dungeon's base payload.
+     *
+     * @param theSaveName slot name, or null if no slot holds it
+     */
+    public void setSaveSlot(final String theSaveName) {
+        this.mySaveSlot = theSaveName;
+    }
 
-                    if (room.getRoomType() == RoomType.TREASURE) {
-                        int itemsLeft = roomSave.itemCount;
-                        while (itemsLeft != 0) {
-                            if (itemsLeft % 2 == 0) {
-                                room.getChest().add(new HealthPotion("Health Potion", "Heals 50", 50));
-                            } else {
-                                room.getChest().add(new VisionPotion("Vision Potion", "Reveals nearby tiles", dungeon));
-                            }
-                            itemsLeft--;
-                        }
-                    } else if (roomSave.itemCount == 1 && !roomSave.potionType.equals("Chest")) {
-                        if (roomSave.potionType.equals("Health Potion")) {
-                            room.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
-                        } else {
-                            room.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", dungeon));
-                        }
-                    }
+    private DungeonDelta.RoomState toRoomState(final Room theRoom) {
+        DungeonDelta.RoomState.Builder builder =
+                new DungeonDelta.RoomState.Builder(theRoom.getPosition(), theRoom.getRoomType())
+                        .setVisited(theRoom.isVisited())
+                        .setChestOpened(theRoom.getChestOpened())
+                        .setItemsCollected(theRoom.getItemsCollected())
+                        .setDoors(theRoom.hasNorthDoor(), theRoom.hasEastDoor(),
+                                theRoom.hasSouthDoor(), theRoom.hasWestDoor());
+        if (theRoom.hasPillar()) {
+            builder.setPillar(theRoom.getPillar().getType(), theRoom.getPillar().isActivated());
+        }
+        if (theRoom.hasTrap()) {
+            Trap trap = theRoom.getTrap();
+            builder.setTrap(trap.getName(), trap.getDamage(), trap.isSprung());
+        }
+        if (theRoom.hasMonsters()) {
+            // Only one monster per room is saved
+            Monster monster = theRoom.getMonsters().getFirst();
+            builder.setMonster(monster.getType(), monster.getHealth());
+        }
+        List<Item> items = theRoom.getRoomType() == RoomType.TREASURE ? theRoom.getChest() : theRoom.getItems();
+        for (Item item : items) {
+            builder.addItem(item.getName());
+        }
+        return builder.build();
+    }
 
-                    //restore trap if present
-                    if (roomSave.trapName != null) {
-                        Trap trap = new Trap(roomSave.trapName, "Restored trap", roomSave.trapDamage);
-                        if (roomSave.trapSprung) {
-                            //implement a way to set trap as sprung
-                            // trap.setSprung(true);
-                        }
-                        room.setTrap(trap);
-                    }
+    private Room fromRoomState(final DungeonDelta.RoomState theState) {
+        Room room = new Room(theState.getPosition(), theState.getRoomType());
+        room.setNorthDoor(theState.hasNorthDoor());
+        room.setEastDoor(theState.hasEastDoor());
+        room.setSouthDoor(theState.hasSouthDoor());
+        room.setWestDoor(theState.hasWestDoor());
+        room.setVisited(theState.isVisited());
+        room.setChestOpened(theState.isChestOpened());
+
+        // activated pillars are not restored, same as restoreRoom
+        if (theState.getPillarType() != null && !theState.isPillarActivated()) {
+            room.setPillar(new Pillar(theState.getPillarType()));
+        }
+        if (theState.getTrapName() != null) {
+            Trap trap = new Trap(theState.getTrapName(), "Restored trap", theState.getTrapDamage());
+            trap.setSprung(theState.isTrapSprung());
+            room.setTrap(trap);
+        }
+        if (theState.getMonsterType() != null) {
+            Monster monster = myMonsterFactory.getMonster(theState.getMonsterType(), room.getPosition());
+            if (theState.getMonsterHealth() > 0) {
+                monster.setHealth(theState.getMonsterHealth());
+            }
+            room.addMonster(monster);
+        }
+        for (String name : theState.getItemNames()) {
+            Item item = "Health Potion".equals(name)
+                    ? new HealthPotion("Health Potion", "Heals 50", 50)
+                    : new VisionPotion("Vision Potion", "Reveals nearby tiles", this);
+            if (theState.getRoomType() == RoomType.TREASURE) {
+                room.getChest().add(item);
+            } else {
+                room.addItem(item);
+            }
+        }
+        // after the items, since a collected room refuses new items
+        room.setItemsCollected(theState.isItemsCollected());
+        // setPillar and setTrap change the type, the saved one wins
+        room.setRoomType(theState.getRoomType());
+        return room;
+    }
 
-                    // Restore boss if spawned
-                    if (room.getRoomType() == RoomType.BOSS && dungeon.myBossSpawned) {
-                        dungeon.myBossSpawned = false;
-                        dungeon.spawnBoss();
-                    }
+    /**
+     * Restores one room from its saved values.
+     *
+     * @param theX room column
+     * @param theY room row
+     * @param theRoomSave saved values for the room
+     */
+    void restoreRoom(final int theX, final int theY, final RoomSaveData theRoomSave) {
+        Room room = getRoom(theX, theY);
+
+        room.setRoomType(RoomType.valueOf(theRoomSave.roomType));
+        room.setVisited(theRoomSave.visited);
+        room.setChestOpened(theRoomSave.chestOpened);
+        room.setNorthDoor(theRoomSave.hasNorthDoor);
+        room.setEastDoor(theRoomSave.hasEastDoor);
+        room.setSouthDoor(theRoomSave.hasSouthDoor);
+        room.setWestDoor(theRoomSave.hasWestDoor);
+
+        //restore pillar if present
+        if (theRoomSave.pillarType != null) {
+            PillarType pillarType = PillarType.valueOf(theRoomSave.pillarType);
+            Pillar pillar = new Pillar(pillarType);
+            if (theRoomSave.pillarActivated) {
+                room.removePillar();
+            } else {
+                room.setPillar(pillar);
+            }
+        }
+
+        if (room.getRoomType() == RoomType.MONSTER && !theRoomSave.isDefeated) {
+            room.addMonster(myMonsterFactory.getMonster(theRoomSave.monster, room.getPosition()));
+        }
+
+        if (room.getRoomType() == RoomType.TREASURE) {
+            int itemsLeft = theRoomSave.itemCount;
+            while (itemsLeft != 0) {
+                if (itemsLeft % 2 == 0) {
+                    room.getChest().add(new HealthPotion("Health Potion", "Heals 50", 50));
+                } else {
+                    room.getChest().add(new VisionPotion("Vision Potion", "Reveals nearby tiles", this));
                 }
+                itemsLeft--;
             }
+        } else if (theRoomSave.itemCount == 1 && !"Chest".equals(theRoomSave.potionType)) {
+            if ("Health Potion".equals(theRoomSave.potionType)) {
+                room.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
+            } else {
+                room.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", this));
+            }
+        }
+        // after the items, since a collected room refuses new items
+        room.setItemsCollected(theRoomSave.itemsCollected);
+
+        //restore trap if present
+        if (theRoomSave.trapName != null) {
+            Trap trap = new Trap(theRoomSave.trapName, "Restored trap", theRoomSave.trapDamage);
+            trap.setSprung(theRoomSave.trapSprung);
+            room.setTrap(trap);
+        }
 
-            return dungeon;
-        } catch (Exception e) {
-            System.err.println("Error deserializing dungeon: " + e.getMessage());
-            return null;
+        // Restore boss if spawned
+        if (room.getRoomType() == RoomType.BOSS && myBossSpawned) {
+            myBossSpawned = false;
+            spawnBoss();
         }
     }
 
@@ -712,11 +1626,7 @@ public class Dungeon {
         }
 
         // 1. Initialize all rooms as EMPTY
-        for (int y = 0; y < myHeight; y++) {
-            for (int x = 0; x < myWidth; x++) {
-                myRooms[y][x] = new Room(new Point(x, y), RoomType.EMPTY);
-            }
-        }
+        placeEmptyRooms();
 
         // 2. Create straight line path (horizontal)
         for (int x = 0; x < Math.min(10, myWidth) - 1; x++) {
@@ -851,8 +1761,8 @@ public class Dungeon {
 
 
 
-    //inner classes for save data
-    private static class DungeonSaveData {
+    //inner classes for save data, shared with DungeonJsonCodec
+    static class DungeonSaveData {
         public int width;
         public int height;
         public String difficulty;
@@ -863,10 +1773,13 @@ public class Dungeon {
         public int heroSpawnY;
         public int exitX;
         public int exitY;
+        public long seed;
+        public int generatorVersion; //0 when the save predates seeds
+        public String mazeAlgorithm; //MazeGenerator name, null in saves older than the setting
         public RoomSaveData[][] roomData;
     }
 
-    private static class RoomSaveData {
+    static class RoomSaveData {
         public int x;
         public int y;
         public String roomType;
@@ -886,6 +1799,31 @@ public class Dungeon {
         public boolean isDefeated;
         public int itemCount;
         public String potionType;
+
+        /**
+         * Clears every field so one instance can be reused for each room while streaming.
+         */
+        void reset() {
+            x = 0;
+            y = 0;
+            roomType = null;
+            visited = false;
+            chestOpened = false;
+            itemsCollected = false;
+            hasNorthDoor = false;
+            hasEastDoor = false;
+            hasSouthDoor = false;
+            hasWestDoor = false;
+            pillarType = null;
+            pillarActivated = false;
+            trapName = null;
+            trapDamage = 0;
+            trapSprung = false;
+            monster = null;
+            isDefeated = false;
+            itemCount = 0;
+            potionType = null;
+        }
     }
 
 
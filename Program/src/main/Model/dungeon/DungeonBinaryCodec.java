@@ -0,0 +1,273 @@
+package main.Model.dungeon;
+
+import main.Model.util.MonsterType;
+import main.Model.util.PillarType;
+import main.Model.util.RoomType;
+import main.Model.util.SaveFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Compact binary codec for dungeon saves, see SaveFormat for the header.
+ * Each room is two bytes in the common case: door flags in the low nibble and
+ * room state bits in the high nibble of the first byte, then a content byte
+ * holding the RoomType ordinal and which optional parts follow.
+ * Pillar and monster types are stored as ordinals.
+ * From format version 2 the header also holds the generator version and seed,
+ * and from version 3 the maze algorithm name after the seed.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class DungeonBinaryCodec {
+    // First room byte: doors in the low nibble, state in the high nibble
+    private static final int NORTH_DOOR = 0x01;
+    private static final int EAST_DOOR = 0x02;
+    private static final int SOUTH_DOOR = 0x04;
+    private static final int WEST_DOOR = 0x08;
+    private static final int VISITED = 0x10;
+    private static final int CHEST_OPENED = 0x20;
+    private static final int ITEMS_COLLECTED = 0x40;
+
+    // Second room byte: RoomType ordinal in the low nibble, optional parts in the high nibble
+    private static final int ROOM_TYPE_MASK = 0x0F;
+    private static final int HAS_PILLAR = 0x10;
+    private static final int HAS_TRAP = 0x20;
+    private static final int HAS_MONSTER = 0x40;
+    private static final int HAS_ITEMS = 0x80;
+
+    // Pillar and trap detail byte
+    private static final int PILLAR_ACTIVATED = 0x80;
+    private static final int TRAP_SPRUNG = 0x01;
+
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+    private static final PillarType[] PILLAR_TYPES = PillarType.values();
+    private static final MonsterType[] MONSTER_TYPES = MonsterType.values();
+
+    static {
+        if (ROOM_TYPES.length > ROOM_TYPE_MASK + 1) {
+            throw new IllegalStateException("RoomType no longer fits in the binary save nibble");
+        }
+    }
+
+    private DungeonBinaryCodec() {
+    }
+
+    /**
+     * Encodes the dungeon.
+     *
+     * @param theDungeon dungeon to save
+     * @return the binary payload
+     * @throws IOException if encoding fails
+     */
+    static byte[] encode(final Dungeon theDungeon) throws IOException {
+        if (theDungeon.isWorld()) {
+            throw new IOException("Worlds are saved through their chunk store, not as a payload");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + theDungeon.getWidth() * theDungeon.getHeight() * 3);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        SaveFormat.writeHeader(out, SaveFormat.KIND_DUNGEON);
+        SaveFormat.writeVarInt(out, theDungeon.getWidth());
+        SaveFormat.writeVarInt(out, theDungeon.getHeight());
+        SaveFormat.writeString(out, theDungeon.getDifficulty());
+        SaveFormat.writeVarInt(out, theDungeon.getTotalPillars());
+        SaveFormat.writeVarInt(out, theDungeon.getActivatedPillars());
+        out.writeBoolean(theDungeon.isBossSpawned());
+        SaveFormat.writeVarInt(out, theDungeon.getHeroSpawnPoint().getX());
+        SaveFormat.writeVarInt(out, theDungeon.getHeroSpawnPoint().getY());
+        SaveFormat.writeVarInt(out, theDungeon.getExitPoint().getX());
+        SaveFormat.writeVarInt(out, theDungeon.getExitPoint().getY());
+        SaveFormat.writeVarInt(out, theDungeon.getGeneratorVersion());
+        if (theDungeon.getGeneratorVersion() != 0) {
+            out.writeLong(theDungeon.getSeed());
+            SaveFormat.writeString(out, theDungeon.getMazeGenerator().getName());
+        }
+
+        for (int y = 0; y < theDungeon.getHeight(); y++) {
+            for (int x = 0; x < theDungeon.getWidth(); x++) {
+                writeRoom(theDungeon.getRoom(x, y), out);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a payload written by encode.
+     *
+     * @param theData the binary payload
+     * @return the restored dungeon
+     * @throws IOException if the payload is truncated, corrupt or from a newer version
+     */
+    static Dungeon decode(final byte[] theData) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(theData));
+        int version = SaveFormat.readHeader(in, SaveFormat.KIND_DUNGEON);
+
+        Dungeon.DungeonSaveData header = new Dungeon.DungeonSaveData();
+        header.width = SaveFormat.readVarInt(in);
+        header.height = SaveFormat.readVarInt(in);
+        header.difficulty = SaveFormat.readString(in);
+        header.totalPillars = SaveFormat.readVarInt(in);
+        header.activatedPillars = SaveFormat.readVarInt(in);
+        header.bossSpawned = in.readBoolean();
+        header.heroSpawnX = SaveFormat.readVarInt(in);
+        header.heroSpawnY = SaveFormat.readVarInt(in);
+        header.exitX = SaveFormat.readVarInt(in);
+        header.exitY = SaveFormat.readVarInt(in);
+        if (version >= 2) {
+            header.generatorVersion = SaveFormat.readVarInt(in);
+            if (header.generatorVersion != 0) {
+                header.seed = in.readLong();
+                if (version >= 3) {
+                    header.mazeAlgorithm = SaveFormat.readString(in);
+                }
+            }
+        }
+
+        // Every room takes at least two bytes, so a bad size is caught before allocating
+        if (header.width <= 0 || header.height <= 0
+                || (long) header.width * header.height * 2 > theData.length) {
+            throw new IOException("Dungeon size " + header.width + "x" + header.height
+                    + " does not match the payload");
+        }
+
+        Dungeon dungeon = Dungeon.restoreShell(header);
+        Dungeon.RoomSaveData roomSave = new Dungeon.RoomSaveData();
+        for (int y = 0; y < header.height; y++) {
+            for (int x = 0; x < header.width; x++) {
+                roomSave.reset();
+                readRoom(in, roomSave);
+                dungeon.restoreRoom(x, y, roomSave);
+            }
+        }
+        dungeon.trackChanges();
+        return dungeon;
+    }
+
+    private static void writeRoom(final Room theRoom, final DataOutputStream theOut) throws IOException {
+        int state = 0;
+        if (theRoom.hasNorthDoor()) {
+            state |= NORTH_DOOR;
+        }
+        if (theRoom.hasEastDoor()) {
+            state |= EAST_DOOR;
+        }
+        if (theRoom.hasSouthDoor()) {
+            state |= SOUTH_DOOR;
+        }
+        if (theRoom.hasWestDoor()) {
+            state |= WEST_DOOR;
+        }
+        if (theRoom.isVisited()) {
+            state |= VISITED;
+        }
+        if (theRoom.getChestOpened()) {
+            state |= CHEST_OPENED;
+        }
+        if (theRoom.getItemsCollected()) {
+            state |= ITEMS_COLLECTED;
+        }
+
+        boolean hasMonster = theRoom.getRoomType() == RoomType.MONSTER && !theRoom.getMonsters().isEmpty();
+        boolean isTreasure = theRoom.getRoomType() == RoomType.TREASURE;
+        boolean hasItems = isTreasure ? !theRoom.getChest().isEmpty() : !theRoom.getItems().isEmpty();
+
+        int content = theRoom.getRoomType().ordinal();
+        if (theRoom.hasPillar()) {
+            content |= HAS_PILLAR;
+        }
+        if (theRoom.hasTrap()) {
+            content |= HAS_TRAP;
+        }
+        if (hasMonster) {
+            content |= HAS_MONSTER;
+        }
+        if (hasItems) {
+            content |= HAS_ITEMS;
+        }
+
+        theOut.writeByte(state);
+        theOut.writeByte(content);
+
+        if (theRoom.hasPillar()) {
+            int pillar = theRoom.getPillar().getType().ordinal();
+            if (theRoom.getPillar().isActivated()) {
+                pillar |= PILLAR_ACTIVATED;
+            }
+            theOut.writeByte(pillar);
+        }
+        if (theRoom.hasTrap()) {
+            SaveFormat.writeString(theOut, theRoom.getTrap().getName());
+            SaveFormat.writeSignedVarInt(theOut, theRoom.getTrap().getDamage());
+            theOut.writeByte(theRoom.getTrap().isSprung() ? TRAP_SPRUNG : 0);
+        }
+        if (hasMonster) {
+            // Only one monster per room is saved
+            theOut.writeByte(theRoom.getMonsters().getFirst().getType().ordinal());
+        }
+        if (hasItems) {
+            if (isTreasure) {
+                SaveFormat.writeVarInt(theOut, theRoom.getChest().size());
+            } else {
+                SaveFormat.writeString(theOut, theRoom.getItems().getFirst().getName());
+            }
+        }
+    }
+
+    private static void readRoom(final DataInputStream theIn, final Dungeon.RoomSaveData theRoomSave)
+            throws IOException {
+        int state = theIn.readUnsignedByte();
+        int content = theIn.readUnsignedByte();
+
+        theRoomSave.hasNorthDoor = (state & NORTH_DOOR) != 0;
+        theRoomSave.hasEastDoor = (state & EAST_DOOR) != 0;
+        theRoomSave.hasSouthDoor = (state & SOUTH_DOOR) != 0;
+        theRoomSave.hasWestDoor = (state & WEST_DOOR) != 0;
+        theRoomSave.visited = (state & VISITED) != 0;
+        theRoomSave.chestOpened = (state & CHEST_OPENED) != 0;
+        theRoomSave.itemsCollected = (state & ITEMS_COLLECTED) != 0;
+
+        int roomType = content & ROOM_TYPE_MASK;
+        if (roomType >= ROOM_TYPES.length) {
+            throw new IOException("Unknown room type ordinal " + roomType);
+        }
+        theRoomSave.roomType = ROOM_TYPES[roomType].name();
+
+        if ((content & HAS_PILLAR) != 0) {
+            int pillar = theIn.readUnsignedByte();
+            int ordinal = pillar & ~PILLAR_ACTIVATED;
+            if (ordinal >= PILLAR_TYPES.length) {
+                throw new IOException("Unknown pillar type ordinal " + ordinal);
+            }
+            theRoomSave.pillarType = PILLAR_TYPES[ordinal].name();
+            theRoomSave.pillarActivated = (pillar & PILLAR_ACTIVATED) != 0;
+        }
+        if ((content & HAS_TRAP) != 0) {
+            theRoomSave.trapName = SaveFormat.readString(theIn);
+            theRoomSave.trapDamage = SaveFormat.readSignedVarInt(theIn);
+            theRoomSave.trapSprung = (theIn.readUnsignedByte() & TRAP_SPRUNG) != 0;
+        }
+        if ((content & HAS_MONSTER) != 0) {
+            theRoomSave.monster = SaveFormat.readOrdinal(theIn, MONSTER_TYPES);
+            theRoomSave.isDefeated = false;
+        } else {
+            theRoomSave.isDefeated = true;
+        }
+        if ((content & HAS_ITEMS) != 0) {
+            if (ROOM_TYPES[roomType] == RoomType.TREASURE) {
+                theRoomSave.itemCount = SaveFormat.readVarInt(theIn);
+                theRoomSave.potionType = "Chest";
+            } else {
+                theRoomSave.itemCount = 1;
+                theRoomSave.potionType = SaveFormat.readString(theIn);
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package main.Model.dungeon;
+
+import main.Model.util.Coordinates;
+import main.Model.util.LongObjectMap;
+import main.Model.util.MonsterType;
+import main.Model.util.PillarType;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import main.Model.util.SaveFormat;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The rooms of a dungeon that changed since it was last saved, plus the dungeon's
+ * progress counters. Saves write only these rows into the normalized rooms tables,
+ * and loads lay them over the dungeon restored from the slot's first full save.
+ * Instances are immutable so they can be handed to the save thread.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class DungeonDelta {
+    private final int myActivatedPillars;
+    private final boolean myBossSpawned;
+    // Changed rooms by packed position, in the order they were first added
+    private final LongObjectMap<RoomState> myRooms;
+
+    /**
+     * Creates a delta.
+     *
+     * @param theActivatedPillars dungeon's activated pillar count.
+     * @param theBossSpawned true if the boss has spawned.
+     * @param theRooms changed rooms, a later state for the same position replaces an earlier one.
+     */
+    public DungeonDelta(final int theActivatedPillars, final boolean theBossSpawned,
+                        final Collection<RoomState> theRooms) {
+        if (theRooms == null) {
+            throw new IllegalArgumentException("Rooms cannot be null for DungeonDelta.");
+        }
+        this.myActivatedPillars = theActivatedPillars;
+        this.myBossSpawned = theBossSpawned;
+        LongObjectMap<RoomState> rooms = new LongObjectMap<>(theRooms.size());
+        for (RoomState room : theRooms) {
+            rooms.put(Coordinates.pack(room.getPosition()), room);
+        }
+        this.myRooms = rooms;
+    }
+
+    /**
+     * Combines this delta with a newer one taken from the same dungeon.
+     * Rooms changed in both keep the newer state, and the counters come from the newer delta.
+     *
+     * @param theNewer delta taken after this one.
+     * @return the combined delta.
+     */
+    public DungeonDelta mergedWith(final DungeonDelta theNewer) {
+        List<RoomState> rooms = new ArrayList<>(myRooms.values());
+        rooms.addAll(theNewer.myRooms.values());
+        return new DungeonDelta(theNewer.myActivatedPillars, theNewer.myBossSpawned, rooms);
+    }
+
+    public int getActivatedPillars() {
+        return myActivatedPillars;
+    }
+
+    public boolean isBossSpawned() {
+        return myBossSpawned;
+    }
+
+    /**
+     * Gets the changed rooms.
+     *
+     * @return read-only view of the rooms, one per position.
+     */
+    public Collection<RoomState> getRooms() {
+        return myRooms.values();
+    }
+
+    public int getRoomCount() {
+        return myRooms.size();
+    }
+
+    @Override
+    public String toString() {
+        return "DungeonDelta: " + myRooms.size() + " rooms, pillars activated: " + myActivatedPillars
+                + ", boss spawned: " + myBossSpawned;
+    }
+
+    /**
+     * Saved state of one room, matching a row of the rooms table and its
+     * monsters, items and pillars rows. The binary form written by write is
+     * shared by journal records and world chunk files.
+     */
+    public static final class RoomState {
+        // Flag bits of the binary form
+        private static final int VISITED = 0x001;
+        private static final int CHEST_OPENED = 0x002;
+        private static final int ITEMS_COLLECTED = 0x004;
+        private static final int NORTH_DOOR = 0x008;
+        private static final int EAST_DOOR = 0x010;
+        private static final int SOUTH_DOOR = 0x020;
+        private static final int WEST_DOOR = 0x040;
+        private static final int HAS_PILLAR = 0x080;
+        private static final int PILLAR_ACTIVATED = 0x100;
+        private static final int HAS_TRAP = 0x200;
+        private static final int TRAP_SPRUNG = 0x400;
+        private static final int HAS_MONSTER = 0x800;
+
+        private static final RoomType[] ROOM_TYPES = RoomType.values();
+        private static final PillarType[] PILLAR_TYPES = PillarType.values();
+        private static final MonsterType[] MONSTER_TYPES = MonsterType.values();
+
+        private final Point myPosition;
+        private final RoomType myRoomType;
+        private final boolean myVisited;
+        private final boolean myChestOpened;
+        private final boolean myItemsCollected;
+        private final boolean myNorthDoor;
+        private final boolean myEastDoor;
+        private final boolean mySouthDoor;
+        private final boolean myWestDoor;
+        private final PillarType myPillarType;
+        private final boolean myPillarActivated;
+        private final String myTrapName;
+        private final int myTrapDamage;
+        private final boolean myTrapSprung;
+        private final MonsterType myMonsterType;
+        private final int myMonsterHealth;
+        private final List<String> myItemNames;
+
+        private RoomState(final Builder theBuilder) {
+            this.myPosition = theBuilder.myPosition;
+            this.myRoomType = theBuilder.myRoomType;
+            this.myVisited = theBuilder.myVisited;
+            this.myChestOpened = theBuilder.myChestOpened;
+            this.myItemsCollected = theBuilder.myItemsCollected;
+            this.myNorthDoor = theBuilder.myNorthDoor;
+            this.myEastDoor = theBuilder.myEastDoor;
+            this.mySouthDoor = theBuilder.mySouthDoor;
+            this.myWestDoor = theBuilder.myWestDoor;
+            this.myPillarType = theBuilder.myPillarType;
+            this.myPillarActivated = theBuilder.myPillarActivated;
+            this.myTrapName = theBuilder.myTrapName;
+            this.myTrapDamage = theBuilder.myTrapDamage;
+            this.myTrapSprung = theBuilder.myTrapSprung;
+            this.myMonsterType = theBuilder.myMonsterType;
+            this.myMonsterHealth = theBuilder.myMonsterHealth;
+            this.myItemNames = List.copyOf(theBuilder.myItemNames);
+        }
+
+        public Point getPosition() { return myPosition; }
+        public RoomType getRoomType() { return myRoomType; }
+        public boolean isVisited() { return myVisited; }
+        public boolean isChestOpened() { return myChestOpened; }
+        public boolean isItemsCollected() { return myItemsCollected; }
+        public boolean hasNorthDoor() { return myNorthDoor; }
+        public boolean hasEastDoor() { return myEastDoor; }
+        public boolean hasSouthDoor() { return mySouthDoor; }
+        public boolean hasWestDoor() { return myWestDoor; }
+        /** @return the pillar type, or null if the room has no pillar. */
+        public PillarType getPillarType() { return myPillarType; }
+        public boolean isPillarActivated() { return myPillarActivated; }
+        /** @return the trap name, or null if the room has no trap. */
+        public String getTrapName() { return myTrapName; }
+        public int getTrapDamage() { return myTrapDamage; }
+        public boolean isTrapSprung() { return myTrapSprung; }
+        /** @return the monster type, or null if the room has no monster. */
+        public MonsterType getMonsterType() { return myMonsterType; }
+        public int getMonsterHealth() { return myMonsterHealth; }
+        /** @return names of the chest items in a treasure room, otherwise of the items on the floor. */
+        public List<String> getItemNames() { return myItemNames; }
+
+        /**
+         * Writes the room in its binary form.
+         *
+         * @param theOut stream to write to.
+         * @throws IOException if writing fails.
+         */
+        public void write(final DataOutputStream theOut) throws IOException {
+            int flags = 0;
+            flags |= myVisited ? VISITED : 0;
+            flags |= myChestOpened ? CHEST_OPENED : 0;
+            flags |= myItemsCollected ? ITEMS_COLLECTED : 0;
+            flags |= myNorthDoor ? NORTH_DOOR : 0;
+            flags |= myEastDoor ? EAST_DOOR : 0;
+            flags |= mySouthDoor ? SOUTH_DOOR : 0;
+            flags |= myWestDoor ? WEST_DOOR : 0;
+            flags |= myPillarType != null ? HAS_PILLAR : 0;
+            flags |= myPillarActivated ? PILLAR_ACTIVATED : 0;
+            flags |= myTrapName != null ? HAS_TRAP : 0;
+            flags |= myTrapSprung ? TRAP_SPRUNG : 0;
+            flags |= myMonsterType != null ? HAS_MONSTER : 0;
+
+            SaveFormat.writeVarInt(theOut, myPosition.getX());
+            SaveFormat.writeVarInt(theOut, myPosition.getY());
+            theOut.writeByte(myRoomType.ordinal());
+            SaveFormat.writeVarInt(theOut, flags);
+            if (myPillarType != null) {
+                theOut.writeByte(myPillarType.ordinal());
+            }
+            if (myTrapName != null) {
+                SaveFormat.writeString(theOut, myTrapName);
+                SaveFormat.writeSignedVarInt(theOut, myTrapDamage);
+            }
+            if (myMonsterType != null) {
+                theOut.writeByte(myMonsterType.ordinal());
+                SaveFormat.writeSignedVarInt(theOut, myMonsterHealth);
+            }
+            SaveFormat.writeVarInt(theOut, myItemNames.size());
+            for (String item : myItemNames) {
+                SaveFormat.writeString(theOut, item);
+            }
+        }
+
+        /**
+         * Reads a room written by write.
+         *
+         * @param theIn stream to read from.
+         * @return the room state.
+         * @throws IOException if the room is truncated or corrupt.
+         */
+        public static RoomState read(final DataInputStream theIn) throws IOException {
+            Point position = new Point(SaveFormat.readVarInt(theIn), SaveFormat.readVarInt(theIn));
+            RoomType roomType = SaveFormat.readOrdinal(theIn, ROOM_TYPES);
+            int flags = SaveFormat.readVarInt(theIn);
+
+            Builder builder = new Builder(position, roomType)
+                    .setVisited((flags & VISITED) != 0)
+                    .setChestOpened((flags & CHEST_OPENED) != 0)
+                    .setItemsCollected((flags & ITEMS_COLLECTED) != 0)
+                    .setDoors((flags & NORTH_DOOR) != 0, (flags & EAST_DOOR) != 0,
+                            (flags & SOUTH_DOOR) != 0, (flags & WEST_DOOR) != 0);
+            if ((flags & HAS_PILLAR) != 0) {
+                builder.setPillar(SaveFormat.readOrdinal(theIn, PILLAR_TYPES), (flags & PILLAR_ACTIVATED) != 0);
+            }
+            if ((flags & HAS_TRAP) != 0) {
+                builder.setTrap(SaveFormat.readString(theIn), SaveFormat.readSignedVarInt(theIn),
+                        (flags & TRAP_SPRUNG) != 0);
+            }
+            if ((flags & HAS_MONSTER) != 0) {
+                builder.setMonster(SaveFormat.readOrdinal(theIn, MONSTER_TYPES), SaveFormat.readSignedVarInt(theIn));
+            }
+            int items = SaveFormat.readVarInt(theIn);
+            for (int i = 0; i < items; i++) {
+                builder.addItem(SaveFormat.readString(theIn));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Builder for room states.
+         */
+        public static final class Builder {
+            private final Point myPosition;
+            private final RoomType myRoomType;
+            private boolean myVisited;
+            private boolean myChestOpened;
+            private boolean myItemsCollected;
+            private boolean myNorthDoor;
+            private boolean myEastDoor;
+            private boolean mySouthDoor;
+            private boolean myWestDoor;
+            private PillarType myPillarType;
+            private boolean myPillarActivated;
+            private String myTrapName;
+            private int myTrapDamage;
+            private boolean myTrapSprung;
+            private MonsterType myMonsterType;
+            private int myMonsterHealth;
+            private final List<String> myItemNames = new ArrayList<>();
+
+            /**
+             * Starts a room state.
+             *
+             * @param thePosition room position.
+             * @param theRoomType room type.
+             */
+            public Builder(final Point thePosition, final RoomType theRoomType) {
+                if (thePosition == null || theRoomType == null) {
+                    throw new IllegalArgumentException("Room position and type cannot be null.");
+                }
+                this.myPosition = thePosition;
+                this.myRoomType = theRoomType;
+            }
+
+            public Builder setVisited(final boolean theVisited) {
+                myVisited = theVisited;
+                return this;
+            }
+
+            public Builder setChestOpened(final boolean theChestOpened) {
+                myChestOpened = theChestOpened;
+                return this;
+            }
+
+            public Builder setItemsCollected(final boolean theItemsCollected) {
+                myItemsCollected = theItemsCollected;
+                return this;
+            }
+
+            public Builder setDoors(final boolean theNorth, final boolean theEast,
+                                    final boolean theSouth, final boolean theWest) {
+                myNorthDoor = theNorth;
+                myEastDoor = theEast;
+                mySouthDoor = theSouth;
+                myWestDoor = theWest;
+                return this;
+            }
+
+            public Builder setPillar(final PillarType theType, final boolean theActivated) {
+                myPillarType = theType;
+                myPillarActivated = theActivated;
+                return this;
+            }
+
+            public Builder setTrap(final String theName, final int theDamage, final boolean theSprung) {
+                myTrapName = theName;
+                myTrapDamage = theDamage;
+                myTrapSprung = theSprung;
+                return this;
+            }
+
+            public Builder setMonster(final MonsterType theType, final int theHealth) {
+                myMonsterType = theType;
+                myMonsterHealth = theHealth;
+                return this;
+            }
+
+            public Builder addItem(final String theName) {
+                myItemNames.add(theName);
+                return this;
+            }
+
+            public RoomState build() {
+                return new RoomState(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package main.Model.dungeon;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import main.Model.element.Item;
+import main.Model.util.MonsterType;
+import main.Model.util.RoomType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Streaming JSON codec for dungeon saves.
+ * Rooms are written one at a time straight to the output and read back in a
+ * single pass, so no RoomSaveData[][] graph is built on either side.
+ * The JSON layout is the same one the ObjectMapper based save used,
+ * so existing saves still load.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class DungeonJsonCodec {
+    // ObjectReader and ObjectWriter are immutable and thread-safe, so one of each is shared
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = MAPPER.reader();
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private DungeonJsonCodec() {
+    }
+
+    /**
+     * Writes the dungeon as UTF-8 JSON to a stream.
+     *
+     * @param theDungeon dungeon to save
+     * @param theOut stream to write to, left open
+     * @throws IOException if writing fails
+     */
+    static void write(final Dungeon theDungeon, final OutputStream theOut) throws IOException {
+        try (JsonGenerator gen = WRITER.createGenerator(theOut, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeDungeon(theDungeon, gen);
+        }
+    }
+
+    /**
+     * Writes the dungeon as JSON to a character writer.
+     *
+     * @param theDungeon dungeon to save
+     * @param theOut writer to write to, left open
+     * @throws IOException if writing fails
+     */
+    static void write(final Dungeon theDungeon, final Writer theOut) throws IOException {
+        try (JsonGenerator gen = WRITER.createGenerator(theOut)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writeDungeon(theDungeon, gen);
+        }
+    }
+
+    /**
+     * Reads a dungeon from a UTF-8 JSON stream.
+     *
+     * @param theIn stream to read from
+     * @return the restored dungeon
+     * @throws IOException if the stream cannot be read or is not a dungeon save
+     */
+    static Dungeon read(final InputStream theIn) throws IOException {
+        try (JsonParser parser = READER.createParser(theIn)) {
+            return readDungeon(parser);
+        }
+    }
+
+    /**
+     * Reads a dungeon from JSON text.
+     *
+     * @param theIn reader to read from
+     * @return the restored dungeon
+     * @throws IOException if the text cannot be read or is not a dungeon save
+     */
+    static Dungeon read(final Reader theIn) throws IOException {
+        try (JsonParser parser = READER.createParser(theIn)) {
+            return readDungeon(parser);
+        }
+    }
+
+    private static void writeDungeon(final Dungeon theDungeon, final JsonGenerator theGen) throws IOException {
+        if (theDungeon.isWorld()) {
+            throw new IOException("Worlds are saved through their chunk store, not as a payload");
+        }
+        theGen.writeStartObject();
+        theGen.writeNumberField("width", theDungeon.getWidth());
+        theGen.writeNumberField("height", theDungeon.getHeight());
+        theGen.writeStringField("difficulty", theDungeon.getDifficulty());
+        theGen.writeNumberField("totalPillars", theDungeon.getTotalPillars());
+        theGen.writeNumberField("activatedPillars", theDungeon.getActivatedPillars());
+        theGen.writeBooleanField("bossSpawned", theDungeon.isBossSpawned());
+        theGen.writeNumberField("heroSpawnX", theDungeon.getHeroSpawnPoint().getX());
+        theGen.writeNumberField("heroSpawnY", theDungeon.getHeroSpawnPoint().getY());
+        theGen.writeNumberField("exitX", theDungeon.getExitPoint().getX());
+        theGen.writeNumberField("exitY", theDungeon.getExitPoint().getY());
+        if (theDungeon.getGeneratorVersion() != 0) {
+            theGen.writeNumberField("generatorVersion", theDungeon.getGeneratorVersion());
+            theGen.writeNumberField("seed", theDungeon.getSeed());
+            theGen.writeStringField("mazeAlgorithm", theDungeon.getMazeGenerator().getName());
+        }
+
+        theGen.writeArrayFieldStart("roomData");
+        for (int y = 0; y < theDungeon.getHeight(); y++) {
+            theGen.writeStartArray();
+            for (int x = 0; x < theDungeon.getWidth(); x++) {
+                writeRoom(theDungeon.getRoom(x, y), x, y, theGen);
+            }
+            theGen.writeEndArray();
+        }
+        theGen.writeEndArray();
+        theGen.writeEndObject();
+    }
+
+    private static void writeRoom(final Room theRoom, final int theX, final int theY,
+                                  final JsonGenerator theGen) throws IOException {
+        theGen.writeStartObject();
+        theGen.writeNumberField("x", theX);
+        theGen.writeNumberField("y", theY);
+        theGen.writeStringField("roomType", theRoom.getRoomType().name());
+        theGen.writeBooleanField("visited", theRoom.isVisited());
+        theGen.writeBooleanField("chestOpened", theRoom.getChestOpened());
+        theGen.writeBooleanField("itemsCollected", theRoom.getItemsCollected());
+        theGen.writeBooleanField("hasNorthDoor", theRoom.hasNorthDoor());
+        theGen.writeBooleanField("hasEastDoor", theRoom.hasEastDoor());
+        theGen.writeBooleanField("hasSouthDoor", theRoom.hasSouthDoor());
+        theGen.writeBooleanField("hasWestDoor", theRoom.hasWestDoor());
+
+        //save pillar data if present
+        if (theRoom.hasPillar()) {
+            theGen.writeStringField("pillarType", theRoom.getPillar().getType().name());
+            theGen.writeBooleanField("pillarActivated", theRoom.getPillar().isActivated());
+        }
+
+        //save trap data if present
+        if (theRoom.hasTrap()) {
+            theGen.writeStringField("trapName", theRoom.getTrap().getName());
+            theGen.writeNumberField("trapDamage", theRoom.getTrap().getDamage());
+            theGen.writeBooleanField("trapSprung", theRoom.getTrap().isSprung());
+        }
+
+        // Only one monster per room is saved, a room without one is written as a defeated goblin
+        if (theRoom.getRoomType() == RoomType.MONSTER && !theRoom.getMonsters().isEmpty()) {
+            theGen.writeStringField("monster", theRoom.getMonsters().getFirst().getType().name());
+            theGen.writeBooleanField("isDefeated", false);
+        } else {
+            theGen.writeStringField("monster", MonsterType.GOBLIN.name());
+            theGen.writeBooleanField("isDefeated", true);
+        }
+
+        if (theRoom.getRoomType() == RoomType.TREASURE && !theRoom.getChest().isEmpty()) {
+            theGen.writeNumberField("itemCount", theRoom.getChest().size());
+            theGen.writeStringField("potionType", "Chest");
+        } else if (!theRoom.getItems().isEmpty()) {
+            Item item = theRoom.getItems().getFirst();
+            theGen.writeNumberField("itemCount", 1);
+            theGen.writeStringField("potionType", item.getName());
+        }
+        theGen.writeEndObject();
+    }
+
+    private static Dungeon readDungeon(final JsonParser theParser) throws IOException {
+        if (theParser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Dungeon save must be a JSON object");
+        }
+        Dungeon.DungeonSaveData header = new Dungeon.DungeonSaveData();
+        boolean hasWidth = false;
+        boolean hasHeight = false;
+        Dungeon dungeon = null;
+        Dungeon.RoomSaveData[][] bufferedRooms = null;
+
+        while (theParser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = theParser.currentName();
+            theParser.nextToken();
+            switch (field) {
+                case "width" -> {
+                    header.width = theParser.getIntValue();
+                    hasWidth = true;
+                }
+                case "height" -> {
+                    header.height = theParser.getIntValue();
+                    hasHeight = true;
+                }
+                case "difficulty" -> header.difficulty = theParser.getValueAsString();
+                case "totalPillars" -> header.totalPillars = theParser.getIntValue();
+                case "activatedPillars" -> header.activatedPillars = theParser.getIntValue();
+                case "bossSpawned" -> header.bossSpawned = theParser.getBooleanValue();
+                case "heroSpawnX" -> header.heroSpawnX = theParser.getIntValue();
+                case "heroSpawnY" -> header.heroSpawnY = theParser.getIntValue();
+                case "exitX" -> header.exitX = theParser.getIntValue();
+                case "exitY" -> header.exitY = theParser.getIntValue();
+                case "generatorVersion" -> header.generatorVersion = theParser.getIntValue();
+                case "seed" -> header.seed = theParser.getLongValue();
+                case "mazeAlgorithm" -> header.mazeAlgorithm = theParser.getValueAsString();
+                case "roomData" -> {
+                    if (hasWidth && hasHeight) {
+                        // Normal case: the header came first, so rooms are restored as they stream past
+                        dungeon = Dungeon.restoreShell(header);
+                        readRooms(theParser, dungeon);
+                    } else {
+                        // Hand-edited or reordered save, keep the rows until the size is known
+                        bufferedRooms = READER.readValue(theParser, Dungeon.RoomSaveData[][].class);
+                    }
+                }
+                default -> theParser.skipChildren();
+            }
+        }
+
+        if (dungeon == null) {
+            if (bufferedRooms == null || !hasWidth || !hasHeight) {
+                throw new IOException("Dungeon save is missing its size or room data");
+            }
+            dungeon = Dungeon.restoreShell(header);
+            for (int y = 0; y < header.height; y++) {
+                for (int x = 0; x < header.width; x++) {
+                    dungeon.restoreRoom(x, y, bufferedRooms[y][x]);
+                }
+            }
+        }
+        dungeon.trackChanges();
+        return dungeon;
+    }
+
+    private static void readRooms(final JsonParser theParser, final Dungeon theDungeon) throws IOException {
+        if (theParser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("roomData must be an array of rows");
+        }
+        // One reusable holder for every room
+        Dungeon.RoomSaveData roomSave = new Dungeon.RoomSaveData();
+        int y = 0;
+        while (theParser.nextToken() == JsonToken.START_ARRAY) {
+            int x = 0;
+            while (theParser.nextToken() == JsonToken.START_OBJECT) {
+                if (y >= theDungeon.getHeight() || x >= theDungeon.getWidth()) {
+                    throw new IOException("roomData is larger than " + theDungeon.getWidth()
+                            + "x" + theDungeon.getHeight());
+                }
+                roomSave.reset();
+                readRoom(theParser, roomSave);
+                theDungeon.restoreRoom(x, y, roomSave);
+                x++;
+            }
+            y++;
+        }
+    }
+
+    private static void readRoom(final JsonParser theParser, final Dungeon.RoomSaveData theRoomSave)
+            throws IOException {
+        while (theParser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = theParser.currentName();
+            JsonToken value = theParser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "x" -> theRoomSave.x = theParser.getIntValue();
+                case "y" -> theRoomSave.y = theParser.getIntValue();
+                case "roomType" -> theRoomSave.roomType = theParser.getText();
+                case "visited" -> theRoomSave.visited = theParser.getBooleanValue();
+                case "chestOpened" -> theRoomSave.chestOpened = theParser.getBooleanValue();
+                case "itemsCollected" -> theRoomSave.itemsCollected = theParser.getBooleanValue();
+                case "hasNorthDoor" -> theRoomSave.hasNorthDoor = theParser.getBooleanValue();
+                case "hasEastDoor" -> theRoomSave.hasEastDoor = theParser.getBooleanValue();
+                case "hasSouthDoor" -> theRoomSave.hasSouthDoor = theParser.getBooleanValue();
+                case "hasWestDoor" -> theRoomSave.hasWestDoor = theParser.getBooleanValue();
+                case "pillarType" -> theRoomSave.pillarType = theParser.getText();
+                case "pillarActivated" -> theRoomSave.pillarActivated = theParser.getBooleanValue();
+                case "trapName" -> theRoomSave.trapName = theParser.getText();
+                case "trapDamage" -> theRoomSave.trapDamage = theParser.getIntValue();
+                case "trapSprung" -> theRoomSave.trapSprung = theParser.getBooleanValue();
+                case "monster" -> theRoomSave.monster = MonsterType.valueOf(theParser.getText());
+                case "isDefeated" -> theRoomSave.isDefeated = theParser.getBooleanValue();
+                case "itemCount" -> theRoomSave.itemCount = theParser.getIntValue();
+                case "potionType" -> theRoomSave.potionType = theParser.getText();
+                default -> theParser.skipChildren();
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package main.Model.dungeon;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps a few freshly generated dungeons ready for each size and difficulty, so starting
+ * a new game only has to take one instead of generating it on the JavaFX thread.
+ * Dungeons are generated on one background thread while the player is still on the
+ * intro and hero selection screens; every take queues a replacement. When nothing is
+ * ready the dungeon is generated on the caller's thread, as before.
+ * The pool also times a new game from the take to the first frame the game loop draws.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class DungeonPool {
+    /** Dungeons kept ready for each size and difficulty by the shared pool. */
+    public static final int DEFAULT_POOL_SIZE = 2;
+
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    private static DungeonPool myInstance;
+
+    private final int myPoolSize;
+    private final ExecutorService myGenerator;
+
+    /** Ready dungeons by key, see key. Guarded by this. */
+    private final Map<String, ArrayDeque<Dungeon>> myReady;
+    /** Dungeons queued or being generated by key. Guarded by this. */
+    private final Map<String, Integer> myQueued;
+    /** Guarded by this. */
+    private boolean myClosed;
+
+    private final AtomicLong myHits = new AtomicLong();
+    private final AtomicLong myMisses = new AtomicLong();
+    private final AtomicLong myGenerated = new AtomicLong();
+    private final AtomicLong myTotalGenerateNanos = new AtomicLong();
+    /** When the last take happened, 0 once its first frame has been recorded. */
+    private final AtomicLong myTakeNanos = new AtomicLong();
+    private final AtomicLong myLastFirstFrameNanos = new AtomicLong(-1);
+
+    /**
+     * Creates a pool with its own generator thread.
+     *
+     * @param thePoolSize dungeons to keep ready for each size and difficulty.
+     */
+    public DungeonPool(final int thePoolSize) {
+        if (thePoolSize < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative.");
+        }
+        this.myPoolSize = thePoolSize;
+        this.myReady = new HashMap<>();
+        this.myQueued = new HashMap<>();
+        this.myGenerator = Executors.newSingleThreadExecutor(theTask -> {
+            Thread thread = new Thread(theTask, "dungeon-pregen");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the shared pool.
+     *
+     * @return the shared pool.
+     */
+    public static synchronized DungeonPool getInstance() {
+        if (myInstance == null) {
+            myInstance = new DungeonPool(DEFAULT_POOL_SIZE);
+        }
+        return myInstance;
+    }
+
+    /**
+     * Stops the shared generator thread, dropping any dungeon still being generated.
+     * The next getInstance call starts a fresh pool.
+     */
+    public static synchronized void shutdown() {
+        if (myInstance != null) {
+            myInstance.close();
+            System.out.println("Dungeon pool stopped. " + myInstance.getStats());
+            myInstance = null;
+        }
+    }
+
+    /**
+     * Queues generation until the pool holds its full count of dungeons for a size and
+     * difficulty. Returns at once; does nothing if enough are ready or queued.
+     *
+     * @param theWidth dungeon width.
+     * @param theHeight dungeon height.
+     * @param theDifficulty dungeon difficulty.
+     */
+    public void prefill(final int theWidth, final int theHeight, final String theDifficulty) {
+        checkArguments(theWidth, theHeight, theDifficulty);
+        String key = key(theWidth, theHeight, theDifficulty);
+        synchronized (this) {
+            if (myClosed) {
+                return;
+            }
+            int queued = myQueued.getOrDefault(key, 0);
+            int missing = myPoolSize - readyFor(key).size() - queued;
+            if (missing <= 0) {
+                return;
+            }
+            myQueued.put(key, queued + missing);
+            for (int i = 0; i < missing; i++) {
+                myGenerator.execute(() -> fill(key, theWidth, theHeight, theDifficulty));
+            }
+        }
+    }
+
+    /**
+     * Takes a ready dungeon, or generates one on this thread if none is ready,
+     * then queues a replacement. Starts the time to first frame, see recordFirstFrame.
+     *
+     * @param theWidth dungeon width.
+     * @param theHeight dungeon height.
+     * @param theDifficulty dungeon difficulty.
+     * @return a new dungeon nobody else holds.
+     */
+    public Dungeon take(final int theWidth, final int theHeight, final String theDifficulty) {
+        checkArguments(theWidth, theHeight, theDifficulty);
+        myTakeNanos.set(System.nanoTime());
+        Dungeon dungeon;
+        synchronized (this) {
+            dungeon = readyFor(key(theWidth, theHeight, theDifficulty)).poll();
+        }
+        if (dungeon != null) {
+            myHits.incrementAndGet();
+        } else {
+            myMisses.incrementAndGet();
+            dungeon = generate(theWidth, theHeight, theDifficulty);
+        }
+        prefill(theWidth, theHeight, theDifficulty);
+        return dungeon;
+    }
+
+    /**
+     * Records that the game loop drew a frame. Only the first frame after a take counts.
+     *
+     * @return true if this frame ended a time to first frame.
+     */
+    public boolean recordFirstFrame() {
+        long taken = myTakeNanos.getAndSet(0);
+        if (taken == 0) {
+            return false;
+        }
+        long elapsed = System.nanoTime() - taken;
+        myLastFirstFrameNanos.set(elapsed);
+        System.out.printf("New game first frame after %.1f ms%n", elapsed / 1_000_000.0);
+        return true;
+    }
+
+    /**
+     * Stops the generator thread. Ready dungeons are dropped and takes after this
+     * generate on the caller's thread without queueing replacements.
+     */
+    public void close() {
+        synchronized (this) {
+            myClosed = true;
+            myReady.clear();
+        }
+        myGenerator.shutdownNow();
+        try {
+            if (!myGenerator.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Dungeon pool did not stop within " + SHUTDOWN_WAIT_SECONDS + " seconds.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets how many dungeons are ready for a size and difficulty.
+     *
+     * @param theWidth dungeon width.
+     * @param theHeight dungeon height.
+     * @param theDifficulty dungeon difficulty.
+     * @return ready dungeons.
+     */
+    public synchronized int getReadyCount(final int theWidth, final int theHeight, final String theDifficulty) {
+        ArrayDeque<Dungeon> ready = myReady.get(key(theWidth, theHeight, theDifficulty));
+        return ready == null ? 0 : ready.size();
+    }
+
+    public long getHitCount() {
+        return myHits.get();
+    }
+
+    public long getMissCount() {
+        return myMisses.get();
+    }
+
+    public long getGeneratedCount() {
+        return myGenerated.get();
+    }
+
+    /**
+     * Gets the time from the last take to the first frame after it.
+     *
+     * @return nanoseconds, or -1 if no new game has drawn a frame yet.
+     */
+    public long getLastTimeToFirstFrameNanos() {
+        return myLastFirstFrameNanos.get();
+    }
+
+    /**
+     * Gets a one line summary of the pool counters.
+     *
+     * @return the summary.
+     */
+    public String getStats() {
+        long generated = myGenerated.get();
+        long firstFrame = myLastFirstFrameNanos.get();
+        return String.format("hits=%d misses=%d generated=%d avgGenerate=%.1fms lastFirstFrame=%s",
+                myHits.get(), myMisses.get(), generated,
+                generated == 0 ? 0.0 : myTotalGenerateNanos.get() / 1_000_000.0 / generated,
+                firstFrame < 0 ? "n/a" : String.format("%.1fms", firstFrame / 1_000_000.0));
+    }
+
+    private void fill(final String theKey, final int theWidth, final int theHeight, final String theDifficulty) {
+        Dungeon dungeon = null;
+        try {
+            dungeon = generate(theWidth, theHeight, theDifficulty);
+        } catch (RuntimeException e) {
+            System.err.println("Dungeon pre-generation failed: " + e.getMessage());
+        }
+        synchronized (this) {
+            myQueued.merge(theKey, -1, Integer::sum);
+            if (dungeon != null && !myClosed) {
+                readyFor(theKey).add(dungeon);
+            }
+        }
+    }
+
+    private Dungeon generate(final int theWidth, final int theHeight, final String theDifficulty) {
+        long start = System.nanoTime();
+        Dungeon dungeon = new Dungeon(theWidth, theHeight, theDifficulty, true);
+        myTotalGenerateNanos.addAndGet(System.nanoTime() - start);
+        myGenerated.incrementAndGet();
+        return dungeon;
+    }
+
+    private ArrayDeque<Dungeon> readyFor(final String theKey) {
+        return myReady.computeIfAbsent(theKey, theIgnored -> new ArrayDeque<>());
+    }
+
+    private static String key(final int theWidth, final int theHeight, final String theDifficulty) {
+        return theWidth + "x" + theHeight + ":" + theDifficulty;
+    }
+
+    private static void checkArguments(final int theWidth, final int theHeight, final String theDifficulty) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Dungeon dimensions must be positive.");
+        }
+        if (theDifficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null.");
+        }
+    }
+}
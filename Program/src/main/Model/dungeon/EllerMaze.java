@@ -0,0 +1,188 @@
+package main.Model.dungeon;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Eller's algorithm: the maze is carved one row at a time, keeping only which cells of
+ * the current row are already connected. Each row randomly joins neighbors in different
+ * sets, then sends at least one cell of every set down; the last row joins whatever is
+ * left. State is O(width), so RowCarver can also feed rows to a sink without a Maze.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class EllerMaze implements MazeGenerator {
+
+    @Override
+    public String getName() {
+        return "eller";
+    }
+
+    @Override
+    public void generate(final Maze theMaze, final SplittableRandom theRandom) {
+        int width = theMaze.getWidth();
+        RowCarver rows = new RowCarver(width, theRandom);
+        byte[] doors = new byte[width];
+        for (int y = 0; y < theMaze.getHeight(); y++) {
+            rows.next(y == theMaze.getHeight() - 1, doors);
+            for (int x = 0; x < width; x++) {
+                theMaze.setDoors(theMaze.cell(x, y), doors[x]);
+            }
+        }
+    }
+
+    /**
+     * Carves a maze without holding it, handing each row to a sink as soon as it is
+     * done. Memory stays O(width) however tall the maze is, and the rows are the same
+     * ones generate would carve into a Maze from the same generator.
+     *
+     * @param theWidth cells per row
+     * @param theHeight rows
+     * @param theRandom generator for the joins
+     * @param theSink receives rows 0 to height - 1 in order
+     * @throws IOException if the sink fails; the rows already written stay written
+     */
+    public static void stream(final int theWidth, final int theHeight, final SplittableRandom theRandom,
+                              final MazeRowSink theSink) throws IOException {
+        if (theHeight <= 0) {
+            throw new IllegalArgumentException("Maze height must be positive.");
+        }
+        if (theSink == null) {
+            throw new IllegalArgumentException("Row sink cannot be null.");
+        }
+        RowCarver rows = new RowCarver(theWidth, theRandom);
+        byte[] doors = new byte[theWidth];
+        for (int y = 0; y < theHeight; y++) {
+            rows.next(y == theHeight - 1, doors);
+            theSink.writeRow(y, doors);
+        }
+    }
+
+    /**
+     * Produces the door masks of one row after another. Sets are labelled per row:
+     * a cell that came down from the row above carries its set's root column, a fresh
+     * cell its own label width + column, so labels stay below 2 * width forever.
+     */
+    public static final class RowCarver {
+        private final int myWidth;
+        private final SplittableRandom myRandom;
+        private final int[] myLabels;
+        private final int[] myParent;
+        private final int[] myFirstColumn;
+        private final int[] mySetSize;
+        private final int[] myForcedDown;
+        private final boolean[] myHasDown;
+        private final boolean[] myDown;
+
+        /**
+         * Starts at the top row.
+         *
+         * @param theWidth cells per row
+         * @param theRandom generator for the joins
+         */
+        public RowCarver(final int theWidth, final SplittableRandom theRandom) {
+            if (theWidth <= 0) {
+                throw new IllegalArgumentException("Row width must be positive.");
+            }
+            this.myWidth = theWidth;
+            this.myRandom = theRandom;
+            this.myLabels = new int[theWidth];
+            this.myParent = new int[theWidth];
+            this.myFirstColumn = new int[2 * theWidth];
+            this.mySetSize = new int[theWidth];
+            this.myForcedDown = new int[theWidth];
+            this.myHasDown = new boolean[theWidth];
+            this.myDown = new boolean[theWidth];
+            for (int x = 0; x < theWidth; x++) {
+                myLabels[x] = theWidth + x;
+            }
+            Arrays.fill(myFirstColumn, -1);
+        }
+
+        public int getWidth() {
+            return myWidth;
+        }
+
+        /**
+         * Carves the next row.
+         *
+         * @param theLast true for the bottom row, which closes the maze
+         * @param theDoors receives each cell's Maze door bits, at least width long
+         */
+        public void next(final boolean theLast, final byte[] theDoors) {
+            // Cells sharing a label are connected through the rows above
+            for (int x = 0; x < myWidth; x++) {
+                myParent[x] = x;
+                int first = myFirstColumn[myLabels[x]];
+                if (first < 0) {
+                    myFirstColumn[myLabels[x]] = x;
+                } else {
+                    myParent[x] = find(first);
+                }
+            }
+            for (int x = 0; x < myWidth; x++) {
+                myFirstColumn[myLabels[x]] = -1;
+                // Cells that came down from the row above have a door north
+                theDoors[x] = (byte) (myDown[x] ? Maze.NORTH : 0);
+            }
+
+            // Join neighbors in different sets, all of them on the last row
+            for (int x = 0; x < myWidth - 1; x++) {
+                int left = find(x);
+                int right = find(x + 1);
+                if (left != right && (theLast || myRandom.nextBoolean())) {
+                    myParent[right] = left;
+                    theDoors[x] |= Maze.EAST;
+                    theDoors[x + 1] |= Maze.WEST;
+                }
+            }
+            if (theLast) {
+                return;
+            }
+
+            // Send cells down at random, then make sure every set has a way down
+            for (int x = 0; x < myWidth; x++) {
+                mySetSize[x] = 0;
+                myHasDown[x] = false;
+                myForcedDown[x] = -1;
+            }
+            for (int x = 0; x < myWidth; x++) {
+                int root = find(x);
+                mySetSize[root]++;
+                myDown[x] = myRandom.nextBoolean();
+                myHasDown[root] |= myDown[x];
+            }
+            for (int x = 0; x < myWidth; x++) {
+                int root = find(x);
+                if (!myHasDown[root] && myForcedDown[root] < 0) {
+                    myForcedDown[root] = myRandom.nextInt(mySetSize[root]);
+                }
+            }
+            for (int x = 0; x < myWidth; x++) {
+                int root = find(x);
+                if (!myHasDown[root] && myForcedDown[root]-- == 0) {
+                    myDown[x] = true;
+                }
+                if (myDown[x]) {
+                    theDoors[x] |= Maze.SOUTH;
+                    myLabels[x] = root;
+                } else {
+                    myLabels[x] = myWidth + x;
+                }
+            }
+        }
+
+        private int find(final int theColumn) {
+            int column = theColumn;
+            while (myParent[column] != column) {
+                myParent[column] = myParent[myParent[column]];
+                column = myParent[column];
+            }
+            return column;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package main.Model.dungeon;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Which rooms of a fixed dungeon have been explored, one bit per room in a long[],
+ * row by row, bit y * width + x. A row span of rooms is a run of bits, so revealing
+ * a rectangle, a disc or the whole map sets up to 64 rooms per word operation, and the
+ * explored count is kept up to date with popcounts of the bits each operation turned on.
+ * Reveals can report every room they newly explored, which is how the dungeon marks
+ * those rooms for the next save. Not thread safe.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class ExplorationMask {
+    private final int myWidth;
+    private final int myHeight;
+    private final long[] myWords;
+    private int myExploredCount;
+
+    /**
+     * Creates a mask with no room explored.
+     *
+     * @param theWidth rooms per row
+     * @param theHeight rows
+     */
+    public ExplorationMask(final int theWidth, final int theHeight) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Exploration mask dimensions must be positive.");
+        }
+        if ((long) theWidth * theHeight > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Exploration mask is limited to " + Integer.MAX_VALUE + " rooms.");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myWords = new long[(theWidth * theHeight + 63) >>> 6];
+    }
+
+    public int getWidth() {
+        return myWidth;
+    }
+
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Checks a room.
+     *
+     * @param theX room column
+     * @param theY room row
+     * @return true if the room is inside and explored
+     */
+    public boolean isExplored(final int theX, final int theY) {
+        return theX >= 0 && theX < myWidth && theY >= 0 && theY < myHeight && isExplored(theY * myWidth + theX);
+    }
+
+    boolean isExplored(final int theCell) {
+        return (myWords[theCell >>> 6] & (1L << theCell)) != 0;
+    }
+
+    /**
+     * Marks one room explored or unexplored.
+     *
+     * @param theCell y * width + x
+     * @param theExplored true to explore the room
+     * @return true if the room changed
+     */
+    boolean set(final int theCell, final boolean theExplored) {
+        long bit = 1L << theCell;
+        long word = myWords[theCell >>> 6];
+        if (((word & bit) != 0) == theExplored) {
+            return false;
+        }
+        myWords[theCell >>> 6] = word ^ bit;
+        myExploredCount += theExplored ? 1 : -1;
+        return true;
+    }
+
+    /**
+     * Explores a rectangle of rooms, clipped to the mask.
+     *
+     * @param theLeft first column
+     * @param theTop first row
+     * @param theRight last column, inclusive
+     * @param theBottom last row, inclusive
+     * @param theNewlyExplored told the y * width + x of each room this explores, or null
+     * @return rooms newly explored
+     */
+    public int revealRect(final int theLeft, final int theTop, final int theRight, final int theBottom,
+                          final IntConsumer theNewlyExplored) {
+        int left = Math.max(0, theLeft);
+        int right = Math.min(myWidth - 1, theRight);
+        int top = Math.max(0, theTop);
+        int bottom = Math.min(myHeight - 1, theBottom);
+        if (left > right || top > bottom) {
+            return 0;
+        }
+        if (left == 0 && right == myWidth - 1) {
+            // Whole rows follow on from each other, so they are one run of bits
+            return setRange(top * myWidth, bottom * myWidth + right, theNewlyExplored);
+        }
+        int added = 0;
+        for (int y = top; y <= bottom; y++) {
+            added += setRange(y * myWidth + left, y * myWidth + right, theNewlyExplored);
+        }
+        return added;
+    }
+
+    /**
+     * Explores every room within a straight line distance of a center, walls or not,
+     * one run of bits per row of the disc.
+     *
+     * @param theCenterX center column, may be outside the mask
+     * @param theCenterY center row, may be outside the mask
+     * @param theRadius distance in rooms, at least 0
+     * @param theNewlyExplored told the y * width + x of each room this explores, or null
+     * @return rooms newly explored
+     */
+    public int revealRadius(final int theCenterX, final int theCenterY, final int theRadius,
+                            final IntConsumer theNewlyExplored) {
+        if (theRadius < 0) {
+            throw new IllegalArgumentException("Reveal radius cannot be negative.");
+        }
+        long radiusSquared = (long) theRadius * theRadius;
+        int top = (int) Math.max(0, (long) theCenterY - theRadius);
+        int bottom = (int) Math.min(myHeight - 1, (long) theCenterY + theRadius);
+        int added = 0;
+        for (int y = top; y <= bottom; y++) {
+            long dy = (long) y - theCenterY;
+            int half = (int) Math.sqrt((double) (radiusSquared - dy * dy));
+            int left = (int) Math.max(0, (long) theCenterX - half);
+            int right = (int) Math.min(myWidth - 1, (long) theCenterX + half);
+            if (left <= right) {
+                added += setRange(y * myWidth + left, y * myWidth + right, theNewlyExplored);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Explores every room.
+     *
+     * @param theNewlyExplored told the y * width + x of each room this explores, or null
+     * @return rooms newly explored
+     */
+    public int revealAll(final IntConsumer theNewlyExplored) {
+        return setRange(0, myWidth * myHeight - 1, theNewlyExplored);
+    }
+
+    /**
+     * Marks every room unexplored.
+     */
+    public void clear() {
+        Arrays.fill(myWords, 0L);
+        myExploredCount = 0;
+    }
+
+    /**
+     * Gets how many rooms are explored, without counting them again.
+     *
+     * @return explored rooms
+     */
+    public int getExploredCount() {
+        return myExploredCount;
+    }
+
+    /**
+     * Gets the share of rooms explored.
+     *
+     * @return 0 to 1
+     */
+    public double getExploredFraction() {
+        return (double) myExploredCount / ((long) myWidth * myHeight);
+    }
+
+    /**
+     * Finds the next explored room, skipping whole words of unexplored ones.
+     *
+     * @param theFromCell y * width + x to start at
+     * @return the y * width + x of the first explored room at or after it, or -1
+     */
+    public int nextExplored(final int theFromCell) {
+        int cells = myWidth * myHeight;
+        if (theFromCell < 0 || theFromCell >= cells) {
+            return -1;
+        }
+        int word = theFromCell >>> 6;
+        long bits = myWords[word] & (-1L << theFromCell);
+        while (bits == 0) {
+            if (++word == myWords.length) {
+                return -1;
+            }
+            bits = myWords[word];
+        }
+        int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+        return cell < cells ? cell : -1;
+    }
+
+    /**
+     * Sets the bits of a run of rooms, a word at a time.
+     */
+    private int setRange(final int theFrom, final int theTo, final IntConsumer theNewlyExplored) {
+        int first = theFrom >>> 6;
+        int last = theTo >>> 6;
+        int added = 0;
+        for (int word = first; word <= last; word++) {
+            long changed = rangeMask(word, first, last, theFrom, theTo) & ~myWords[word];
+            if (changed == 0) {
+                continue;
+            }
+            myWords[word] |= changed;
+            added += Long.bitCount(changed);
+            if (theNewlyExplored != null) {
+                for (long bits = changed; bits != 0; bits &= bits - 1) {
+                    theNewlyExplored.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+                }
+            }
+        }
+        myExploredCount += added;
+        return added;
+    }
+
+    /**
+     * Gets the bits of a word that fall inside a run of cells.
+     */
+    private static long rangeMask(final int theWord, final int theFirst, final int theLast,
+                                  final int theFrom, final int theTo) {
+        long mask = -1L;
+        if (theWord == theFirst) {
+            mask &= -1L << theFrom;
+        }
+        if (theWord == theLast) {
+            mask &= -1L >>> (63 - (theTo & 63));
+        }
+        return mask;
+    }
+}
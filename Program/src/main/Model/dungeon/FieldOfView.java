@@ -0,0 +1,179 @@
+package main.Model.dungeon;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Finds the rooms visible from a room by recursive shadowcasting. Walls between rooms
+ * are thin, so the rooms are laid on a lattice twice as fine plus one: a room at (x, y)
+ * sits on tile (2x + 1, 2y + 1), the tiles between two rooms are the wall between them,
+ * open where there is a door, and the tile where walls meet is a solid post unless all
+ * four walls around it are open, as in a hall with every door open. Each of
+ * the eight octants around the viewer is scanned row by row outwards, and every solid
+ * tile narrows the slopes still in view, recursing into the part of the row beyond it.
+ * Work grows with the square of the radius and not with the size of the dungeon.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class FieldOfView {
+    // Octant transforms: tile = origin + column * (xx, yx) + row * (xy, yy)
+    private static final int[][] OCTANTS = {
+            {1, 0, 0, -1}, {0, 1, -1, 0}, {0, -1, -1, 0}, {-1, 0, 0, -1},
+            {-1, 0, 0, 1}, {0, -1, 1, 0}, {0, 1, 1, 0}, {1, 0, 0, 1}
+    };
+
+    private final int myWidth;
+    private final int myHeight;
+    private final IntUnaryOperator myDoors;
+    private final int myTilesX;
+    private final int myTilesY;
+    // Scan in progress
+    private int myOriginX;
+    private int myOriginY;
+    private int myRadius;
+    private IntConsumer myVisible;
+
+    /**
+     * Creates a field of view over a dungeon's doors.
+     *
+     * @param theWidth rooms per row
+     * @param theHeight rows
+     * @param theDoors gives the Maze door bits of the room at y * width + x
+     */
+    FieldOfView(final int theWidth, final int theHeight, final IntUnaryOperator theDoors) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Field of view dimensions must be positive.");
+        }
+        if (theDoors == null) {
+            throw new IllegalArgumentException("Door lookup cannot be null.");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myDoors = theDoors;
+        this.myTilesX = 2 * theWidth + 1;
+        this.myTilesY = 2 * theHeight + 1;
+    }
+
+    /**
+     * Reports every room within a radius that a line from the center of a room reaches
+     * through doors, the room itself included.
+     *
+     * @param theX viewer's column, inside the dungeon
+     * @param theY viewer's row, inside the dungeon
+     * @param theRadius distance in rooms, at least 0
+     * @param theVisible told the y * width + x of each visible room; a room may be told more than once
+     */
+    void cast(final int theX, final int theY, final int theRadius, final IntConsumer theVisible) {
+        if (theX < 0 || theX >= myWidth || theY < 0 || theY >= myHeight) {
+            throw new IllegalArgumentException("Viewer (" + theX + ", " + theY + ") is outside the dungeon.");
+        }
+        if (theRadius < 0) {
+            throw new IllegalArgumentException("Vision radius cannot be negative.");
+        }
+        myOriginX = 2 * theX + 1;
+        myOriginY = 2 * theY + 1;
+        // Neighbors are two tiles apart; a big radius is cut to what the lattice can hold
+        myRadius = (int) Math.min(2L * theRadius, Math.max(myTilesX, myTilesY));
+        myVisible = theVisible;
+        theVisible.accept(theY * myWidth + theX);
+        for (int[] octant : OCTANTS) {
+            castRows(1, 1.0, 0.0, octant[0], octant[1], octant[2], octant[3]);
+        }
+        myVisible = null;
+    }
+
+    /**
+     * Scans the rows of an octant from theRow on, between two slopes.
+     */
+    private void castRows(final int theRow, final double theStart, final double theEnd,
+                          final int theXx, final int theXy, final int theYx, final int theYy) {
+        if (theStart < theEnd) {
+            return;
+        }
+        double start = theStart;
+        double newStart = 0.0;
+        long radiusSquared = (long) myRadius * myRadius;
+        for (int row = theRow; row <= myRadius; row++) {
+            boolean blocked = false;
+            for (int dx = -row; dx <= 0; dx++) {
+                int dy = -row;
+                int tileX = myOriginX + dx * theXx + dy * theXy;
+                int tileY = myOriginY + dx * theYx + dy * theYy;
+                double leftSlope = (dx - 0.5) / (dy + 0.5);
+                double rightSlope = (dx + 0.5) / (dy - 0.5);
+                if (start < rightSlope) {
+                    continue;
+                }
+                if (theEnd > leftSlope) {
+                    break;
+                }
+                if ((long) dx * dx + (long) dy * dy <= radiusSquared) {
+                    light(tileX, tileY);
+                }
+                boolean solid = isSolid(tileX, tileY);
+                if (blocked) {
+                    if (solid) {
+                        newStart = rightSlope;
+                    } else {
+                        blocked = false;
+                        start = newStart;
+                    }
+                } else if (solid && row < myRadius) {
+                    blocked = true;
+                    castRows(row + 1, start, leftSlope, theXx, theXy, theYx, theYy);
+                    newStart = rightSlope;
+                }
+            }
+            if (blocked) {
+                break;
+            }
+        }
+    }
+
+    private void light(final int theTileX, final int theTileY) {
+        if ((theTileX & 1) == 1 && (theTileY & 1) == 1 && theTileX < myTilesX && theTileY < myTilesY
+                && theTileX > 0 && theTileY > 0) {
+            myVisible.accept((theTileY >> 1) * myWidth + (theTileX >> 1));
+        }
+    }
+
+    /**
+     * Checks whether a lattice tile blocks sight: anything outside, every wall without a
+     * door, and every post where such a wall meets others.
+     */
+    private boolean isSolid(final int theTileX, final int theTileY) {
+        if (theTileX <= 0 || theTileY <= 0 || theTileX >= myTilesX - 1 || theTileY >= myTilesY - 1) {
+            return true;
+        }
+        boolean oddX = (theTileX & 1) == 1;
+        boolean oddY = (theTileY & 1) == 1;
+        if (oddX && oddY) {
+            return false;
+        }
+        if (!oddX && !oddY) {
+            return isWallSolid(theTileX - 1, theTileY) || isWallSolid(theTileX + 1, theTileY)
+                    || isWallSolid(theTileX, theTileY - 1) || isWallSolid(theTileX, theTileY + 1);
+        }
+        return isWallSolid(theTileX, theTileY);
+    }
+
+    /**
+     * Checks whether the wall at a lattice tile between two rooms has no door.
+     */
+    private boolean isWallSolid(final int theTileX, final int theTileY) {
+        if (theTileX <= 0 || theTileY <= 0 || theTileX >= myTilesX - 1 || theTileY >= myTilesY - 1) {
+            return true;
+        }
+        if ((theTileY & 1) == 1) {
+            // Wall between the room to its west and the room to its east
+            int cell = (theTileY >> 1) * myWidth + (theTileX >> 1) - 1;
+            return (myDoors.applyAsInt(cell) & Maze.EAST) == 0;
+        }
+        // Wall between the room to its north and the room to its south
+        int cell = ((theTileY >> 1) - 1) * myWidth + (theTileX >> 1);
+        return (myDoors.applyAsInt(cell) & Maze.SOUTH) == 0;
+    }
+}
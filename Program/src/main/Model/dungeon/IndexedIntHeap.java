@@ -0,0 +1,129 @@
+package main.Model.dungeon;
+
+/**
+ * Binary min-heap of int ids with int keys, for searches over packed cells.
+ * Each id remembers its slot in the heap, so a key can be lowered in place instead of
+ * pushing a duplicate, and nothing is boxed. Slots are stored one higher than their
+ * index, so the zero-filled array already means "not in the heap".
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class IndexedIntHeap {
+    private final int[] myHeap;
+    private final int[] mySlots;
+    private final int[] myKeys;
+    private int mySize;
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param theCapacity ids run from 0 to theCapacity - 1
+     */
+    IndexedIntHeap(final int theCapacity) {
+        this.myHeap = new int[theCapacity];
+        this.mySlots = new int[theCapacity];
+        this.myKeys = new int[theCapacity];
+    }
+
+    boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    boolean contains(final int theId) {
+        return mySlots[theId] != 0;
+    }
+
+    /**
+     * Adds an id, or lowers its key if it is already in the heap with a higher one.
+     *
+     * @param theId id to add
+     * @param theKey its key
+     */
+    void offer(final int theId, final int theKey) {
+        int slot = mySlots[theId] - 1;
+        if (slot >= 0) {
+            if (theKey < myKeys[theId]) {
+                myKeys[theId] = theKey;
+                siftUp(slot);
+            }
+            return;
+        }
+        myKeys[theId] = theKey;
+        myHeap[mySize] = theId;
+        mySlots[theId] = mySize + 1;
+        siftUp(mySize++);
+    }
+
+    /**
+     * Removes the id with the smallest key.
+     *
+     * @return the id
+     */
+    int poll() {
+        int top = myHeap[0];
+        mySlots[top] = 0;
+        mySize--;
+        if (mySize > 0) {
+            int last = myHeap[mySize];
+            myHeap[0] = last;
+            mySlots[last] = 1;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Empties the heap in time proportional to what is left in it.
+     */
+    void clear() {
+        for (int i = 0; i < mySize; i++) {
+            mySlots[myHeap[i]] = 0;
+        }
+        mySize = 0;
+    }
+
+    private void siftUp(final int theSlot) {
+        int slot = theSlot;
+        int id = myHeap[slot];
+        int key = myKeys[id];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            int parentId = myHeap[parent];
+            if (myKeys[parentId] <= key) {
+                break;
+            }
+            myHeap[slot] = parentId;
+            mySlots[parentId] = slot + 1;
+            slot = parent;
+        }
+        myHeap[slot] = id;
+        mySlots[id] = slot + 1;
+    }
+
+    private void siftDown(final int theSlot) {
+        int slot = theSlot;
+        int id = myHeap[slot];
+        int key = myKeys[id];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= mySize) {
+                break;
+            }
+            if (child + 1 < mySize && myKeys[myHeap[child + 1]] < myKeys[myHeap[child]]) {
+                child++;
+            }
+            int childId = myHeap[child];
+            if (myKeys[childId] >= key) {
+                break;
+            }
+            myHeap[slot] = childId;
+            mySlots[childId] = slot + 1;
+            slot = child;
+        }
+        myHeap[slot] = id;
+        mySlots[id] = slot + 1;
+    }
+}
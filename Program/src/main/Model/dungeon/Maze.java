@@ -0,0 +1,156 @@
+package main.Model.dungeon;
+
+/**
+ * Door layout of a width x height grid, kept apart from the Room objects so
+ * generators can carve very large mazes cheaply. Cells are packed int indices,
+ * y * width + x, and each cell's doors are a nibble in one byte using the
+ * same bits as the binary save format.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class Maze {
+    /** Door towards y - 1. */
+    public static final int NORTH = 0x01;
+
+    /** Door towards x + 1. */
+    public static final int EAST = 0x02;
+
+    /** Door towards y + 1. */
+    public static final int SOUTH = 0x04;
+
+    /** Door towards x - 1. */
+    public static final int WEST = 0x08;
+
+    private final int myWidth;
+    private final int myHeight;
+    private final byte[] myDoors;
+
+    /**
+     * Creates a maze with every wall up.
+     *
+     * @param theWidth cells per row
+     * @param theHeight rows
+     */
+    public Maze(final int theWidth, final int theHeight) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        if ((long) theWidth * theHeight > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Maze is too large: " + theWidth + "x" + theHeight);
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myDoors = new byte[theWidth * theHeight];
+    }
+
+    public int getWidth() {
+        return myWidth;
+    }
+
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the number of cells.
+     *
+     * @return width * height
+     */
+    public int getCellCount() {
+        return myDoors.length;
+    }
+
+    /**
+     * Gets the packed index of a cell.
+     *
+     * @param theX column
+     * @param theY row
+     * @return y * width + x
+     */
+    public int cell(final int theX, final int theY) {
+        return theY * myWidth + theX;
+    }
+
+    public int getX(final int theCell) {
+        return theCell % myWidth;
+    }
+
+    public int getY(final int theCell) {
+        return theCell / myWidth;
+    }
+
+    /**
+     * Gets a cell's open doors.
+     *
+     * @param theCell packed cell index
+     * @return NORTH, EAST, SOUTH and WEST bits
+     */
+    public int getDoors(final int theCell) {
+        return myDoors[theCell];
+    }
+
+    /**
+     * Replaces a cell's doors. Used by generators that produce whole rows of door
+     * masks; they are responsible for matching doors on the neighboring cells.
+     *
+     * @param theCell packed cell index
+     * @param theDoors NORTH, EAST, SOUTH and WEST bits
+     */
+    public void setDoors(final int theCell, final int theDoors) {
+        myDoors[theCell] = (byte) theDoors;
+    }
+
+    /**
+     * Opens the wall between two adjacent cells, on both sides.
+     *
+     * @param theCell packed cell index
+     * @param theNeighbor packed index of a cell next to it
+     */
+    public void carve(final int theCell, final int theNeighbor) {
+        int difference = theNeighbor - theCell;
+        if (difference == 1 && theNeighbor % myWidth != 0) {
+            myDoors[theCell] |= EAST;
+            myDoors[theNeighbor] |= WEST;
+        } else if (difference == -1 && theCell % myWidth != 0) {
+            myDoors[theCell] |= WEST;
+            myDoors[theNeighbor] |= EAST;
+        } else if (difference == myWidth) {
+            myDoors[theCell] |= SOUTH;
+            myDoors[theNeighbor] |= NORTH;
+        } else if (difference == -myWidth) {
+            myDoors[theCell] |= NORTH;
+            myDoors[theNeighbor] |= SOUTH;
+        } else {
+            throw new IllegalArgumentException("Cells " + theCell + " and " + theNeighbor + " are not adjacent.");
+        }
+    }
+
+    /**
+     * Writes the in-bounds neighbors of a cell into a buffer, in the order
+     * north, south, west, east that generation has always used.
+     *
+     * @param theCell packed cell index
+     * @param theBuffer at least four slots
+     * @return how many neighbors were written
+     */
+    public int neighbors(final int theCell, final int[] theBuffer) {
+        int x = theCell % myWidth;
+        int count = 0;
+        if (theCell >= myWidth) {
+            theBuffer[count++] = theCell - myWidth;
+        }
+        if (theCell < myDoors.length - myWidth) {
+            theBuffer[count++] = theCell + myWidth;
+        }
+        if (x > 0) {
+            theBuffer[count++] = theCell - 1;
+        }
+        if (x < myWidth - 1) {
+            theBuffer[count++] = theCell + 1;
+        }
+        return count;
+    }
+}
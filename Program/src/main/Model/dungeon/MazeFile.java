@@ -0,0 +1,225 @@
+package main.Model.dungeon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Door layout of a maze kept in a memory-mapped file instead of the heap, for maps
+ * too large to hold as Room objects. EllerMaze.stream writes it row by row and a world
+ * made with Dungeon.createWorld reads the cells of each chunk back as it loads; the
+ * operating system pages the file in and out, so the heap only ever holds the header
+ * and the window table.
+ *
+ * File: "DDM", version, width, height and the number of rows written, then the rows,
+ * two cells per byte with the even column in the low nibble. The row count is only
+ * written on close, so a file cut short by a crash reads as having no rows.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class MazeFile implements MazeRowSink, AutoCloseable {
+    private static final byte[] MAGIC = {'D', 'D', 'M'};
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_SIZE = 3 + 1 + 4 + 4 + 4;
+    private static final int ROWS_WRITTEN_OFFSET = 12;
+
+    /** Largest mapping; rows are mapped in windows of whole rows up to this size. */
+    private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+    private final FileChannel myChannel;
+    private final boolean myWritable;
+    private final int myWidth;
+    private final int myHeight;
+    private final int myRowBytes;
+    private final int myRowsPerWindow;
+    private final MappedByteBuffer[] myWindows;
+    private int myRowsWritten;
+
+    private MazeFile(final FileChannel theChannel, final boolean theWritable, final int theWidth,
+                     final int theHeight, final int theRowsWritten) {
+        this.myChannel = theChannel;
+        this.myWritable = theWritable;
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myRowBytes = (theWidth + 1) / 2;
+        this.myRowsPerWindow = (int) Math.max(1, Math.min(theHeight, WINDOW_BYTES / myRowBytes));
+        this.myWindows = new MappedByteBuffer[(theHeight + myRowsPerWindow - 1) / myRowsPerWindow];
+        this.myRowsWritten = theRowsWritten;
+    }
+
+    /**
+     * Creates or replaces a maze file to be filled with writeRow.
+     *
+     * @param thePath file to write
+     * @param theWidth cells per row
+     * @param theHeight rows
+     * @return the open file
+     * @throws IOException if the file cannot be created
+     */
+    public static MazeFile create(final Path thePath, final int theWidth, final int theHeight) throws IOException {
+        if (thePath == null) {
+            throw new IllegalArgumentException("Path cannot be null for MazeFile.");
+        }
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Maze dimensions must be positive.");
+        }
+        FileChannel channel = FileChannel.open(thePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.put(MAGIC).put((byte) FILE_VERSION).putInt(theWidth).putInt(theHeight).putInt(0).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new MazeFile(channel, true, theWidth, theHeight, 0);
+    }
+
+    /**
+     * Opens a maze file for reading.
+     *
+     * @param thePath file written by create
+     * @return the open file
+     * @throws IOException if the file cannot be read or is not a maze file
+     */
+    public static MazeFile open(final Path thePath) throws IOException {
+        FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Keep reading until the header is full or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.get() != MAGIC[0] || header.get() != MAGIC[1]
+                    || header.get() != MAGIC[2]) {
+                throw new IOException("Not a maze file: " + thePath);
+            }
+            int version = header.get();
+            if (version != FILE_VERSION) {
+                throw new IOException("Unsupported maze file version " + version + ": " + thePath);
+            }
+            int width = header.getInt();
+            int height = header.getInt();
+            int rowsWritten = header.getInt();
+            if (width <= 0 || height <= 0 || rowsWritten < 0 || rowsWritten > height
+                    || channel.size() < HEADER_SIZE + (long) rowsWritten * ((width + 1) / 2)) {
+                throw new IOException("Corrupt maze file header: " + thePath);
+            }
+            return new MazeFile(channel, false, width, height, rowsWritten);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getWidth() {
+        return myWidth;
+    }
+
+    public int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets how many rows from the top are stored.
+     *
+     * @return rows that can be read
+     */
+    public int getRowsWritten() {
+        return myRowsWritten;
+    }
+
+    /**
+     * Stores the next row. Rows must arrive in order, which EllerMaze.stream guarantees.
+     *
+     * @param theY row index, equal to the rows written so far
+     * @param theDoors each cell's Maze door bits
+     * @throws IOException if the row cannot be mapped
+     */
+    @Override
+    public void writeRow(final int theY, final byte[] theDoors) throws IOException {
+        if (!myWritable) {
+            throw new IllegalStateException("Maze file was opened for reading.");
+        }
+        if (theY != myRowsWritten || theY >= myHeight) {
+            throw new IllegalArgumentException("Expected row " + myRowsWritten + " but got " + theY);
+        }
+        int offset = (theY % myRowsPerWindow) * myRowBytes;
+        if (offset == 0 && theY > 0) {
+            // Rows are never revisited while writing, so flush the finished window and let it go
+            int previous = theY / myRowsPerWindow - 1;
+            myWindows[previous].force();
+            myWindows[previous] = null;
+        }
+        MappedByteBuffer window = window(theY);
+        for (int x = 0; x < myWidth; x += 2) {
+            int low = theDoors[x] & 0x0F;
+            int high = x + 1 < myWidth ? theDoors[x + 1] & 0x0F : 0;
+            window.put(offset + x / 2, (byte) (low | high << 4));
+        }
+        myRowsWritten++;
+    }
+
+    /**
+     * Reads one cell's doors.
+     *
+     * @param theX column
+     * @param theY row, below the rows written
+     * @return NORTH, EAST, SOUTH and WEST bits
+     * @throws IOException if the row cannot be mapped
+     */
+    public int getDoors(final int theX, final int theY) throws IOException {
+        if (theX < 0 || theX >= myWidth || theY < 0 || theY >= myRowsWritten) {
+            throw new IllegalArgumentException("Cell (" + theX + ", " + theY + ") is not stored.");
+        }
+        int packed = window(theY).get((theY % myRowsPerWindow) * myRowBytes + theX / 2);
+        return (theX & 1) == 0 ? packed & 0x0F : (packed >> 4) & 0x0F;
+    }
+
+    /**
+     * Records the rows written and flushes them when writing, then releases the file.
+     *
+     * @throws IOException if the file cannot be flushed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (myWritable && myChannel.isOpen()) {
+                for (MappedByteBuffer window : myWindows) {
+                    if (window != null) {
+                        window.force();
+                    }
+                }
+                ByteBuffer count = ByteBuffer.allocate(4).putInt(myRowsWritten).flip();
+                while (count.hasRemaining()) {
+                    myChannel.write(count, ROWS_WRITTEN_OFFSET + count.position());
+                }
+                myChannel.force(true);
+            }
+        } finally {
+            myChannel.close();
+        }
+    }
+
+    // Synchronized since a world reads its chunks from the game and prefetch threads
+    private synchronized MappedByteBuffer window(final int theY) throws IOException {
+        int index = theY / myRowsPerWindow;
+        if (myWindows[index] == null) {
+            int limit = myWritable ? myHeight : myRowsWritten;
+            int rows = Math.min(myRowsPerWindow, limit - index * myRowsPerWindow);
+            long position = HEADER_SIZE + (long) index * myRowsPerWindow * myRowBytes;
+            myWindows[index] = myChannel.map(myWritable ? FileChannel.MapMode.READ_WRITE
+                    : FileChannel.MapMode.READ_ONLY, position, (long) rows * myRowBytes);
+        }
+        return myWindows[index];
+    }
+}
@@ -0,0 +1,31 @@
+package main.Model.dungeon;
+
+import java.util.SplittableRandom;
+
+/**
+ * Algorithm that carves a perfect maze: every cell reachable from every other by
+ * exactly one path. Dungeon adds its loops afterwards. An implementation must draw
+ * only from the generator it is given, so a seed always carves the same maze.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public interface MazeGenerator {
+
+    /**
+     * Gets the name stored with seeded dungeons, see MazeGenerators.forName.
+     *
+     * @return algorithm name
+     */
+    String getName();
+
+    /**
+     * Carves a spanning tree over every cell.
+     *
+     * @param theMaze maze with every wall up
+     * @param theRandom maze phase stream of the dungeon seed
+     */
+    void generate(Maze theMaze, SplittableRandom theRandom);
+}
@@ -0,0 +1,55 @@
+package main.Model.dungeon;
+
+import java.util.List;
+
+/**
+ * The maze algorithms a dungeon can be generated with, looked up by the
+ * name stored with seeded saves.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class MazeGenerators {
+    /** Long corridors; the generator every dungeon used before the others existed. */
+    public static final MazeGenerator BACKTRACKER = new RecursiveBacktracker();
+
+    /** Many short branches. */
+    public static final MazeGenerator KRUSKAL = new KruskalMaze();
+
+    /** Unbiased: every maze equally likely. */
+    public static final MazeGenerator WILSON = new WilsonMaze();
+
+    /** Row at a time in O(width) memory. */
+    public static final MazeGenerator ELLER = new EllerMaze();
+
+    private static final List<MazeGenerator> ALL = List.of(BACKTRACKER, KRUSKAL, WILSON, ELLER);
+
+    private MazeGenerators() {
+    }
+
+    /**
+     * Gets every available algorithm.
+     *
+     * @return the algorithms, default first
+     */
+    public static List<MazeGenerator> getAll() {
+        return ALL;
+    }
+
+    /**
+     * Finds an algorithm by its getName().
+     *
+     * @param theName stored algorithm name
+     * @return the algorithm, or null if this build has none by that name
+     */
+    public static MazeGenerator forName(final String theName) {
+        for (MazeGenerator generator : ALL) {
+            if (generator.getName().equals(theName)) {
+                return generator;
+            }
+        }
+        return null;
+    }
+}
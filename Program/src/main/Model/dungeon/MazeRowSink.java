@@ -0,0 +1,24 @@
+package main.Model.dungeon;
+
+import java.io.IOException;
+
+/**
+ * Receives the rows of a streamed maze, top to bottom, as EllerMaze.stream finishes
+ * them. A row is final when it arrives, so a sink can write it out and forget it.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public interface MazeRowSink {
+
+    /**
+     * Takes one finished row.
+     *
+     * @param theY row index, starting at 0 and increasing by one each call
+     * @param theDoors each cell's Maze door bits; reused for the next row, so copy what is kept
+     * @throws IOException if the row cannot be stored
+     */
+    void writeRow(int theY, byte[] theDoors) throws IOException;
+}
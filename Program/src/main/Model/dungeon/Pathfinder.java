@@ -0,0 +1,619 @@
+package main.Model.dungeon;
+
+import main.Model.util.Point;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Finds routes between rooms through the doors of a maze. findPath runs A* over packed
+ * cells with an IndexedIntHeap as the open set and the Manhattan distance as the
+ * estimate, so its routes are shortest. findPathHierarchical runs HPA*: the maze is cut
+ * into square clusters, every room with a door out of its cluster is an entrance, and the
+ * distances between the entrances of each cluster are measured once, keeping only the
+ * walks that do not pass through another entrance. A query then searches only that
+ * graph of entrances and fills in each leg inside one cluster, which is faster on large
+ * dungeons, at the price of routes that may be a little longer than the shortest.
+ * Changing doors with setDoors only marks their cluster to be measured again on the next
+ * hierarchical query.
+ * Doors are assumed to open both ways, as generated dungeons have them.
+ * Not thread safe; searches share their working arrays.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class Pathfinder {
+    /** Rooms along each side of a cluster by default. */
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final int[] DOORS = {Maze.NORTH, Maze.EAST, Maze.SOUTH, Maze.WEST};
+
+    private final Maze myMaze;
+    private final int myWidth;
+    private final int myHeight;
+    private final int myClusterSize;
+    private final int myClustersX;
+
+    // Searches over every cell and over the entrances, made on first use
+    private SearchState myCellSearch;
+    private SearchState myNodeSearch;
+    private int myLastExpanded;
+
+    // Abstract graph: each cluster's entrance cells, and for each entrance the pairs
+    // (index of another entrance, distance to it) left after dropping edges that pass through a third
+    private final int[][] myClusterNodes;
+    // Numbers reserved for each cluster's entrances, enough for every room on its edge
+    private final int myNodeSlots;
+    private final int[][][] myClusterEdges;
+    // Position of an entrance in its cluster's lists, -1 for other cells; made on the first hierarchical query
+    private int[] myNodeIndex;
+    private final BitSet myDirtyClusters;
+    private int myNodeCount;
+    private long myClusterBuilds;
+
+    // Breadth-first search inside one cluster, indexed by position in the cluster
+    private final int[] myLocalDistances;
+    private final int[] myLocalQueue;
+
+    /**
+     * Creates a pathfinder over a maze. The pathfinder reads the maze on every search,
+     * so change its doors through setDoors.
+     *
+     * @param theMaze doors to route through
+     * @param theClusterSize rooms along each side of a cluster for hierarchical searches
+     */
+    public Pathfinder(final Maze theMaze, final int theClusterSize) {
+        if (theMaze == null) {
+            throw new IllegalArgumentException("Maze cannot be null.");
+        }
+        if (theClusterSize < 2) {
+            throw new IllegalArgumentException("Clusters must be at least 2 rooms wide.");
+        }
+        this.myMaze = theMaze;
+        this.myWidth = theMaze.getWidth();
+        this.myHeight = theMaze.getHeight();
+        this.myClusterSize = theClusterSize;
+        this.myClustersX = (myWidth + theClusterSize - 1) / theClusterSize;
+        int clusters = myClustersX * ((myHeight + theClusterSize - 1) / theClusterSize);
+        this.myClusterNodes = new int[clusters][];
+        this.myNodeSlots = 4 * theClusterSize;
+        this.myClusterEdges = new int[clusters][][];
+        this.myDirtyClusters = new BitSet(clusters);
+        this.myDirtyClusters.set(0, clusters);
+        this.myLocalDistances = new int[theClusterSize * theClusterSize];
+        this.myLocalQueue = new int[theClusterSize * theClusterSize];
+    }
+
+    /**
+     * Finds a shortest route with A*.
+     *
+     * @param theFrom starting room
+     * @param theTo destination room
+     * @return the rooms along the route, both ends included, or an empty list if no doors lead there
+     */
+    public List<Point> findPath(final Point theFrom, final Point theTo) {
+        int from = cellOf(theFrom);
+        int to = cellOf(theTo);
+        return toPoints(search(from, to, 0, 0, myWidth - 1, myHeight - 1));
+    }
+
+    /**
+     * Finds a route with HPA*, measuring any clusters whose doors changed first.
+     *
+     * @param theFrom starting room
+     * @param theTo destination room
+     * @return the rooms along the route, both ends included, or an empty list if no doors lead there
+     */
+    public List<Point> findPathHierarchical(final Point theFrom, final Point theTo) {
+        int from = cellOf(theFrom);
+        int to = cellOf(theTo);
+        if (from == to) {
+            return toPoints(new int[] {from});
+        }
+        buildAbstractGraph();
+        int fromCluster = clusterOf(from);
+        int toCluster = clusterOf(to);
+        if (fromCluster == toCluster) {
+            int[] local = searchInCluster(from, to);
+            if (local != null) {
+                return toPoints(local);
+            }
+        }
+
+        int[] fromDistances = distancesToNodes(from, fromCluster);
+        int[] toDistances = distancesToNodes(to, toCluster);
+        int[] route = searchAbstract(from, to, fromDistances, toDistances);
+        if (route == null) {
+            return List.of();
+        }
+        int expanded = myLastExpanded;
+
+        // Fill in every leg: a step through a door between clusters, or a walk inside one
+        int[] path = new int[16];
+        int length = 0;
+        path[length++] = route[0];
+        for (int i = 1; i < route.length; i++) {
+            int[] leg = clusterOf(route[i - 1]) == clusterOf(route[i])
+                    ? searchInCluster(route[i - 1], route[i]) : new int[] {route[i - 1], route[i]};
+            if (length + leg.length > path.length) {
+                path = Arrays.copyOf(path, Math.max(path.length * 2, length + leg.length));
+            }
+            System.arraycopy(leg, 1, path, length, leg.length - 1);
+            length += leg.length - 1;
+        }
+        myLastExpanded = expanded;
+        return toPoints(Arrays.copyOf(path, length));
+    }
+
+    /**
+     * Finds the closest room, counting moves through doors, that satisfies a test.
+     *
+     * @param theFrom starting room
+     * @param theTarget test for the wanted room, given its position
+     * @return the rooms along the route, both ends included, or an empty list if no such room is reachable
+     */
+    public List<Point> findPathToNearest(final Point theFrom, final Predicate<Point> theTarget) {
+        if (theTarget == null) {
+            throw new IllegalArgumentException("Target test cannot be null.");
+        }
+        int from = cellOf(theFrom);
+        startSearch(from, 0);
+        while (!myCellSearch.myOpen.isEmpty()) {
+            int cell = myCellSearch.myOpen.poll();
+            myLastExpanded++;
+            if (theTarget.test(Point.of(myMaze.getX(cell), myMaze.getY(cell)))) {
+                myCellSearch.myOpen.clear();
+                return toPoints(myCellSearch.trace(cell));
+            }
+            int cost = myCellSearch.myCosts[cell] + 1;
+            int doors = myMaze.getDoors(cell);
+            for (int door : DOORS) {
+                if ((doors & door) != 0) {
+                    int next = neighbor(cell, door);
+                    if (next >= 0) {
+                        relax(next, cell, cost, cost);
+                    }
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Replaces a room's doors and marks its cluster to be measured again.
+     * Set the doors on both sides of a wall to keep them matching.
+     *
+     * @param theX room column
+     * @param theY room row
+     * @param theDoors Maze.NORTH, EAST, SOUTH and WEST bits
+     */
+    public void setDoors(final int theX, final int theY, final int theDoors) {
+        int cell = cellOf(theX, theY);
+        if (myMaze.getDoors(cell) != theDoors) {
+            myMaze.setDoors(cell, theDoors);
+            myDirtyClusters.set(clusterOf(cell));
+        }
+    }
+
+    /**
+     * Gets the number of rooms the last search took off its open set.
+     *
+     * @return rooms expanded, or for a hierarchical search the entrances expanded
+     */
+    public int getLastExpandedCount() {
+        return myLastExpanded;
+    }
+
+    /**
+     * Gets the number of cluster entrances, as of the last hierarchical query.
+     *
+     * @return entrance count
+     */
+    public int getAbstractNodeCount() {
+        return myNodeCount;
+    }
+
+    /**
+     * Gets how many times a cluster has been measured, counting the first build.
+     *
+     * @return cluster builds
+     */
+    public long getClusterBuildCount() {
+        return myClusterBuilds;
+    }
+
+    public int getClusterSize() {
+        return myClusterSize;
+    }
+
+    /**
+     * A* between two cells, staying inside a rectangle.
+     *
+     * @return the cells along the route, or null if there is none inside the rectangle
+     */
+    private int[] search(final int theFrom, final int theTo, final int theMinX, final int theMinY,
+                         final int theMaxX, final int theMaxY) {
+        startSearch(theFrom, estimate(theFrom, theTo));
+        while (!myCellSearch.myOpen.isEmpty()) {
+            int cell = myCellSearch.myOpen.poll();
+            myLastExpanded++;
+            if (cell == theTo) {
+                myCellSearch.myOpen.clear();
+                return myCellSearch.trace(cell);
+            }
+            int cost = myCellSearch.myCosts[cell] + 1;
+            int doors = myMaze.getDoors(cell);
+            for (int door : DOORS) {
+                if ((doors & door) == 0) {
+                    continue;
+                }
+                int next = neighbor(cell, door);
+                if (next < 0) {
+                    continue;
+                }
+                int x = myMaze.getX(next);
+                int y = myMaze.getY(next);
+                if (x >= theMinX && x <= theMaxX && y >= theMinY && y <= theMaxY) {
+                    relax(next, cell, cost, cost + estimate(next, theTo));
+                }
+            }
+        }
+        return null;
+    }
+
+    private int[] searchInCluster(final int theFrom, final int theTo) {
+        int cluster = clusterOf(theFrom);
+        int minX = cluster % myClustersX * myClusterSize;
+        int minY = cluster / myClustersX * myClusterSize;
+        return search(theFrom, theTo, minX, minY, Math.min(minX + myClusterSize, myWidth) - 1,
+                Math.min(minY + myClusterSize, myHeight) - 1);
+    }
+
+    /**
+     * A* over the entrances, from a start cell to a goal cell that need not be entrances.
+     * Entrances are numbered cluster by cluster, so the working arrays stay small and a
+     * cluster's entrances sit next to each other in them; the start and goal get the two
+     * numbers after the last entrance.
+     *
+     * @return the start, the entrances passed and the goal, or null if the goal is out of reach
+     */
+    private int[] searchAbstract(final int theFrom, final int theTo, final int[] theFromDistances,
+                                 final int[] theToDistances) {
+        int start = myClusterNodes.length * myNodeSlots;
+        int goal = start + 1;
+        if (myNodeSearch == null) {
+            myNodeSearch = new SearchState(goal + 1);
+        }
+        SearchState search = myNodeSearch;
+        int toCluster = clusterOf(theTo);
+        search.start(start, estimate(theFrom, theTo));
+        myLastExpanded = 0;
+        while (!search.myOpen.isEmpty()) {
+            int node = search.myOpen.poll();
+            myLastExpanded++;
+            if (node == goal) {
+                search.myOpen.clear();
+                int[] route = search.trace(node);
+                for (int i = 0; i < route.length; i++) {
+                    route[i] = route[i] == start ? theFrom : route[i] == goal ? theTo : nodeCell(route[i]);
+                }
+                return route;
+            }
+            int cost = search.myCosts[node];
+            if (node == start) {
+                int fromCluster = clusterOf(theFrom);
+                int[] nodes = myClusterNodes[fromCluster];
+                for (int j = 0; j < nodes.length; j++) {
+                    if (theFromDistances[j] >= 0) {
+                        int next = fromCluster * myNodeSlots + j;
+                        search.relax(next, node, cost + theFromDistances[j],
+                                cost + theFromDistances[j] + estimate(nodes[j], theTo));
+                    }
+                }
+                continue;
+            }
+            int cluster = node / myNodeSlots;
+            int index = node - cluster * myNodeSlots;
+            int cell = myClusterNodes[cluster][index];
+            int[] edges = myClusterEdges[cluster][index];
+            for (int j = 0; j < edges.length; j += 2) {
+                int distance = edges[j + 1];
+                search.relax(cluster * myNodeSlots + edges[j], node, cost + distance,
+                        cost + distance + estimate(myClusterNodes[cluster][edges[j]], theTo));
+            }
+            // Doors out of the cluster lead to an entrance of the next one, unless the door is
+            // one-sided, as a changed or restored room can leave it
+            int doors = myMaze.getDoors(cell);
+            for (int door : DOORS) {
+                if ((doors & door) == 0) {
+                    continue;
+                }
+                int next = neighbor(cell, door);
+                if (next >= 0 && clusterOf(next) != cluster && myNodeIndex[next] >= 0) {
+                    search.relax(clusterOf(next) * myNodeSlots + myNodeIndex[next], node, cost + 1,
+                            cost + 1 + estimate(next, theTo));
+                }
+            }
+            if (cluster == toCluster && theToDistances[index] >= 0) {
+                search.relax(goal, node, cost + theToDistances[index], cost + theToDistances[index]);
+            }
+        }
+        return null;
+    }
+
+    private int nodeCell(final int theNode) {
+        int cluster = theNode / myNodeSlots;
+        return myClusterNodes[cluster][theNode - cluster * myNodeSlots];
+    }
+
+    /**
+     * Measures any clusters marked dirty: finds their entrances, then the distances between them.
+     */
+    private void buildAbstractGraph() {
+        if (myDirtyClusters.isEmpty()) {
+            return;
+        }
+        if (myNodeIndex == null) {
+            myNodeIndex = new int[myMaze.getCellCount()];
+            Arrays.fill(myNodeIndex, -1);
+        }
+        for (int cluster = myDirtyClusters.nextSetBit(0); cluster >= 0;
+             cluster = myDirtyClusters.nextSetBit(cluster + 1)) {
+            if (myClusterNodes[cluster] != null) {
+                for (int node : myClusterNodes[cluster]) {
+                    myNodeIndex[node] = -1;
+                }
+                myNodeCount -= myClusterNodes[cluster].length;
+            }
+            int[] nodes = findEntrances(cluster);
+            for (int i = 0; i < nodes.length; i++) {
+                myNodeIndex[nodes[i]] = i;
+            }
+            int[][] distances = new int[nodes.length][];
+            for (int i = 0; i < nodes.length; i++) {
+                distances[i] = distancesToNodes(nodes[i], cluster, nodes);
+            }
+            myClusterNodes[cluster] = nodes;
+            myClusterEdges[cluster] = pruneEdges(distances);
+            myNodeCount += nodes.length;
+            myClusterBuilds++;
+        }
+        myDirtyClusters.clear();
+    }
+
+    /**
+     * Turns a cluster's entrance distances into edge lists, leaving out every edge that is
+     * as long as going through some other entrance. Searches still find the same distances,
+     * but in a maze most walks between entrances pass others, so few edges are left.
+     */
+    private static int[][] pruneEdges(final int[][] theDistances) {
+        int count = theDistances.length;
+        int[][] edges = new int[count][];
+        int[] kept = new int[2 * count];
+        for (int i = 0; i < count; i++) {
+            int[] fromI = theDistances[i];
+            int length = 0;
+            for (int j = 0; j < count; j++) {
+                int direct = fromI[j];
+                if (direct <= 0) {
+                    continue;
+                }
+                boolean passesAnother = false;
+                for (int k = 0; k < count && !passesAnother; k++) {
+                    passesAnother = k != i && k != j && fromI[k] > 0 && theDistances[k][j] > 0
+                            && fromI[k] + theDistances[k][j] == direct;
+                }
+                if (!passesAnother) {
+                    kept[length++] = j;
+                    kept[length++] = direct;
+                }
+            }
+            edges[i] = Arrays.copyOf(kept, length);
+        }
+        return edges;
+    }
+
+    /**
+     * Lists the rooms of a cluster with a door leading out of it.
+     */
+    private int[] findEntrances(final int theCluster) {
+        int minX = theCluster % myClustersX * myClusterSize;
+        int minY = theCluster / myClustersX * myClusterSize;
+        int maxX = Math.min(minX + myClusterSize, myWidth) - 1;
+        int maxY = Math.min(minY + myClusterSize, myHeight) - 1;
+        int[] nodes = new int[8];
+        int count = 0;
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                if (x != minX && x != maxX && y != minY && y != maxY) {
+                    continue;
+                }
+                int doors = myMaze.getDoors(myMaze.cell(x, y));
+                boolean leaves = (doors & Maze.NORTH) != 0 && y == minY && y > 0
+                        || (doors & Maze.SOUTH) != 0 && y == maxY && y + 1 < myHeight
+                        || (doors & Maze.WEST) != 0 && x == minX && x > 0
+                        || (doors & Maze.EAST) != 0 && x == maxX && x + 1 < myWidth;
+                if (leaves) {
+                    if (count == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, count * 2);
+                    }
+                    nodes[count++] = myMaze.cell(x, y);
+                }
+            }
+        }
+        return Arrays.copyOf(nodes, count);
+    }
+
+    private int[] distancesToNodes(final int theCell, final int theCluster) {
+        return distancesToNodes(theCell, theCluster, myClusterNodes[theCluster]);
+    }
+
+    /**
+     * Breadth-first search from a cell without leaving its cluster.
+     *
+     * @return moves to each of the given cells of the cluster, -1 where there is no way inside it
+     */
+    private int[] distancesToNodes(final int theCell, final int theCluster, final int[] theNodes) {
+        int minX = theCluster % myClustersX * myClusterSize;
+        int minY = theCluster / myClustersX * myClusterSize;
+        int width = Math.min(minX + myClusterSize, myWidth) - minX;
+        int height = Math.min(minY + myClusterSize, myHeight) - minY;
+        Arrays.fill(myLocalDistances, 0, width * height, -1);
+
+        int start = (myMaze.getY(theCell) - minY) * width + myMaze.getX(theCell) - minX;
+        myLocalDistances[start] = 0;
+        myLocalQueue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int local = myLocalQueue[head++];
+            int x = local % width;
+            int y = local / width;
+            int doors = myMaze.getDoors(myMaze.cell(minX + x, minY + y));
+            int distance = myLocalDistances[local] + 1;
+            if ((doors & Maze.NORTH) != 0 && y > 0 && myLocalDistances[local - width] < 0) {
+                myLocalDistances[local - width] = distance;
+                myLocalQueue[tail++] = local - width;
+            }
+            if ((doors & Maze.SOUTH) != 0 && y + 1 < height && myLocalDistances[local + width] < 0) {
+                myLocalDistances[local + width] = distance;
+                myLocalQueue[tail++] = local + width;
+            }
+            if ((doors & Maze.WEST) != 0 && x > 0 && myLocalDistances[local - 1] < 0) {
+                myLocalDistances[local - 1] = distance;
+                myLocalQueue[tail++] = local - 1;
+            }
+            if ((doors & Maze.EAST) != 0 && x + 1 < width && myLocalDistances[local + 1] < 0) {
+                myLocalDistances[local + 1] = distance;
+                myLocalQueue[tail++] = local + 1;
+            }
+        }
+
+        int[] distances = new int[theNodes.length];
+        for (int j = 0; j < theNodes.length; j++) {
+            distances[j] = myLocalDistances[(myMaze.getY(theNodes[j]) - minY) * width
+                    + myMaze.getX(theNodes[j]) - minX];
+        }
+        return distances;
+    }
+
+    /**
+     * Starts a search over cells from one cell, making the working arrays on first use.
+     */
+    private void startSearch(final int theFrom, final int theKey) {
+        if (myCellSearch == null) {
+            myCellSearch = new SearchState(myMaze.getCellCount());
+        }
+        myLastExpanded = 0;
+        myCellSearch.start(theFrom, theKey);
+    }
+
+    private void relax(final int theCell, final int theParent, final int theCost, final int theKey) {
+        myCellSearch.relax(theCell, theParent, theCost, theKey);
+    }
+
+    private int neighbor(final int theCell, final int theDoor) {
+        int x = myMaze.getX(theCell);
+        int y = myMaze.getY(theCell);
+        return switch (theDoor) {
+            case Maze.NORTH -> y > 0 ? theCell - myWidth : -1;
+            case Maze.EAST -> x + 1 < myWidth ? theCell + 1 : -1;
+            case Maze.SOUTH -> y + 1 < myHeight ? theCell + myWidth : -1;
+            default -> x > 0 ? theCell - 1 : -1;
+        };
+    }
+
+    private int estimate(final int theFrom, final int theTo) {
+        return Math.abs(myMaze.getX(theFrom) - myMaze.getX(theTo))
+                + Math.abs(myMaze.getY(theFrom) - myMaze.getY(theTo));
+    }
+
+    private int clusterOf(final int theCell) {
+        return myMaze.getY(theCell) / myClusterSize * myClustersX + myMaze.getX(theCell) / myClusterSize;
+    }
+
+    private int cellOf(final Point thePoint) {
+        if (thePoint == null) {
+            throw new IllegalArgumentException("Point cannot be null.");
+        }
+        return cellOf(thePoint.getX(), thePoint.getY());
+    }
+
+    private int cellOf(final int theX, final int theY) {
+        if (theX < 0 || theX >= myWidth || theY < 0 || theY >= myHeight) {
+            throw new IllegalArgumentException("(" + theX + ", " + theY + ") is outside the dungeon.");
+        }
+        return myMaze.cell(theX, theY);
+    }
+
+    private List<Point> toPoints(final int[] thePath) {
+        if (thePath == null) {
+            return List.of();
+        }
+        List<Point> points = new ArrayList<>(thePath.length);
+        for (int cell : thePath) {
+            points.add(Point.of(myMaze.getX(cell), myMaze.getY(cell)));
+        }
+        return points;
+    }
+
+    /**
+     * Open set and per-id costs and parents for one kind of search. The arrays are reused
+     * from search to search; an id's entries only count where its stamp is the current search.
+     */
+    private static final class SearchState {
+        private final IndexedIntHeap myOpen;
+        private final int[] myCosts;
+        private final int[] myParents;
+        private final int[] myStamps;
+        private int mySearch;
+
+        private SearchState(final int theCapacity) {
+            this.myOpen = new IndexedIntHeap(theCapacity);
+            this.myCosts = new int[theCapacity];
+            this.myParents = new int[theCapacity];
+            this.myStamps = new int[theCapacity];
+        }
+
+        private void start(final int theFrom, final int theKey) {
+            if (++mySearch == Integer.MAX_VALUE) {
+                Arrays.fill(myStamps, 0);
+                mySearch = 1;
+            }
+            myOpen.clear();
+            myStamps[theFrom] = mySearch;
+            myCosts[theFrom] = 0;
+            myParents[theFrom] = -1;
+            myOpen.offer(theFrom, theKey);
+        }
+
+        /**
+         * Records a cheaper way to an id and queues it.
+         */
+        private void relax(final int theId, final int theParent, final int theCost, final int theKey) {
+            if (myStamps[theId] != mySearch || theCost < myCosts[theId]) {
+                myStamps[theId] = mySearch;
+                myCosts[theId] = theCost;
+                myParents[theId] = theParent;
+                myOpen.offer(theId, theKey);
+            }
+        }
+
+        private int[] trace(final int theEnd) {
+            int length = 0;
+            for (int id = theEnd; id >= 0; id = myParents[id]) {
+                length++;
+            }
+            int[] path = new int[length];
+            for (int id = theEnd; id >= 0; id = myParents[id]) {
+                path[--length] = id;
+            }
+            return path;
+        }
+    }
+}
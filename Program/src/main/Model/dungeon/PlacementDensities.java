@@ -0,0 +1,60 @@
+package main.Model.dungeon;
+
+/**
+ * How much of each kind of content a difficulty puts in its rooms, as a weight per
+ * thousand rooms. Harder dungeons have more monsters and traps and fewer chests and
+ * potions. Normal, and any difficulty not listed, keeps the original densities.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public enum PlacementDensities {
+    EASY(150, 80, 120, 150),
+    NORMAL(200, 100, 100, 100),
+    HARD(250, 130, 80, 70);
+
+    /** Index of the monster weight in the arrays of counts, see counts. */
+    public static final int MONSTERS = 0;
+    /** Index of the trap weight. */
+    public static final int TRAPS = 1;
+    /** Index of the chest weight. */
+    public static final int CHESTS = 2;
+    /** Index of the potion weight. */
+    public static final int POTIONS = 3;
+
+    private final int[] myWeights;
+
+    PlacementDensities(final int theMonsters, final int theTraps, final int theChests, final int thePotions) {
+        this.myWeights = new int[] {theMonsters, theTraps, theChests, thePotions};
+    }
+
+    /**
+     * Gets the densities for a difficulty name, ignoring case.
+     *
+     * @param theDifficulty difficulty name, may be null
+     * @return the matching densities, NORMAL if none match
+     */
+    public static PlacementDensities forDifficulty(final String theDifficulty) {
+        if (theDifficulty != null) {
+            for (PlacementDensities densities : values()) {
+                if (densities.name().equalsIgnoreCase(theDifficulty)) {
+                    return densities;
+                }
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Gets how many of one kind of content a number of rooms gets.
+     *
+     * @param theCategory MONSTERS, TRAPS, CHESTS or POTIONS
+     * @param theRooms number of rooms
+     * @return the count, rounded down
+     */
+    public long count(final int theCategory, final long theRooms) {
+        return theRooms * myWeights[theCategory] / 1000;
+    }
+}
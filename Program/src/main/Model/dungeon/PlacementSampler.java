@@ -0,0 +1,76 @@
+package main.Model.dungeon;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws distinct cells at random from a set of candidates, each in constant time.
+ * Candidates are packed cell indices in an int array; a draw picks a random slot and
+ * fills the hole with the last candidate, one step of a partial Fisher-Yates shuffle,
+ * so placing k things costs O(k) however many cells there are. Reset and refill it to
+ * reuse the array for the next patch of rooms.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class PlacementSampler {
+    private final int[] myCells;
+    private int mySize;
+
+    /**
+     * Creates an empty sampler.
+     *
+     * @param theCapacity most candidates it can hold
+     */
+    public PlacementSampler(final int theCapacity) {
+        if (theCapacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.myCells = new int[theCapacity];
+    }
+
+    /**
+     * Adds a candidate cell.
+     *
+     * @param theCell packed cell index
+     */
+    public void add(final int theCell) {
+        if (mySize == myCells.length) {
+            throw new IllegalStateException("Sampler is full at " + myCells.length + " cells.");
+        }
+        myCells[mySize++] = theCell;
+    }
+
+    /**
+     * Draws a candidate and removes it.
+     *
+     * @param theRandom stream to draw with
+     * @return the cell, which will not be drawn again until a reset
+     */
+    public int next(final SplittableRandom theRandom) {
+        if (mySize == 0) {
+            throw new IllegalStateException("No cells left to draw.");
+        }
+        int slot = theRandom.nextInt(mySize);
+        int cell = myCells[slot];
+        myCells[slot] = myCells[--mySize];
+        return cell;
+    }
+
+    /**
+     * Gets how many candidates are left to draw.
+     *
+     * @return remaining candidates
+     */
+    public int remaining() {
+        return mySize;
+    }
+
+    /**
+     * Drops every candidate so the sampler can be filled again.
+     */
+    public void reset() {
+        mySize = 0;
+    }
+}
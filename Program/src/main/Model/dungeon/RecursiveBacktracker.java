@@ -0,0 +1,70 @@
+package main.Model.dungeon;
+
+import java.util.SplittableRandom;
+
+/**
+ * Depth-first "recursive backtracker" maze carving, which makes long winding corridors
+ * with few dead ends. It runs without recursion or per-step garbage:
+ * the path is an int[] stack of packed cells, visited cells are a long[] bitset and
+ * neighbors go through a fixed four slot buffer. The generator is consulted exactly as
+ * the old Stack&lt;Point&gt; version did, so seeds keep their layouts.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class RecursiveBacktracker implements MazeGenerator {
+
+    @Override
+    public String getName() {
+        return "backtracker";
+    }
+
+    /**
+     * Carves from the top-left cell, where the hero spawns.
+     */
+    @Override
+    public void generate(final Maze theMaze, final SplittableRandom theRandom) {
+        carve(theMaze, 0, theRandom);
+    }
+
+    /**
+     * Carves a spanning tree over every cell of the maze.
+     *
+     * @param theMaze maze with every wall up
+     * @param theStart packed index of the first cell
+     * @param theRandom generator choosing among unvisited neighbors
+     */
+    public static void carve(final Maze theMaze, final int theStart, final SplittableRandom theRandom) {
+        int cells = theMaze.getCellCount();
+        long[] visited = new long[(cells + 63) >>> 6];
+        // Every cell is pushed at most once, so the stack never outgrows the grid
+        int[] stack = new int[cells];
+        int[] neighbors = new int[4];
+        int[] unvisited = new int[4];
+
+        visited[theStart >>> 6] |= 1L << theStart;
+        stack[0] = theStart;
+        int top = 1;
+        while (top > 0) {
+            int current = stack[top - 1];
+            int count = theMaze.neighbors(current, neighbors);
+            int open = 0;
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if ((visited[neighbor >>> 6] & (1L << neighbor)) == 0) {
+                    unvisited[open++] = neighbor;
+                }
+            }
+            if (open > 0) {
+                int next = unvisited[theRandom.nextInt(open)];
+                theMaze.carve(current, next);
+                visited[next >>> 6] |= 1L << next;
+                stack[top++] = next;
+            } else {
+                top--; // Backtrack
+            }
+        }
+    }
+}
@@ -12,13 +12,16 @@ import java.util.ArrayList;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 
 
 /**
  * Represents a single room within a dungeon.
  * A room has a type, position, and can contain various dungeon elements
  * like monsters, items, pillars, and traps.
+ * Its state lives in a RoomGrid: a room made with the public constructor has a grid of
+ * its own, while the rooms of a dungeon are views over the dungeon's grid, made on each
+ * getRoom and equal to any other view of the same position. A view's position is the
+ * grid's shared point for its cell, looked up only when asked for.
  *
  * @author Jacob Hilliker
  * @author Emanuel Feria
@@ -26,23 +29,12 @@ import java.util.Objects;
  * @version 6/13/2025
  */
 public class Room {
+    // Position of a room made with the public constructor, null for a view of a dungeon's grid
     private final Point myPosition;
-    private RoomType myRoomType;
-    private boolean myIsVisited;
-    private final List<Monster> myMonsters;
-    private final List<Item> myItems;
-    private Pillar myPillar; // A room can have at most one pillar
-    private Trap myTrap;     // A room can have at most one trap (or a list if multiple are allowed)
-    private final List<Item> myChest;
-    private boolean myChestOpened;
-    private boolean myItemsCollected;
-
-
-    // Door states (true if a door exists in that direction)
-    private boolean myHasNorthDoor;
-    private boolean myHasEastDoor;
-    private boolean myHasSouthDoor;
-    private boolean myHasWestDoor;
+    // Type, doors, flags and contents, see RoomGrid; the grid also knows the dungeon
+    // told about changes so saves only write changed rooms, null while detached
+    private final RoomGrid myGrid;
+    private final int myCell;
 
     /**
      * Constructs a new Room.
@@ -58,21 +50,22 @@ public class Room {
             throw new IllegalArgumentException("Room type cannot be null.");
         }
         this.myPosition = thePosition;
-        this.myRoomType = theRoomType;
-        this.myIsVisited = false;
-        this.myMonsters = new ArrayList<>();
-        this.myItems = new ArrayList<>();
-        this.myPillar = null;
-        this.myTrap = null;
-        this.myChest = new ArrayList<>();
-        this.myChestOpened = false;
-        this.myItemsCollected = false;
-
         // Doors are initially closed/non-existent until explicitly set
-        this.myHasNorthDoor = false;
-        this.myHasEastDoor = false;
-        this.myHasSouthDoor = false;
-        this.myHasWestDoor = false;
+        this.myGrid = RoomGrid.forLoneRoom();
+        this.myCell = 0;
+        myGrid.setType(0, theRoomType);
+    }
+
+    /**
+     * Constructs a view of a room in a dungeon's grid.
+     *
+     * @param theGrid grid holding the room
+     * @param theCell y * width + x in the grid
+     */
+    Room(final RoomGrid theGrid, final int theCell) {
+        this.myPosition = null;
+        this.myGrid = theGrid;
+        this.myCell = theCell;
     }
 
     /**
@@ -80,7 +73,9 @@ public class Room {
      * @param theOpened true if opened
      */
     public void setChestOpened(final boolean theOpened) {
-        this.myChestOpened = theOpened;
+        if (myGrid.setFlag(myCell, RoomGrid.CHEST_OPENED, theOpened)) {
+            markDirty();
+        }
     }
 
     /**
@@ -88,7 +83,17 @@ public class Room {
      * @param theCollected true if collected
      */
     public void setItemsCollected(final boolean theCollected) {
-        this.myItemsCollected = theCollected;
+        if (myGrid.setFlag(myCell, RoomGrid.ITEMS_COLLECTED, theCollected)) {
+            markDirty();
+        }
+    }
+
+    /**
+     * gets if items have been collected
+     * @return true if collected
+     */
+    public boolean getItemsCollected() {
+        return myGrid.hasFlag(myCell, RoomGrid.ITEMS_COLLECTED);
     }
 
     /**
@@ -98,105 +103,223 @@ public class Room {
      * @param theHero The hero entering the room.
      */
     public void enter(final Hero theHero) {
-        this.myIsVisited = true;
-        System.out.println(theHero.getName() + " enters room at " + myPosition + " of type " + myRoomType.getDisplayName());
+        setVisited(true);
+        System.out.println(theHero.getName() + " enters room at " + getPosition() + " of type " + getRoomType().getDisplayName());
 
         // Trigger trap if present and not sprung
-        if (myTrap != null && !myTrap.isSprung()) {
-            myTrap.interact(theHero); // Trap's interact method will call trigger
+        Trap trap = getTrap();
+        if (trap != null && !trap.isSprung()) {
+            trap.interact(theHero); // Trap's interact method will call trigger
+            markDirty();
         }
 
         // For other elements like items or pillars, interaction might be more explicit
         // (e.g., player chooses to pick up an item or activate a pillar).
         // Monsters would typically engage in combat.
-        if (!myMonsters.isEmpty()) {
+        if (hasMonsters()) {
             System.out.println("Monsters are in this room!");
             // Combat logic would be initiated by the GameController
         }
     }
 
     public Point getPosition() {
-        return myPosition;
+        return myPosition != null ? myPosition : myGrid.pointAt(myCell);
     }
 
     public RoomType getRoomType() {
-        return myRoomType;
+        return myGrid.getType(myCell);
     }
 
     public boolean isVisited() {
-        return myIsVisited;
+        return myGrid.isVisited(myCell);
     }
 
+    /**
+     * Gets the monsters in this room. Use hasMonsters or monsterCount to only check them,
+     * which allocates nothing.
+     *
+     * @return a read-only view, or the shared empty list if no monster was ever added
+     */
     public List<Monster> getMonsters() {
-        return Collections.unmodifiableList(myMonsters); // Return a read-only view
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents == null || contents.myMonsters == null ? Collections.emptyList()
+                : Collections.unmodifiableList(contents.myMonsters); // Return a read-only view
     }
 
+    /**
+     * Gets the items on the floor of this room. Use hasUncollectedItems to only check them,
+     * which allocates nothing.
+     *
+     * @return a read-only view, or the shared empty list if no item was ever added
+     */
     public List<Item> getItems() {
-        return Collections.unmodifiableList(myItems); // Return a read-only view
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents == null || contents.myItems == null ? Collections.emptyList()
+                : Collections.unmodifiableList(contents.myItems); // Return a read-only view
+    }
+
+    /**
+     * Checks for monsters without making a list view.
+     *
+     * @return true if any monster is in this room
+     */
+    public boolean hasMonsters() {
+        return monsterCount() > 0;
+    }
+
+    /**
+     * Counts the monsters without making a list view.
+     *
+     * @return monsters in this room
+     */
+    public int monsterCount() {
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents == null || contents.myMonsters == null ? 0 : contents.myMonsters.size();
+    }
+
+    /**
+     * Checks for items on the floor without making a list view. Chest items do not count.
+     *
+     * @return true if items are waiting to be collected
+     */
+    public boolean hasUncollectedItems() {
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents != null && contents.myItems != null && !contents.myItems.isEmpty();
     }
 
     public Pillar getPillar() {
-        return myPillar;
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents == null ? null : contents.myPillar;
     }
 
     public Trap getTrap() {
-        return myTrap;
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        return contents == null ? null : contents.myTrap;
     }
 
     public void setVisited(final boolean theVisited) {
-        this.myIsVisited = theVisited;
+        if (myGrid.setVisited(myCell, theVisited)) {
+            markDirty();
+        }
     }
 
     public void setRoomType(final RoomType theRoomType) {
         if (theRoomType == null) {
             throw new IllegalArgumentException("Room type cannot be null.");
         }
-        this.myRoomType = theRoomType;
+        myGrid.setType(myCell, theRoomType);
+        markDirty();
     }
 
     public void addMonster(final Monster theMonster) {
         if (theMonster != null) {
-            myMonsters.add(theMonster);
+            RoomGrid.Contents contents = myGrid.contentsFor(myCell);
+            if (contents.myMonsters == null) {
+                contents.myMonsters = new ArrayList<>(1);
+            }
+            contents.myMonsters.add(theMonster);
+            markDirty();
         }
     }
 
     public void removeMonster(final Monster theMonster) {
-        myMonsters.remove(theMonster);
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        if (contents != null && contents.myMonsters != null && contents.myMonsters.remove(theMonster)) {
+            markDirty();
+        }
     }
 
     public void addItem(final Item theItem) {
-        if (theItem != null && !myItemsCollected) {
-            myItems.add(theItem);
+        if (theItem != null && !getItemsCollected()) {
+            RoomGrid.Contents contents = myGrid.contentsFor(myCell);
+            if (contents.myItems == null) {
+                contents.myItems = new ArrayList<>(1);
+            }
+            contents.myItems.add(theItem);
+            markDirty();
         }
     }
 
     public void removeItem(final Item theItem) {
-        myItems.remove(theItem);
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        if (contents != null && contents.myItems != null && contents.myItems.remove(theItem)) {
+            markDirty();
+        }
     }
 
     public void setPillar(final Pillar thePillar) {
-        this.myPillar = thePillar;
+        if (thePillar != null || myGrid.getContents(myCell) != null) {
+            myGrid.contentsFor(myCell).myPillar = thePillar;
+        }
         if (thePillar != null) {
-            this.myRoomType = RoomType.PILLAR; // Automatically set room type if pillar is added
+            myGrid.setType(myCell, RoomType.PILLAR); // Automatically set room type if pillar is added
         }
+        markDirty();
+    }
+
+    /**
+     * Activates the pillar in this room for the hero and counts it towards the hero's total.
+     *
+     * @param theHero hero collecting the pillar
+     * @return true if the pillar was activated now, false if missing or already active
+     */
+    public boolean activatePillar(final Hero theHero) {
+        Pillar pillar = getPillar();
+        if (pillar != null && theHero != null && theHero.activatePillar(pillar)) {
+            markDirty();
+            return true;
+        }
+        return false;
     }
 
     public void setTrap(final Trap theTrap) {
-        this.myTrap = theTrap;
+        if (theTrap != null || myGrid.getContents(myCell) != null) {
+            myGrid.contentsFor(myCell).myTrap = theTrap;
+        }
         if (theTrap != null) {
-            this.myRoomType = RoomType.TRAP; // Automatically set room type
+            myGrid.setType(myCell, RoomType.TRAP); // Automatically set room type
+        }
+        markDirty();
+    }
+
+    /**
+     * Springs the trap in this room on the hero.
+     *
+     * @param theHero hero walking into the trap
+     */
+    public void springTrap(final Hero theHero) {
+        Trap trap = getTrap();
+        if (trap != null) {
+            trap.trigger(theHero);
+            markDirty();
         }
     }
 
     //  Door Management
-    public boolean hasNorthDoor() { return myHasNorthDoor; }
-    public void setNorthDoor(final boolean theHasDoor) { myHasNorthDoor = theHasDoor; }
-    public boolean hasEastDoor() { return myHasEastDoor; }
-    public void setEastDoor(final boolean theHasDoor) { myHasEastDoor = theHasDoor; }
-    public boolean hasSouthDoor() { return myHasSouthDoor; }
-    public void setSouthDoor(final boolean theHasDoor) { myHasSouthDoor = theHasDoor; }
-    public boolean hasWestDoor() { return myHasWestDoor; }
-    public void setWestDoor(final boolean theHasDoor) { myHasWestDoor = theHasDoor; }
+    public boolean hasNorthDoor() { return myGrid.hasFlag(myCell, Maze.NORTH); }
+    public void setNorthDoor(final boolean theHasDoor) {
+        if (myGrid.setFlag(myCell, Maze.NORTH, theHasDoor)) {
+            doorsChanged();
+        }
+    }
+    public boolean hasEastDoor() { return myGrid.hasFlag(myCell, Maze.EAST); }
+    public void setEastDoor(final boolean theHasDoor) {
+        if (myGrid.setFlag(myCell, Maze.EAST, theHasDoor)) {
+            doorsChanged();
+        }
+    }
+    public boolean hasSouthDoor() { return myGrid.hasFlag(myCell, Maze.SOUTH); }
+    public void setSouthDoor(final boolean theHasDoor) {
+        if (myGrid.setFlag(myCell, Maze.SOUTH, theHasDoor)) {
+            doorsChanged();
+        }
+    }
+    public boolean hasWestDoor() { return myGrid.hasFlag(myCell, Maze.WEST); }
+    public void setWestDoor(final boolean theHasDoor) {
+        if (myGrid.setFlag(myCell, Maze.WEST, theHasDoor)) {
+            doorsChanged();
+        }
+    }
 
 
     /**
@@ -205,9 +328,9 @@ public class Room {
      */
     public List<DungeonElement> getDungeonElements() {
         List<DungeonElement> elements = new ArrayList<>();
-        if (myPillar != null) elements.add(myPillar);
-        if (myTrap != null) elements.add(myTrap);
-        elements.addAll(myItems);
+        if (getPillar() != null) elements.add(getPillar());
+        if (getTrap() != null) elements.add(getTrap());
+        elements.addAll(getItems());
         // Monsters are Characters, handled separately for combat usually
         return Collections.unmodifiableList(elements);
     }
@@ -215,13 +338,13 @@ public class Room {
 
     @Override
     public String toString() {
-        return "Room at " + myPosition +
-                ", Type: " + myRoomType.getDisplayName() +
-                ", Visited: " + myIsVisited +
-                ", Monsters: " + myMonsters.size() +
-                ", Items: " + myItems.size() +
-                (myPillar != null ? ", Pillar: " + myPillar.getType().getDisplayName() : "") +
-                (myTrap != null ? ", Trap: " + myTrap.getName() : "");
+        return "Room at " + getPosition() +
+                ", Type: " + getRoomType().getDisplayName() +
+                ", Visited: " + isVisited() +
+                ", Monsters: " + monsterCount() +
+                ", Items: " + getItems().size() +
+                (hasPillar() ? ", Pillar: " + getPillar().getType().getDisplayName() : "") +
+                (hasTrap() ? ", Trap: " + getTrap().getName() : "");
     }
 
     @Override
@@ -229,29 +352,39 @@ public class Room {
         if (this == theO) return true;
         if (theO == null || getClass() != theO.getClass()) return false;
         Room room = (Room) theO;
-        return Objects.equals(myPosition, room.myPosition); // Rooms are unique by position in a dungeon
+        return getPosition().equals(room.getPosition()); // Rooms are unique by position in a dungeon
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(myPosition);
+        return getPosition().hashCode();
     }
 
     public void setChest(final List<Item> theChest) {
         if (theChest != null) {
             setRoomType(RoomType.TREASURE);
-            myChest.addAll(theChest);
+            getChest().addAll(theChest);
+            markDirty();
         } else {
             System.out.println("chest was null, skipping treasure room setting.");
         }
     }
 
+   /**
+    * Gets the chest's items, for changing them in place.
+    *
+    * @return the live list, made on first call
+    */
    public List<Item> getChest() {
-        return myChest;
+        RoomGrid.Contents contents = myGrid.contentsFor(myCell);
+        if (contents.myChest == null) {
+            contents.myChest = new ArrayList<>();
+        }
+        return contents.myChest;
    }
 
    public boolean getChestOpened() {
-        return myChestOpened;
+        return isChestOpened();
    }
 
    public boolean hasChest() {
@@ -263,7 +396,7 @@ public class Room {
      */
     public void openChest(final Hero thePlayer) {
         if (getRoomType() == RoomType.TREASURE) {
-            if (myChestOpened) {
+            if (isChestOpened()) {
                 System.out.println("This chest has already been opened and is now empty.");
                 return;
             }
@@ -271,7 +404,8 @@ public class Room {
             int itemRemoveCount = 0;
             if (thePlayer.getGold() >= 5) {
                 boolean inventoryNotFull = true;
-                for (Item item : myChest) {
+                List<Item> chest = getChest();
+                for (Item item : chest) {
                     inventoryNotFull = thePlayer.pickupItem(item);
                     if (!inventoryNotFull) {
                         System.out.println("Inventory full, use items before collecting more.");
@@ -284,12 +418,13 @@ public class Room {
 
                 // Remove collected items from chest
                 while (itemRemoveCount != 0) {
-                    myChest.removeFirst();
+                    chest.removeFirst();
                     itemRemoveCount--;
                 }
 
                 thePlayer.spendGold(5);
-                myChestOpened = true; // Mark chest as opened
+                myGrid.setFlag(myCell, RoomGrid.CHEST_OPENED, true); // Mark chest as opened
+                markDirty();
                 System.out.println("Chest opened! Spent 5 gold.");
 
             } else {
@@ -304,14 +439,18 @@ public class Room {
      * @return true if room has pillar, false otherwise
      */
     public boolean hasPillar() {
-        return myPillar != null;
+        return getPillar() != null;
     }
 
     /**
      *removes pillar from this room
      */
     public void removePillar() {
-        myPillar = null;
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        if (contents != null) {
+            contents.myPillar = null;
+        }
+        markDirty();
     }
 
     /**
@@ -320,15 +459,19 @@ public class Room {
      * @return true if room has trap, false otherwise
      */
     public boolean hasTrap() {
-        return myTrap != null;
+        return getTrap() != null;
     }
 
     /**
      *clears all items from this room
      */
     public void clearItems() {
-        myItems.clear();
-        myItemsCollected = true;
+        RoomGrid.Contents contents = myGrid.getContents(myCell);
+        if (contents != null) {
+            contents.myItems = null;
+        }
+        myGrid.setFlag(myCell, RoomGrid.ITEMS_COLLECTED, true);
+        markDirty();
     }
 
     /**
@@ -338,11 +481,11 @@ public class Room {
      */
     public String getDescription() {
         StringBuilder description = new StringBuilder();
-        description.append(myRoomType.getDisplayName()).append(" room");
+        description.append(getRoomType().getDisplayName()).append(" room");
 
         //add chest information if present
         if (hasChest()) {
-            if (myChestOpened) {
+            if (isChestOpened()) {
                 description.append(". There is an empty chest here that has already been opened.");
             } else {
                 description.append(". There is a chest here. I wonder what's in here?");
@@ -350,21 +493,22 @@ public class Room {
         }
 
         //add items information
-        if (!myItems.isEmpty()) {
+        if (hasUncollectedItems()) {
             description.append(". There are items on the ground. Press 'E' to collect them.");
         }
 
         //add pillar information
         if (hasPillar()) {
-            if (myPillar.isActivated()) {
-                description.append(". The Pillar of ").append(myPillar.getType().getDisplayName()).append(" has already been collected.");
+            Pillar pillar = getPillar();
+            if (pillar.isActivated()) {
+                description.append(". The Pillar of ").append(pillar.getType().getDisplayName()).append(" has already been collected.");
             } else {
-                description.append(". The Pillar of ").append(myPillar.getType().getDisplayName()).append(" stands here. Walk over to collect it.");
+                description.append(". The Pillar of ").append(pillar.getType().getDisplayName()).append(" stands here. Walk over to collect it.");
             }
         }
 
         // Add trap information
-        if (hasTrap() && myTrap.isSprung()) {
+        if (hasTrap() && getTrap().isSprung()) {
             description.append(". There is a spike trap here.");
         }
 
@@ -376,6 +520,38 @@ public class Room {
      * @return true if chest has been opened, false otherwise
      */
     public boolean isChestOpened() {
-        return myChestOpened;
+        return myGrid.hasFlag(myCell, RoomGrid.CHEST_OPENED);
+    }
+
+    /**
+     * Attaches this room to the dungeon that tracks its changes for saving.
+     *
+     * @param theDungeon owning dungeon, or null to stop tracking
+     */
+    void setDungeon(final Dungeon theDungeon) {
+        myGrid.setDungeon(theDungeon);
+    }
+
+    RoomGrid getGrid() {
+        return myGrid;
+    }
+
+    int getCell() {
+        return myCell;
+    }
+
+    private void markDirty() {
+        Dungeon dungeon = myGrid.getDungeon();
+        if (dungeon != null) {
+            dungeon.markRoomDirty(this);
+        }
+    }
+
+    private void doorsChanged() {
+        Dungeon dungeon = myGrid.getDungeon();
+        if (dungeon != null) {
+            dungeon.markRoomDirty(this);
+            dungeon.roomDoorsChanged(this);
+        }
     }
 }
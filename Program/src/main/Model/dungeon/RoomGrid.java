@@ -0,0 +1,329 @@
+package main.Model.dungeon;
+
+import main.Model.character.Monster;
+import main.Model.element.Item;
+import main.Model.element.Pillar;
+import main.Model.element.Trap;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stores the rooms of a dungeon in flat arrays instead of one Room object each. Doors
+ * and flags share one byte per room, the room type another, so a million rooms take two
+ * megabytes. Whether a room was visited is a bit in an ExplorationMask, so the dungeon
+ * can reveal and count explored rooms many at a time. The grid of a lone room made with
+ * Room's public constructor is kept small, since worlds make one per room: it has no
+ * mask and keeps visited in its byte, holds its type in the same array, and has no
+ * page tables until it first holds something. The few
+ * rooms holding monsters, items, a chest, a pillar or a trap keep those in a Contents
+ * record in a side table of pages, one page of PAGE_SIZE x PAGE_SIZE rooms made when its
+ * first room gets something. Rooms handed out by getRoom are views over the arrays, so
+ * two views of one room always agree, and they can be dropped at any time.
+ * Each room's position is one shared Point, made the first time a view is asked for it.
+ * Points near the origin come from the Point.of cache, and those beyond it are kept in
+ * pages like the contents.
+ * Views of rooms in different pages can be changed from different threads, which is how
+ * generation fills the tiles of a dungeon in parallel, as long as they leave visited
+ * alone, since a word of the mask spans two pages.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class RoomGrid {
+    /** Rooms along each side of a page of contents, matching the tiles generation fills. */
+    static final int PAGE_SIZE = Dungeon.POPULATION_TILE_SIZE;
+
+    // Bits of a room's byte in myCells; the four doors use the Maze bits
+    static final int DOOR_BITS = Maze.NORTH | Maze.EAST | Maze.SOUTH | Maze.WEST;
+    // Visited bit of a lone room; rooms of a dungeon use myExplored
+    static final int VISITED = 0x10;
+    static final int CHEST_OPENED = 0x20;
+    static final int ITEMS_COLLECTED = 0x40;
+
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final int myWidth;
+    private final int myHeight;
+    private final int myPagesX;
+    private final byte[] myCells;
+    // Room types from myTypeOffset on; a lone room's type follows its byte in myCells
+    private final byte[] myTypes;
+    private final int myTypeOffset;
+    // Null for a lone room until it first holds something
+    private Contents[][] myPages;
+    // Shared positions of rooms outside Point.of's cache, paged like myPages; null for a
+    // lone room, whose Room keeps its own position
+    private final Point[][] myPoints;
+    // Visited rooms, null for a lone room
+    private final ExplorationMask myExplored;
+    // Dungeon told about changes through the views, null while generating or restoring
+    private Dungeon myDungeon;
+
+    /**
+     * Creates a grid of EMPTY, unvisited rooms without doors.
+     *
+     * @param theWidth rooms per row
+     * @param theHeight rows
+     */
+    RoomGrid(final int theWidth, final int theHeight) {
+        if (theWidth <= 0 || theHeight <= 0) {
+            throw new IllegalArgumentException("Room grid dimensions must be positive.");
+        }
+        this.myWidth = theWidth;
+        this.myHeight = theHeight;
+        this.myPagesX = (theWidth + PAGE_SIZE - 1) / PAGE_SIZE;
+        int cells = theWidth * theHeight;
+        this.myCells = new byte[cells];
+        this.myTypes = new byte[cells];
+        this.myTypeOffset = 0;
+        if (RoomType.EMPTY.ordinal() != 0) {
+            Arrays.fill(myTypes, (byte) RoomType.EMPTY.ordinal());
+        }
+        this.myPages = new Contents[myPagesX * ((theHeight + PAGE_SIZE - 1) / PAGE_SIZE)][];
+        this.myPoints = new Point[myPages.length][];
+        this.myExplored = new ExplorationMask(theWidth, theHeight);
+    }
+
+    private RoomGrid() {
+        this.myWidth = 1;
+        this.myHeight = 1;
+        this.myPagesX = 1;
+        this.myCells = new byte[2];
+        this.myTypes = myCells;
+        this.myTypeOffset = 1;
+        myTypes[myTypeOffset] = (byte) RoomType.EMPTY.ordinal();
+        this.myPages = null;
+        this.myPoints = null;
+        this.myExplored = null;
+    }
+
+    /**
+     * Creates the grid of a lone room: one byte array holding its byte and its type, and
+     * no mask, page tables or shared positions.
+     *
+     * @return a 1x1 grid
+     */
+    static RoomGrid forLoneRoom() {
+        return new RoomGrid();
+    }
+
+    /**
+     * Gets a view of a room.
+     *
+     * @param theX room column, inside the grid
+     * @param theY room row, inside the grid
+     * @return a new view; views of the same room are equal
+     */
+    Room getRoom(final int theX, final int theY) {
+        return new Room(this, theY * myWidth + theX);
+    }
+
+    /**
+     * Gets the position of a room, the same instance every time. Not for lone rooms,
+     * which keep their own.
+     *
+     * @param theCell y * width + x
+     * @return the room's position
+     */
+    Point pointAt(final int theCell) {
+        int x = theCell % myWidth;
+        int y = theCell / myWidth;
+        if (x < Point.CACHE_LIMIT && y < Point.CACHE_LIMIT) {
+            return Point.of(x, y);
+        }
+        int page = page(theCell);
+        if (myPoints[page] == null) {
+            myPoints[page] = new Point[pageLength(theCell)];
+        }
+        Point point = myPoints[page][slot(theCell)];
+        if (point == null) {
+            point = new Point(x, y);
+            myPoints[page][slot(theCell)] = point;
+        }
+        return point;
+    }
+
+    /**
+     * Runs an action on a view of every room, row by row.
+     *
+     * @param theAction action for each room
+     */
+    void forEachRoom(final Consumer<Room> theAction) {
+        for (int y = 0; y < myHeight; y++) {
+            for (int x = 0; x < myWidth; x++) {
+                theAction.accept(getRoom(x, y));
+            }
+        }
+    }
+
+    /**
+     * Overwrites a room with the state of another room, which is left sharing its
+     * contents with the grid and should be dropped.
+     *
+     * @param theX room column, inside the grid
+     * @param theY room row, inside the grid
+     * @param theRoom room to copy
+     */
+    void setRoom(final int theX, final int theY, final Room theRoom) {
+        int cell = theY * myWidth + theX;
+        RoomGrid source = theRoom.getGrid();
+        int sourceCell = theRoom.getCell();
+        myCells[cell] = (byte) (source.myCells[sourceCell] & ~VISITED);
+        setVisited(cell, source.isVisited(sourceCell));
+        myTypes[myTypeOffset + cell] = source.myTypes[source.myTypeOffset + sourceCell];
+        Contents contents = source.getContents(sourceCell);
+        if (contents != null) {
+            pageFor(cell)[slot(cell)] = contents;
+        } else if (myPages != null && myPages[page(cell)] != null) {
+            myPages[page(cell)][slot(cell)] = null;
+        }
+    }
+
+    void setDungeon(final Dungeon theDungeon) {
+        this.myDungeon = theDungeon;
+    }
+
+    Dungeon getDungeon() {
+        return myDungeon;
+    }
+
+    int getWidth() {
+        return myWidth;
+    }
+
+    int getHeight() {
+        return myHeight;
+    }
+
+    /**
+     * Gets the visited rooms.
+     *
+     * @return the mask, or null for a lone room
+     */
+    ExplorationMask getExplored() {
+        return myExplored;
+    }
+
+    boolean isVisited(final int theCell) {
+        return myExplored != null ? myExplored.isExplored(theCell) : hasFlag(theCell, VISITED);
+    }
+
+    /**
+     * Marks a room visited or not.
+     *
+     * @return true if the room changed
+     */
+    boolean setVisited(final int theCell, final boolean theVisited) {
+        return myExplored != null ? myExplored.set(theCell, theVisited) : setFlag(theCell, VISITED, theVisited);
+    }
+
+    boolean hasFlag(final int theCell, final int theFlag) {
+        return (myCells[theCell] & theFlag) != 0;
+    }
+
+    /**
+     * Sets or clears door or flag bits of a room.
+     *
+     * @return true if the room's byte changed
+     */
+    boolean setFlag(final int theCell, final int theFlag, final boolean theSet) {
+        byte old = myCells[theCell];
+        byte updated = (byte) (theSet ? old | theFlag : old & ~theFlag);
+        myCells[theCell] = updated;
+        return updated != old;
+    }
+
+    /**
+     * Gets a room's doors.
+     *
+     * @return Maze.NORTH, EAST, SOUTH and WEST bits
+     */
+    int getDoors(final int theCell) {
+        return myCells[theCell] & DOOR_BITS;
+    }
+
+    RoomType getType(final int theCell) {
+        return TYPES[myTypes[myTypeOffset + theCell]];
+    }
+
+    void setType(final int theCell, final RoomType theType) {
+        myTypes[myTypeOffset + theCell] = (byte) theType.ordinal();
+    }
+
+    /**
+     * Gets what a room holds, without making a record for rooms that hold nothing.
+     *
+     * @return the record, or null if the room never held anything
+     */
+    Contents getContents(final int theCell) {
+        if (myPages == null) {
+            return null;
+        }
+        Contents[] page = myPages[page(theCell)];
+        return page == null ? null : page[slot(theCell)];
+    }
+
+    /**
+     * Gets what a room holds, making the record and its page on first use.
+     *
+     * @return the record
+     */
+    Contents contentsFor(final int theCell) {
+        Contents[] page = pageFor(theCell);
+        Contents contents = page[slot(theCell)];
+        if (contents == null) {
+            contents = new Contents();
+            page[slot(theCell)] = contents;
+        }
+        return contents;
+    }
+
+    private Contents[] pageFor(final int theCell) {
+        if (myPages == null) {
+            myPages = new Contents[1][];
+        }
+        int page = page(theCell);
+        if (myPages[page] == null) {
+            myPages[page] = new Contents[pageLength(theCell)];
+        }
+        return myPages[page];
+    }
+
+    /**
+     * Gets how many rooms the page of a room holds. Pages on the right and bottom edges,
+     * and the one page of a lone room, are cut to fit.
+     */
+    private int pageLength(final int theCell) {
+        int x = theCell % myWidth / PAGE_SIZE * PAGE_SIZE;
+        int y = theCell / myWidth / PAGE_SIZE * PAGE_SIZE;
+        return Math.min(PAGE_SIZE, myWidth - x) * Math.min(PAGE_SIZE, myHeight - y);
+    }
+
+    private int page(final int theCell) {
+        return theCell / myWidth / PAGE_SIZE * myPagesX + theCell % myWidth / PAGE_SIZE;
+    }
+
+    private int slot(final int theCell) {
+        int x = theCell % myWidth;
+        int pageWidth = Math.min(PAGE_SIZE, myWidth - x / PAGE_SIZE * PAGE_SIZE);
+        return theCell / myWidth % PAGE_SIZE * pageWidth + x % PAGE_SIZE;
+    }
+
+    /**
+     * Everything a room can hold besides doors, flags and its type. The lists are made on
+     * the first insert, since most rooms with contents hold only one kind of thing.
+     */
+    static final class Contents {
+        List<Monster> myMonsters;
+        List<Item> myItems;
+        List<Item> myChest;
+        Pillar myPillar;
+        Trap myTrap;
+    }
+}
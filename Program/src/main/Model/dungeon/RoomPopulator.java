@@ -0,0 +1,75 @@
+package main.Model.dungeon;
+
+import main.Model.element.HealthPotion;
+import main.Model.element.Trap;
+import main.Model.element.VisionPotion;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fills one patch of rooms with monsters, traps, chests and potions. Used for each tile
+ * of a fixed dungeon and each chunk of a world, so both fill rooms the same way.
+ * Only touches the rooms it is given, so patches can be filled on different threads.
+ * How much of each goes in a patch comes from its difficulty's PlacementDensities.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class RoomPopulator {
+
+    private RoomPopulator() {
+    }
+
+    /**
+     * Fills the patch. Each room with content is drawn from the sampler, monsters first,
+     * then traps, chests and potions, so a room gets at most one of them and the cost
+     * grows with the content placed, not with the size of the patch.
+     *
+     * @param theDungeon dungeon the rooms belong to, for monsters and potions
+     * @param theRooms the patch's rooms
+     * @param theSampler indices into theRooms of the empty rooms that may get content; drained here
+     * @param theCounts monsters, traps, chests and potions to place, indexed as in PlacementDensities
+     * @param theSpawnDistances distances from the spawn, making deeper monsters tougher, or null
+     * @param theRandom the patch's stream, split here into one stream per kind of content
+     */
+    static void populate(final Dungeon theDungeon, final Room[] theRooms, final PlacementSampler theSampler,
+                         final int[] theCounts, final DistanceField theSpawnDistances,
+                         final SplittableRandom theRandom) {
+        SplittableRandom placementRandom = theRandom.split();
+        SplittableRandom monsterRandom = theRandom.split();
+        SplittableRandom trapRandom = theRandom.split();
+        SplittableRandom chestRandom = theRandom.split();
+        SplittableRandom potionRandom = theRandom.split();
+
+        for (int i = 0; i < theCounts[PlacementDensities.MONSTERS] && theSampler.remaining() > 0; i++) {
+            Room room = theRooms[theSampler.next(placementRandom)];
+            room.setRoomType(RoomType.MONSTER);
+            Point position = room.getPosition();
+            double depth = theSpawnDistances == null ? 0.0
+                    : theSpawnDistances.depthAt(position.getY() * theSpawnDistances.getWidth() + position.getX());
+            theDungeon.addMonsterToRoom(room, position, monsterRandom, depth);
+        }
+        for (int i = 0; i < theCounts[PlacementDensities.TRAPS] && theSampler.remaining() > 0; i++) {
+            theRooms[theSampler.next(placementRandom)].setTrap(new Trap("Floor Spikes",
+                    "Sharp spikes emerge from the floor.", 5 + trapRandom.nextInt(10)));
+        }
+        for (int i = 0; i < theCounts[PlacementDensities.CHESTS] && theSampler.remaining() > 0; i++) {
+            Room room = theRooms[theSampler.next(placementRandom)];
+            theDungeon.createChest(room, chestRandom);
+            room.setRoomType(RoomType.TREASURE);
+        }
+        int potions = theCounts[PlacementDensities.POTIONS];
+        for (int i = 0; i < potions && theSampler.remaining() > 0; i++) {
+            Room room = theRooms[theSampler.next(potionRandom)];
+            if ((potions - i) % 2 == 0) {
+                room.addItem(new HealthPotion("Health Potion", "Heals 50", 50));
+            } else {
+                room.addItem(new VisionPotion("Vision Potion", "Reveals nearby tiles", theDungeon));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package main.Model.dungeon;
+
+import java.util.SplittableRandom;
+
+/**
+ * Wilson's algorithm: loop-erased random walks from each cell outside the maze until
+ * they hit it. Every spanning tree is equally likely, so the mazes have no directional
+ * bias. The walk keeps only the last exit taken from each cell, which erases loops
+ * without storing the path. Slow at first on large grids, while the tree is small.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class WilsonMaze implements MazeGenerator {
+
+    @Override
+    public String getName() {
+        return "wilson";
+    }
+
+    @Override
+    public void generate(final Maze theMaze, final SplittableRandom theRandom) {
+        int cells = theMaze.getCellCount();
+        long[] inMaze = new long[(cells + 63) >>> 6];
+        int[] exit = new int[cells];
+        int[] neighbors = new int[4];
+
+        int root = theRandom.nextInt(cells);
+        inMaze[root >>> 6] |= 1L << root;
+
+        for (int start = 0; start < cells; start++) {
+            if ((inMaze[start >>> 6] & (1L << start)) != 0) {
+                continue;
+            }
+            // Walk until the maze is hit, remembering the last way out of each cell
+            int cell = start;
+            while ((inMaze[cell >>> 6] & (1L << cell)) == 0) {
+                int count = theMaze.neighbors(cell, neighbors);
+                int next = neighbors[theRandom.nextInt(count)];
+                exit[cell] = next;
+                cell = next;
+            }
+            // Retrace the loop-erased path and add it to the maze
+            cell = start;
+            while ((inMaze[cell >>> 6] & (1L << cell)) == 0) {
+                inMaze[cell >>> 6] |= 1L << cell;
+                theMaze.carve(cell, exit[cell]);
+                cell = exit[cell];
+            }
+        }
+    }
+}
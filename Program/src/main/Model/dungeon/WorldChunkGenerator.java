@@ -0,0 +1,266 @@
+package main.Model.dungeon;
+
+import main.Model.element.Pillar;
+import main.Model.util.PillarType;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the chunks of a world one at a time, each from its own stream of the world
+ * seed, so a chunk comes out the same whenever and in whatever order it is generated.
+ * Every chunk carves its own maze; the doors across a chunk border come from a stream
+ * keyed by that border, so both chunks agree on them, and every border has at least
+ * one, which keeps the whole world connected. The entrance, exit and the four pillars
+ * are placed from the world seed up front, and each chunk fills its other rooms with
+ * the same densities as a fixed dungeon of the same difficulty.
+ * A world on a streamed map reads each chunk's doors from the maze file instead, whose
+ * borders already match, and only adds the loops.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+final class WorldChunkGenerator {
+    // Keys separating the streams drawn from one world seed
+    private static final long CHUNK_STREAM = 0x43484E4BL;
+    private static final long EAST_BORDER_STREAM = 0x45445245L;
+    private static final long SOUTH_BORDER_STREAM = 0x53445245L;
+    private static final long PILLAR_STREAM = 0x50494C4CL;
+
+    /** One in this many border cells gets a door besides the one every border has. */
+    private static final int EXTRA_BORDER_DOOR_ODDS = 8;
+
+    private final Dungeon myDungeon;
+    private final long mySeed;
+    private final MazeGenerator myMazeGenerator;
+    // Doors of the whole world, null when every chunk carves its own
+    private final MazeFile myMap;
+    private final int myWidth;
+    private final int myHeight;
+    private final int myChunkSize;
+    private final Point myEntrance;
+    private final Point myExit;
+    private final Point[] myPillarSpots;
+
+    /**
+     * Prepares generation for a world.
+     *
+     * @param theDungeon world the rooms belong to
+     * @param theSeed world seed
+     * @param theMazeGenerator algorithm carving each chunk's maze
+     * @param theMap complete maze file to read the doors from, or null to carve them
+     * @param theChunkSize rooms along each side of a chunk
+     */
+    WorldChunkGenerator(final Dungeon theDungeon, final long theSeed, final MazeGenerator theMazeGenerator,
+                        final MazeFile theMap, final int theChunkSize) {
+        this.myDungeon = theDungeon;
+        this.mySeed = theSeed;
+        this.myMazeGenerator = theMazeGenerator;
+        this.myMap = theMap;
+        this.myWidth = theDungeon.getWidth();
+        this.myHeight = theDungeon.getHeight();
+        this.myChunkSize = theChunkSize;
+        this.myEntrance = new Point(0, 0);
+        this.myExit = new Point(myWidth - 1, myHeight - 1);
+
+        // Pillars anywhere but the entrance and exit, drawn until four distinct spots are found
+        long rooms = (long) myWidth * myHeight;
+        int pillars = (int) Math.min(4, Math.max(0, rooms - 2));
+        List<Point> spots = new ArrayList<>(pillars);
+        SplittableRandom random = stream(PILLAR_STREAM, 0, 0);
+        while (spots.size() < pillars) {
+            Point spot = new Point(random.nextInt(myWidth), random.nextInt(myHeight));
+            if (!spot.equals(myEntrance) && !spot.equals(myExit) && !spots.contains(spot)) {
+                spots.add(spot);
+            }
+        }
+        this.myPillarSpots = spots.toArray(new Point[0]);
+    }
+
+    Point getEntrance() {
+        return myEntrance;
+    }
+
+    Point getExit() {
+        return myExit;
+    }
+
+    int getPillarCount() {
+        return myPillarSpots.length;
+    }
+
+    /**
+     * Generates one chunk. Safe to call from the prefetch thread: it only reads this
+     * generator and creates new rooms.
+     *
+     * @param theChunkX chunk column
+     * @param theChunkY chunk row
+     * @return the chunk's rooms row by row, not yet attached to the dungeon
+     * @throws IllegalStateException if the maze file cannot be read
+     */
+    Room[] generate(final int theChunkX, final int theChunkY) {
+        int originX = theChunkX * myChunkSize;
+        int originY = theChunkY * myChunkSize;
+        int width = Math.min(myChunkSize, myWidth - originX);
+        int height = Math.min(myChunkSize, myHeight - originY);
+
+        SplittableRandom random = stream(CHUNK_STREAM, theChunkX, theChunkY);
+        SplittableRandom mazeRandom = random.split();
+        SplittableRandom loopRandom = random.split();
+
+        // 1. The chunk's own maze with loops, like a small fixed dungeon, or its part of the map
+        Maze maze = new Maze(width, height);
+        if (myMap != null) {
+            readMap(maze, originX, originY);
+        } else {
+            myMazeGenerator.generate(maze, mazeRandom);
+        }
+        int[] neighbors = new int[4];
+        for (int i = 0; i < width * height / 10; i++) {
+            int cell = maze.cell(loopRandom.nextInt(width), loopRandom.nextInt(height));
+            int count = maze.neighbors(cell, neighbors);
+            if (count > 0) {
+                maze.carve(cell, neighbors[loopRandom.nextInt(count)]);
+            }
+        }
+
+        // 2. Doors through the borders shared with the neighboring chunks, which the map has
+        if (myMap == null && originX + width < myWidth) {
+            boolean[] doors = borderDoors(EAST_BORDER_STREAM, theChunkX, theChunkY, height);
+            for (int y = 0; y < height; y++) {
+                if (doors[y]) {
+                    int cell = maze.cell(width - 1, y);
+                    maze.setDoors(cell, maze.getDoors(cell) | Maze.EAST);
+                }
+            }
+        }
+        if (myMap == null && theChunkX > 0) {
+            boolean[] doors = borderDoors(EAST_BORDER_STREAM, theChunkX - 1, theChunkY, height);
+            for (int y = 0; y < height; y++) {
+                if (doors[y]) {
+                    int cell = maze.cell(0, y);
+                    maze.setDoors(cell, maze.getDoors(cell) | Maze.WEST);
+                }
+            }
+        }
+        if (myMap == null && originY + height < myHeight) {
+            boolean[] doors = borderDoors(SOUTH_BORDER_STREAM, theChunkX, theChunkY, width);
+            for (int x = 0; x < width; x++) {
+                if (doors[x]) {
+                    int cell = maze.cell(x, height - 1);
+                    maze.setDoors(cell, maze.getDoors(cell) | Maze.SOUTH);
+                }
+            }
+        }
+        if (myMap == null && theChunkY > 0) {
+            boolean[] doors = borderDoors(SOUTH_BORDER_STREAM, theChunkX, theChunkY - 1, width);
+            for (int x = 0; x < width; x++) {
+                if (doors[x]) {
+                    int cell = maze.cell(x, 0);
+                    maze.setDoors(cell, maze.getDoors(cell) | Maze.NORTH);
+                }
+            }
+        }
+
+        // 3. Rooms, with the entrance, exit and pillars that fall in this chunk
+        Room[] rooms = new Room[width * height];
+        PlacementSampler available = new PlacementSampler(rooms.length);
+        PillarType[] pillarTypes = PillarType.values();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Point position = new Point(originX + x, originY + y);
+                Room room = new Room(position, RoomType.EMPTY);
+                int doors = maze.getDoors(maze.cell(x, y));
+                room.setNorthDoor((doors & Maze.NORTH) != 0);
+                room.setEastDoor((doors & Maze.EAST) != 0);
+                room.setSouthDoor((doors & Maze.SOUTH) != 0);
+                room.setWestDoor((doors & Maze.WEST) != 0);
+                rooms[y * width + x] = room;
+
+                if (position.equals(myEntrance)) {
+                    room.setRoomType(RoomType.ENTRANCE);
+                } else if (position.equals(myExit)) {
+                    room.setRoomType(RoomType.EXIT);
+                } else {
+                    int pillar = pillarIndex(position);
+                    if (pillar >= 0) {
+                        room.setPillar(new Pillar(pillarTypes[pillar]));
+                    } else {
+                        available.add(y * width + x);
+                    }
+                }
+            }
+        }
+
+        // 4. Monsters, traps and chests, then potions, at the difficulty's densities
+        PlacementDensities densities = PlacementDensities.forDifficulty(myDungeon.getDifficulty());
+        int[] counts = new int[4];
+        for (int category = 0; category < counts.length; category++) {
+            counts[category] = (int) densities.count(category, rooms.length);
+        }
+        RoomPopulator.populate(myDungeon, rooms, available, counts, null, random);
+        return rooms;
+    }
+
+    /**
+     * Copies the doors of a chunk's rooms from the map, those through its borders included.
+     */
+    private void readMap(final Maze theMaze, final int theOriginX, final int theOriginY) {
+        try {
+            for (int y = 0; y < theMaze.getHeight(); y++) {
+                for (int x = 0; x < theMaze.getWidth(); x++) {
+                    theMaze.setDoors(theMaze.cell(x, y), myMap.getDoors(theOriginX + x, theOriginY + y));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read the world map: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Picks the doors through one border: one at a random cell, plus each other cell at random.
+     *
+     * @param theStream EAST_BORDER_STREAM or SOUTH_BORDER_STREAM
+     * @param theChunkX column of the chunk west of or above the border
+     * @param theChunkY row of the chunk west of or above the border
+     * @param theLength cells along the border
+     * @return which cells have a door
+     */
+    private boolean[] borderDoors(final long theStream, final int theChunkX, final int theChunkY,
+                                  final int theLength) {
+        SplittableRandom random = stream(theStream, theChunkX, theChunkY);
+        boolean[] doors = new boolean[theLength];
+        doors[random.nextInt(theLength)] = true;
+        for (int i = 0; i < theLength; i++) {
+            doors[i] |= random.nextInt(EXTRA_BORDER_DOOR_ODDS) == 0;
+        }
+        return doors;
+    }
+
+    private int pillarIndex(final Point thePosition) {
+        for (int i = 0; i < myPillarSpots.length; i++) {
+            if (myPillarSpots[i].equals(thePosition)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Derives an independent generator for one purpose and chunk from the world seed.
+     */
+    private SplittableRandom stream(final long theStream, final int theChunkX, final int theChunkY) {
+        long key = mySeed ^ theStream * 0x9E3779B97F4A7C15L;
+        key += ((long) theChunkX << 32 | (theChunkY & 0xFFFFFFFFL)) * 0xBF58476D1CE4E5B9L;
+        // Finalizer from SplitMix64, so neighboring chunks get unrelated seeds
+        key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(key ^ (key >>> 31));
+    }
+}
@@ -54,6 +54,15 @@ public class Trap extends DungeonElement {
         return myIsSprung;
     }
 
+    /**
+     * Restores the sprung state of a trap loaded from a save.
+     *
+     * @param theSprung true if the trap already went off
+     */
+    public void setSprung(final boolean theSprung) {
+        this.myIsSprung = theSprung;
+    }
+
     /**
      * Resets the trap so it can be triggered again (optional functionality).
      */
@@ -2,7 +2,6 @@ package main.Model.element;
 
 import main.Model.character.Hero;
 import main.Model.dungeon.Dungeon;
-import main.Model.dungeon.Room;
 import main.Model.util.Point;
 
 
@@ -15,6 +14,8 @@ import main.Model.util.Point;
  * @version 6/13/2025
  */
 public class VisionPotion extends Item {
+    /** Rooms revealed on each side of the hero, so a 3x3 square around them. */
+    private static final int REVEAL_RANGE = 1;
 
     private final Dungeon myDungeon;
 
@@ -45,19 +46,8 @@ public class VisionPotion extends Item {
             Point spot = theHero.getPosition();
             int x = spot.getX();
             int y = spot.getY();
-            Room currRoom;
-
-            int[] dx = {-1, -1, -1, 0, 0, 1, 1, 1};
-            int[] dy = {-1,  0,  1, -1, 1, -1, 0, 1};
-
-            for (int rooms = 0; rooms < 8; rooms++) {
-                int currX = x + dx[rooms];
-                int currY = y + dy[rooms];
-
-                if (currX >= 0 && currX < myDungeon.getHeight() && currY >= 0 && currY < myDungeon.getWidth()) {
-                    myDungeon.getRoom(currX, currY).setVisited(true);
-                }
-            }
+            // Clipped to the dungeon's width in x and height in y
+            myDungeon.revealRect(x - REVEAL_RANGE, y - REVEAL_RANGE, x + REVEAL_RANGE, y + REVEAL_RANGE);
         } else {
             if (theHero == null) {
                 throw new NullPointerException("Hero is null for vision potion use method.");
@@ -0,0 +1,123 @@
+package main.Model.journal;
+
+import main.Model.dungeon.DungeonDelta;
+import main.Model.util.SaveFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One journal record: what happened, the hero afterwards and the rooms it changed.
+ * Records carry resulting state instead of the action, so replaying them never
+ * re-runs game rules or random rolls.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class GameEvent {
+    /**
+     * Kinds of events the game journals.
+     */
+    public enum Type {
+        ROOM_ENTERED,
+        COMBAT_WON,
+        COMBAT_FLED,
+        ITEM_PICKED_UP,
+        PILLAR_ACTIVATED
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private final Type myType;
+    private final long myTimestamp;
+    private final byte[] myHeroData;
+    private final DungeonDelta myChanges;
+
+    /**
+     * Creates an event.
+     *
+     * @param theType what happened.
+     * @param theTimestamp when it happened, in epoch milliseconds.
+     * @param theHeroData hero payload from Hero.toSaveBytes() after the event.
+     * @param theChanges rooms the event changed, with the dungeon's counters.
+     */
+    public GameEvent(final Type theType, final long theTimestamp, final byte[] theHeroData,
+                     final DungeonDelta theChanges) {
+        if (theType == null || theHeroData == null || theChanges == null) {
+            throw new IllegalArgumentException("Event type, hero data and changes cannot be null.");
+        }
+        this.myType = theType;
+        this.myTimestamp = theTimestamp;
+        this.myHeroData = theHeroData;
+        this.myChanges = theChanges;
+    }
+
+    public Type getType() {
+        return myType;
+    }
+
+    public long getTimestamp() {
+        return myTimestamp;
+    }
+
+    public byte[] getHeroData() {
+        return myHeroData;
+    }
+
+    public DungeonDelta getChanges() {
+        return myChanges;
+    }
+
+    /**
+     * Encodes the event as a journal record body.
+     *
+     * @return encoded event.
+     * @throws IOException if encoding fails.
+     */
+    byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + myHeroData.length);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(myType.ordinal());
+        out.writeLong(myTimestamp);
+        SaveFormat.writeVarInt(out, myHeroData.length);
+        out.write(myHeroData);
+        SaveFormat.writeVarInt(out, myChanges.getActivatedPillars());
+        out.writeBoolean(myChanges.isBossSpawned());
+        SaveFormat.writeVarInt(out, myChanges.getRoomCount());
+        for (DungeonDelta.RoomState room : myChanges.getRooms()) {
+            room.write(out);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a record body written by encode.
+     *
+     * @param theData encoded event.
+     * @return the event.
+     * @throws IOException if the record is truncated or corrupt.
+     */
+    static GameEvent decode(final byte[] theData) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(theData));
+        Type type = SaveFormat.readOrdinal(in, TYPES);
+        long timestamp = in.readLong();
+        byte[] hero = new byte[SaveFormat.readVarInt(in)];
+        in.readFully(hero);
+        int activatedPillars = SaveFormat.readVarInt(in);
+        boolean bossSpawned = in.readBoolean();
+        int roomCount = SaveFormat.readVarInt(in);
+        List<DungeonDelta.RoomState> rooms = new ArrayList<>(Math.min(roomCount, 16));
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(DungeonDelta.RoomState.read(in));
+        }
+        return new GameEvent(type, timestamp, hero, new DungeonDelta(activatedPillars, bossSpawned, rooms));
+    }
+}
@@ -0,0 +1,562 @@
+package main.Model.journal;
+
+import main.Model.character.Hero;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.util.SaveFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.BufferedInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of game events for continuous autosave and crash recovery.
+ * A session starts with a checkpoint holding full hero and dungeon payloads, then
+ * every event is appended to the journal file. Appends only copy the record into a
+ * buffer; a background thread writes everything buffered in one sequential write
+ * and one fsync, at most every GROUP_COMMIT_MILLIS. A new checkpoint every
+ * CHECKPOINT_INTERVAL events starts an empty journal, which bounds replay time.
+ * Recovery reads the checkpoint and replays the journal up to the first torn or
+ * corrupt record.
+ *
+ * Files: the checkpoint is "DDC", version, generation, hero and dungeon payloads, CRC32.
+ * The journal is "DDJ", version and the generation of its checkpoint, followed by
+ * records of length, CRC32 and a GameEvent body. A journal whose generation does not
+ * match the checkpoint belongs to an older checkpoint and is ignored.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class GameJournal {
+    /** Events between checkpoints. */
+    public static final int CHECKPOINT_INTERVAL = 100;
+
+    /** Longest time an appended event waits before it is synced to disk. */
+    public static final long GROUP_COMMIT_MILLIS = 50;
+
+    private static final String DEFAULT_DIRECTORY = "journal"; // Next to dungeondive.db
+    private static final String CHECKPOINT_FILE = "game.checkpoint";
+    private static final String JOURNAL_FILE = "game.journal";
+    private static final byte[] CHECKPOINT_MAGIC = {'D', 'D', 'C'};
+    private static final byte[] JOURNAL_MAGIC = {'D', 'D', 'J'};
+    private static final int FILE_VERSION = 1;
+    private static final int JOURNAL_HEADER_SIZE = 3 + 1 + 8;
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    private static GameJournal myInstance;
+
+    private final Path myDirectory;
+    private final Path myCheckpointPath;
+    private final Path myJournalPath;
+    private final ScheduledExecutorService myWriter;
+
+    /** Encoded records not yet handed to the writer thread. Guarded by itself. */
+    private final ByteArrayOutputStream myPending = new ByteArrayOutputStream(4096);
+    private int myPendingRecords;
+    private boolean myFlushScheduled;
+    private boolean mySessionOpen;
+    private int myEventsSinceCheckpoint;
+
+    // Only touched on the writer thread
+    private FileChannel myJournal;
+    private long myGeneration;
+
+    private final AtomicLong myAppended = new AtomicLong();
+    private final AtomicLong myWritten = new AtomicLong();
+    private final AtomicLong mySyncs = new AtomicLong();
+    private final AtomicLong myCheckpoints = new AtomicLong();
+    private final AtomicLong myFailures = new AtomicLong();
+    private final AtomicLong myTotalSyncNanos = new AtomicLong();
+
+    /**
+     * Creates a journal keeping its files in a directory, created on the first checkpoint.
+     *
+     * @param theDirectory directory for the checkpoint and journal files.
+     */
+    public GameJournal(final Path theDirectory) {
+        if (theDirectory == null) {
+            throw new IllegalArgumentException("Directory cannot be null for GameJournal.");
+        }
+        this.myDirectory = theDirectory;
+        this.myCheckpointPath = theDirectory.resolve(CHECKPOINT_FILE);
+        this.myJournalPath = theDirectory.resolve(JOURNAL_FILE);
+        this.myWriter = Executors.newSingleThreadScheduledExecutor(theTask -> {
+            Thread thread = new Thread(theTask, "journal-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the shared journal kept in the working directory.
+     *
+     * @return the shared journal.
+     */
+    public static synchronized GameJournal getInstance() {
+        if (myInstance == null) {
+            myInstance = new GameJournal(Paths.get(DEFAULT_DIRECTORY));
+        }
+        return myInstance;
+    }
+
+    /**
+     * Syncs buffered events and stops the shared journal. The session stays on disk
+     * so it can be recovered next time. The next getInstance call opens a fresh journal.
+     */
+    public static synchronized void shutdown() {
+        if (myInstance != null) {
+            myInstance.close();
+            System.out.println("Game journal stopped. " + myInstance.getStats());
+            myInstance = null;
+        }
+    }
+
+    /**
+     * Starts journaling a game from its current state, replacing any earlier session.
+     *
+     * @param theHeroData hero payload from Hero.toSaveBytes().
+     * @param theDungeonData dungeon payload from Dungeon.toSaveBytes().
+     */
+    public void startSession(final byte[] theHeroData, final byte[] theDungeonData) {
+        synchronized (myPending) {
+            mySessionOpen = true;
+        }
+        checkpoint(theHeroData, theDungeonData);
+    }
+
+    /**
+     * Appends an event. Returns as soon as the record is buffered; it reaches
+     * the disk with the next group commit. Ignored when no session is open.
+     *
+     * @param theEvent event to append.
+     */
+    public void append(final GameEvent theEvent) {
+        byte[] body;
+        try {
+            body = theEvent.encode();
+        } catch (IOException e) {
+            System.err.println("Error journaling " + theEvent.getType() + ": " + e.getMessage());
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        synchronized (myPending) {
+            if (!mySessionOpen) {
+                return;
+            }
+            writeInt(myPending, body.length);
+            writeInt(myPending, (int) crc.getValue());
+            myPending.writeBytes(body);
+            myPendingRecords++;
+            myEventsSinceCheckpoint++;
+            if (!myFlushScheduled) {
+                myFlushScheduled = true;
+                myWriter.schedule(this::writePending, GROUP_COMMIT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        myAppended.incrementAndGet();
+    }
+
+    /**
+     * Checks whether enough events were appended since the last checkpoint that a new one is due.
+     *
+     * @return true if the caller should call checkpoint.
+     */
+    public boolean isCheckpointDue() {
+        synchronized (myPending) {
+            return mySessionOpen && myEventsSinceCheckpoint >= CHECKPOINT_INTERVAL;
+        }
+    }
+
+    /**
+     * Writes a checkpoint of the current state and starts an empty journal after it.
+     * Events still buffered are dropped, since the checkpoint already holds their effects.
+     *
+     * @param theHeroData hero payload from Hero.toSaveBytes().
+     * @param theDungeonData dungeon payload from Dungeon.toSaveBytes().
+     */
+    public void checkpoint(final byte[] theHeroData, final byte[] theDungeonData) {
+        if (theHeroData == null || theDungeonData == null) {
+            throw new IllegalArgumentException("Checkpoint payloads cannot be null.");
+        }
+        synchronized (myPending) {
+            if (!mySessionOpen) {
+                return;
+            }
+            myPending.reset();
+            myPendingRecords = 0;
+            myEventsSinceCheckpoint = 0;
+        }
+        myWriter.execute(() -> writeCheckpoint(theHeroData, theDungeonData));
+    }
+
+    /**
+     * Ends the session and deletes its files, for games that finished or were abandoned.
+     */
+    public void endSession() {
+        synchronized (myPending) {
+            mySessionOpen = false;
+            myPending.reset();
+            myPendingRecords = 0;
+            myEventsSinceCheckpoint = 0;
+        }
+        myWriter.execute(() -> {
+            try {
+                closeJournal();
+                Files.deleteIfExists(myJournalPath);
+                Files.deleteIfExists(myCheckpointPath);
+            } catch (IOException e) {
+                myFailures.incrementAndGet();
+                System.err.println("Error deleting game journal: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Writes and syncs everything appended so far, waiting for the writer thread.
+     */
+    public void flush() {
+        try {
+            myWriter.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("Error flushing game journal: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Syncs buffered events, closes the journal file and stops the writer thread.
+     */
+    public void close() {
+        try {
+            myWriter.submit(() -> {
+                writePending();
+                closeJournal();
+            });
+        } catch (java.util.concurrent.RejectedExecutionException e) {
+            return;
+        }
+        myWriter.shutdown();
+        try {
+            if (!myWriter.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("Timed out waiting for the game journal to sync");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Checks whether a session from an earlier run is on disk.
+     *
+     * @return true if recover may return a game.
+     */
+    public boolean hasRecoverableGame() {
+        return Files.isRegularFile(myCheckpointPath);
+    }
+
+    /**
+     * Rebuilds the game of the session on disk: the last checkpoint plus every intact
+     * journal record after it. A torn or corrupt record ends the replay.
+     *
+     * @return the recovered game, or null if there is no readable checkpoint.
+     */
+    public Recovery recover() {
+        flush();
+        long start = System.nanoTime();
+        byte[] heroData;
+        byte[] dungeonData;
+        long generation;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(myCheckpointPath)))) {
+            byte[] checkpoint = in.readAllBytes();
+            if (checkpoint.length < 4) {
+                throw new IOException("Checkpoint is truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(checkpoint, 0, checkpoint.length - 4);
+            if ((int) crc.getValue() != ByteBuffer.wrap(checkpoint, checkpoint.length - 4, 4).getInt()) {
+                throw new IOException("Checkpoint checksum mismatch");
+            }
+            DataInputStream body = new DataInputStream(new java.io.ByteArrayInputStream(checkpoint));
+            readMagic(body, CHECKPOINT_MAGIC);
+            generation = body.readLong();
+            heroData = new byte[SaveFormat.readVarInt(body)];
+            body.readFully(heroData);
+            dungeonData = new byte[SaveFormat.readVarInt(body)];
+            body.readFully(dungeonData);
+        } catch (IOException e) {
+            System.err.println("Cannot recover game, checkpoint unreadable: " + e.getMessage());
+            return null;
+        }
+
+        Dungeon dungeon = Dungeon.fromSaveBytes(dungeonData);
+        if (dungeon == null) {
+            return null;
+        }
+
+        DungeonDelta changes = null;
+        int replayed = 0;
+        boolean torn = false;
+        if (Files.isRegularFile(myJournalPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(myJournalPath)))) {
+                readMagic(in, JOURNAL_MAGIC);
+                if (in.readLong() == generation) {
+                    GameEvent event;
+                    while (true) {
+                        try {
+                            event = readRecord(in);
+                        } catch (EOFException e) {
+                            break;
+                        } catch (IOException e) {
+                            torn = true;
+                            break;
+                        }
+                        heroData = event.getHeroData();
+                        changes = changes == null ? event.getChanges() : changes.mergedWith(event.getChanges());
+                        replayed++;
+                    }
+                }
+            } catch (IOException e) {
+                // No usable journal header, the checkpoint alone is the latest state
+                torn = true;
+            }
+        }
+
+        Hero hero = Hero.fromSaveBytes(heroData);
+        if (hero == null) {
+            return null;
+        }
+        dungeon.applyChanges(changes);
+        System.out.println("Recovered game from checkpoint " + generation + " and " + replayed + " journal events"
+                + (torn ? " (torn tail dropped)" : "") + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return new Recovery(hero, dungeon, replayed);
+    }
+
+    /**
+     * Reads one record. A clean end of file before a record starts throws EOFException,
+     * anything cut short or failing its checksum throws a plain IOException.
+     */
+    private static GameEvent readRecord(final DataInputStream theIn) throws IOException {
+        int first = theIn.read();
+        if (first < 0) {
+            throw new EOFException();
+        }
+        try {
+            int length = (first << 24) | (theIn.readUnsignedByte() << 16)
+                    | (theIn.readUnsignedByte() << 8) | theIn.readUnsignedByte();
+            int checksum = theIn.readInt();
+            if (length <= 0 || length > MAX_RECORD_SIZE) {
+                throw new IOException("Bad record length " + length);
+            }
+            byte[] body = new byte[length];
+            theIn.readFully(body);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Record checksum mismatch");
+            }
+            return GameEvent.decode(body);
+        } catch (EOFException e) {
+            throw new IOException("Record cut short", e);
+        }
+    }
+
+    /**
+     * Runs on the writer thread: one write and one fsync for every record buffered since the last one.
+     */
+    private void writePending() {
+        byte[] batch;
+        int records;
+        synchronized (myPending) {
+            myFlushScheduled = false;
+            if (myPendingRecords == 0 || !mySessionOpen) {
+                return;
+            }
+            batch = myPending.toByteArray();
+            records = myPendingRecords;
+            myPending.reset();
+            myPendingRecords = 0;
+        }
+        if (myJournal == null) {
+            myFailures.incrementAndGet();
+            System.err.println("Game journal is not open, dropped " + records + " events");
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            ByteBuffer buffer = ByteBuffer.wrap(batch);
+            while (buffer.hasRemaining()) {
+                myJournal.write(buffer);
+            }
+            myJournal.force(false);
+            myTotalSyncNanos.addAndGet(System.nanoTime() - start);
+            mySyncs.incrementAndGet();
+            myWritten.addAndGet(records);
+        } catch (IOException e) {
+            myFailures.incrementAndGet();
+            System.err.println("Error writing game journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Runs on the writer thread. The checkpoint is written to a temporary file and renamed
+     * over the old one, so a crash leaves either the old or the new checkpoint whole.
+     */
+    private void writeCheckpoint(final byte[] theHeroData, final byte[] theDungeonData) {
+        long generation = myGeneration + 1;
+        try {
+            Files.createDirectories(myDirectory);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + theHeroData.length + theDungeonData.length);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.write(CHECKPOINT_MAGIC);
+            out.writeByte(FILE_VERSION);
+            out.writeLong(generation);
+            SaveFormat.writeVarInt(out, theHeroData.length);
+            out.write(theHeroData);
+            SaveFormat.writeVarInt(out, theDungeonData.length);
+            out.write(theDungeonData);
+            CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+
+            Path temp = myDirectory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, myCheckpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            closeJournal();
+            myJournal = FileChannel.open(myJournalPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE);
+            header.put(JOURNAL_MAGIC).put((byte) FILE_VERSION).putLong(generation).flip();
+            while (header.hasRemaining()) {
+                myJournal.write(header);
+            }
+            myJournal.force(true);
+            myGeneration = generation;
+            myCheckpoints.incrementAndGet();
+        } catch (IOException e) {
+            myFailures.incrementAndGet();
+            System.err.println("Error writing game checkpoint: " + e.getMessage());
+        }
+    }
+
+    private void closeJournal() {
+        if (myJournal != null) {
+            try {
+                myJournal.close();
+            } catch (IOException e) {
+                System.err.println("Error closing game journal: " + e.getMessage());
+            }
+            myJournal = null;
+        }
+    }
+
+    private static void readMagic(final InputStream theIn, final byte[] theMagic) throws IOException {
+        for (byte expected : theMagic) {
+            if (theIn.read() != expected) {
+                throw new IOException("Not a game journal file");
+            }
+        }
+        int version = theIn.read();
+        if (version < 1 || version > FILE_VERSION) {
+            throw new IOException("Unsupported journal version " + version);
+        }
+    }
+
+    private static void writeInt(final ByteArrayOutputStream theOut, final int theValue) {
+        theOut.write(theValue >>> 24);
+        theOut.write(theValue >>> 16);
+        theOut.write(theValue >>> 8);
+        theOut.write(theValue);
+    }
+
+    public long getAppendedCount() {
+        return myAppended.get();
+    }
+
+    public long getWrittenCount() {
+        return myWritten.get();
+    }
+
+    public long getSyncCount() {
+        return mySyncs.get();
+    }
+
+    public long getCheckpointCount() {
+        return myCheckpoints.get();
+    }
+
+    public long getFailureCount() {
+        return myFailures.get();
+    }
+
+    /**
+     * Gets a one line summary of the journal counters.
+     *
+     * @return counter summary.
+     */
+    public String getStats() {
+        long syncs = mySyncs.get();
+        return String.format("Events appended: %d, written: %d, fsyncs: %d (%.1f events each, avg %.2f ms), "
+                        + "checkpoints: %d, failures: %d",
+                myAppended.get(), myWritten.get(), syncs, syncs == 0 ? 0.0 : (double) myWritten.get() / syncs,
+                syncs == 0 ? 0.0 : myTotalSyncNanos.get() / 1_000_000.0 / syncs,
+                myCheckpoints.get(), myFailures.get());
+    }
+
+    /**
+     * A game rebuilt from the journal.
+     */
+    public static final class Recovery {
+        private final Hero myHero;
+        private final Dungeon myDungeon;
+        private final int myReplayedEvents;
+
+        private Recovery(final Hero theHero, final Dungeon theDungeon, final int theReplayedEvents) {
+            this.myHero = theHero;
+            this.myDungeon = theDungeon;
+            this.myReplayedEvents = theReplayedEvents;
+        }
+
+        public Hero getHero() {
+            return myHero;
+        }
+
+        public Dungeon getDungeon() {
+            return myDungeon;
+        }
+
+        public int getReplayedEvents() {
+            return myReplayedEvents;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package main.Model.util;
+
+/**
+ * Packs a pair of int coordinates into one long, so positions can be kept in primitive
+ * arrays and used as map keys without a Point or a boxed Long per lookup. The column
+ * takes the high 32 bits and the row the low 32 bits, so any two ints pack and unpack
+ * exactly, negative ones included. Cells inside a known grid are packed tighter still
+ * as int indices y * width + x, see Maze.cell.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class Coordinates {
+    private Coordinates() {
+    }
+
+    /**
+     * Packs a position.
+     *
+     * @param theX column
+     * @param theY row
+     * @return the packed position
+     */
+    public static long pack(final int theX, final int theY) {
+        return ((long) theX << 32) | (theY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Packs a point.
+     *
+     * @param thePoint the point
+     * @return the packed position
+     */
+    public static long pack(final Point thePoint) {
+        if (thePoint == null) {
+            throw new IllegalArgumentException("Point cannot be null.");
+        }
+        return pack(thePoint.getX(), thePoint.getY());
+    }
+
+    /**
+     * Gets the column of a packed position.
+     *
+     * @param thePacked packed position
+     * @return the column
+     */
+    public static int x(final long thePacked) {
+        return (int) (thePacked >> 32);
+    }
+
+    /**
+     * Gets the row of a packed position.
+     *
+     * @param thePacked packed position
+     * @return the row
+     */
+    public static int y(final long thePacked) {
+        return (int) thePacked;
+    }
+
+    /**
+     * Gets the canonical point of a packed position, see Point.of.
+     *
+     * @param thePacked packed position
+     * @return the point
+     */
+    public static Point toPoint(final long thePacked) {
+        return Point.of(x(thePacked), y(thePacked));
+    }
+
+    /**
+     * Mixes a packed position into a well spread int, so neighboring positions land in
+     * different slots of an open addressing table.
+     *
+     * @param thePacked packed position
+     * @return the hash
+     */
+    public static int hash(final long thePacked) {
+        long mixed = thePacked * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
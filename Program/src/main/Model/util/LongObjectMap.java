@@ -0,0 +1,236 @@
+package main.Model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Map from primitive long keys, usually positions packed with Coordinates, to objects.
+ * Lookups neither box the key nor allocate. Entries sit in dense arrays in the order
+ * they were added, and an open addressing table with linear probing holds each entry's
+ * index, so iterating with keyAt and valueAt walks plain arrays. Removing an entry moves
+ * the last one into its place. Not thread safe.
+ *
+ * @param <V> value type
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class LongObjectMap<V> {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] myKeys;
+    private Object[] myValues;
+    // Index into myKeys and myValues, or EMPTY; at least twice as many slots as entries
+    private int[] mySlots;
+    private int mySize;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates an empty map with room for some entries before it grows.
+     *
+     * @param theExpected entries expected
+     */
+    public LongObjectMap(final int theExpected) {
+        if (theExpected < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative.");
+        }
+        int capacity = Math.max(MIN_CAPACITY, theExpected);
+        myKeys = new long[capacity];
+        myValues = new Object[capacity];
+        mySlots = newSlots(capacity);
+    }
+
+    /**
+     * Gets the value of a key.
+     *
+     * @param theKey the key
+     * @return the value, or null if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long theKey) {
+        int index = mySlots[slot(theKey)];
+        return index == EMPTY ? null : (V) myValues[index];
+    }
+
+    public boolean containsKey(final long theKey) {
+        return mySlots[slot(theKey)] != EMPTY;
+    }
+
+    /**
+     * Sets the value of a key. A key already present keeps its place in the order.
+     *
+     * @param theKey the key
+     * @param theValue the value, not null
+     * @return the previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final long theKey, final V theValue) {
+        if (theValue == null) {
+            throw new IllegalArgumentException("Map values cannot be null.");
+        }
+        int slot = slot(theKey);
+        int index = mySlots[slot];
+        if (index != EMPTY) {
+            V previous = (V) myValues[index];
+            myValues[index] = theValue;
+            return previous;
+        }
+        if (mySize == myKeys.length) {
+            grow();
+            slot = slot(theKey);
+        }
+        myKeys[mySize] = theKey;
+        myValues[mySize] = theValue;
+        mySlots[slot] = mySize;
+        mySize++;
+        return null;
+    }
+
+    /**
+     * Removes a key. The last entry moves into the removed one's place in the order.
+     *
+     * @param theKey the key
+     * @return the removed value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final long theKey) {
+        int slot = slot(theKey);
+        int index = mySlots[slot];
+        if (index == EMPTY) {
+            return null;
+        }
+        V removed = (V) myValues[index];
+        clearSlot(slot);
+        int last = mySize - 1;
+        if (index != last) {
+            myKeys[index] = myKeys[last];
+            myValues[index] = myValues[last];
+            mySlots[slot(myKeys[last])] = index;
+        }
+        myValues[last] = null;
+        mySize--;
+        return removed;
+    }
+
+    public int size() {
+        return mySize;
+    }
+
+    public boolean isEmpty() {
+        return mySize == 0;
+    }
+
+    /**
+     * Removes every entry, keeping the arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(myValues, 0, mySize, null);
+        Arrays.fill(mySlots, EMPTY);
+        mySize = 0;
+    }
+
+    /**
+     * Gets the key of an entry by its place in the order.
+     *
+     * @param theIndex from 0 to size - 1
+     * @return the key
+     */
+    public long keyAt(final int theIndex) {
+        checkIndex(theIndex);
+        return myKeys[theIndex];
+    }
+
+    /**
+     * Gets the value of an entry by its place in the order.
+     *
+     * @param theIndex from 0 to size - 1
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(final int theIndex) {
+        checkIndex(theIndex);
+        return (V) myValues[theIndex];
+    }
+
+    /**
+     * Gets the values in order.
+     *
+     * @return read-only view that follows changes to the map
+     */
+    public List<V> values() {
+        return new AbstractList<V>() {
+            @Override
+            public V get(final int theIndex) {
+                return valueAt(theIndex);
+            }
+
+            @Override
+            public int size() {
+                return mySize;
+            }
+        };
+    }
+
+    /**
+     * Finds the slot holding a key, or the empty slot where it would go.
+     */
+    private int slot(final long theKey) {
+        int mask = mySlots.length - 1;
+        int slot = Coordinates.hash(theKey) & mask;
+        while (mySlots[slot] != EMPTY && myKeys[mySlots[slot]] != theKey) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties a slot and shifts back the entries after it that probed past it, so every
+     * entry stays reachable from its home slot without tombstones.
+     */
+    private void clearSlot(final int theSlot) {
+        int mask = mySlots.length - 1;
+        int gap = theSlot;
+        int next = (gap + 1) & mask;
+        while (mySlots[next] != EMPTY) {
+            int home = Coordinates.hash(myKeys[mySlots[next]]) & mask;
+            // Move the entry unless its home lies between the gap and where it sits
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                mySlots[gap] = mySlots[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        mySlots[gap] = EMPTY;
+    }
+
+    private void grow() {
+        int capacity = myKeys.length * 2;
+        myKeys = Arrays.copyOf(myKeys, capacity);
+        myValues = Arrays.copyOf(myValues, capacity);
+        mySlots = newSlots(capacity);
+        for (int i = 0; i < mySize; i++) {
+            mySlots[slot(myKeys[i])] = i;
+        }
+    }
+
+    private void checkIndex(final int theIndex) {
+        if (theIndex < 0 || theIndex >= mySize) {
+            throw new IndexOutOfBoundsException("Index " + theIndex + " outside 0 to " + (mySize - 1) + ".");
+        }
+    }
+
+    private static int[] newSlots(final int theCapacity) {
+        int[] slots = new int[Integer.highestOneBit(theCapacity - 1) << 2];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+}
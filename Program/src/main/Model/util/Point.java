@@ -1,10 +1,10 @@
 package main.Model.util;
 
-import java.util.Objects;
-
 /**
  * Represents a 2D point with x and y coordinates.
  * This class is used to define positions within the dungeon.
+ * Points are immutable, so of hands out one shared instance per position near the
+ * origin instead of a new one per move; use Coordinates to keep positions as longs.
  *
  * @author Jacob Hilliker
  * @author Emanuel Feria
@@ -12,6 +12,14 @@ import java.util.Objects;
  * @version 6/13/2025
  */
 public class Point {
+    /** Columns and rows from 0 up to this, exclusive, have a shared instance from of. */
+    public static final int CACHE_LIMIT = 256;
+
+    // Rows of shared instances, each made when first asked for. Two threads racing on a
+    // row or a point both make one and one copy wins, which is harmless since points are
+    // immutable and compared with equals.
+    private static final Point[][] CACHE = new Point[CACHE_LIMIT][];
+
     private final int myX;
     private final int myY;
 
@@ -26,6 +34,31 @@ public class Point {
         this.myY = theY;
     }
 
+    /**
+     * Gets a point for a position, the same instance on every call for columns and rows
+     * from 0 up to CACHE_LIMIT, and a new one outside them.
+     *
+     * @param theX The x-coordinate.
+     * @param theY The y-coordinate.
+     * @return a point at the position.
+     */
+    public static Point of(final int theX, final int theY) {
+        if (theX < 0 || theY < 0 || theX >= CACHE_LIMIT || theY >= CACHE_LIMIT) {
+            return new Point(theX, theY);
+        }
+        Point[] row = CACHE[theY];
+        if (row == null) {
+            row = new Point[CACHE_LIMIT];
+            CACHE[theY] = row;
+        }
+        Point point = row[theX];
+        if (point == null) {
+            point = new Point(theX, theY);
+            row[theX] = point;
+        }
+        return point;
+    }
+
     /**
      * Gets the x-coordinate of this point.
      *
@@ -76,13 +109,14 @@ public class Point {
     }
 
     /**
-     * Generates a hash code for this Point.
+     * Generates a hash code for this Point, the value Objects.hash(x, y) gives without
+     * boxing the coordinates into an array.
      *
      * @return The hash code.
      */
     @Override
     public int hashCode() {
-        return Objects.hash(myX, myY);
+        return 31 * (31 + myX) + myY;
     }
 
     /**
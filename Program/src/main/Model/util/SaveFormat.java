@@ -0,0 +1,206 @@
+package main.Model.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Shared pieces of the compact binary save format used by Hero and Dungeon.
+ * Every binary payload starts with a 4 byte header: the magic bytes "DD",
+ * a kind byte ('H' for hero, 'D' for dungeon) and the format version.
+ * Payloads without the header are legacy JSON rows.
+ * Counts and coordinates are written as varints, signed values zigzag encoded.
+ *
+ * @author Jacob Hilliker
+ * @author Emanuel Feria
+ * @author Vladyslav Glavatskyi
+ * @version 10/18/2026
+ */
+public final class SaveFormat {
+    /**
+     * Current binary format version, bump when the layout changes.
+     * Version 2 adds the generator version and seed to dungeon payloads,
+     * version 3 the maze algorithm.
+     */
+    public static final int VERSION = 3;
+
+    /** Kind byte for hero payloads. */
+    public static final byte KIND_HERO = 'H';
+
+    /** Kind byte for dungeon payloads. */
+    public static final byte KIND_DUNGEON = 'D';
+
+    private static final byte MAGIC_0 = 'D';
+    private static final byte MAGIC_1 = 'D';
+
+    private SaveFormat() {
+    }
+
+    /**
+     * Checks whether a stored payload uses the binary format.
+     * JSON payloads start with '{' so they never match.
+     *
+     * @param theData stored payload.
+     * @return true if the payload has a binary header.
+     */
+    public static boolean isBinary(final byte[] theData) {
+        return theData != null && theData.length >= 4
+                && theData[0] == MAGIC_0 && theData[1] == MAGIC_1;
+    }
+
+    /**
+     * Writes the format header.
+     *
+     * @param theOut output to write to.
+     * @param theKind KIND_HERO or KIND_DUNGEON.
+     * @throws IOException if writing fails.
+     */
+    public static void writeHeader(final DataOutput theOut, final byte theKind) throws IOException {
+        theOut.writeByte(MAGIC_0);
+        theOut.writeByte(MAGIC_1);
+        theOut.writeByte(theKind);
+        theOut.writeByte(VERSION);
+    }
+
+    /**
+     * Reads and checks the format header.
+     *
+     * @param theIn input to read from.
+     * @param theKind expected kind byte.
+     * @return the payload's format version.
+     * @throws IOException if the header is missing, of another kind, or newer than this build.
+     */
+    public static int readHeader(final DataInput theIn, final byte theKind) throws IOException {
+        if (theIn.readByte() != MAGIC_0 || theIn.readByte() != MAGIC_1) {
+            throw new IOException("Not a binary save payload");
+        }
+        byte kind = theIn.readByte();
+        if (kind != theKind) {
+            throw new IOException("Expected save kind " + (char) theKind + " but found " + (char) kind);
+        }
+        int version = theIn.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported save format version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Writes a non-negative int in 1 to 5 bytes, 7 bits per byte.
+     *
+     * @param theOut output to write to.
+     * @param theValue value to write, must not be negative.
+     * @throws IOException if writing fails.
+     */
+    public static void writeVarInt(final DataOutput theOut, final int theValue) throws IOException {
+        if (theValue < 0) {
+            throw new IllegalArgumentException("Varint value cannot be negative: " + theValue);
+        }
+        int value = theValue;
+        while ((value & ~0x7F) != 0) {
+            theOut.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        theOut.writeByte(value);
+    }
+
+    /**
+     * Reads a value written by writeVarInt.
+     *
+     * @param theIn input to read from.
+     * @return the value.
+     * @throws IOException if the varint is malformed or the input ends.
+     */
+    public static int readVarInt(final DataInput theIn) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = theIn.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Writes any int as a zigzag varint so small negative values stay short.
+     *
+     * @param theOut output to write to.
+     * @param theValue value to write.
+     * @throws IOException if writing fails.
+     */
+    public static void writeSignedVarInt(final DataOutput theOut, final int theValue) throws IOException {
+        int zigzag = (theValue << 1) ^ (theValue >> 31);
+        int value = zigzag;
+        while ((value & ~0x7F) != 0) {
+            theOut.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        theOut.writeByte(value);
+    }
+
+    /**
+     * Reads a value written by writeSignedVarInt.
+     *
+     * @param theIn input to read from.
+     * @return the value.
+     * @throws IOException if the varint is malformed or the input ends.
+     */
+    public static int readSignedVarInt(final DataInput theIn) throws IOException {
+        int zigzag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = theIn.readUnsignedByte();
+            zigzag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Writes a UTF-8 string prefixed with its varint byte length.
+     *
+     * @param theOut output to write to.
+     * @param theValue string to write, not null.
+     * @throws IOException if writing fails.
+     */
+    public static void writeString(final DataOutput theOut, final String theValue) throws IOException {
+        byte[] bytes = theValue.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(theOut, bytes.length);
+        theOut.write(bytes);
+    }
+
+    /**
+     * Reads a string written by writeString.
+     *
+     * @param theIn input to read from.
+     * @return the string.
+     * @throws IOException if the input ends early.
+     */
+    public static String readString(final DataInput theIn) throws IOException {
+        byte[] bytes = new byte[readVarInt(theIn)];
+        theIn.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads an enum constant stored as its ordinal.
+     *
+     * @param theIn input to read from.
+     * @param theValues the enum's values().
+     * @param <E> enum type.
+     * @return the constant.
+     * @throws IOException if the ordinal is out of range.
+     */
+    public static <E extends Enum<E>> E readOrdinal(final DataInput theIn, final E[] theValues) throws IOException {
+        int ordinal = theIn.readUnsignedByte();
+        if (ordinal >= theValues.length) {
+            throw new IOException("Unknown ordinal " + ordinal + " for "
+                    + theValues.getClass().getComponentType().getSimpleName());
+        }
+        return theValues[ordinal];
+    }
+}
@@ -60,11 +60,13 @@ public class GameUI {
     }
 
     public void showIntroScreen() {
+        myController.getGameModel().prepareNewGame();
         IntroScreen intro = new IntroScreen(myPrimaryStage, myController);
         intro.showScreen(this);
     }
 
     public void showHeroSelection() {
+        myController.getGameModel().prepareNewGame();
         HeroSelectionScreen heroSelection = new HeroSelectionScreen(myPrimaryStage, myController);
         heroSelection.showScreen(this);
     }
@@ -237,7 +237,8 @@ public class HelpScreen extends Screen {
                 "W/↑ - Move Up\n" +
                         "A/← - Move Left\n" +
                         "D/→ - Move Right\n" +
-                        "S/↓ - Move Down"
+                        "S/↓ - Move Down\n" +
+                        "T - Travel to Next Pillar or Exit"
         );
 
         VBox combatSection = createContentSection(
@@ -11,6 +11,7 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import main.Controller.Controller;
+import main.Model.journal.GameJournal;
 import main.View.GameUI;
 
 /**
@@ -154,6 +155,13 @@ public class IntroScreen extends Screen {
         loadGameBtn.setOnAction(event -> getController().savedGames(event, theUI));
         quitBtn.setOnAction(event -> getController().exitProgram(event));
 
+        // Offer the game that was running when the program last stopped, if its journal survived
+        if (GameJournal.getInstance().hasRecoverableGame()) {
+            Button continueBtn = createStyledButton("CONTINUE", buttonFont);
+            continueBtn.setOnAction(event -> getController().continueGame(event, theUI));
+            buttonBox.getChildren().add(continueBtn);
+        }
+
         buttonBox.getChildren().addAll(newGameBtn, loadGameBtn, quitBtn);
         return buttonBox;
     }
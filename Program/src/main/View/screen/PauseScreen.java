@@ -2,6 +2,8 @@ package main.View.screen;
 
 import javafx.scene.control.*;
 import main.Controller.Controller;
+import main.Model.Database;
+import main.Model.dungeon.DungeonDelta;
 import main.View.GameUI;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -229,14 +231,16 @@ public class PauseScreen extends Screen {
     private boolean loadGameFromDatabase(String saveName, GameUI theUI) {
         try (ResultSet rs = getController().getGameModel().getDatabase().loadGameData(saveName)) {
             if (rs != null && rs.next()) {
-                String playerData = rs.getString("player_data");
-                String dungeonData = rs.getString("dungeon_data");
+                byte[] playerData = Database.getPayload(rs, "player_data");
+                byte[] dungeonData = Database.getPayload(rs, "dungeon_data");
                 String gameStateData = rs.getString("game_state");
 
                 getController().initializeGameControllersForLoadedGame(theUI);
 
+                DungeonDelta dungeonChanges = getController().getGameModel().getDatabase().loadDungeonDelta(saveName);
+
                 boolean loaded = getController().getGameController().loadGameFromSaveData(
-                        playerData, dungeonData, gameStateData);
+                        saveName, playerData, dungeonData, dungeonChanges, gameStateData);
 
                 if (loaded) {
                     System.out.println("Game loaded successfully from PauseScreen");
@@ -4,10 +4,16 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -15,19 +21,25 @@ import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import main.Controller.Controller;
+import main.Model.Database;
+import main.Model.SaveSummary;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.util.HeroType;
 import main.View.GameUI;
 
 import java.io.InputStream;
 import java.sql.ResultSet;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Class for the SavesScreen.
  * Allows players to view, load, and delete previously saved games
- * retrieved from a database. It features a scrollable list of save files
- * and provides options to return to the main menu or pause menu.
+ * retrieved from a database. Saves are listed from their summaries a page at a time
+ * in a ListView, which only builds rows for the saves on screen, and can be searched,
+ * filtered by hero type and sorted. Payloads are read only when a save is loaded.
  *
  * @author Jacob Hilliker
  * @author Emanuel Feria
@@ -72,6 +84,15 @@ public class SavesScreen extends Screen {
 
     /** Base preferred height for the scrollable area containing the saves list. */
     private static final int BASE_SCROLL_AREA_HEIGHT = 300;
+    /** Base side length of the explored map thumbnail in a save row. */
+    private static final int BASE_THUMBNAIL_SIZE = 64;
+    /** Base width of the search field. */
+    private static final int BASE_SEARCH_FIELD_WIDTH = 300;
+
+    /** Saves fetched per page. */
+    private static final int PAGE_SIZE = 40;
+    /** The next page is fetched once a row this close to the end of the loaded saves is shown. */
+    private static final int PREFETCH_ROWS = 10;
 
     /** Path to the custom pixel font resource. */
     private static final String FONT_PATH = "/main/View/fonts/PixelFont.ttf";
@@ -93,6 +114,19 @@ public class SavesScreen extends Screen {
     /** The scene for this screen. */
     private Scene scene;
 
+    /** The virtualized list of save summaries. */
+    private ListView<SaveSummary> savesListView;
+    /** Text the listed save or hero names must contain, or null. */
+    private String searchText;
+    /** Hero type the list is filtered to, or null for all. */
+    private HeroType heroTypeFilter;
+    /** Current sort order. */
+    private SaveSummary.Order sortOrder = SaveSummary.Order.NEWEST;
+    /** Whether the last page fetched was full, so another may follow. */
+    private boolean hasMoreSaves;
+    /** Whether a page fetch is already queued. */
+    private boolean pageRequested;
+
     /**
      * Constructs a SavesScreen.
      *
@@ -200,10 +234,11 @@ public class SavesScreen extends Screen {
         titleContainer.setPadding(new Insets(0, 0, 20, 0));
         titleContainer.getChildren().add(titleText);
 
-        ScrollPane savesList = createSavesListArea(fonts, theUI);
+        HBox filterBar = createFilterBar(fonts, theUI);
+        ListView<SaveSummary> savesList = createSavesListArea(fonts, theUI);
         Button backButton = createBackButton(fonts.button, theUI);
 
-        root.getChildren().addAll(titleContainer, savesList, backButton);
+        root.getChildren().addAll(titleContainer, filterBar, savesList, backButton);
     }
 
     /**
@@ -259,97 +294,226 @@ public class SavesScreen extends Screen {
     }
 
     /**
-     * Creates the scrollable area that will contain the list of save files.
+     * Creates the search field, hero type filter and sort order selector shown above the saves list.
+     * Changing any of them reloads the list from its first page.
      * @param fonts The FontBundle containing fonts for styling.
      * @param theUI The GameUI instance for handling actions.
-     * @return A configured ScrollPane containing the list of saves.
+     * @return An HBox holding the filter controls.
      */
-    private ScrollPane createSavesListArea(FontBundle fonts, GameUI theUI) {
-        VBox savesList = new VBox(BASE_SAVE_LIST_SPACING);
-        savesList.setAlignment(Pos.TOP_CENTER);
-        savesList.setPadding(new Insets(20));
+    private HBox createFilterBar(FontBundle fonts, GameUI theUI) {
+        TextField searchField = new TextField();
+        searchField.setPromptText("Search saves or heroes");
+        searchField.setFont(fonts.message);
+        searchField.setPrefWidth(BASE_SEARCH_FIELD_WIDTH);
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> {
+            searchText = newVal == null || newVal.isBlank() ? null : newVal.trim();
+            populateSavesList(fonts, theUI);
+        });
 
-        populateSavesList(savesList, fonts, theUI);
+        ComboBox<String> heroTypeBox = new ComboBox<>();
+        heroTypeBox.getItems().add("ALL HEROES");
+        for (HeroType type : HeroType.values()) {
+            heroTypeBox.getItems().add(type.getDisplayName());
+        }
+        heroTypeBox.getSelectionModel().selectFirst();
+        heroTypeBox.setOnAction(event -> {
+            int index = heroTypeBox.getSelectionModel().getSelectedIndex();
+            heroTypeFilter = index <= 0 ? null : HeroType.values()[index - 1];
+            populateSavesList(fonts, theUI);
+        });
+
+        ComboBox<String> orderBox = new ComboBox<>();
+        orderBox.getItems().addAll("NEWEST FIRST", "BY NAME");
+        orderBox.getSelectionModel().selectFirst();
+        orderBox.setOnAction(event -> {
+            sortOrder = orderBox.getSelectionModel().getSelectedIndex() == 1
+                    ? SaveSummary.Order.NAME : SaveSummary.Order.NEWEST;
+            populateSavesList(fonts, theUI);
+        });
 
-        ScrollPane scrollPane = new ScrollPane(savesList);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollPane.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
+        HBox filterBar = new HBox(BASE_SAVE_ROW_SPACING, searchField, heroTypeBox, orderBox);
+        filterBar.setAlignment(Pos.CENTER);
+        return filterBar;
+    }
+
+    /**
+     * Creates the virtualized list that shows the save files.
+     * Rows are built only for the saves in view and reused while scrolling.
+     * @param fonts The FontBundle containing fonts for styling.
+     * @param theUI The GameUI instance for handling actions.
+     * @return A configured ListView of save summaries.
+     */
+    private ListView<SaveSummary> createSavesListArea(FontBundle fonts, GameUI theUI) {
+        savesListView = new ListView<>();
+        savesListView.setCellFactory(list -> new SaveSummaryCell(fonts, theUI));
+        savesListView.setFixedCellSize(BASE_SAVE_BUTTON_HEIGHT + BASE_SAVE_LIST_SPACING);
+        savesListView.setFocusTraversable(false);
 
-        scrollPane.setPrefViewportHeight(BASE_SCROLL_AREA_HEIGHT);
-        scrollPane.setMinHeight(150);
-        scrollPane.setMaxHeight(BASE_SCROLL_AREA_HEIGHT * 1.5);
+        savesListView.setPrefHeight(BASE_SCROLL_AREA_HEIGHT);
+        savesListView.setMinHeight(150);
+        savesListView.setMaxHeight(BASE_SCROLL_AREA_HEIGHT * 1.5);
 
-        scrollPane.setStyle(
+        savesListView.setStyle(
                 "-fx-background: rgba(42, 42, 42, 0.9); " +
                         "-fx-background-color: rgba(42, 42, 42, 0.9); " +
+                        "-fx-control-inner-background: transparent; " +
                         "-fx-border-color: #8B4513; " +
                         "-fx-border-width: 4px; " +
                         "-fx-border-radius: 10px; " +
                         "-fx-background-radius: 10px; " +
+                        "-fx-padding: 10px; " +
                         "-fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.8), 8, 0.3, 3, 3);"
         );
 
-        return scrollPane;
+        populateSavesList(fonts, theUI);
+        return savesListView;
     }
 
     /**
-     * Fetches save games from the database and populates the UI list.
-     * @param savesList The VBox container for the save rows.
+     * Reloads the saves list from its first page with the current search, filter and order.
      * @param fonts The FontBundle for styling.
      * @param theUI The GameUI instance for button actions.
      */
-    private void populateSavesList(VBox savesList, FontBundle fonts, GameUI theUI) {
-        try (ResultSet saves = getController().getGameModel().getDatabase().getAllSaveGames()) {
-            boolean hasSaves = false;
-            if (saves != null) {
-                while (saves.next()) {
-                    hasSaves = true;
-                    String saveName = saves.getString("save_name");
-                    String saveDate = saves.getString("save_date");
-                    HBox saveRow = createSaveRow(saveName, formatSaveDate(saveDate), fonts, theUI);
-                    savesList.getChildren().add(saveRow);
+    private void populateSavesList(FontBundle fonts, GameUI theUI) {
+        savesListView.getItems().clear();
+        hasMoreSaves = true;
+        pageRequested = false;
+        boolean filtered = searchText != null || heroTypeFilter != null;
+        savesListView.setPlaceholder(filtered
+                ? createNoSavesLabel(fonts.message, "No saved games match.")
+                : createNoSavesLabel(fonts.message, "No saved games found."));
+        if (!getController().getGameModel().getDatabase().isConnected()) {
+            savesListView.setPlaceholder(createErrorLabel(fonts.message));
+            hasMoreSaves = false;
+            return;
+        }
+        loadNextPage();
+    }
+
+    /**
+     * Appends the page of saves after the last one in the list.
+     */
+    private void loadNextPage() {
+        pageRequested = false;
+        if (!hasMoreSaves) {
+            return;
+        }
+        List<SaveSummary> items = savesListView.getItems();
+        SaveSummary last = items.isEmpty() ? null : items.get(items.size() - 1);
+        List<SaveSummary> page = getController().getGameModel().getDatabase()
+                .getSaveSummaries(searchText, heroTypeFilter, sortOrder, last, PAGE_SIZE);
+        hasMoreSaves = page.size() == PAGE_SIZE;
+        items.addAll(page);
+    }
+
+    /**
+     * Queues a fetch of the next page when a row near the end of the loaded saves comes into view.
+     * The fetch runs after the current layout pass, since the list cannot change during one.
+     * @param index The index of the row being shown.
+     */
+    private void onRowShown(int index) {
+        if (hasMoreSaves && !pageRequested && index >= savesListView.getItems().size() - PREFETCH_ROWS) {
+            pageRequested = true;
+            Platform.runLater(this::loadNextPage);
+        }
+    }
+
+    /**
+     * A reusable row of the saves list: map thumbnail, load button and delete button.
+     * The ListView keeps only as many of these as fit on screen and rebinds them while scrolling.
+     */
+    private class SaveSummaryCell extends ListCell<SaveSummary> {
+        private final Canvas thumbnail = new Canvas(BASE_THUMBNAIL_SIZE, BASE_THUMBNAIL_SIZE);
+        private final Button saveButton;
+        private final Button deleteButton;
+        private final HBox saveRow;
+
+        /**
+         * Constructs a row whose buttons act on whichever save it currently shows.
+         * @param fonts The FontBundle for styling.
+         * @param theUI The GameUI instance for actions.
+         */
+        SaveSummaryCell(FontBundle fonts, GameUI theUI) {
+            saveButton = createSaveButton(fonts.saveButton);
+            saveButton.setOnAction(event -> {
+                String saveName = getItem().getSaveName();
+                if (loadGameFromDatabase(saveName, theUI)) {
+                    theUI.showGameScreen();
+                } else {
+                    showErrorAlert("Load Failed", "Failed to load game: " + saveName);
                 }
+            });
+            deleteButton = createDeleteButton(fonts.deleteButton);
+            deleteButton.setOnAction(event -> handleDeleteSave(getItem()));
+
+            saveRow = new HBox(BASE_SAVE_ROW_SPACING, thumbnail, saveButton, deleteButton);
+            saveRow.setAlignment(Pos.CENTER);
+            setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+        }
+
+        @Override
+        protected void updateItem(SaveSummary summary, boolean empty) {
+            super.updateItem(summary, empty);
+            if (empty || summary == null) {
+                setGraphic(null);
+                return;
             }
-            if (!hasSaves) {
-                savesList.getChildren().add(createNoSavesLabel(fonts.message));
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading save games: " + e.getMessage());
-            e.printStackTrace();
-            savesList.getChildren().add(createErrorLabel(fonts.message));
+            saveButton.setText(describeSave(summary));
+            drawThumbnail(thumbnail.getGraphicsContext2D(), summary.getThumbnail());
+            setGraphic(saveRow);
+            onRowShown(getIndex());
         }
     }
 
     /**
-     * Creates a single horizontal row for a save file, containing load and delete buttons.
-     * @param saveName The name of the save file.
-     * @param formattedDate The formatted date of the save.
-     * @param fonts The FontBundle for styling.
-     * @param theUI The GameUI instance for actions.
-     * @return An HBox representing a single save entry.
+     * Builds the text of a save button from its summary.
+     * @param summary The save's summary.
+     * @return The save name, hero, progress, date and size on two lines.
      */
-    private HBox createSaveRow(String saveName, String formattedDate, FontBundle fonts, GameUI theUI) {
-        HBox saveRow = new HBox(BASE_SAVE_ROW_SPACING);
-        saveRow.setAlignment(Pos.CENTER);
-
-        Button saveButton = createSaveButton(saveName, formattedDate, fonts.saveButton, theUI);
-        Button deleteButton = createDeleteButton(saveName, fonts.deleteButton, theUI);
+    private String describeSave(SaveSummary summary) {
+        String hero = summary.getHeroName() == null ? "Unknown hero"
+                : summary.getHeroName() + (summary.getHeroType() == null ? ""
+                : " the " + summary.getHeroType().getDisplayName());
+        return summary.getSaveName() + " - " + formatSaveDate(summary.getSaveDate()) + "\n"
+                + hero + " | " + summary.getPillars() + "/4 pillars | " + summary.getGold() + " gold | "
+                + Math.max(1, summary.getPayloadSize() / 1024) + " KB";
+    }
 
-        saveRow.getChildren().addAll(saveButton, deleteButton);
-        return saveRow;
+    /**
+     * Draws a save's explored map thumbnail, or a blank square if it has none.
+     * @param gc The graphics context of the thumbnail canvas.
+     * @param thumbnailData Bytes from Dungeon.createThumbnail, or null.
+     */
+    private void drawThumbnail(GraphicsContext gc, byte[] thumbnailData) {
+        double size = gc.getCanvas().getWidth();
+        gc.setFill(Color.rgb(20, 20, 20));
+        gc.fillRect(0, 0, size, size);
+        if (thumbnailData == null || thumbnailData.length < 2) {
+            return;
+        }
+        int width = thumbnailData[0] & 0xFF;
+        int height = thumbnailData[1] & 0xFF;
+        if (width == 0 || height == 0 || thumbnailData.length < 2 + width * height) {
+            return;
+        }
+        double cell = size / Math.max(width, height);
+        gc.setFill(TAN_COLOR);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (thumbnailData[2 + y * width + x] != 0) {
+                    gc.fillRect(x * cell, y * cell, cell, cell);
+                }
+            }
+        }
     }
 
     /**
-     * Creates a styled button for loading a specific save game.
-     * @param saveName The name of the save.
-     * @param formattedDate The formatted date of the save.
+     * Creates a styled button for loading a save game. Its row sets the text and action.
      * @param buttonFont The font for the button text.
-     * @param theUI The GameUI instance for actions.
      * @return A configured Button for loading a game.
      */
-    private Button createSaveButton(String saveName, String formattedDate, Font buttonFont, GameUI theUI) {
-        Button saveButton = createStyledButton(saveName + "\n" + formattedDate, buttonFont);
+    private Button createSaveButton(Font buttonFont) {
+        Button saveButton = createStyledButton("", buttonFont);
 
         saveButton.setPrefWidth(BASE_SAVE_BUTTON_WIDTH);
         saveButton.setPrefHeight(BASE_SAVE_BUTTON_HEIGHT);
@@ -373,25 +537,15 @@ public class SavesScreen extends Screen {
 
         saveButton.setOnMouseEntered(e -> saveButton.setStyle(customStyle + "-fx-background-color: #3C3C3C;"));
         saveButton.setOnMouseExited(e -> saveButton.setStyle(customStyle));
-
-        saveButton.setOnAction(event -> {
-            if (loadGameFromDatabase(saveName, theUI)) {
-                theUI.showGameScreen();
-            } else {
-                showErrorAlert("Load Failed", "Failed to load game: " + saveName);
-            }
-        });
         return saveButton;
     }
 
     /**
-     * Creates a styled button for deleting a specific save game.
-     * @param saveName The name of the save to delete.
+     * Creates a styled button for deleting a save game. Its row sets the action.
      * @param buttonFont The font for the button text.
-     * @param theUI The GameUI instance for refreshing the screen after deletion.
      * @return A configured Button for deleting a game.
      */
-    private Button createDeleteButton(String saveName, Font buttonFont, GameUI theUI) {
+    private Button createDeleteButton(Font buttonFont) {
         Button deleteButton = new Button("DELETE");
         deleteButton.setFont(buttonFont);
         deleteButton.setPrefWidth(BASE_DELETE_BUTTON_WIDTH);
@@ -402,18 +556,17 @@ public class SavesScreen extends Screen {
 
         deleteButton.setOnMouseEntered(e -> deleteButton.setStyle(DELETE_BUTTON_STYLE + "-fx-background-color: #A52A2A;"));
         deleteButton.setOnMouseExited(e -> deleteButton.setStyle(DELETE_BUTTON_STYLE));
-
-        deleteButton.setOnAction(event -> handleDeleteSave(saveName, theUI));
         return deleteButton;
     }
 
     /**
      * Creates a label to display when no saved games are found.
      * @param messageFont The font for the label.
+     * @param message The text to show.
      * @return A styled Label indicating no saves were found.
      */
-    private Label createNoSavesLabel(Font messageFont) {
-        Label noSavesLabel = new Label("No saved games found.");
+    private Label createNoSavesLabel(Font messageFont, String message) {
+        Label noSavesLabel = new Label(message);
         noSavesLabel.setFont(messageFont);
         noSavesLabel.setTextFill(TAN_COLOR);
         noSavesLabel.setStyle("-fx-effect: dropshadow(three-pass-box, rgba(0,0,0,0.8), 3, 0, 1, 1);");
@@ -463,10 +616,10 @@ public class SavesScreen extends Screen {
 
     /**
      * Handles the logic for deleting a save file, including user confirmation.
-     * @param saveName The name of the save to delete.
-     * @param theUI The GameUI instance to refresh the screen upon success.
+     * @param summary The summary of the save to delete.
      */
-    private void handleDeleteSave(String saveName, GameUI theUI) {
+    private void handleDeleteSave(SaveSummary summary) {
+        String saveName = summary.getSaveName();
         Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
         alert.setTitle("Delete Save");
         alert.setHeaderText("Are you sure you want to delete this save?");
@@ -475,7 +628,7 @@ public class SavesScreen extends Screen {
         Optional<ButtonType> result = alert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             if (getController().getGameModel().getDatabase().deleteSaveGame(saveName)) {
-                showScreen(theUI); // Refresh the screen
+                savesListView.getItems().remove(summary);
             } else {
                 showErrorAlert("Delete Failed", "Could not delete the save file from the database.");
             }
@@ -484,6 +637,7 @@ public class SavesScreen extends Screen {
 
     /**
      * Loads game data from the database using the specified save name.
+     * This is the only place the save's payloads are read.
      * @param saveName The name of the save file to load.
      * @param theUI The GameUI instance for initializing controllers.
      * @return True if the game was loaded successfully, false otherwise.
@@ -491,11 +645,13 @@ public class SavesScreen extends Screen {
     private boolean loadGameFromDatabase(String saveName, GameUI theUI) {
         try (ResultSet rs = getController().getGameModel().getDatabase().loadGameData(saveName)) {
             if (rs != null && rs.next()) {
-                String playerData = rs.getString("player_data");
-                String dungeonData = rs.getString("dungeon_data");
+                byte[] playerData = Database.getPayload(rs, "player_data");
+                byte[] dungeonData = Database.getPayload(rs, "dungeon_data");
                 String gameStateData = rs.getString("game_state");
+                DungeonDelta dungeonChanges = getController().getGameModel().getDatabase().loadDungeonDelta(saveName);
                 getController().initializeGameControllersForLoadedGame(theUI);
-                return getController().getGameController().loadGameFromSaveData(playerData, dungeonData, gameStateData);
+                return getController().getGameController().loadGameFromSaveData(
+                        saveName, playerData, dungeonData, dungeonChanges, gameStateData);
             }
         } catch (Exception e) {
             System.err.println("Error loading game from SavesScreen: " + e.getMessage());
@@ -4,6 +4,7 @@ import javafx.animation.AnimationTimer;
 import main.Controller.Controller;
 import main.Controller.StateController;
 import main.Model.character.Hero;
+import main.Model.dungeon.DungeonPool;
 
 /**
  * Manages the main game loop for the game screen.
@@ -42,6 +43,9 @@ public class GameScreenGameLoop {
     /** Flag to prevent double-processing during room transitions */
     private boolean justTransitioned = false;
 
+    /** Set until the first frame after start, which ends a new game's time to first frame */
+    private boolean firstFrame = false;
+
     /**
      * Constructs a new game loop with the required dependencies.
      *
@@ -72,9 +76,14 @@ public class GameScreenGameLoop {
                         updateGame();
                     }
                     renderer.renderRoom();
+                    if (firstFrame) {
+                        firstFrame = false;
+                        DungeonPool.getInstance().recordFirstFrame();
+                    }
                 }
             };
         }
+        firstFrame = true;
         gameLoop.start();
     }
 
@@ -191,7 +191,7 @@ class GameScreenMinimapRenderer {
                         Color.PURPLE : Color.MEDIUMPURPLE;
             case MONSTER:
                 // Light gray if cleared, red if monsters remain
-                return room.getMonsters().isEmpty() ? Color.LIGHTGRAY : Color.RED;
+                return room.hasMonsters() ? Color.RED : Color.LIGHTGRAY;
             case TREASURE:
                 // Light gray if opened, gold if unopened
                 return room.isChestOpened() ? Color.LIGHTGRAY : Color.GOLD;
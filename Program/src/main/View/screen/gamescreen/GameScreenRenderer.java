@@ -2,17 +2,24 @@ package main.View.screen.gamescreen;
 
 import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Window;
 import main.Controller.Controller;
 import main.Model.character.Hero;
+import main.Model.dungeon.Maze;
 import main.Model.dungeon.Room;
 import main.Model.element.Item;
+import main.Model.journal.GameEvent;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -31,6 +38,8 @@ import java.util.Objects;
  *   <li>Collision detection for collectible items</li>
  *   <li>Checkerboard floor pattern generation</li>
  *   <li>Dynamic wall and door rendering based on room connectivity</li>
+ *   <li>Static room layer (floor, walls, doors) rasterized once per door layout and
+ *       canvas size, so each frame draws one image under the moving parts</li>
  * </ul>
  *
  * <p>The renderer works in conjunction with {@link GameScreenCanvasDimensions} to ensure
@@ -103,6 +112,43 @@ public class GameScreenRenderer {
      */
     private Image chestSprite;
 
+    // ====== STATIC ROOM LAYER CACHE ======
+
+    /**
+     * Rasterized floor, walls and doors by layer key, least recently used first
+     */
+    private final Map<Long, Image> roomLayers = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Image> eldest) {
+            return size() > MAX_CACHED_ROOM_LAYERS;
+        }
+    };
+
+    /**
+     * Offscreen canvas the static layer is drawn on before it is snapshotted
+     */
+    private Canvas layerCanvas;
+
+    /**
+     * Key of the layer drawn last frame, checked before the map is looked up
+     */
+    private long currentLayerKey = -1;
+
+    /**
+     * Layer drawn last frame
+     */
+    private Image currentLayer;
+
+    /**
+     * Output scale the cached layers were rasterized at
+     */
+    private double layerScale = 1.0;
+
+    /**
+     * Whether the static layer is drawn from the cache or redrawn every frame
+     */
+    private boolean roomLayerCaching = true;
+
     // ====== ANIMATION STATE ======
 
     /**
@@ -149,6 +195,16 @@ public class GameScreenRenderer {
      */
     private static final double CHEST_COLLECTION_DISTANCE = 40.0;
 
+    /**
+     * Most static room layers kept; one per door layout at a single canvas size
+     */
+    private static final int MAX_CACHED_ROOM_LAYERS = 16;
+
+    /**
+     * Canvas background color behind the floor
+     */
+    private static final Color BACKGROUND_COLOR = Color.rgb(20, 20, 25);
+
     /**
      * Constructs a new GameScreenRenderer with the specified dependencies.
      *
@@ -313,36 +369,156 @@ public class GameScreenRenderer {
      *
      * <p>This is the main rendering method that draws the entire room in layers:</p>
      * <ol>
-     *   <li>Clear the canvas with background color</li>
-     *   <li>Draw the checkerboard floor pattern</li>
-     *   <li>Draw walls and doors based on room connectivity</li>
-     *   <li>Draw interactive objects (pillars, chests)</li>
+     *   <li>Draw the static layer: background, checkerboard floor, and walls and
+     *       doors based on room connectivity</li>
+     *   <li>Draw interactive objects (pillars, chests) with their glows</li>
      *   <li>Draw the player character</li>
      * </ol>
      *
+     * <p>The static layer only changes when the player enters a room with other
+     * doors or the canvas is resized, so it is drawn as one cached image instead of
+     * hundreds of floor tiles per frame. See {@link #drawStaticLayer()}.</p>
+     *
      * <p>If the graphics context is not available, this method returns early
      * without performing any rendering operations.</p>
      */
     public void renderRoom() {
         if (graphicsContext == null) return;
 
-        clearCanvas();
-        drawFloor();
-        drawWalls();
+        drawStaticLayer();
         drawPillar();
         drawChest();
         drawPlayer();
     }
 
+    /**
+     * Draws the background, floor, walls and doors of the current room.
+     *
+     * <p>With caching on, the layer is rasterized once per door layout and canvas
+     * size into an image kept in a small least recently used cache, and later frames
+     * draw that image. The image is rasterized at the window's output scale so it
+     * stays sharp on high density screens. With caching off, or before the canvas is
+     * in a scene, every part is drawn directly as before.</p>
+     */
+    private void drawStaticLayer() {
+        Room currentRoom = getCurrentRoom();
+        if (!roomLayerCaching || roomCanvas.getScene() == null) {
+            drawRoomBackground(graphicsContext, currentRoom);
+            return;
+        }
+
+        double size = canvasDimensions.getSize();
+        double scale = getOutputScale();
+        if (scale != layerScale) {
+            clearRoomLayerCache();
+            layerScale = scale;
+        }
+
+        long key = roomLayerKey(currentRoom, size);
+        if (key != currentLayerKey || currentLayer == null) {
+            currentLayer = roomLayers.get(key);
+            if (currentLayer == null) {
+                currentLayer = rasterizeRoomLayer(currentRoom, size, scale);
+                roomLayers.put(key, currentLayer);
+            }
+            currentLayerKey = key;
+        }
+
+        double layerSize = Math.ceil(size);
+        graphicsContext.drawImage(currentLayer, 0, 0, layerSize, layerSize);
+    }
+
+    /**
+     * Builds the cache key of a static layer from the room's doors and the canvas size.
+     *
+     * <p>The low four bits hold the door mask (Maze.NORTH, EAST, SOUTH and WEST),
+     * bit four whether there is a room at all, and the bits above the canvas size
+     * in eighths of a pixel, finer than any difference the layer can show.</p>
+     *
+     * @param room The current room, or null
+     * @param size The canvas size
+     * @return The layer key
+     */
+    private static long roomLayerKey(Room room, double size) {
+        int doors = 0;
+        if (room != null) {
+            doors = 0x10;
+            doors |= room.hasNorthDoor() ? Maze.NORTH : 0;
+            doors |= room.hasEastDoor() ? Maze.EAST : 0;
+            doors |= room.hasSouthDoor() ? Maze.SOUTH : 0;
+            doors |= room.hasWestDoor() ? Maze.WEST : 0;
+        }
+        return (Math.round(size * 8) << 5) | doors;
+    }
+
+    /**
+     * Draws a room's static layer on the offscreen canvas and snapshots it.
+     *
+     * @param room  The room whose doors to draw, or null for the floor alone
+     * @param size  The canvas size
+     * @param scale The output scale to rasterize at
+     * @return The rasterized layer, ceil(size) pixels square before scaling
+     */
+    private Image rasterizeRoomLayer(Room room, double size, double scale) {
+        double layerSize = Math.ceil(size);
+        if (layerCanvas == null) {
+            layerCanvas = new Canvas();
+        }
+        layerCanvas.setWidth(layerSize);
+        layerCanvas.setHeight(layerSize);
+
+        GraphicsContext layerGraphics = layerCanvas.getGraphicsContext2D();
+        layerGraphics.clearRect(0, 0, layerSize, layerSize);
+        drawRoomBackground(layerGraphics, room);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(scale, scale));
+        return layerCanvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Draws the background, floor, walls and doors of a room.
+     *
+     * @param graphics The graphics context to draw on
+     * @param room     The room whose doors to draw, or null for the floor alone
+     */
+    private void drawRoomBackground(GraphicsContext graphics, Room room) {
+        clearCanvas(graphics);
+        drawFloor(graphics);
+        drawWalls(graphics, room);
+    }
+
+    /**
+     * Gets the output scale of the window showing the room canvas.
+     *
+     * @return The horizontal output scale, or 1 if the canvas is not shown
+     */
+    private double getOutputScale() {
+        Window window = roomCanvas.getScene().getWindow();
+        return window == null ? 1.0 : window.getOutputScaleX();
+    }
+
+    /**
+     * Drops every cached static layer.
+     */
+    private void clearRoomLayerCache() {
+        roomLayers.clear();
+        currentLayer = null;
+        currentLayerKey = -1;
+    }
+
     /**
      * Clears the canvas and fills it with the background color.
      *
      * <p>Uses a dark blue-gray color (RGB: 20, 20, 25) as the background
      * to provide contrast for the game elements.</p>
+     *
+     * @param graphics The graphics context to draw on
      */
-    private void clearCanvas() {
-        graphicsContext.setFill(Color.rgb(20, 20, 25));
-        graphicsContext.fillRect(0, 0, canvasDimensions.getSize(), canvasDimensions.getSize());
+    private void clearCanvas(GraphicsContext graphics) {
+        graphics.setFill(BACKGROUND_COLOR);
+        graphics.fillRect(0, 0, canvasDimensions.getSize(), canvasDimensions.getSize());
     }
 
     /**
@@ -357,16 +533,18 @@ public class GameScreenRenderer {
      *   <li>Dark stone: RGB(40, 40, 45)</li>
      *   <li>Light stone: RGB(50, 50, 55)</li>
      * </ul>
+     *
+     * @param graphics The graphics context to draw on
      */
-    private void drawFloor() {
+    private void drawFloor(GraphicsContext graphics) {
         Color darkStone = Color.rgb(40, 40, 45);
         Color lightStone = Color.rgb(50, 50, 55);
         int tilesPerSide = (int) (canvasDimensions.getSize() / canvasDimensions.getTileSize());
 
         for (int y = 0; y < tilesPerSide; y++) {
             for (int x = 0; x < tilesPerSide; x++) {
-                graphicsContext.setFill(((x + y) % 2 == 0) ? darkStone : lightStone);
-                graphicsContext.fillRect(x * canvasDimensions.getTileSize(), y * canvasDimensions.getTileSize(),
+                graphics.setFill(((x + y) % 2 == 0) ? darkStone : lightStone);
+                graphics.fillRect(x * canvasDimensions.getTileSize(), y * canvasDimensions.getTileSize(),
                         canvasDimensions.getTileSize(), canvasDimensions.getTileSize());
             }
         }
@@ -386,9 +564,11 @@ public class GameScreenRenderer {
      *   <li>Wall color: RGB(80, 85, 100)</li>
      *   <li>Door color: RGB(25, 25, 30)</li>
      * </ul>
+     *
+     * @param graphics    The graphics context to draw on
+     * @param currentRoom The room whose doors to draw, or null
      */
-    private void drawWalls() {
-        Room currentRoom = getCurrentRoom();
+    private void drawWalls(GraphicsContext graphics, Room currentRoom) {
         if (currentRoom == null) return;
 
         Color wallColor = Color.rgb(80, 85, 100);
@@ -399,15 +579,18 @@ public class GameScreenRenderer {
         double doorWidth = canvasDimensions.getDoorWidth();
 
         // Draw walls
-        drawWall(0, 0, size, thickness, currentRoom.hasNorthDoor(), true, doorWidth, wallColor, doorColor);
-        drawWall(0, size - thickness, size, thickness, currentRoom.hasSouthDoor(), true, doorWidth, wallColor, doorColor);
-        drawWall(0, 0, thickness, size, currentRoom.hasWestDoor(), false, doorWidth, wallColor, doorColor);
-        drawWall(size - thickness, 0, thickness, size, currentRoom.hasEastDoor(), false, doorWidth, wallColor, doorColor);
+        drawWall(graphics, 0, 0, size, thickness, currentRoom.hasNorthDoor(), true, doorWidth, wallColor, doorColor);
+        drawWall(graphics, 0, size - thickness, size, thickness, currentRoom.hasSouthDoor(), true, doorWidth,
+                wallColor, doorColor);
+        drawWall(graphics, 0, 0, thickness, size, currentRoom.hasWestDoor(), false, doorWidth, wallColor, doorColor);
+        drawWall(graphics, size - thickness, 0, thickness, size, currentRoom.hasEastDoor(), false, doorWidth,
+                wallColor, doorColor);
     }
 
     /**
      * Draws a single wall with an optional door opening.
      *
+     * @param graphics     The graphics context to draw on
      * @param x            The x-coordinate of the wall's top-left corner
      * @param y            The y-coordinate of the wall's top-left corner
      * @param width        The width of the wall
@@ -418,19 +601,19 @@ public class GameScreenRenderer {
      * @param wallColor    The color to fill the wall with
      * @param doorColor    The color to fill the door opening with
      */
-    private void drawWall(double x, double y, double width, double height, boolean hasDoor,
-                          boolean isHorizontal, double doorSize, Color wallColor, Color doorColor) {
-        graphicsContext.setFill(wallColor);
-        graphicsContext.fillRect(x, y, width, height);
+    private void drawWall(GraphicsContext graphics, double x, double y, double width, double height,
+                          boolean hasDoor, boolean isHorizontal, double doorSize, Color wallColor, Color doorColor) {
+        graphics.setFill(wallColor);
+        graphics.fillRect(x, y, width, height);
 
         if (hasDoor) {
-            graphicsContext.setFill(doorColor);
+            graphics.setFill(doorColor);
             if (isHorizontal) {
                 double doorStart = x + (width - doorSize) / 2;
-                graphicsContext.fillRect(doorStart, y, doorSize, height);
+                graphics.fillRect(doorStart, y, doorSize, height);
             } else {
                 double doorStart = y + (height - doorSize) / 2;
-                graphicsContext.fillRect(x, doorStart, width, doorSize);
+                graphics.fillRect(x, doorStart, width, doorSize);
             }
         }
     }
@@ -725,8 +908,9 @@ public class GameScreenRenderer {
     private void collectPillar(Room room) {
         try {
             Hero player = controller.getPlayer();
-            room.getPillar().activate(player);
-            player.setPillarsActivated(player.getPillarsActivated() + 1);
+            if (room.activatePillar(player) && controller.getGameController() != null) {
+                controller.getGameController().journal(GameEvent.Type.PILLAR_ACTIVATED, room);
+            }
         } catch (Exception e) {
             System.err.println("Error collecting pillar: " + e.getMessage());
         }
@@ -821,6 +1005,9 @@ public class GameScreenRenderer {
 
             if (player.getGold() < originalGold) {
                 hasTriedChestCollection = true;
+                if (controller.getGameController() != null) {
+                    controller.getGameController().journal(GameEvent.Type.ITEM_PICKED_UP, room);
+                }
 
                 List<Item> currentInventory = player.getInventory();
                 List<Item> newlyCollectedItems = new ArrayList<>();
@@ -844,6 +1031,20 @@ public class GameScreenRenderer {
         hasTriedChestCollection = false;
     }
 
+    /**
+     * Turns caching of the static room layer on or off.
+     *
+     * <p>Caching is on by default. Turning it off redraws the floor, walls and doors
+     * every frame, which is useful for comparing frame times and for checking that
+     * both paths draw the same room.</p>
+     *
+     * @param enabled true to draw the static layer from the cache
+     */
+    public void setRoomLayerCaching(boolean enabled) {
+        roomLayerCaching = enabled;
+        clearRoomLayerCache();
+    }
+
     /**
      * Retrieves the current room based on the player's position.
      *
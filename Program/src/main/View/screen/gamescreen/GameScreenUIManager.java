@@ -15,6 +15,7 @@ import javafx.scene.text.Text;
 import javafx.util.Duration;
 import main.Controller.Controller;
 import main.Model.character.Hero;
+import main.Model.dungeon.Dungeon;
 import main.View.GameUI;
 
 import java.io.InputStream;
@@ -66,6 +67,8 @@ public class GameScreenUIManager {
     private Label playerAttackLabel;
     private Label playerGoldLabel;
     private Label playerPillarsLabel;
+    private Label exploredLabel;
+    private HBox exploredBox;
 
     // Message system components
     private VBox messagesArea;
@@ -188,7 +191,11 @@ public class GameScreenUIManager {
         playerPillarsLabel = createThemedStatLabel();
         HBox pillarsBox = createStatBox("/sprites/icons/pillar.png", playerPillarsLabel);
 
-        statsBox.getChildren().addAll(healthBox, manaBox, attackBox, goldBox, pillarsBox);
+        // Share of the map explored
+        exploredLabel = createThemedStatLabel();
+        exploredBox = createStatBox("/sprites/icons/vision_potion.png", exploredLabel);
+
+        statsBox.getChildren().addAll(healthBox, manaBox, attackBox, goldBox, pillarsBox, exploredBox);
         return statsBox;
     }
 
@@ -542,10 +549,21 @@ public class GameScreenUIManager {
                 playerAttackLabel.setText("ATK: " + player.getType().getBaseAttack());
                 playerGoldLabel.setText("Gold: " + player.getGold());
                 playerPillarsLabel.setText("Pillars: " + player.getPillarsActivated() + "/4");
+                updateExplored();
             });
         }
     }
 
+    /**
+     * Shows the share of the dungeon explored, which the dungeon keeps counted.
+     */
+    private void updateExplored() {
+        Dungeon dungeon = controller.getDungeon();
+        if (dungeon != null) {
+            exploredLabel.setText(String.format("Explored: %.0f%%", dungeon.getExploredFraction() * 100));
+        }
+    }
+
     /**
      * Updates the minimap display.
      */
@@ -0,0 +1,26 @@
+package test.Benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes the calling thread has allocated so far, for benchmarks that report
+ * allocation per operation. Read it before and after the measured work and take the
+ * difference. Needs a JVM whose thread bean is a com.sun.management.ThreadMXBean, as
+ * HotSpot's is.
+ */
+final class Allocations {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread since it started.
+     *
+     * @return allocated bytes
+     */
+    static long currentThread() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
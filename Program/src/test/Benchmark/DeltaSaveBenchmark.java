@@ -0,0 +1,73 @@
+package test.Benchmark;
+
+import main.Model.ConnectionManager;
+import main.Model.Database;
+import main.Model.TypeCatalog;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.Room;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+/**
+ * Compares a full save with a delta save of the same dungeon after a few room changes,
+ * the way GameController saves a slot the first time and every time after that.
+ * Each measurement covers the snapshot on the calling thread and the SQLite commit.
+ * Writes to a throwaway slot in dungeondive.db in the working directory.
+ * Run with: java test.Benchmark.DeltaSaveBenchmark
+ */
+public class DeltaSaveBenchmark {
+    private static final int[] SIZES = {50, 150, 300};
+    private static final int[] CHANGED_ROOMS = {1, 10, 100};
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 20;
+    private static final String SLOT = "DeltaSaveBenchmark";
+
+    public static void main(final String[] theArgs) {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        TypeCatalog.getInstance();
+        Database database = new Database();
+        byte[] player = {1};
+        Random random = new Random(7);
+
+        for (int size : SIZES) {
+            Dungeon dungeon = new Dungeon(size, size, "Normal", true);
+
+            double fullMillis = measure(() ->
+                    database.saveGame(SLOT, player, dungeon.toSaveBytes(), null, "{}"));
+            int fullBytes = dungeon.toSaveBytes().length;
+
+            StringBuilder line = new StringBuilder();
+            for (int changed : CHANGED_ROOMS) {
+                double deltaMillis = measure(() -> {
+                    for (int i = 0; i < changed; i++) {
+                        Room room = dungeon.getRoom(random.nextInt(size), random.nextInt(size));
+                        room.setVisited(!room.isVisited());
+                    }
+                    DungeonDelta delta = dungeon.takeChanges();
+                    database.saveGame(SLOT, player, null, delta, "{}");
+                });
+                line.append(String.format(" | %d rooms %.2f ms", changed, deltaMillis));
+            }
+            out.printf("%dx%d full save %.2f ms (%d KB)%s%n", size, size, fullMillis, fullBytes / 1024, line);
+        }
+
+        database.deleteSaveGame(SLOT);
+        ConnectionManager.shutdown();
+        System.setOut(out);
+    }
+
+    private static double measure(final Runnable theSave) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            theSave.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            theSave.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+    }
+}
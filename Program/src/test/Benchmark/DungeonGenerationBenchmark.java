@@ -0,0 +1,77 @@
+package test.Benchmark;
+
+import main.Model.Database;
+import main.Model.TypeCatalog;
+import main.Model.dungeon.Dungeon;
+import main.Model.util.MonsterType;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.ResultSet;
+
+/**
+ * Compares dungeon generation time before and after the TypeCatalog.
+ * "Before" replays the old per-monster cost: one Database bootstrap and one SELECT
+ * for every monster the generator places. "After" is the current generator,
+ * which reads monster stats from the in-memory catalog.
+ * Run with: java test.Benchmark.DungeonGenerationBenchmark
+ */
+public class DungeonGenerationBenchmark {
+    private static final int[] SIZES = {10, 25, 50};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(final String[] theArgs) {
+        PrintStream out = System.out;
+        TypeCatalog.getInstance();
+
+        for (int size : SIZES) {
+            int monsters = (size * size) / 5;
+            double legacyMs = time(() -> legacyMonsterLookups(monsters));
+            double generateMs = time(() -> new Dungeon(size, size, "Normal", true));
+            out.printf("%dx%d: generation %.2f ms, legacy per-monster DB cost for %d monsters %.2f ms%n",
+                    size, size, generateMs, monsters, legacyMs);
+        }
+    }
+
+    /**
+     * Replays what MonsterFactory used to do for each monster.
+     */
+    private static void legacyMonsterLookups(final int theMonsterCount) {
+        MonsterType[] types = MonsterType.values();
+        for (int i = 0; i < theMonsterCount; i++) {
+            Database database = new Database();
+            if (database.isConnected()) {
+                try (ResultSet rs = database.executeQuery(
+                        "SELECT * FROM monster_types WHERE id = " + (types[i % types.length].ordinal() + 1))) {
+                    if (rs != null) {
+                        rs.getString("name");
+                    }
+                } catch (Exception e) {
+                    System.err.println("Legacy lookup failed: " + e.getMessage());
+                }
+            }
+            database.closeConnection();
+        }
+    }
+
+    /**
+     * Average wall time of a task with generation logging silenced.
+     */
+    private static double time(final Runnable theTask) {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                theTask.run();
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                theTask.run();
+            }
+            return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+        } finally {
+            System.setOut(original);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package test.Benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.Model.TypeCatalog;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Room;
+import main.Model.util.MonsterType;
+import main.Model.util.RoomType;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Compares the streaming dungeon JSON codec and the binary save format with the old ObjectMapper path.
+ * "Legacy" rebuilds the old DungeonSaveData/RoomSaveData graph with a new ObjectMapper per call,
+ * the same way Dungeon.toJson and fromJson used to. Legacy load only parses into the graph,
+ * so it is a lower bound for the old load, which also restored the rooms afterwards.
+ * Allocation is measured per operation on the calling thread.
+ * Run with: java test.Benchmark.DungeonSaveCodecBenchmark
+ */
+public class DungeonSaveCodecBenchmark {
+    private static final int[] SIZES = {10, 50, 150};
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 30;
+
+    public static void main(final String[] theArgs) throws Exception {
+        PrintStream out = System.out;
+        TypeCatalog.getInstance();
+
+        for (int size : SIZES) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            Dungeon dungeon = new Dungeon(size, size, "Normal", true);
+            String json = dungeon.toJson();
+            byte[] binary = dungeon.toSaveBytes();
+            System.setOut(out);
+
+            Result legacySave = measure(() -> legacyToJson(dungeon));
+            Result streamSave = measure(dungeon::toJson);
+            Result legacyLoad = measure(() -> new ObjectMapper().readValue(json, LegacyDungeonSaveData.class));
+            Result streamLoad = measure(() -> Dungeon.fromJson(json));
+            Result binarySave = measure(dungeon::toSaveBytes);
+            Result binaryLoad = measure(() -> Dungeon.fromSaveBytes(binary));
+
+            out.printf("%dx%d (%d KB JSON, %d KB binary)%n", size, size, json.length() / 1024, binary.length / 1024);
+            out.printf("  save: legacy %s | streaming %s | binary %s%n", legacySave, streamSave, binarySave);
+            out.printf("  load: legacy parse only %s | streaming parse + restore %s | binary decode + restore %s%n",
+                    legacyLoad, streamLoad, binaryLoad);
+        }
+    }
+
+    private static String legacyToJson(final Dungeon theDungeon) throws Exception {
+        LegacyDungeonSaveData saveData = new LegacyDungeonSaveData();
+        saveData.width = theDungeon.getWidth();
+        saveData.height = theDungeon.getHeight();
+        saveData.difficulty = theDungeon.getDifficulty();
+        saveData.totalPillars = theDungeon.getTotalPillars();
+        saveData.activatedPillars = theDungeon.getActivatedPillars();
+        saveData.bossSpawned = theDungeon.isBossSpawned();
+        saveData.heroSpawnX = theDungeon.getHeroSpawnPoint().getX();
+        saveData.heroSpawnY = theDungeon.getHeroSpawnPoint().getY();
+        saveData.exitX = theDungeon.getExitPoint().getX();
+        saveData.exitY = theDungeon.getExitPoint().getY();
+        saveData.roomData = new LegacyRoomSaveData[saveData.height][saveData.width];
+        for (int y = 0; y < saveData.height; y++) {
+            for (int x = 0; x < saveData.width; x++) {
+                Room room = theDungeon.getRoom(x, y);
+                LegacyRoomSaveData roomSave = new LegacyRoomSaveData();
+                roomSave.x = x;
+                roomSave.y = y;
+                roomSave.roomType = room.getRoomType().name();
+                roomSave.visited = room.isVisited();
+                roomSave.chestOpened = room.getChestOpened();
+                roomSave.hasNorthDoor = room.hasNorthDoor();
+                roomSave.hasEastDoor = room.hasEastDoor();
+                roomSave.hasSouthDoor = room.hasSouthDoor();
+                roomSave.hasWestDoor = room.hasWestDoor();
+                if (room.hasPillar()) {
+                    roomSave.pillarType = room.getPillar().getType().name();
+                    roomSave.pillarActivated = room.getPillar().isActivated();
+                }
+                if (room.hasTrap()) {
+                    roomSave.trapName = room.getTrap().getName();
+                    roomSave.trapDamage = room.getTrap().getDamage();
+                    roomSave.trapSprung = room.getTrap().isSprung();
+                }
+                if (room.getRoomType() == RoomType.MONSTER && !room.getMonsters().isEmpty()) {
+                    roomSave.monster = room.getMonsters().getFirst().getType();
+                } else {
+                    roomSave.monster = MonsterType.GOBLIN;
+                    roomSave.isDefeated = true;
+                }
+                if (room.getRoomType() == RoomType.TREASURE && !room.getChest().isEmpty()) {
+                    roomSave.itemCount = room.getChest().size();
+                    roomSave.potionType = "Chest";
+                } else if (!room.getItems().isEmpty()) {
+                    roomSave.itemCount = 1;
+                    roomSave.potionType = room.getItems().getFirst().getName();
+                }
+                saveData.roomData[y][x] = roomSave;
+            }
+        }
+        return new ObjectMapper().writeValueAsString(saveData);
+    }
+
+    /**
+     * Average wall time and allocated bytes per call, with game logging silenced.
+     */
+    private static Result measure(final Task theTask) throws Exception {
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                theTask.run();
+            }
+            long bytesBefore = Allocations.currentThread();
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                theTask.run();
+            }
+            long elapsed = System.nanoTime() - start;
+            long bytes = Allocations.currentThread() - bytesBefore;
+            return new Result(elapsed / 1_000_000.0 / MEASURED_RUNS, bytes / MEASURED_RUNS);
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        Object run() throws Exception;
+    }
+
+    private record Result(double theMillis, long theBytes) {
+        @Override
+        public String toString() {
+            return String.format("%.3f ms, %d KB allocated", theMillis, theBytes / 1024);
+        }
+    }
+
+    // Copies of the save classes the old ObjectMapper path serialized
+    public static class LegacyDungeonSaveData {
+        public int width;
+        public int height;
+        public String difficulty;
+        public int totalPillars;
+        public int activatedPillars;
+        public boolean bossSpawned;
+        public int heroSpawnX;
+        public int heroSpawnY;
+        public int exitX;
+        public int exitY;
+        public LegacyRoomSaveData[][] roomData;
+    }
+
+    public static class LegacyRoomSaveData {
+        public int x;
+        public int y;
+        public String roomType;
+        public boolean visited;
+        public boolean chestOpened;
+        public boolean itemsCollected;
+        public boolean hasNorthDoor;
+        public boolean hasEastDoor;
+        public boolean hasSouthDoor;
+        public boolean hasWestDoor;
+        public String pillarType;
+        public boolean pillarActivated;
+        public String trapName;
+        public int trapDamage;
+        public boolean trapSprung;
+        public MonsterType monster;
+        public boolean isDefeated;
+        public int itemCount;
+        public String potionType;
+    }
+}
@@ -0,0 +1,73 @@
+package test.Benchmark;
+
+import main.Model.TypeCatalog;
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Room;
+import main.Model.journal.GameEvent;
+import main.Model.journal.GameJournal;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Measures what journaling a room transition costs the game thread compared with
+ * snapshotting the whole game, then how long recovery of the written session takes.
+ * Writes to a temporary directory.
+ * Run with: java test.Benchmark.JournalBenchmark
+ */
+public class JournalBenchmark {
+    private static final int SIZE = 150;
+    private static final int EVENTS = 5_000;
+    private static final int SNAPSHOTS = 20;
+
+    public static void main(final String[] theArgs) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        TypeCatalog.getInstance();
+        Path directory = Files.createTempDirectory("journal-benchmark");
+        GameJournal journal = new GameJournal(directory);
+        Dungeon dungeon = new Dungeon(SIZE, SIZE, "Normal", true);
+        Hero hero = new HeroFactory().getHero("Bench", HeroType.WARRIOR, new Point(0, 0));
+        Random random = new Random(7);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SNAPSHOTS; i++) {
+            hero.toSaveBytes();
+            dungeon.toSaveBytes();
+        }
+        double snapshotMicros = (System.nanoTime() - start) / 1_000.0 / SNAPSHOTS;
+
+        journal.startSession(hero.toSaveBytes(), dungeon.toSaveBytes());
+        journal.flush();
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            Room room = dungeon.getRoom(random.nextInt(SIZE), random.nextInt(SIZE));
+            room.setVisited(true);
+            journal.append(new GameEvent(GameEvent.Type.ROOM_ENTERED, System.currentTimeMillis(),
+                    hero.toSaveBytes(), dungeon.snapshotRooms(room)));
+        }
+        double appendMicros = (System.nanoTime() - start) / 1_000.0 / EVENTS;
+        journal.flush();
+
+        start = System.nanoTime();
+        GameJournal.Recovery recovery = journal.recover();
+        double recoverMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        journal.endSession();
+        journal.close();
+        Files.deleteIfExists(directory);
+        System.setOut(out);
+        System.out.printf("%dx%d full snapshot %.1f us | journal append %.2f us per event%n",
+                SIZE, SIZE, snapshotMicros, appendMicros);
+        System.out.printf("recovered %d events in %.1f ms | %s%n",
+                recovery.getReplayedEvents(), recoverMillis, journal.getStats());
+    }
+}
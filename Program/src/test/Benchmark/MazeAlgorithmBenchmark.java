@@ -0,0 +1,98 @@
+package test.Benchmark;
+
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeGenerator;
+import main.Model.dungeon.MazeGenerators;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compares the maze algorithms on generation time, memory and the shape of the mazes.
+ * Memory is the bytes allocated per generation, maze included, which bounds the peak.
+ * Dead ends are cells with one door. Path length is the BFS distance from the spawn
+ * corner, averaged over every cell, with the farthest cell alongside; long averages
+ * mean long corridors, short ones a bushy maze.
+ * Wilson's algorithm is skipped above MAX_WILSON_SIZE, where its first walks dominate.
+ * Run with: java test.Benchmark.MazeAlgorithmBenchmark
+ */
+public class MazeAlgorithmBenchmark {
+    private static final int[] SIZES = {32, 256, 1024, 2048};
+    private static final int MAX_WILSON_SIZE = 1024;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) {
+        for (int size : SIZES) {
+            System.out.printf("%dx%d%n", size, size);
+            for (MazeGenerator generator : MazeGenerators.getAll()) {
+                if (generator == MazeGenerators.WILSON && size > MAX_WILSON_SIZE) {
+                    System.out.printf("  %-12s skipped%n", generator.getName());
+                    continue;
+                }
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    generate(generator, size);
+                }
+                long bytesBefore = Allocations.currentThread();
+                long start = System.nanoTime();
+                Maze maze = null;
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    maze = generate(generator, size);
+                }
+                double millis = (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+                long bytes = (Allocations.currentThread() - bytesBefore) / MEASURED_RUNS;
+
+                long[] shape = shape(maze);
+                System.out.printf("  %-12s %9.1f ms %9d KB | dead ends %5.1f%% | path avg %9.1f max %8d%n",
+                        generator.getName(), millis, bytes / 1024,
+                        100.0 * shape[0] / maze.getCellCount(),
+                        (double) shape[1] / maze.getCellCount(), shape[2]);
+            }
+        }
+    }
+
+    private static Maze generate(final MazeGenerator theGenerator, final int theSize) {
+        Maze maze = new Maze(theSize, theSize);
+        theGenerator.generate(maze, new SplittableRandom(SEED));
+        return maze;
+    }
+
+    /**
+     * Dead end count, sum of BFS distances from cell 0 and the largest distance.
+     */
+    private static long[] shape(final Maze theMaze) {
+        int cells = theMaze.getCellCount();
+        int width = theMaze.getWidth();
+        int[] distance = new int[cells];
+        java.util.Arrays.fill(distance, -1);
+        int[] queue = new int[cells];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = 0;
+        distance[0] = 0;
+        long deadEnds = 0;
+        long total = 0;
+        long farthest = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int doors = theMaze.getDoors(cell);
+            if (Integer.bitCount(doors) == 1) {
+                deadEnds++;
+            }
+            total += distance[cell];
+            farthest = Math.max(farthest, distance[cell]);
+            int[] next = {
+                    (doors & Maze.NORTH) != 0 ? cell - width : -1,
+                    (doors & Maze.SOUTH) != 0 ? cell + width : -1,
+                    (doors & Maze.WEST) != 0 ? cell - 1 : -1,
+                    (doors & Maze.EAST) != 0 ? cell + 1 : -1};
+            for (int neighbor : next) {
+                if (neighbor >= 0 && distance[neighbor] < 0) {
+                    distance[neighbor] = distance[cell] + 1;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return new long[] {deadEnds, total, farthest};
+    }
+}
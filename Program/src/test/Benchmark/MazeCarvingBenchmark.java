@@ -0,0 +1,99 @@
+package test.Benchmark;
+
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.RecursiveBacktracker;
+import main.Model.util.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Stack;
+
+/**
+ * Compares the packed-cell maze carver with the Stack&lt;Point&gt; DFS it replaced.
+ * "Legacy" is a copy of the old loop, carving into the same door array so only the
+ * bookkeeping differs. Both consume the generator identically, which is checked.
+ * Allocation is measured per carve on the calling thread and includes the maze itself.
+ * Run with: java test.Benchmark.MazeCarvingBenchmark
+ */
+public class MazeCarvingBenchmark {
+    private static final int[] SIZES = {64, 256, 1024, 2048};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) {
+        for (int size : SIZES) {
+            Maze packed = packedCarve(size);
+            Maze legacy = legacyCarve(size);
+            for (int cell = 0; cell < packed.getCellCount(); cell++) {
+                if (packed.getDoors(cell) != legacy.getDoors(cell)) {
+                    throw new IllegalStateException("Carvers disagree at cell " + cell + " of " + size);
+                }
+            }
+
+            Result legacyResult = measure(() -> legacyCarve(size));
+            Result packedResult = measure(() -> packedCarve(size));
+            System.out.printf("%dx%d: legacy %s | packed %s%n", size, size, legacyResult, packedResult);
+        }
+    }
+
+    private static Maze packedCarve(final int theSize) {
+        Maze maze = new Maze(theSize, theSize);
+        RecursiveBacktracker.carve(maze, 0, new SplittableRandom(SEED));
+        return maze;
+    }
+
+    /**
+     * The DFS from Dungeon.generateLayout before packed cells.
+     */
+    private static Maze legacyCarve(final int theSize) {
+        Maze maze = new Maze(theSize, theSize);
+        SplittableRandom random = new SplittableRandom(SEED);
+        Stack<Point> stack = new Stack<>();
+        boolean[][] visited = new boolean[theSize][theSize];
+        Point current = new Point(0, 0);
+        visited[0][0] = true;
+        stack.push(current);
+        while (!stack.isEmpty()) {
+            current = stack.peek();
+            List<Point> neighbors = new ArrayList<>();
+            int x = current.getX();
+            int y = current.getY();
+            if (y > 0 && !visited[y - 1][x]) neighbors.add(new Point(x, y - 1));
+            if (y < theSize - 1 && !visited[y + 1][x]) neighbors.add(new Point(x, y + 1));
+            if (x > 0 && !visited[y][x - 1]) neighbors.add(new Point(x - 1, y));
+            if (x < theSize - 1 && !visited[y][x + 1]) neighbors.add(new Point(x + 1, y));
+            if (!neighbors.isEmpty()) {
+                Point next = neighbors.get(random.nextInt(neighbors.size()));
+                maze.carve(maze.cell(x, y), maze.cell(next.getX(), next.getY()));
+                visited[next.getY()][next.getX()] = true;
+                stack.push(next);
+            } else {
+                stack.pop();
+            }
+        }
+        return maze;
+    }
+
+    private static Result measure(final Runnable theTask) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            theTask.run();
+        }
+        long bytesBefore = Allocations.currentThread();
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            theTask.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = Allocations.currentThread() - bytesBefore;
+        return new Result(elapsed / 1_000_000.0 / MEASURED_RUNS, bytes / MEASURED_RUNS);
+    }
+
+    private record Result(double theMillis, long theBytes) {
+        @Override
+        public String toString() {
+            return String.format("%.1f ms, %d KB allocated", theMillis, theBytes / 1024);
+        }
+    }
+}
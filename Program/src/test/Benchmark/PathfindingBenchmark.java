@@ -0,0 +1,90 @@
+package test.Benchmark;
+
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Pathfinder;
+import main.Model.util.Point;
+
+import java.util.SplittableRandom;
+
+/**
+ * Routes random pairs of rooms in a 1000x1000 maze with plain A* and with the
+ * hierarchical search, both across the whole maze and between nearby rooms, reporting
+ * the time per query, nodes expanded and how much longer the hierarchical routes are.
+ * The first hierarchical query pays for building the abstract graph, which is reported
+ * on its own.
+ * Run with: java test.Benchmark.PathfindingBenchmark
+ */
+public class PathfindingBenchmark {
+    private static final int SIZE = 1000;
+    private static final int QUERIES = 200;
+    private static final int NEARBY = 48;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) {
+        Maze maze = new Maze(SIZE, SIZE);
+        SplittableRandom random = new SplittableRandom(SEED);
+        MazeGenerators.BACKTRACKER.generate(maze, random);
+        // Knock out a tenth of the walls, as dungeons do, so there is more than one route
+        int[] neighbors = new int[4];
+        for (int i = 0; i < SIZE * SIZE / 10; i++) {
+            int cell = maze.cell(random.nextInt(SIZE), random.nextInt(SIZE));
+            int count = maze.neighbors(cell, neighbors);
+            maze.carve(cell, neighbors[random.nextInt(count)]);
+        }
+        Pathfinder pathfinder = new Pathfinder(maze, Pathfinder.DEFAULT_CLUSTER_SIZE);
+
+        long start = System.nanoTime();
+        pathfinder.findPathHierarchical(new Point(0, 0), new Point(1, 0));
+        System.out.printf("Abstract graph: %d entrances over %d clusters in %.1f ms%n",
+                pathfinder.getAbstractNodeCount(), pathfinder.getClusterBuildCount(),
+                (System.nanoTime() - start) / 1_000_000.0);
+
+        // Trips across the whole maze, then trips of at most NEARBY rooms each way like auto-travel makes
+        Point[] from = new Point[QUERIES];
+        Point[] to = new Point[QUERIES];
+        Point[] nearFrom = new Point[QUERIES];
+        Point[] nearTo = new Point[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            from[i] = new Point(random.nextInt(SIZE), random.nextInt(SIZE));
+            to[i] = new Point(random.nextInt(SIZE), random.nextInt(SIZE));
+            nearFrom[i] = new Point(random.nextInt(SIZE - NEARBY), random.nextInt(SIZE - NEARBY));
+            nearTo[i] = new Point(nearFrom[i].getX() + random.nextInt(NEARBY),
+                    nearFrom[i].getY() + random.nextInt(NEARBY));
+        }
+        // Warm up both searches before timing them
+        for (int i = 0; i < QUERIES / 4; i++) {
+            pathfinder.findPath(from[i], to[i]);
+            pathfinder.findPathHierarchical(from[i], to[i]);
+        }
+        System.out.println("Across the maze");
+        compare(pathfinder, from, to);
+        System.out.println("Within " + NEARBY + " rooms");
+        compare(pathfinder, nearFrom, nearTo);
+    }
+
+    private static void compare(final Pathfinder thePathfinder, final Point[] theFrom, final Point[] theTo) {
+        long exactNanos = 0;
+        long exactExpanded = 0;
+        long exactLength = 0;
+        long hierarchicalNanos = 0;
+        long hierarchicalExpanded = 0;
+        long hierarchicalLength = 0;
+        for (int i = 0; i < theFrom.length; i++) {
+            long start = System.nanoTime();
+            exactLength += thePathfinder.findPath(theFrom[i], theTo[i]).size();
+            exactNanos += System.nanoTime() - start;
+            exactExpanded += thePathfinder.getLastExpandedCount();
+
+            start = System.nanoTime();
+            hierarchicalLength += thePathfinder.findPathHierarchical(theFrom[i], theTo[i]).size();
+            hierarchicalNanos += System.nanoTime() - start;
+            hierarchicalExpanded += thePathfinder.getLastExpandedCount();
+        }
+        System.out.printf("  A*:   %8.1f us/query, %7d rooms expanded, route %5d rooms%n",
+                exactNanos / 1000.0 / theFrom.length, exactExpanded / theFrom.length, exactLength / theFrom.length);
+        System.out.printf("  HPA*: %8.1f us/query, %7d entrances expanded, routes %.1f%% longer%n",
+                hierarchicalNanos / 1000.0 / theFrom.length, hierarchicalExpanded / theFrom.length,
+                100.0 * (hierarchicalLength - exactLength) / exactLength);
+    }
+}
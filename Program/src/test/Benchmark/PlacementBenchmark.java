@@ -0,0 +1,143 @@
+package test.Benchmark;
+
+import main.Model.dungeon.PlacementDensities;
+import main.Model.dungeon.PlacementSampler;
+import main.Model.util.Point;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the old placement pass with the PlacementSampler on square maps, placing
+ * content into a byte grid so only the cost of choosing rooms is measured.
+ * "Before" replays the old generateLayout: shuffle every spot, remove(0) until the
+ * monster, trap and chest counts run out, removeIf, then rescan the grid for potion spots.
+ * "After" draws each placed room from the sampler in constant time.
+ * The old pass is quadratic, so it runs once per size, and the largest size takes a while.
+ * Run with: java test.Benchmark.PlacementBenchmark
+ */
+public class PlacementBenchmark {
+    private static final int[] SIZES = {250, 500, 1000};
+    private static final int SAMPLER_RUNS = 5;
+    private static final byte EMPTY = 0;
+    private static final byte MONSTER = 1;
+    private static final byte TRAP = 2;
+    private static final byte CHEST = 3;
+    private static final byte POTION = 4;
+
+    public static void main(final String[] theArgs) {
+        for (int size : SIZES) {
+            // Warm up both on a small map first
+            legacy(100, new SplittableRandom(1L));
+            sampled(100, new SplittableRandom(1L));
+
+            long start = System.nanoTime();
+            int legacyPlaced = legacy(size, new SplittableRandom(size));
+            double legacyMs = (System.nanoTime() - start) / 1_000_000.0;
+
+            int sampledPlaced = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < SAMPLER_RUNS; i++) {
+                sampledPlaced = sampled(size, new SplittableRandom(size));
+            }
+            double sampledMs = (System.nanoTime() - start) / 1_000_000.0 / SAMPLER_RUNS;
+
+            System.out.printf("%dx%d: remove(0) pass %.1f ms (%d placed), sampler %.2f ms (%d placed), %.0fx faster%n",
+                    size, size, legacyMs, legacyPlaced, sampledMs, sampledPlaced, legacyMs / sampledMs);
+        }
+    }
+
+    /**
+     * The old placement pass, down to the list operations, for Normal densities.
+     */
+    private static int legacy(final int theSize, final SplittableRandom theRandom) {
+        byte[] grid = new byte[theSize * theSize];
+        Point entrance = new Point(0, 0);
+        Point exit = new Point(theSize - 1, theSize - 1);
+        List<Point> availableSpots = new ArrayList<>();
+        for (int y = 0; y < theSize; y++) {
+            for (int x = 0; x < theSize; x++) {
+                Point p = new Point(x, y);
+                if (!p.equals(entrance) && !p.equals(exit)) {
+                    availableSpots.add(p);
+                }
+            }
+        }
+        shuffle(availableSpots, theRandom);
+        for (int i = 0; i < 4; i++) {
+            availableSpots.remove(0);
+        }
+
+        int monsterCount = grid.length / 5;
+        int trapCount = grid.length / 10;
+        int chestCount = grid.length / 10;
+        int potionCount = grid.length / 10;
+        availableSpots.removeIf(point -> grid[point.getY() * theSize + point.getX()] != EMPTY);
+        int placed = 0;
+        while ((monsterCount > 0 || trapCount > 0 || chestCount > 0) && !availableSpots.isEmpty()) {
+            Point spot = availableSpots.remove(0);
+            int cell = spot.getY() * theSize + spot.getX();
+            if (monsterCount > 0 && theRandom.nextBoolean()) {
+                grid[cell] = MONSTER;
+                monsterCount--;
+                placed++;
+            } else if (trapCount > 0) {
+                grid[cell] = TRAP;
+                trapCount--;
+                placed++;
+            } else if (chestCount > 0) {
+                grid[cell] = CHEST;
+                chestCount--;
+                placed++;
+            }
+        }
+
+        List<Point> potionSpots = new ArrayList<>();
+        for (int y = 0; y < theSize; y++) {
+            for (int x = 0; x < theSize; x++) {
+                if (grid[y * theSize + x] == EMPTY) {
+                    potionSpots.add(new Point(x, y));
+                }
+            }
+        }
+        shuffle(potionSpots, theRandom);
+        for (int i = 0; i < potionCount && i < potionSpots.size(); i++) {
+            Point spot = potionSpots.get(i);
+            grid[spot.getY() * theSize + spot.getX()] = POTION;
+            placed++;
+        }
+        return placed;
+    }
+
+    /**
+     * The sampler pass over the same map.
+     */
+    private static int sampled(final int theSize, final SplittableRandom theRandom) {
+        byte[] grid = new byte[theSize * theSize];
+        PlacementSampler sampler = new PlacementSampler(grid.length);
+        for (int cell = 1; cell < grid.length - 1; cell++) {
+            sampler.add(cell);
+        }
+        for (int i = 0; i < 4; i++) {
+            sampler.next(theRandom);
+        }
+        byte[] kinds = {MONSTER, TRAP, CHEST, POTION};
+        int placed = 0;
+        for (int category = 0; category < kinds.length; category++) {
+            long count = PlacementDensities.NORMAL.count(category, grid.length);
+            for (long i = 0; i < count && sampler.remaining() > 0; i++) {
+                grid[sampler.next(theRandom)] = kinds[category];
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    private static void shuffle(final List<Point> thePoints, final SplittableRandom theRandom) {
+        for (int i = thePoints.size() - 1; i > 0; i--) {
+            Collections.swap(thePoints, i, theRandom.nextInt(i + 1));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package test.Benchmark;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import main.Controller.Controller;
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.dungeon.Dungeon;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+import main.View.screen.gamescreen.GameScreenCanvasDimensions;
+import main.View.screen.gamescreen.GameScreenRenderer;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Renders the game screen's room canvas frame after frame, with the static room layer
+ * cached and redrawn every frame, and reports the time per frame. Each frame is
+ * snapshotted so the drawing commands are rasterized before the clock stops, and the
+ * hero moves to another room every second of frames, as a player walking would.
+ * Needs a display for the JavaFX toolkit, or Monocle's headless platform with the
+ * software pipeline: openjfx-monocle on the classpath and -Dglass.platform=Monocle
+ * -Dmonocle.platform=Headless -Dprism.order=sw.
+ * Run with: java test.Benchmark.RoomRenderBenchmark
+ */
+public class RoomRenderBenchmark {
+    private static final int DUNGEON_SIZE = 20;
+    private static final double SCENE_WIDTH = 1200;
+    private static final double SCENE_HEIGHT = 1000;
+    private static final int FRAMES_PER_ROOM = 60;
+    private static final int WARMUP_FRAMES = 600;
+    private static final int FRAMES = 3000;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                run();
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        Platform.exit();
+    }
+
+    private static void run() {
+        Dungeon dungeon = new Dungeon(DUNGEON_SIZE, DUNGEON_SIZE, "Medium", SEED);
+        Hero hero = new HeroFactory().getHero("Painter", HeroType.WARRIOR, dungeon.getHeroSpawnPoint());
+        Controller controller = new Controller();
+        controller.getGameModel().setDungeon(dungeon);
+        controller.getGameModel().setPlayer(hero);
+
+        GameScreenRenderer renderer = new GameScreenRenderer(controller, new GameScreenCanvasDimensions());
+        StackPane root = new StackPane();
+        Scene scene = new Scene(root, SCENE_WIDTH, SCENE_HEIGHT);
+        renderer.initialize(scene);
+        renderer.loadSprites();
+        root.getChildren().add(renderer.getRoomCanvas());
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+        renderer.setupCanvas();
+        renderer.initializeHeroPosition();
+
+        Canvas canvas = renderer.getRoomCanvas();
+        System.out.printf("Canvas %.0fx%.0f, output scale %.2f%n", canvas.getWidth(), canvas.getHeight(),
+                stage.getOutputScaleX());
+        measure("Redrawn every frame", renderer, hero, false);
+        measure("Cached layer", renderer, hero, true);
+        stage.close();
+    }
+
+    private static void measure(final String theName, final GameScreenRenderer theRenderer, final Hero theHero,
+                                final boolean theCaching) {
+        theRenderer.setRoomLayerCaching(theCaching);
+        Canvas canvas = theRenderer.getRoomCanvas();
+        WritableImage target = new WritableImage((int) Math.ceil(canvas.getWidth()),
+                (int) Math.ceil(canvas.getHeight()));
+        Random random = new Random(SEED);
+        frames(theRenderer, theHero, canvas, target, random, WARMUP_FRAMES);
+
+        long start = System.nanoTime();
+        frames(theRenderer, theHero, canvas, target, random, FRAMES);
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-20s %7.3f ms/frame (%d frames)%n", theName, elapsed / 1e6 / FRAMES, FRAMES);
+    }
+
+    private static void frames(final GameScreenRenderer theRenderer, final Hero theHero, final Canvas theCanvas,
+                               final WritableImage theTarget, final Random theRandom, final int theFrames) {
+        for (int frame = 0; frame < theFrames; frame++) {
+            if (frame % FRAMES_PER_ROOM == 0) {
+                theHero.setPosition(Point.of(theRandom.nextInt(DUNGEON_SIZE), theRandom.nextInt(DUNGEON_SIZE)));
+                theRenderer.onRoomChanged();
+            }
+            theRenderer.updateAnimations();
+            theRenderer.renderRoom();
+            theCanvas.snapshot(null, theTarget);
+        }
+    }
+}
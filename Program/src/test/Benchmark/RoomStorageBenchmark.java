@@ -0,0 +1,94 @@
+package test.Benchmark;
+
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+
+/**
+ * Generates the same 1000x1000 dungeon with Room objects and with packed rooms, and
+ * reports the heap each one keeps after a full collection, how long generation took,
+ * how long a pass over every room with getRoom takes, and the bytes a pass checking every
+ * room for monsters and items allocates, which should be none.
+ * Run with: java test.Benchmark.RoomStorageBenchmark
+ */
+public class RoomStorageBenchmark {
+    private static final int SIZE = 1000;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) {
+        // Warm up generation on a small dungeon first
+        for (Dungeon.Storage storage : Dungeon.Storage.values()) {
+            new Dungeon(200, 200, "Medium", SEED, MazeGenerators.BACKTRACKER, storage);
+        }
+        for (Dungeon.Storage storage : Dungeon.Storage.values()) {
+            measure(storage);
+        }
+    }
+
+    private static void measure(final Dungeon.Storage theStorage) {
+        long before = usedHeap();
+        long start = System.nanoTime();
+        Dungeon dungeon = new Dungeon(SIZE, SIZE, "Medium", SEED, MazeGenerators.BACKTRACKER, theStorage);
+        long generateNanos = System.nanoTime() - start;
+        long retained = usedHeap() - before;
+
+        // Best of a few passes, so the first one can warm up
+        long scanNanos = Long.MAX_VALUE;
+        int doors = 0;
+        for (int pass = 0; pass < 5; pass++) {
+            start = System.nanoTime();
+            doors = 0;
+            for (int y = 0; y < SIZE; y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    Room room = dungeon.getRoom(x, y);
+                    doors += room.hasEastDoor() ? 1 : 0;
+                }
+            }
+            scanNanos = Math.min(scanNanos, System.nanoTime() - start);
+        }
+        long queryBytes = queryAllocation(dungeon);
+        System.out.printf("%-7s heap %7.1f MB (%5.1f bytes/room) | generate %6.0f ms"
+                        + " | getRoom pass %5.1f ms (%d east doors) | query pass %d bytes allocated%n",
+                theStorage, retained / 1024.0 / 1024.0, (double) retained / SIZE / SIZE,
+                generateNanos / 1_000_000.0, scanNanos / 1_000_000.0, doors, queryBytes);
+        // Keep the dungeon reachable until it has been measured
+        if (dungeon.getWidth() != SIZE) {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Checks every room for monsters and items, once to warm up and once measured,
+     * with the rooms fetched beforehand so only the queries are counted.
+     *
+     * @return bytes the measured pass allocated
+     */
+    private static long queryAllocation(final Dungeon theDungeon) {
+        Room[] rooms = new Room[SIZE * SIZE];
+        for (int i = 0; i < rooms.length; i++) {
+            rooms[i] = theDungeon.getRoom(i % SIZE, i / SIZE);
+        }
+        long allocated = 0;
+        int found = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            long before = Allocations.currentThread();
+            for (Room room : rooms) {
+                found += room.hasMonsters() ? room.monsterCount() : 0;
+                found += room.hasUncollectedItems() ? 1 : 0;
+            }
+            allocated = Allocations.currentThread() - before;
+        }
+        if (found == 0) {
+            throw new IllegalStateException("No monsters or items found.");
+        }
+        return allocated;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,121 @@
+package test.Benchmark;
+
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.dungeon.ChunkFileStore;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+import main.Model.util.Direction;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Walks a hero at random through the doors of a fixed dungeon and of a world, doing
+ * what the model does on every room transition: move the hero, look up the room it
+ * is in, mark it visited and check it for monsters, and prefetch ahead. Reports the
+ * bytes the walking thread allocates per transition and the time each one takes.
+ * Run with: java test.Benchmark.RoomTransitionBenchmark
+ */
+public class RoomTransitionBenchmark {
+    private static final int SIZE = 1000;
+    private static final int WORLD_SIZE = 1 << 16;
+    private static final int WARMUP_STEPS = 200_000;
+    private static final int STEPS = 1_000_000;
+    private static final long SEED = 20261018L;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Rooms with monsters met along the walks, so the checks are not optimized away
+    private static int ourMonsters;
+
+    public static void main(final String[] theArgs) throws IOException {
+        walk("Fixed " + SIZE + "x" + SIZE,
+                new Dungeon(SIZE, SIZE, "Medium", SEED, MazeGenerators.BACKTRACKER));
+        Path directory = Files.createTempDirectory("transition-benchmark");
+        try {
+            Dungeon world = Dungeon.createWorld(WORLD_SIZE, WORLD_SIZE, "Medium", SEED,
+                    MazeGenerators.BACKTRACKER, new ChunkFileStore(directory), 16);
+            walk("World " + WORLD_SIZE + "x" + WORLD_SIZE, world);
+            world.getChunkManager().close();
+        } finally {
+            delete(directory);
+        }
+        System.out.println("Rooms with monsters entered: " + ourMonsters);
+    }
+
+    private static void walk(final String theName, final Dungeon theDungeon) {
+        Hero hero = new HeroFactory().getHero("Walker", HeroType.WARRIOR, theDungeon.getHeroSpawnPoint());
+        Random random = new Random(SEED);
+        walk(theDungeon, hero, random, WARMUP_STEPS);
+
+        long allocatedBefore = Allocations.currentThread();
+        long start = System.nanoTime();
+        int transitions = walk(theDungeon, hero, random, STEPS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = Allocations.currentThread() - allocatedBefore;
+        System.out.printf("%-18s %6.1f bytes/transition | %6.1f ns/transition (%d transitions)%n",
+                theName, (double) allocated / transitions, (double) elapsed / transitions, transitions);
+    }
+
+    /**
+     * Tries a random direction per step and goes through it if there is a door.
+     *
+     * @return transitions made
+     */
+    private static int walk(final Dungeon theDungeon, final Hero theHero, final Random theRandom,
+                            final int theSteps) {
+        int transitions = 0;
+        Room room = theDungeon.getRoom(theHero.getPosition());
+        for (int step = 0; step < theSteps; step++) {
+            Direction direction = DIRECTIONS[theRandom.nextInt(DIRECTIONS.length)];
+            if (!hasDoor(room, direction)) {
+                continue;
+            }
+            theHero.move(direction);
+            transitions++;
+            Point position = theHero.getPosition();
+            room = theDungeon.getRoom(position);
+            room.setVisited(true);
+            if (room.hasMonsters()) {
+                ourMonsters++;
+            }
+            theDungeon.prefetchAhead(position, direction);
+        }
+        return transitions;
+    }
+
+    private static void delete(final Path theDirectory) throws IOException {
+        // The prefetch thread may still be writing a chunk it was saving when it was stopped
+        for (int attempt = 0; attempt < 10 && Files.exists(theDirectory); attempt++) {
+            try (Stream<Path> files = Files.walk(theDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean hasDoor(final Room theRoom, final Direction theDirection) {
+        switch (theDirection) {
+            case NORTH: return theRoom.hasNorthDoor();
+            case SOUTH: return theRoom.hasSouthDoor();
+            case EAST: return theRoom.hasEastDoor();
+            case WEST: return theRoom.hasWestDoor();
+            default: return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package test.Benchmark;
+
+import main.Model.TypeCatalog;
+import main.Model.codec.PayloadCodec;
+import main.Model.codec.PayloadCodecs;
+import main.Model.dungeon.Dungeon;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Compares the save payload codecs on compressed size and encode/decode time for
+ * the binary dungeon payloads and their legacy JSON form, at a few dungeon sizes.
+ * Run with: java test.Benchmark.SaveCompressionBenchmark
+ */
+public class SaveCompressionBenchmark {
+    private static final int[] SIZES = {5, 10, 20, 50};
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 500;
+
+    public static void main(final String[] theArgs) throws Exception {
+        PrintStream out = System.out;
+        TypeCatalog.getInstance();
+        List<PayloadCodec> codecs = List.of(PayloadCodecs.NONE,
+                PayloadCodecs.parse("deflate:1"), PayloadCodecs.parse("deflate:6"), PayloadCodecs.parse("deflate:9"),
+                PayloadCodecs.parse("dictionary:1"), PayloadCodecs.parse("dictionary:6"),
+                PayloadCodecs.parse("dictionary:9"));
+
+        for (int size : SIZES) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            Dungeon dungeon = new Dungeon(size, size, "Medium", true);
+            byte[] binary = dungeon.toSaveBytes();
+            byte[] json = dungeon.toJson().getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            System.setOut(out);
+
+            out.printf("%dx%d: binary %d bytes, JSON %d bytes%n", size, size, binary.length, json.length);
+            for (PayloadCodec codec : codecs) {
+                out.printf("  %-13s binary %s | JSON %s%n", codec.getName(), measure(codec, binary), measure(codec, json));
+            }
+        }
+    }
+
+    private static String measure(final PayloadCodec theCodec, final byte[] thePayload) throws Exception {
+        byte[] encoded = theCodec.encode(thePayload);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            theCodec.decode(theCodec.encode(thePayload));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            encoded = theCodec.encode(thePayload);
+        }
+        long encodeNanos = (System.nanoTime() - start) / MEASURED_RUNS;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            theCodec.decode(encoded);
+        }
+        long decodeNanos = (System.nanoTime() - start) / MEASURED_RUNS;
+        return String.format("%6d B (%5.1f%%) enc %6.1f us dec %6.1f us", encoded.length,
+                100.0 * encoded.length / thePayload.length, encodeNanos / 1000.0, decodeNanos / 1000.0);
+    }
+}
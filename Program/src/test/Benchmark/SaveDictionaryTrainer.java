@@ -0,0 +1,130 @@
+package test.Benchmark;
+
+import main.Model.TypeCatalog;
+import main.Model.character.HeroFactory;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Room;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Builds the preset dictionary of the dictionary save codec from freshly generated saves:
+ * dungeons of typical sizes and difficulties with part of them explored, plus hero payloads.
+ * The byte runs that show up in the most samples are packed into the dictionary, most
+ * common last, since deflate reaches the end of a dictionary with the shortest distances.
+ *
+ * The dictionary is part of the stored format: rows written with it need the exact same
+ * bytes to load. Never overwrite save-dictionary-1.bin; write a new file and give it a new
+ * codec id in PayloadCodecs.
+ * Run with: java test.Benchmark.SaveDictionaryTrainer [output file]
+ */
+public class SaveDictionaryTrainer {
+    private static final int[] SIZES = {5, 8, 10, 12, 15, 20, 30, 40};
+    private static final String[] DIFFICULTIES = {"Easy", "Medium", "Hard"};
+    private static final int SAMPLES_PER_SHAPE = 4;
+    private static final int RUN_LENGTH = 8;
+    private static final int DICTIONARY_SIZE = 8 * 1024;
+    private static final String DEFAULT_OUTPUT = "Program/resources/main/Model/codec/save-dictionary-2.bin";
+
+    public static void main(final String[] theArgs) throws IOException {
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        TypeCatalog.getInstance();
+        List<byte[]> samples = collectSamples(new Random(11));
+        byte[] dictionary = train(samples);
+        System.setOut(out);
+
+        Path output = Paths.get(theArgs.length > 0 ? theArgs[0] : DEFAULT_OUTPUT);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, dictionary);
+        System.out.println("Wrote " + dictionary.length + " byte dictionary from " + samples.size()
+                + " samples to " + output.toAbsolutePath());
+    }
+
+    private static List<byte[]> collectSamples(final Random theRandom) {
+        List<byte[]> samples = new ArrayList<>();
+        HeroFactory heroes = new HeroFactory();
+        for (int size : SIZES) {
+            for (String difficulty : DIFFICULTIES) {
+                for (int i = 0; i < SAMPLES_PER_SHAPE; i++) {
+                    Dungeon dungeon = new Dungeon(size, size, difficulty, true);
+                    // saves happen mid game, so explore part of the map
+                    int explored = theRandom.nextInt(size * size + 1);
+                    for (int j = 0; j < explored; j++) {
+                        Room room = dungeon.getRoom(theRandom.nextInt(size), theRandom.nextInt(size));
+                        room.setVisited(true);
+                    }
+                    samples.add(dungeon.toSaveBytes());
+                }
+            }
+        }
+        for (HeroType type : HeroType.values()) {
+            samples.add(heroes.getHero("Hero", type, new Point(0, 0)).toSaveBytes());
+        }
+        return samples;
+    }
+
+    /**
+     * Scores every run of RUN_LENGTH bytes by the number of samples it appears in times its
+     * total count, then fills the dictionary with the best runs that are not already in it.
+     */
+    private static byte[] train(final List<byte[]> theSamples) {
+        Map<ByteBuffer, long[]> counts = new HashMap<>();
+        for (byte[] sample : theSamples) {
+            Set<ByteBuffer> seen = new HashSet<>();
+            for (int i = 0; i + RUN_LENGTH <= sample.length; i++) {
+                ByteBuffer run = ByteBuffer.wrap(sample, i, RUN_LENGTH).slice();
+                long[] count = counts.computeIfAbsent(run, theRun -> new long[2]);
+                count[1]++;
+                if (seen.add(run)) {
+                    count[0]++;
+                }
+            }
+        }
+        List<Map.Entry<ByteBuffer, long[]>> ranked = new ArrayList<>(counts.entrySet());
+        ranked.removeIf(theEntry -> theEntry.getValue()[0] < 2);
+        ranked.sort(Comparator.comparingLong(
+                (Map.Entry<ByteBuffer, long[]> theEntry) -> theEntry.getValue()[0] * theEntry.getValue()[1])
+                .reversed());
+
+        List<byte[]> chosen = new ArrayList<>();
+        Set<ByteBuffer> covered = new HashSet<>();
+        int size = 0;
+        for (Map.Entry<ByteBuffer, long[]> entry : ranked) {
+            if (size + RUN_LENGTH > DICTIONARY_SIZE) {
+                break;
+            }
+            if (covered.add(entry.getKey())) {
+                byte[] run = new byte[RUN_LENGTH];
+                entry.getKey().duplicate().get(run);
+                chosen.add(run);
+                size += RUN_LENGTH;
+            }
+        }
+
+        // most common runs go last, closest to the data
+        byte[] dictionary = new byte[size];
+        int position = size;
+        for (byte[] run : chosen) {
+            position -= RUN_LENGTH;
+            System.arraycopy(run, 0, dictionary, position, RUN_LENGTH);
+        }
+        return dictionary;
+    }
+}
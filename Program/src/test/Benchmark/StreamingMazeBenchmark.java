@@ -0,0 +1,46 @@
+package test.Benchmark;
+
+import main.Model.dungeon.EllerMaze;
+import main.Model.dungeon.MazeFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Streams Eller mazes into a memory-mapped MazeFile and reports the heap they cost.
+ * Heap allocation is measured on the calling thread and should stay flat as the
+ * maze grows taller, since only O(width) state and the window table live on the heap.
+ * The file is deleted afterwards. Pass "width height" to try another size.
+ * Run with: java test.Benchmark.StreamingMazeBenchmark [width height]
+ */
+public class StreamingMazeBenchmark {
+    private static final int[][] SIZES = {{1024, 1024}, {1024, 65536}, {16384, 16384}};
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) throws IOException {
+        int[][] sizes = theArgs.length == 2
+                ? new int[][] {{Integer.parseInt(theArgs[0]), Integer.parseInt(theArgs[1])}}
+                : SIZES;
+        Path path = Files.createTempFile("maze-stream", ".ddm");
+        try {
+            for (int[] size : sizes) {
+                long bytesBefore = Allocations.currentThread();
+                long start = System.nanoTime();
+                try (MazeFile file = MazeFile.create(path, size[0], size[1])) {
+                    EllerMaze.stream(size[0], size[1], new SplittableRandom(SEED), file);
+                }
+                double millis = (System.nanoTime() - start) / 1_000_000.0;
+                long bytes = Allocations.currentThread() - bytesBefore;
+
+                long cells = (long) size[0] * size[1];
+                System.out.printf("%6d x %-6d %,14d cells %9.1f ms %7.1f ns/cell | heap %6d KB | file %,8d MB%n",
+                        size[0], size[1], cells, millis, millis * 1_000_000.0 / cells,
+                        bytes / 1024, Files.size(path) / (1024 * 1024));
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package test.Benchmark;
+
+import main.Model.dungeon.ChunkFileStore;
+import main.Model.dungeon.ChunkManager;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+import main.Model.util.Direction;
+import main.Model.util.Point;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Walks a hero in a straight line across a large world and reports the heap in use
+ * along the way, which should stay flat once the chunk budget is full. Every room
+ * entered is marked visited, so every chunk left behind has to be saved on eviction.
+ * The walk runs twice, without and with prefetching the chunk ahead, and reports the
+ * slowest room entry, which is the wait for a chunk to generate.
+ * Run with: java test.Benchmark.WorldExplorationBenchmark
+ */
+public class WorldExplorationBenchmark {
+    private static final int WORLD_SIZE = 1 << 20;
+    private static final int STEPS = 40_000;
+    private static final int REPORT_EVERY = 8_000;
+    private static final int MAX_RESIDENT_CHUNKS = 16;
+    private static final long SEED = 20261018L;
+
+    public static void main(final String[] theArgs) throws IOException, InterruptedException {
+        System.out.printf("World %dx%d rooms, %d chunks of %d rooms in memory%n", WORLD_SIZE, WORLD_SIZE,
+                MAX_RESIDENT_CHUNKS, ChunkManager.DEFAULT_CHUNK_SIZE * ChunkManager.DEFAULT_CHUNK_SIZE);
+        walk(false);
+        walk(true);
+    }
+
+    private static void walk(final boolean thePrefetch) throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("world-benchmark");
+        try {
+            Dungeon world = Dungeon.createWorld(WORLD_SIZE, WORLD_SIZE, "Medium", SEED, MazeGenerators.BACKTRACKER,
+                    new ChunkFileStore(directory), MAX_RESIDENT_CHUNKS);
+            System.out.println(thePrefetch ? "With prefetch" : "Without prefetch");
+            long slowest = 0;
+            long total = 0;
+            for (int step = 0; step < STEPS; step++) {
+                // Diagonal staircase, so the hero crosses chunk borders both east and south
+                Point position = new Point((step + 1) / 2, step / 2);
+                Direction direction = step % 2 == 0 ? Direction.SOUTH : Direction.EAST;
+                long start = System.nanoTime();
+                Room room = world.getRoom(position);
+                long elapsed = System.nanoTime() - start;
+                room.setVisited(true);
+                if (thePrefetch) {
+                    world.prefetchAhead(position, direction);
+                    world.prefetchAhead(position, direction == Direction.EAST ? Direction.SOUTH : Direction.EAST);
+                }
+                slowest = Math.max(slowest, elapsed);
+                total += elapsed;
+                // Pace like a player would, so prefetches have time to finish
+                if (thePrefetch && step % 16 == 0) {
+                    Thread.sleep(1);
+                }
+                if ((step + 1) % REPORT_EVERY == 0) {
+                    System.gc();
+                    Runtime runtime = Runtime.getRuntime();
+                    ChunkManager chunks = world.getChunkManager();
+                    System.out.printf("  %6d rooms walked | heap %6d KB | resident %2d | evicted %5d"
+                                    + " | misses %5d | prefetched %5d%n",
+                            step + 1, (runtime.totalMemory() - runtime.freeMemory()) / 1024,
+                            chunks.getResidentChunkCount(), chunks.getEvictionCount(),
+                            chunks.getMissCount(), chunks.getPrefetchCount());
+                }
+            }
+            System.out.printf("  room entry: mean %.1f us, slowest %.1f ms%n",
+                    total / 1000.0 / STEPS, slowest / 1_000_000.0);
+            world.getChunkManager().close();
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package test.Controller;
+
+import main.Controller.SavePipeline;
+import main.Model.Database;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavePipelineTest {
+
+    private RecordingDatabase myDatabase;
+    private SavePipeline myPipeline;
+    private List<Boolean> myResults;
+
+    @BeforeEach
+    void setUp() {
+        myDatabase = new RecordingDatabase();
+        myPipeline = new SavePipeline(Runnable::run);
+        myResults = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        myDatabase.myGate.countDown();
+        myPipeline.close();
+    }
+
+    @Test
+    void submit_writesOnBackgroundThreadAndReports() throws InterruptedException {
+        myDatabase.myGate.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, new byte[] {2}, "{}", theSaved -> {
+            myResults.add(theSaved);
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(true), myResults);
+        assertEquals(List.of("slot"), myDatabase.myWrites);
+        assertNotEquals(Thread.currentThread().getName(), myDatabase.myWriterThread);
+        assertEquals(1, myPipeline.getCompletedCount());
+        assertTrue(myPipeline.getMaxLatencyMillis() >= 0);
+    }
+
+    @Test
+    void submit_coalescesQueuedSavesToSameSlot() throws InterruptedException {
+        // The first save holds the writer so the next three queue up behind it
+        myPipeline.submit(myDatabase, "busy", new byte[] {0}, new byte[] {0}, "{}", myResults::add);
+        assertTrue(myDatabase.myStarted.await(5, TimeUnit.SECONDS));
+
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, new byte[] {1}, "{}", myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {2}, new byte[] {2}, "{}", myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {3}, new byte[] {3}, "{}", myResults::add);
+        assertEquals(1, myPipeline.getQueueDepth());
+        assertEquals(2, myPipeline.getCoalescedCount());
+
+        myDatabase.myGate.countDown();
+        myPipeline.close();
+
+        assertEquals(List.of("busy", "slot"), myDatabase.myWrites);
+        assertEquals(3, myDatabase.myLastPlayerData[0]);
+        assertEquals(List.of(true, true, true, true), myResults);
+        assertEquals(0, myPipeline.getQueueDepth());
+        assertEquals(4, myPipeline.getSubmittedCount());
+    }
+
+    @Test
+    void submit_mergesQueuedDeltasAndKeepsQueuedBase() throws InterruptedException {
+        myPipeline.submit(myDatabase, "busy", new byte[] {0}, new byte[] {0}, "{}", myResults::add);
+        assertTrue(myDatabase.myStarted.await(5, TimeUnit.SECONDS));
+
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, new byte[] {9}, null, "{}", myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {2}, null, delta(1, RoomType.EMPTY, 0, RoomType.TRAP),
+                "{}", myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {3}, null, delta(2, RoomType.MONSTER, 1, RoomType.EMPTY),
+                "{}", myResults::add);
+
+        myDatabase.myGate.countDown();
+        myPipeline.close();
+
+        assertEquals(9, myDatabase.myLastDungeonBase[0]);
+        assertEquals(3, myDatabase.myLastPlayerData[0]);
+        DungeonDelta merged = myDatabase.myLastDelta;
+        assertEquals(3, merged.getRoomCount());
+        assertEquals(2, merged.getActivatedPillars());
+        for (DungeonDelta.RoomState room : merged.getRooms()) {
+            if (room.getPosition().equals(new Point(0, 0))) {
+                assertEquals(RoomType.MONSTER, room.getRoomType());
+            }
+        }
+    }
+
+    @Test
+    void submit_newBaseReplacesQueuedDelta() throws InterruptedException {
+        myPipeline.submit(myDatabase, "busy", new byte[] {0}, new byte[] {0}, "{}", myResults::add);
+        assertTrue(myDatabase.myStarted.await(5, TimeUnit.SECONDS));
+
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, null, delta(1, RoomType.EMPTY, 0, RoomType.TRAP),
+                "{}", myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {2}, new byte[] {7}, "{}", myResults::add);
+
+        myDatabase.myGate.countDown();
+        myPipeline.close();
+
+        assertEquals(7, myDatabase.myLastDungeonBase[0]);
+        assertNull(myDatabase.myLastDelta);
+    }
+
+    @Test
+    void submit_coalescedSaveKeepsLatestThumbnail() throws InterruptedException {
+        myPipeline.submit(myDatabase, "busy", new byte[] {0}, new byte[] {0}, "{}", myResults::add);
+        assertTrue(myDatabase.myStarted.await(5, TimeUnit.SECONDS));
+
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, new byte[] {1}, null, "{}", new byte[] {4},
+                myResults::add);
+        myPipeline.submit(myDatabase, "slot", new byte[] {2}, null, delta(1, RoomType.EMPTY, 0, RoomType.TRAP),
+                "{}", null, myResults::add);
+
+        myDatabase.myGate.countDown();
+        myPipeline.close();
+
+        assertEquals(4, myDatabase.myLastThumbnail[0]);
+        assertEquals(2, myDatabase.myLastPlayerData[0]);
+    }
+
+    @Test
+    void submit_reportsFailure() {
+        myDatabase.myGate.countDown();
+        myDatabase.myFail = true;
+        myPipeline.submit(myDatabase, "slot", new byte[] {1}, new byte[] {2}, "{}", myResults::add);
+        myPipeline.close();
+
+        assertEquals(List.of(false), myResults);
+        assertEquals(1, myPipeline.getFailedCount());
+    }
+
+    @Test
+    void submit_rejectsNullArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> myPipeline.submit(null, "slot", new byte[0], new byte[0], "{}", myResults::add));
+        assertThrows(IllegalArgumentException.class,
+                () -> myPipeline.submit(myDatabase, null, new byte[0], new byte[0], "{}", myResults::add));
+        assertThrows(IllegalArgumentException.class, () -> new SavePipeline(null));
+    }
+
+    private static DungeonDelta delta(final int thePillars, final RoomType theFirst,
+                                      final int theSecondX, final RoomType theSecond) {
+        return new DungeonDelta(thePillars, false, List.of(
+                new DungeonDelta.RoomState.Builder(new Point(0, 0), theFirst).build(),
+                new DungeonDelta.RoomState.Builder(new Point(theSecondX + 1, 1), theSecond).build()));
+    }
+
+    /**
+     * Records writes instead of touching save_games, and can hold the writer thread.
+     */
+    private static final class RecordingDatabase extends Database {
+        private final CountDownLatch myGate = new CountDownLatch(1);
+        private final CountDownLatch myStarted = new CountDownLatch(1);
+        private final List<String> myWrites = new CopyOnWriteArrayList<>();
+        private volatile byte[] myLastPlayerData;
+        private volatile byte[] myLastDungeonBase;
+        private volatile DungeonDelta myLastDelta;
+        private volatile byte[] myLastThumbnail;
+        private volatile String myWriterThread;
+        private volatile boolean myFail;
+
+        @Override
+        public boolean saveGame(final String theSaveName, final byte[] thePlayerData, final byte[] theDungeonBase,
+                                final DungeonDelta theDelta, final String theGameState, final byte[] theThumbnail) {
+            myStarted.countDown();
+            try {
+                myGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            myWriterThread = Thread.currentThread().getName();
+            myWrites.add(theSaveName);
+            myLastPlayerData = thePlayerData;
+            myLastDungeonBase = theDungeonBase;
+            myLastDelta = theDelta;
+            myLastThumbnail = theThumbnail;
+            return !myFail;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package test.Model;
+
+import main.Model.ConnectionManager;
+import main.Model.Database;
+import main.Model.SaveSummary;
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.codec.PayloadCodec;
+import main.Model.codec.PayloadCodecs;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.util.HeroType;
+import main.Model.util.MonsterType;
+import main.Model.util.PillarType;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseTest {
+    private static final String SAVE_NAME = "DatabaseTest_save";
+
+    private Database myDatabase;
+
+    @BeforeEach
+    void setUp() {
+        myDatabase = new Database();
+        assertTrue(myDatabase.isConnected());
+    }
+
+    @AfterEach
+    void tearDown() {
+        myDatabase.deleteSaveGame(SAVE_NAME);
+    }
+
+    @Test
+    void constructor_storesSchemaVersion() throws SQLException {
+        try (ResultSet rs = myDatabase.executeQuery("PRAGMA user_version")) {
+            assertTrue(rs.next());
+            assertTrue(rs.getInt(1) >= 1);
+        }
+    }
+
+    @Test
+    void constructor_seedsTypeTablesOnce() throws SQLException {
+        new Database();
+        try (ResultSet rs = myDatabase.executeQuery("SELECT COUNT(*) AS count FROM monster_types")) {
+            assertTrue(rs.next());
+            assertEquals(MonsterType.values().length, rs.getInt("count"));
+        }
+    }
+
+    @Test
+    void saveAndLoad_roundTrip() throws SQLException {
+        assertTrue(myDatabase.saveGameData(SAVE_NAME, "player", "dungeon", "state"));
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertNotNull(rs);
+            assertTrue(rs.next());
+            assertEquals("player", rs.getString("player_data"));
+            assertEquals("dungeon", rs.getString("dungeon_data"));
+            assertEquals("state", rs.getString("game_state"));
+            assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    void saveAndLoad_binaryPayloads() throws SQLException {
+        byte[] player = {'D', 'D', 'H', 1, 0, -1, 127};
+        byte[] dungeon = {'D', 'D', 'D', 1, 42};
+        assertTrue(myDatabase.saveGameData(SAVE_NAME, player, dungeon, "state"));
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertTrue(rs.next());
+            assertArrayEquals(player, Database.getPayload(rs, "player_data"));
+            assertArrayEquals(dungeon, Database.getPayload(rs, "dungeon_data"));
+        }
+    }
+
+    @Test
+    void saveGame_deltaRoundTrip() throws SQLException {
+        Dungeon dungeon = new Dungeon(6, 6, "Medium", true);
+        assertTrue(myDatabase.saveGame(SAVE_NAME, new byte[] {1}, dungeon.toSaveBytes(), null, "state"));
+        assertNull(myDatabase.loadDungeonDelta(SAVE_NAME));
+
+        DungeonDelta.RoomState room = new DungeonDelta.RoomState.Builder(new Point(2, 3), RoomType.MONSTER)
+                .setVisited(true)
+                .setDoors(true, false, true, false)
+                .setTrap("Floor Spikes", 7, true)
+                .setPillar(PillarType.INHERITANCE, false)
+                .setMonster(MonsterType.ORC, 12)
+                .addItem("Health Potion")
+                .addItem("Vision Potion")
+                .build();
+        assertTrue(myDatabase.saveGame(SAVE_NAME, new byte[] {2}, null,
+                new DungeonDelta(3, true, List.of(room)), "state2"));
+        // a second delta for the same room replaces its rows
+        assertTrue(myDatabase.saveGame(SAVE_NAME, new byte[] {3}, null,
+                new DungeonDelta(3, true, List.of(room)), "state3"));
+
+        DungeonDelta loaded = myDatabase.loadDungeonDelta(SAVE_NAME);
+        assertEquals(3, loaded.getActivatedPillars());
+        assertTrue(loaded.isBossSpawned());
+        assertEquals(1, loaded.getRoomCount());
+        DungeonDelta.RoomState read = loaded.getRooms().iterator().next();
+        assertEquals(new Point(2, 3), read.getPosition());
+        assertEquals(RoomType.MONSTER, read.getRoomType());
+        assertTrue(read.isVisited());
+        assertTrue(read.hasNorthDoor());
+        assertFalse(read.hasEastDoor());
+        assertEquals("Floor Spikes", read.getTrapName());
+        assertEquals(7, read.getTrapDamage());
+        assertTrue(read.isTrapSprung());
+        assertEquals(PillarType.INHERITANCE, read.getPillarType());
+        assertEquals(MonsterType.ORC, read.getMonsterType());
+        assertEquals(12, read.getMonsterHealth());
+        assertEquals(List.of("Health Potion", "Vision Potion"), read.getItemNames());
+
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertTrue(rs.next());
+            assertArrayEquals(new byte[] {3}, Database.getPayload(rs, "player_data"));
+            assertEquals("state3", rs.getString("game_state"));
+        }
+    }
+
+    @Test
+    void saveGame_fullSaveDropsOldDelta() {
+        byte[] base = new Dungeon(4, 4, "Easy", true).toSaveBytes();
+        myDatabase.saveGame(SAVE_NAME, new byte[] {1}, base, null, "state");
+        myDatabase.saveGame(SAVE_NAME, new byte[] {1}, null, new DungeonDelta(1, false,
+                List.of(new DungeonDelta.RoomState.Builder(new Point(1, 1), RoomType.EMPTY).build())), "state");
+        assertNotNull(myDatabase.loadDungeonDelta(SAVE_NAME));
+
+        assertTrue(myDatabase.saveGame(SAVE_NAME, new byte[] {1}, base, null, "state"));
+        assertNull(myDatabase.loadDungeonDelta(SAVE_NAME));
+    }
+
+    @Test
+    void saveGame_deltaWithoutBaseFails() {
+        assertFalse(myDatabase.saveGame(SAVE_NAME, new byte[] {1}, null,
+                new DungeonDelta(0, false, List.of()), "state"));
+        assertNull(myDatabase.loadDungeonDelta(SAVE_NAME));
+    }
+
+    @Test
+    void getPayload_readsLegacyJsonRowsAsText() throws SQLException {
+        myDatabase.saveGameData(SAVE_NAME, "{\"name\":\"Conan\"}", "{}", "state");
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertTrue(rs.next());
+            assertEquals("{\"name\":\"Conan\"}",
+                    new String(Database.getPayload(rs, "player_data"), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void saveGame_compressesPayloadsWithStoredCodec() throws SQLException {
+        byte[] dungeon = new Dungeon(10, 10, "Medium", true).toSaveBytes();
+        PayloadCodec previous = PayloadCodecs.getDefault();
+        try {
+            PayloadCodecs.setDefault(PayloadCodecs.parse("deflate:9"));
+            assertTrue(myDatabase.saveGame(SAVE_NAME, new byte[] {1}, dungeon, null, "state"));
+        } finally {
+            PayloadCodecs.setDefault(previous);
+        }
+
+        // the row still loads after the default changes
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertTrue(rs.next());
+            assertEquals(PayloadCodecs.DEFLATE_ID, rs.getInt("dungeon_codec"));
+            assertTrue(((byte[]) rs.getObject("dungeon_data")).length < dungeon.length);
+            assertEquals(dungeon.length, rs.getInt("dungeon_raw_size"));
+            assertArrayEquals(dungeon, Database.getPayload(rs, "dungeon_data"));
+            // too small to shrink, so stored as is
+            assertEquals(PayloadCodecs.NONE_ID, rs.getInt("player_codec"));
+            assertArrayEquals(new byte[] {1}, Database.getPayload(rs, "player_data"));
+        }
+    }
+
+    @Test
+    void getAllSaveGames_containsSave() throws SQLException {
+        myDatabase.saveGameData(SAVE_NAME, "player", "dungeon", "state");
+        boolean found = false;
+        try (ResultSet rs = myDatabase.getAllSaveGames()) {
+            while (rs.next()) {
+                found |= SAVE_NAME.equals(rs.getString("save_name"));
+            }
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    void deleteSaveGame_removesRow() throws SQLException {
+        myDatabase.saveGameData(SAVE_NAME, "player", "dungeon", "state");
+        assertTrue(myDatabase.deleteSaveGame(SAVE_NAME));
+        assertFalse(myDatabase.deleteSaveGame(SAVE_NAME));
+        try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+            assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    void describeSave_readsOnlyTheHeroFields() {
+        Hero hero = new HeroFactory().getHero("Header", HeroType.WARRIOR, new Point(0, 0));
+        hero.addGold(25);
+        byte[] payload = hero.toSaveBytes();
+        // Position and inventory follow the pillar count, so a payload cut inside them still describes
+        byte[] cut = Arrays.copyOf(payload, payload.length - 8);
+        SaveSummary binary = describe(cut);
+        assertEquals("Header", binary.getHeroName());
+        assertEquals(HeroType.WARRIOR, binary.getHeroType());
+        assertEquals(hero.getGold(), binary.getGold());
+        assertNull(Hero.fromSaveBytes(cut));
+
+        // Legacy JSON is only streamed until the summary fields have gone by
+        String json = hero.toJson();
+        String head = json.substring(0, json.indexOf("\"positionX\""));
+        SaveSummary legacy = describe(head.getBytes(StandardCharsets.UTF_8));
+        assertEquals("Header", legacy.getHeroName());
+        assertEquals(hero.getGold(), legacy.getGold());
+        assertEquals(hero.getPillarsActivated(), legacy.getPillars());
+
+        assertFalse(Hero.describeSave(Arrays.copyOf(payload, 6), new SaveSummary.Builder(SAVE_NAME)));
+    }
+
+    private static SaveSummary describe(final byte[] thePayload) {
+        SaveSummary.Builder summary = new SaveSummary.Builder(SAVE_NAME);
+        assertTrue(Hero.describeSave(thePayload, summary));
+        return summary.build();
+    }
+
+    @Test
+    void saveGame_writesSummary() {
+        Hero hero = new HeroFactory().getHero("Summary", HeroType.THIEF, new Point(0, 0));
+        hero.addGold(40);
+        byte[] thumbnail = {2, 1, 1, 0};
+        assertTrue(myDatabase.saveGame(SAVE_NAME, hero.toSaveBytes(), new byte[] {1, 2, 3}, null, "{}", thumbnail));
+
+        List<SaveSummary> page = myDatabase.getSaveSummaries(SAVE_NAME, null, SaveSummary.Order.NEWEST, null, 10);
+        assertEquals(1, page.size());
+        SaveSummary summary = page.getFirst();
+        assertEquals("Summary", summary.getHeroName());
+        assertEquals(HeroType.THIEF, summary.getHeroType());
+        assertEquals(hero.getGold(), summary.getGold());
+        assertEquals(hero.toSaveBytes().length + 3, summary.getPayloadSize());
+        assertArrayEquals(thumbnail, summary.getThumbnail());
+
+        // a save without a thumbnail keeps the stored one
+        assertTrue(myDatabase.saveGame(SAVE_NAME, hero.toSaveBytes(), null, null, "{}"));
+        assertArrayEquals(thumbnail, myDatabase.getSaveSummaries(SAVE_NAME, null, SaveSummary.Order.NEWEST,
+                null, 10).getFirst().getThumbnail());
+
+        myDatabase.deleteSaveGame(SAVE_NAME);
+        assertTrue(myDatabase.getSaveSummaries(SAVE_NAME, null, SaveSummary.Order.NEWEST, null, 10).isEmpty());
+    }
+
+    @Test
+    void getSaveSummaries_keysetPagesCoverEverySaveOnce() {
+        String prefix = "DatabaseTest_page_";
+        HeroFactory heroes = new HeroFactory();
+        try {
+            for (int i = 0; i < 7; i++) {
+                HeroType type = i % 2 == 0 ? HeroType.WARRIOR : HeroType.PRIESTESS;
+                byte[] player = heroes.getHero("Hero" + i, type, new Point(0, 0)).toSaveBytes();
+                assertTrue(myDatabase.saveGameData(prefix + i, player, new byte[] {1}, "{}"));
+            }
+            for (SaveSummary.Order order : SaveSummary.Order.values()) {
+                Set<String> seen = new HashSet<>();
+                SaveSummary last = null;
+                List<SaveSummary> page;
+                do {
+                    page = myDatabase.getSaveSummaries(prefix, null, order, last, 3);
+                    for (SaveSummary summary : page) {
+                        assertTrue(seen.add(summary.getSaveName()), "repeated " + summary.getSaveName());
+                    }
+                    last = page.isEmpty() ? last : page.getLast();
+                } while (page.size() == 3);
+                assertEquals(7, seen.size(), order.name());
+            }
+
+            assertEquals(4, myDatabase.getSaveSummaries(prefix, HeroType.WARRIOR, SaveSummary.Order.NAME,
+                    null, 10).size());
+            assertEquals(1, myDatabase.getSaveSummaries("hero3", null, SaveSummary.Order.NAME, null, 10).size());
+            assertTrue(myDatabase.getSaveSummaries("page%", null, SaveSummary.Order.NAME, null, 10).isEmpty());
+        } finally {
+            for (int i = 0; i < 7; i++) {
+                myDatabase.deleteSaveGame(prefix + i);
+            }
+        }
+    }
+
+    @Test
+    void repeatedQueries_hitStatementCache() throws SQLException {
+        ConnectionManager manager = ConnectionManager.getInstance();
+        myDatabase.loadGameData(SAVE_NAME);
+        long hitsBefore = manager.getStatementCacheHits();
+        for (int i = 0; i < 10; i++) {
+            myDatabase.loadGameData(SAVE_NAME);
+        }
+        assertTrue(manager.getStatementCacheHits() - hitsBefore >= 7);
+    }
+
+    @Test
+    void concurrentReaders_allSucceed() throws Exception {
+        myDatabase.saveGameData(SAVE_NAME, "player", "dungeon", "state");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(pool.submit(() -> {
+                    try (ResultSet rs = myDatabase.loadGameData(SAVE_NAME)) {
+                        return rs.next() && "player".equals(rs.getString("player_data"));
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.ChunkStore;
+import main.Model.dungeon.DistanceField;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+import main.Model.util.Point;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistanceFieldTest {
+
+    @Test
+    @DisplayName("Distances should follow the doors, not the straight line")
+    void testDistancesFollowDoors() {
+        // 3x2 corridor that snakes (0,0) -> (2,0) -> (2,1) -> (0,1)
+        Maze maze = new Maze(3, 2);
+        maze.carve(maze.cell(0, 0), maze.cell(1, 0));
+        maze.carve(maze.cell(1, 0), maze.cell(2, 0));
+        maze.carve(maze.cell(2, 0), maze.cell(2, 1));
+        maze.carve(maze.cell(2, 1), maze.cell(1, 1));
+        maze.carve(maze.cell(1, 1), maze.cell(0, 1));
+
+        DistanceField field = DistanceField.compute(maze, 0, 0);
+        assertEquals(0, field.getDistance(0, 0));
+        assertEquals(2, field.getDistance(2, 0));
+        assertEquals(5, field.getDistance(0, 1));
+        assertEquals(5, field.getMaxDistance());
+        assertEquals(6, field.getReachableCount());
+        assertEquals(3, DistanceField.compute(maze, 2, 1).getDistance(new Point(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Rooms behind walls should be unreachable")
+    void testUnreachable() {
+        Maze maze = new Maze(2, 2);
+        maze.carve(maze.cell(0, 0), maze.cell(1, 0));
+        DistanceField field = DistanceField.compute(maze, 0, 0);
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(0, 1));
+        assertEquals(2, field.getReachableCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> field.getDistance(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.compute(maze, 5, 0));
+    }
+
+    @Test
+    @DisplayName("An open grid, with a frontier wider than the first queue, should give Manhattan distances")
+    void testOpenGridGrowsQueue() {
+        Maze maze = new Maze(300, 200);
+        for (int y = 0; y < 200; y++) {
+            for (int x = 0; x < 300; x++) {
+                if (x + 1 < 300) {
+                    maze.carve(maze.cell(x, y), maze.cell(x + 1, y));
+                }
+                if (y + 1 < 200) {
+                    maze.carve(maze.cell(x, y), maze.cell(x, y + 1));
+                }
+            }
+        }
+        DistanceField field = DistanceField.compute(maze, 150, 100);
+        for (int y = 0; y < 200; y += 7) {
+            for (int x = 0; x < 300; x += 11) {
+                assertEquals(Math.abs(x - 150) + Math.abs(y - 100), field.getDistance(x, y));
+            }
+        }
+        assertEquals(300 * 200, field.getReachableCount());
+    }
+
+    @Test
+    @DisplayName("A perfect maze should reach every room from anywhere")
+    void testPerfectMazeReachesAll() {
+        Maze maze = new Maze(64, 48);
+        MazeGenerators.WILSON.generate(maze, new SplittableRandom(4L));
+        DistanceField field = DistanceField.compute(maze, 0, 0);
+        assertEquals(64 * 48, field.getReachableCount());
+        assertTrue(field.getMaxDistance() >= 64 + 48 - 2);
+    }
+
+    @Test
+    @DisplayName("A dungeon should cache its fields and a loaded copy should measure the same")
+    void testDungeonFields() {
+        Dungeon dungeon = new Dungeon(40, 30, "Normal", 12L);
+        DistanceField spawn = dungeon.getSpawnDistances();
+        assertSame(spawn, dungeon.getSpawnDistances());
+        assertEquals(0, spawn.getDistance(dungeon.getHeroSpawnPoint()));
+        assertEquals(0, dungeon.getExitDistances().getDistance(dungeon.getExitPoint()));
+        assertEquals(spawn.getDistance(dungeon.getExitPoint()),
+                dungeon.getExitDistances().getDistance(dungeon.getHeroSpawnPoint()));
+        assertEquals(40 * 30, spawn.getReachableCount());
+
+        Dungeon loaded = Dungeon.fromSaveBytes(dungeon.toSaveBytes());
+        for (int y = 0; y < 30; y++) {
+            for (int x = 0; x < 40; x++) {
+                assertEquals(spawn.getDistance(x, y), loaded.getSpawnDistances().getDistance(x, y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Pillars should lie in rising bands of distance from the spawn")
+    void testPillarsByDistance() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Dungeon dungeon = new Dungeon(50, 50, "Normal", seed);
+            DistanceField spawn = dungeon.getSpawnDistances();
+            int[] pillarDistances = new int[4];
+            for (int y = 0; y < 50; y++) {
+                for (int x = 0; x < 50; x++) {
+                    Room room = dungeon.getRoom(x, y);
+                    if (room.hasPillar()) {
+                        pillarDistances[room.getPillar().getType().ordinal()] = spawn.getDistance(x, y);
+                    }
+                }
+            }
+            for (int i = 0; i < 4; i++) {
+                assertTrue(pillarDistances[i] > 0, "seed " + seed);
+                if (i > 0) {
+                    assertTrue(pillarDistances[i] >= pillarDistances[i - 1], "seed " + seed);
+                }
+            }
+            assertTrue(pillarDistances[0] * 5 >= spawn.getMaxDistance(), "seed " + seed);
+        }
+        assertNull(Dungeon.createWorld(100, 100, "Normal", 1L, MazeGenerators.BACKTRACKER,
+                new ChunkStore() {
+                    @Override
+                    public DungeonDelta load(final int theChunkX, final int theChunkY) {
+                        return null;
+                    }
+
+                    @Override
+                    public void save(final int theChunkX, final int theChunkY,
+                                     final DungeonDelta theDelta) {
+                    }
+                }, 4).getSpawnDistances());
+    }
+}
@@ -0,0 +1,73 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.Dungeon;
+import main.Model.util.SaveFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DungeonBinaryCodecTest {
+
+    private Dungeon dungeon;
+
+    @BeforeEach
+    void setUp() {
+        dungeon = new Dungeon(20, 15, "Normal", true);
+        dungeon.getRoom(0, 0).setVisited(true);
+        dungeon.getRoom(4, 7).setVisited(true);
+        dungeon.getRoom(5, 5).setChestOpened(true);
+        dungeon.getRoom(6, 2).setItemsCollected(true);
+    }
+
+    @Test
+    @DisplayName("Binary saves should round trip every room")
+    void testRoundTrip() {
+        byte[] data = dungeon.toSaveBytes();
+        assertTrue(SaveFormat.isBinary(data));
+
+        Dungeon loaded = Dungeon.fromSaveBytes(data);
+        assertNotNull(loaded);
+        DungeonJsonCodecTest.assertSameDungeon(dungeon, loaded);
+        assertArrayEquals(data, loaded.toSaveBytes());
+    }
+
+    @Test
+    @DisplayName("Binary saves should be an order of magnitude smaller than JSON")
+    void testSmallerThanJson() {
+        int binary = dungeon.toSaveBytes().length;
+        int json = dungeon.toJson().getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(binary * 10 <= json, "binary " + binary + " bytes, JSON " + json + " bytes");
+    }
+
+    @Test
+    @DisplayName("Legacy JSON rows should load through fromSaveBytes")
+    void testLegacyJsonFallback() {
+        byte[] legacy = dungeon.toJson().getBytes(StandardCharsets.UTF_8);
+        assertFalse(SaveFormat.isBinary(legacy));
+
+        Dungeon loaded = Dungeon.fromSaveBytes(legacy);
+        assertNotNull(loaded);
+        DungeonJsonCodecTest.assertSameDungeon(dungeon, loaded);
+    }
+
+    @Test
+    @DisplayName("Truncated, mislabeled or newer payloads should return null")
+    void testCorruptPayloads() {
+        byte[] data = dungeon.toSaveBytes();
+        assertNull(Dungeon.fromSaveBytes(Arrays.copyOf(data, data.length / 2)));
+        assertNull(Dungeon.fromSaveBytes(null));
+
+        byte[] hero = data.clone();
+        hero[2] = SaveFormat.KIND_HERO;
+        assertNull(Dungeon.fromSaveBytes(hero));
+
+        byte[] newer = data.clone();
+        newer[3] = (byte) (SaveFormat.VERSION + 1);
+        assertNull(Dungeon.fromSaveBytes(newer));
+    }
+}
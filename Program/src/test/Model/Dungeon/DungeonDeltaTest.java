@@ -0,0 +1,123 @@
+package test.Model.Dungeon;
+
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.character.Monster;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.Room;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonDeltaTest {
+
+    private Dungeon myDungeon;
+    private Hero myHero;
+
+    @BeforeEach
+    void setUp() {
+        myDungeon = new Dungeon(12, 10, "Medium", true);
+        myHero = new HeroFactory().getHero("Conan", HeroType.WARRIOR, new Point(0, 0));
+    }
+
+    @Test
+    void newDungeon_hasNoChanges() {
+        assertEquals(0, myDungeon.getDirtyRoomCount());
+        assertEquals(0, myDungeon.takeChanges().getRoomCount());
+    }
+
+    @Test
+    void loadedDungeon_hasNoChanges() {
+        myDungeon.getRoom(3, 3).setVisited(true);
+        Dungeon loaded = Dungeon.fromSaveBytes(myDungeon.toSaveBytes());
+        assertEquals(0, loaded.getDirtyRoomCount());
+        loaded.getRoom(4, 4).setVisited(true);
+        assertEquals(1, loaded.getDirtyRoomCount());
+    }
+
+    @Test
+    void roomMutations_markOnlyThatRoom() {
+        myDungeon.getRoom(1, 2).setVisited(true);
+        myDungeon.getRoom(1, 2).setVisited(true);
+        myDungeon.getRoom(5, 5).setChestOpened(true);
+        assertEquals(2, myDungeon.getDirtyRoomCount());
+
+        DungeonDelta delta = myDungeon.takeChanges();
+        assertEquals(2, delta.getRoomCount());
+        assertEquals(0, myDungeon.getDirtyRoomCount());
+    }
+
+    @Test
+    void unchangedValues_doNotMarkRoom() {
+        Room room = myDungeon.getRoom(2, 2);
+        room.setVisited(room.isVisited());
+        room.setChestOpened(room.getChestOpened());
+        assertEquals(0, myDungeon.getDirtyRoomCount());
+    }
+
+    @Test
+    void gameplayChanges_roundTripThroughDelta() {
+        byte[] base = myDungeon.toSaveBytes();
+        Room monsterRoom = findRoom(RoomType.MONSTER);
+        Room trapRoom = findRoom(RoomType.TRAP);
+        Room pillarRoom = findRoom(RoomType.PILLAR);
+
+        Monster monster = monsterRoom.getMonsters().getFirst();
+        monster.setHealth(monster.getHealth() - 3);
+        monsterRoom.setVisited(true);
+        trapRoom.springTrap(myHero);
+        assertTrue(pillarRoom.activatePillar(myHero));
+        myDungeon.recordPillarActivation();
+
+        DungeonDelta delta = myDungeon.takeChanges();
+        Dungeon loaded = Dungeon.fromSaveBytes(base);
+        loaded.applyChanges(delta);
+
+        // same dungeon as a full save of the current state would load
+        DungeonJsonCodecTest.assertSameDungeon(Dungeon.fromSaveBytes(myDungeon.toSaveBytes()), loaded);
+        Point at = monsterRoom.getPosition();
+        assertEquals(monster.getHealth(), loaded.getRoom(at).getMonsters().getFirst().getHealth());
+        assertTrue(loaded.getRoom(trapRoom.getPosition()).getTrap().isSprung());
+        assertEquals(1, loaded.getActivatedPillars());
+        assertEquals(0, loaded.getDirtyRoomCount());
+    }
+
+    @Test
+    void mergedWith_keepsNewerRoomState() {
+        Point shared = new Point(1, 1);
+        DungeonDelta older = new DungeonDelta(1, false, List.of(
+                new DungeonDelta.RoomState.Builder(shared, RoomType.TRAP).build(),
+                new DungeonDelta.RoomState.Builder(new Point(2, 2), RoomType.EMPTY).build()));
+        DungeonDelta newer = new DungeonDelta(2, true, List.of(
+                new DungeonDelta.RoomState.Builder(shared, RoomType.EMPTY).setVisited(true).build()));
+
+        DungeonDelta merged = older.mergedWith(newer);
+        assertEquals(2, merged.getRoomCount());
+        assertEquals(2, merged.getActivatedPillars());
+        assertTrue(merged.isBossSpawned());
+        for (DungeonDelta.RoomState room : merged.getRooms()) {
+            if (room.getPosition().equals(shared)) {
+                assertEquals(RoomType.EMPTY, room.getRoomType());
+                assertTrue(room.isVisited());
+            }
+        }
+    }
+
+    private Room findRoom(final RoomType theType) {
+        for (int y = 0; y < myDungeon.getHeight(); y++) {
+            for (int x = 0; x < myDungeon.getWidth(); x++) {
+                if (myDungeon.getRoom(x, y).getRoomType() == theType) {
+                    return myDungeon.getRoom(x, y);
+                }
+            }
+        }
+        throw new AssertionError("No " + theType + " room generated");
+    }
+}
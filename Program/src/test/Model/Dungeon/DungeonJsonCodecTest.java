@@ -0,0 +1,193 @@
+package test.Model.Dungeon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Room;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DungeonJsonCodecTest {
+
+    private Dungeon dungeon;
+
+    @BeforeEach
+    void setUp() {
+        dungeon = new Dungeon(12, 8, "Normal", true);
+        dungeon.getRoom(0, 0).setVisited(true);
+        dungeon.getRoom(3, 2).setVisited(true);
+    }
+
+    @Test
+    @DisplayName("toJson and fromJson should round trip every room")
+    void testStringRoundTrip() {
+        String json = dungeon.toJson();
+        assertNotNull(json);
+
+        Dungeon loaded = Dungeon.fromJson(json);
+        assertNotNull(loaded);
+        assertSameDungeon(dungeon, loaded);
+    }
+
+    @Test
+    @DisplayName("The generation seed should survive a JSON round trip")
+    void testSeedRoundTrip() {
+        Dungeon loaded = Dungeon.fromJson(dungeon.toJson());
+        assertEquals(dungeon.getSeed(), loaded.getSeed());
+        assertEquals(dungeon.getGeneratorVersion(), loaded.getGeneratorVersion());
+    }
+
+    @Test
+    @DisplayName("writeJson and readJson should round trip through byte streams")
+    void testStreamRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dungeon.writeJson(out);
+
+        Dungeon loaded = Dungeon.readJson(new ByteArrayInputStream(out.toByteArray()));
+        assertSameDungeon(dungeon, loaded);
+        assertEquals(dungeon.toJson(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Saves written by the old ObjectMapper format should still load")
+    void testLegacyFormatLoads() throws IOException {
+        String legacy = new ObjectMapper().writeValueAsString(legacySaveData(dungeon));
+
+        Dungeon loaded = Dungeon.fromJson(legacy);
+        assertNotNull(loaded);
+        assertSameDungeon(dungeon, loaded);
+    }
+
+    @Test
+    @DisplayName("roomData before the size fields should still load")
+    void testRoomDataBeforeHeader() throws IOException {
+        Map<String, Object> legacy = legacySaveData(dungeon);
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("roomData", legacy.remove("roomData"));
+        reordered.putAll(legacy);
+
+        Dungeon loaded = Dungeon.fromJson(new ObjectMapper().writeValueAsString(reordered));
+        assertNotNull(loaded);
+        assertSameDungeon(dungeon, loaded);
+    }
+
+    @Test
+    @DisplayName("Malformed JSON should return null")
+    void testMalformedJson() {
+        assertNull(Dungeon.fromJson("[1, 2, 3]"));
+        assertNull(Dungeon.fromJson("{\"width\": 2}"));
+        assertNull(Dungeon.fromJson("{\"width\": 1, \"height\": 1, \"roomData\": [[{}, {}]]}"));
+    }
+
+    static void assertSameDungeon(final Dungeon theExpected, final Dungeon theActual) {
+        assertEquals(theExpected.getWidth(), theActual.getWidth());
+        assertEquals(theExpected.getHeight(), theActual.getHeight());
+        assertEquals(theExpected.getDifficulty(), theActual.getDifficulty());
+        assertEquals(theExpected.getTotalPillars(), theActual.getTotalPillars());
+        assertEquals(theExpected.getActivatedPillars(), theActual.getActivatedPillars());
+        assertEquals(theExpected.getHeroSpawnPoint(), theActual.getHeroSpawnPoint());
+        assertEquals(theExpected.getExitPoint(), theActual.getExitPoint());
+
+        for (int y = 0; y < theExpected.getHeight(); y++) {
+            for (int x = 0; x < theExpected.getWidth(); x++) {
+                Room expected = theExpected.getRoom(x, y);
+                Room actual = theActual.getRoom(x, y);
+                String at = " at " + x + "," + y;
+                assertEquals(expected.getRoomType(), actual.getRoomType(), "room type" + at);
+                assertEquals(expected.isVisited(), actual.isVisited(), "visited" + at);
+                assertEquals(expected.getChestOpened(), actual.getChestOpened(), "chest opened" + at);
+                assertEquals(expected.getItemsCollected(), actual.getItemsCollected(), "items collected" + at);
+                assertEquals(expected.hasNorthDoor(), actual.hasNorthDoor(), "north door" + at);
+                assertEquals(expected.hasEastDoor(), actual.hasEastDoor(), "east door" + at);
+                assertEquals(expected.hasSouthDoor(), actual.hasSouthDoor(), "south door" + at);
+                assertEquals(expected.hasWestDoor(), actual.hasWestDoor(), "west door" + at);
+                assertEquals(expected.hasPillar(), actual.hasPillar(), "pillar" + at);
+                if (expected.hasPillar()) {
+                    assertEquals(expected.getPillar().getType(), actual.getPillar().getType(), "pillar type" + at);
+                }
+                assertEquals(expected.hasTrap(), actual.hasTrap(), "trap" + at);
+                assertEquals(expected.getMonsters().size(), actual.getMonsters().size(), "monsters" + at);
+                if (!expected.getMonsters().isEmpty()) {
+                    assertEquals(expected.getMonsters().getFirst().getType(),
+                            actual.getMonsters().getFirst().getType(), "monster type" + at);
+                }
+                if (expected.getRoomType() == RoomType.TREASURE) {
+                    assertEquals(expected.getChest().size(), actual.getChest().size(), "chest" + at);
+                } else {
+                    assertEquals(expected.getItems().size(), actual.getItems().size(), "items" + at);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the same tree the old DungeonSaveData/RoomSaveData classes serialized to,
+     * including the null fields and the always false itemsCollected flag.
+     */
+    private static Map<String, Object> legacySaveData(final Dungeon theDungeon) {
+        Map<String, Object> save = new LinkedHashMap<>();
+        save.put("width", theDungeon.getWidth());
+        save.put("height", theDungeon.getHeight());
+        save.put("difficulty", theDungeon.getDifficulty());
+        save.put("totalPillars", theDungeon.getTotalPillars());
+        save.put("activatedPillars", theDungeon.getActivatedPillars());
+        save.put("bossSpawned", theDungeon.isBossSpawned());
+        save.put("heroSpawnX", theDungeon.getHeroSpawnPoint().getX());
+        save.put("heroSpawnY", theDungeon.getHeroSpawnPoint().getY());
+        save.put("exitX", theDungeon.getExitPoint().getX());
+        save.put("exitY", theDungeon.getExitPoint().getY());
+
+        List<List<Map<String, Object>>> rows = new ArrayList<>();
+        for (int y = 0; y < theDungeon.getHeight(); y++) {
+            List<Map<String, Object>> row = new ArrayList<>();
+            for (int x = 0; x < theDungeon.getWidth(); x++) {
+                Room room = theDungeon.getRoom(x, y);
+                Map<String, Object> roomSave = new LinkedHashMap<>();
+                roomSave.put("x", x);
+                roomSave.put("y", y);
+                roomSave.put("roomType", room.getRoomType().name());
+                roomSave.put("visited", room.isVisited());
+                roomSave.put("chestOpened", room.getChestOpened());
+                roomSave.put("itemsCollected", false);
+                roomSave.put("hasNorthDoor", room.hasNorthDoor());
+                roomSave.put("hasEastDoor", room.hasEastDoor());
+                roomSave.put("hasSouthDoor", room.hasSouthDoor());
+                roomSave.put("hasWestDoor", room.hasWestDoor());
+                roomSave.put("pillarType", room.hasPillar() ? room.getPillar().getType().name() : null);
+                roomSave.put("pillarActivated", room.hasPillar() && room.getPillar().isActivated());
+                roomSave.put("trapName", room.hasTrap() ? room.getTrap().getName() : null);
+                roomSave.put("trapDamage", room.hasTrap() ? room.getTrap().getDamage() : 0);
+                roomSave.put("trapSprung", room.hasTrap() && room.getTrap().isSprung());
+                boolean hasMonster = room.getRoomType() == RoomType.MONSTER && !room.getMonsters().isEmpty();
+                roomSave.put("monster", hasMonster ? room.getMonsters().getFirst().getType().name() : "GOBLIN");
+                roomSave.put("isDefeated", !hasMonster);
+                if (room.getRoomType() == RoomType.TREASURE && !room.getChest().isEmpty()) {
+                    roomSave.put("itemCount", room.getChest().size());
+                    roomSave.put("potionType", "Chest");
+                } else if (!room.getItems().isEmpty()) {
+                    roomSave.put("itemCount", 1);
+                    roomSave.put("potionType", room.getItems().getFirst().getName());
+                } else {
+                    roomSave.put("itemCount", 0);
+                    roomSave.put("potionType", null);
+                }
+                row.add(roomSave);
+            }
+            rows.add(row);
+        }
+        save.put("roomData", rows);
+        return save;
+    }
+}
@@ -0,0 +1,100 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DungeonPoolTest {
+    private DungeonPool myPool;
+
+    @BeforeEach
+    void setUp() {
+        myPool = new DungeonPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        myPool.close();
+    }
+
+    private void awaitReady(final int theWidth, final int theHeight, final String theDifficulty,
+                            final int theCount) throws InterruptedException {
+        for (int i = 0; i < 500 && myPool.getReadyCount(theWidth, theHeight, theDifficulty) < theCount; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(theCount, myPool.getReadyCount(theWidth, theHeight, theDifficulty));
+    }
+
+    @Test
+    @DisplayName("prefill should generate dungeons in the background up to the pool size")
+    void testPrefill() throws InterruptedException {
+        myPool.prefill(6, 5, "Easy");
+        myPool.prefill(6, 5, "Easy");
+        awaitReady(6, 5, "Easy", 2);
+        assertEquals(2, myPool.getGeneratedCount());
+        assertEquals(0, myPool.getReadyCount(6, 5, "Hard"));
+    }
+
+    @Test
+    @DisplayName("take should hand out a ready dungeon and queue a replacement")
+    void testTakeHit() throws InterruptedException {
+        myPool.prefill(6, 5, "Easy");
+        awaitReady(6, 5, "Easy", 2);
+
+        Dungeon first = myPool.take(6, 5, "Easy");
+        Dungeon second = myPool.take(6, 5, "Easy");
+        assertNotSame(first, second);
+        assertEquals(6, first.getWidth());
+        assertEquals(5, first.getHeight());
+        assertEquals("Easy", first.getDifficulty());
+        assertNotNull(first.getHeroSpawnPoint());
+        assertEquals(2, myPool.getHitCount());
+        assertEquals(0, myPool.getMissCount());
+        awaitReady(6, 5, "Easy", 2);
+    }
+
+    @Test
+    @DisplayName("take should generate on the spot when nothing is ready")
+    void testTakeMiss() {
+        Dungeon dungeon = myPool.take(4, 4, "Hard");
+        assertEquals(4, dungeon.getWidth());
+        assertEquals("Hard", dungeon.getDifficulty());
+        assertEquals(1, myPool.getMissCount());
+        assertEquals(0, myPool.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Only the first frame after a take should count as the time to first frame")
+    void testFirstFrame() {
+        assertFalse(myPool.recordFirstFrame());
+        assertEquals(-1, myPool.getLastTimeToFirstFrameNanos());
+        myPool.take(4, 4, "Easy");
+        assertTrue(myPool.recordFirstFrame());
+        assertTrue(myPool.getLastTimeToFirstFrameNanos() >= 0);
+        assertFalse(myPool.recordFirstFrame());
+    }
+
+    @Test
+    @DisplayName("A closed pool should still generate on take without queueing more")
+    void testClosed() throws InterruptedException {
+        myPool.close();
+        assertNotNull(myPool.take(4, 4, "Easy"));
+        myPool.prefill(4, 4, "Easy");
+        Thread.sleep(50);
+        assertEquals(0, myPool.getReadyCount(4, 4, "Easy"));
+        assertEquals(1, myPool.getGeneratedCount());
+    }
+
+    @Test
+    @DisplayName("Bad sizes and a missing difficulty should be rejected")
+    void testBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new DungeonPool(-1));
+        assertThrows(IllegalArgumentException.class, () -> myPool.take(0, 4, "Easy"));
+        assertThrows(IllegalArgumentException.class, () -> myPool.prefill(4, 4, null));
+    }
+}
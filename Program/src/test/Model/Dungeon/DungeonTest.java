@@ -1,14 +1,20 @@
 package test.Model.Dungeon;
 
 import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.MazeGenerators;
 import main.Model.dungeon.Room;
 import main.Model.element.Pillar;
+import main.Model.element.Trap;
 import main.Model.util.Point;
 import main.Model.util.PillarType;
 import main.Model.util.RoomType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DungeonTest {
@@ -17,6 +23,7 @@ public class DungeonTest {
     private static final int TEST_WIDTH = 10;
     private static final int TEST_HEIGHT = 5;
     private static final String TEST_DIFFICULTY = "Medium";
+    private static final int FINGERPRINT = -1139788058;
 
     @BeforeEach
     void setUp() {
@@ -304,4 +311,236 @@ public class DungeonTest {
         assertTrue(dungeon.areAllPillarsActivated());
         assertTrue(dungeon.isBossSpawned());
     }
+
+    @Test
+    @DisplayName("The same seed should generate a byte-identical dungeon")
+    void testSameSeedSameLayout() {
+        Dungeon first = new Dungeon(12, 9, TEST_DIFFICULTY, 42L);
+        Dungeon second = new Dungeon(12, 9, TEST_DIFFICULTY, 42L);
+        assertEquals(42L, first.getSeed());
+        assertEquals(Dungeon.GENERATOR_VERSION, first.getGeneratorVersion());
+        assertArrayEquals(first.toSaveBytes(), second.toSaveBytes());
+        assertFalse(java.util.Arrays.equals(first.toSaveBytes(),
+                new Dungeon(12, 9, TEST_DIFFICULTY, 43L).toSaveBytes()));
+    }
+
+    @Test
+    @DisplayName("A large dungeon should come out the same whatever thread count fills its tiles")
+    void testParallelPopulationDeterministic() throws Exception {
+        Dungeon plain = new Dungeon(100, 70, TEST_DIFFICULTY, 9L);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            Dungeon serial = single.submit(() -> new Dungeon(100, 70, TEST_DIFFICULTY, 9L)).get();
+            Dungeon parallel = many.submit(() -> new Dungeon(100, 70, TEST_DIFFICULTY, 9L)).get();
+            assertArrayEquals(plain.toSaveBytes(), serial.toSaveBytes());
+            assertArrayEquals(plain.toSaveBytes(), parallel.toSaveBytes());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+
+        int pillars = 0;
+        int monsterRooms = 0;
+        for (int y = 0; y < plain.getHeight(); y++) {
+            for (int x = 0; x < plain.getWidth(); x++) {
+                Room room = plain.getRoom(x, y);
+                assertNotNull(room);
+                assertEquals(new Point(x, y), room.getPosition());
+                pillars += room.hasPillar() ? 1 : 0;
+                monsterRooms += room.getRoomType() == RoomType.MONSTER ? 1 : 0;
+            }
+        }
+        assertEquals(4, pillars);
+        assertEquals(4, plain.getTotalPillars());
+        assertTrue(monsterRooms > 0 && monsterRooms <= 100 * 70 / 5);
+        assertEquals(RoomType.ENTRANCE, plain.getRoom(plain.getHeroSpawnPoint()).getRoomType());
+        assertEquals(RoomType.EXIT, plain.getRoom(plain.getExitPoint()).getRoomType());
+    }
+
+    @Test
+    @DisplayName("A seed should keep generating the same maze on every run and machine")
+    void testSeedLayoutIsStable() {
+        // Fails when a change alters what a seed generates; bump GENERATOR_VERSION and update the fingerprint
+        Dungeon seeded = new Dungeon(8, 8, TEST_DIFFICULTY, 20261018L);
+        StringBuilder layout = new StringBuilder();
+        for (int y = 0; y < seeded.getHeight(); y++) {
+            for (int x = 0; x < seeded.getWidth(); x++) {
+                Room room = seeded.getRoom(x, y);
+                layout.append(room.hasNorthDoor() ? 'N' : '-').append(room.hasEastDoor() ? 'E' : '-')
+                        .append(room.hasSouthDoor() ? 'S' : '-').append(room.hasWestDoor() ? 'W' : '-')
+                        .append(room.getRoomType().ordinal()).append(room.hasPillar() ? 'P' : '.');
+            }
+        }
+        assertEquals(FINGERPRINT, layout.toString().hashCode());
+    }
+
+    @Test
+    @DisplayName("A dungeon carved by another maze algorithm should regenerate with it")
+    void testRegenerateWithMazeAlgorithm() {
+        Dungeon kruskal = new Dungeon(9, 7, TEST_DIFFICULTY, 5L, MazeGenerators.KRUSKAL);
+        Dungeon loaded = Dungeon.fromSaveBytes(kruskal.toSaveBytes());
+        assertSame(MazeGenerators.KRUSKAL, loaded.getMazeGenerator());
+        assertSame(MazeGenerators.KRUSKAL, Dungeon.fromJson(kruskal.toJson()).getMazeGenerator());
+        Dungeon regenerated = new Dungeon(9, 7, TEST_DIFFICULTY, loaded.getSeed(), loaded.getMazeGenerator());
+        assertArrayEquals(kruskal.toSaveBytes(), regenerated.toSaveBytes());
+        assertFalse(java.util.Arrays.equals(kruskal.toSaveBytes(),
+                new Dungeon(9, 7, TEST_DIFFICULTY, 5L).toSaveBytes()));
+    }
+
+    @Test
+    @DisplayName("A saved dungeon should regenerate from its stored seed")
+    void testRegenerateFromSavedSeed() {
+        Dungeon loaded = Dungeon.fromSaveBytes(dungeon.toSaveBytes());
+        assertEquals(dungeon.getSeed(), loaded.getSeed());
+        assertEquals(dungeon.getGeneratorVersion(), loaded.getGeneratorVersion());
+        Dungeon regenerated = new Dungeon(loaded.getWidth(), loaded.getHeight(), loaded.getDifficulty(),
+                loaded.getSeed());
+        assertArrayEquals(dungeon.toSaveBytes(), regenerated.toSaveBytes());
+    }
+
+    @Test
+    @DisplayName("Packed and object room storage should generate the same dungeon")
+    void testStoragesGenerateSameDungeon() {
+        Dungeon packed = new Dungeon(70, 40, TEST_DIFFICULTY, 12L, MazeGenerators.BACKTRACKER,
+                Dungeon.Storage.PACKED);
+        Dungeon objects = new Dungeon(70, 40, TEST_DIFFICULTY, 12L, MazeGenerators.BACKTRACKER,
+                Dungeon.Storage.OBJECTS);
+        assertEquals(Dungeon.Storage.PACKED, packed.getStorage());
+        assertEquals(Dungeon.Storage.OBJECTS, objects.getStorage());
+        assertNull(packed.getChunkManager());
+        assertArrayEquals(objects.toSaveBytes(), packed.toSaveBytes());
+        assertEquals(objects.toJson(), packed.toJson());
+        assertEquals(Dungeon.Storage.PACKED, Dungeon.fromSaveBytes(objects.toSaveBytes()).getStorage());
+    }
+
+    @Test
+    @DisplayName("Views of a packed room should share its state")
+    void testPackedRoomViews() {
+        Dungeon packed = new Dungeon(12, 12, TEST_DIFFICULTY, 4L);
+        Room first = packed.getRoom(5, 6);
+        Room second = packed.getRoom(new Point(5, 6));
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        int dirty = packed.getDirtyRoomCount();
+        first.setVisited(true);
+        first.setTrap(new Trap("Pit", "A pit", 3));
+        assertTrue(second.isVisited());
+        assertEquals(RoomType.TRAP, second.getRoomType());
+        assertEquals("Pit", packed.getRoom(5, 6).getTrap().getName());
+        assertEquals(dirty + 1, packed.getDirtyRoomCount());
+
+        // Laying a saved state over the room rewrites it in place for every view
+        Room other = packed.getRoom(0, 0);
+        DungeonDelta saved = packed.snapshotRooms(other);
+        other.setVisited(true);
+        other.setEastDoor(!other.hasEastDoor());
+        packed.applyChanges(saved);
+        assertFalse(other.isVisited());
+        assertEquals(packed.getRoom(1, 0).hasWestDoor(), other.hasEastDoor());
+    }
+
+    @Test
+    @DisplayName("Views of a packed room should share one position, beyond Point.of's cache too")
+    void testPackedRoomViewsSharePosition() {
+        Dungeon packed = new Dungeon(Point.CACHE_LIMIT + 40, 3, TEST_DIFFICULTY, 4L);
+        assertSame(packed.getRoom(5, 1).getPosition(), packed.getRoom(5, 1).getPosition());
+        assertSame(Point.of(5, 1), packed.getRoom(5, 1).getPosition());
+
+        int far = Point.CACHE_LIMIT + 20;
+        Point position = packed.getRoom(far, 2).getPosition();
+        assertEquals(new Point(far, 2), position);
+        assertSame(position, packed.getRoom(far, 2).getPosition());
+    }
+
+    @Test
+    @DisplayName("Reveals should mark rooms visited, count them and track them for saving")
+    void testRevealRectAndRadius() {
+        Dungeon packed = new Dungeon(30, 20, TEST_DIFFICULTY, 5L);
+        long before = packed.getExploredCount();
+        int dirty = packed.getDirtyRoomCount();
+        assertEquals(4, packed.revealRect(28, 18, 40, 40));
+        assertTrue(packed.getRoom(28, 18).isVisited());
+        assertTrue(packed.getRoom(29, 19).isVisited());
+        assertEquals(before + 4, packed.getExploredCount());
+        assertEquals(dirty + 4, packed.getDirtyRoomCount());
+
+        int disc = packed.revealRadius(new Point(10, 10), 3);
+        assertEquals(29, disc);
+        assertTrue(packed.getRoom(13, 10).isVisited());
+        assertFalse(packed.getRoom(13, 13).isVisited());
+        assertEquals(before + 4 + disc, packed.getExploredCount());
+        assertEquals(packed.getExploredCount() / 600.0, packed.getExploredFraction(), 1e-9);
+
+        assertEquals(600 - packed.getExploredCount(), packed.revealAll());
+        assertEquals(1.0, packed.getExploredFraction());
+        assertEquals(600, packed.getDirtyRoomCount());
+    }
+
+    @Test
+    @DisplayName("revealVisible should see along open doors and stop at walls")
+    void testRevealVisibleThroughDoors() {
+        // A corridor with a wall between rooms 4 and 5
+        Dungeon corridor = new Dungeon(9, 1, TEST_DIFFICULTY, false);
+        for (int x = 0; x < 8; x++) {
+            if (x != 4) {
+                corridor.getRoom(x, 0).setEastDoor(true);
+                corridor.getRoom(x + 1, 0).setWestDoor(true);
+            }
+        }
+        assertEquals(5, corridor.revealVisible(new Point(0, 0), 20));
+        assertTrue(corridor.getRoom(4, 0).isVisited());
+        assertFalse(corridor.getRoom(5, 0).isVisited());
+
+        // A room without doors sees only itself
+        Dungeon closed = new Dungeon(5, 5, TEST_DIFFICULTY, false);
+        assertEquals(1, closed.revealVisible(new Point(2, 2), 4));
+        assertTrue(closed.getRoom(2, 2).isVisited());
+    }
+
+    @Test
+    @DisplayName("revealVisible in an open hall should see exactly the disc of the radius")
+    void testRevealVisibleOpenHall() {
+        Dungeon hall = new Dungeon(21, 21, TEST_DIFFICULTY, false);
+        for (int y = 0; y < 21; y++) {
+            for (int x = 0; x < 21; x++) {
+                Room room = hall.getRoom(x, y);
+                room.setNorthDoor(y > 0);
+                room.setSouthDoor(y < 20);
+                room.setWestDoor(x > 0);
+                room.setEastDoor(x < 20);
+            }
+        }
+        int seen = hall.revealVisible(new Point(10, 10), 6);
+        assertEquals(seen, hall.getExploredCount());
+        for (int y = 0; y < 21; y++) {
+            for (int x = 0; x < 21; x++) {
+                int dx = x - 10;
+                int dy = y - 10;
+                assertEquals(dx * dx + dy * dy <= 36, hall.getRoom(x, y).isVisited(), "(" + x + "," + y + ")");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Packed and object dungeons should reveal the same rooms")
+    void testRevealSameAcrossStorages() {
+        Dungeon packed = new Dungeon(40, 40, TEST_DIFFICULTY, 9L, MazeGenerators.BACKTRACKER,
+                Dungeon.Storage.PACKED);
+        Dungeon objects = new Dungeon(40, 40, TEST_DIFFICULTY, 9L, MazeGenerators.BACKTRACKER,
+                Dungeon.Storage.OBJECTS);
+        Point center = new Point(20, 20);
+        assertEquals(packed.revealVisible(center, 15), objects.revealVisible(center, 15));
+        assertEquals(packed.revealRadius(new Point(3, 30), 5), objects.revealRadius(new Point(3, 30), 5));
+        assertEquals(packed.getExploredCount(), objects.getExploredCount());
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 40; x++) {
+                assertEquals(packed.getRoom(x, y).isVisited(), objects.getRoom(x, y).isVisited());
+            }
+        }
+        assertNotNull(packed.getExploration());
+        assertNull(objects.getExploration());
+    }
 }
@@ -0,0 +1,110 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.ExplorationMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExplorationMaskTest {
+
+    @Test
+    @DisplayName("Constructor should reject empty and oversized masks")
+    void testConstructorInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new ExplorationMask(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new ExplorationMask(5, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ExplorationMask(1 << 16, 1 << 16));
+    }
+
+    @Test
+    @DisplayName("revealRect should explore the clipped rectangle and report each new room once")
+    void testRevealRect() {
+        ExplorationMask mask = new ExplorationMask(100, 7);
+        List<Integer> reported = new ArrayList<>();
+        assertEquals(3 * 70, mask.revealRect(-5, 2, 69, 4, reported::add));
+        assertEquals(210, reported.size());
+        assertEquals(210, mask.getExploredCount());
+        for (int y = 0; y < 7; y++) {
+            for (int x = 0; x < 100; x++) {
+                assertEquals(y >= 2 && y <= 4 && x < 70, mask.isExplored(x, y), "(" + x + "," + y + ")");
+            }
+        }
+        assertTrue(reported.contains(2 * 100));
+        assertTrue(reported.contains(4 * 100 + 69));
+
+        // Overlapping reveals only count and report the rooms they add
+        reported.clear();
+        assertEquals(3, mask.revealRect(69, 4, 70, 5, reported::add));
+        assertEquals(List.of(470, 569, 570), reported);
+        assertEquals(0, mask.revealRect(200, 0, 300, 6, null));
+    }
+
+    @Test
+    @DisplayName("revealRect over whole rows should explore them as one run")
+    void testRevealWholeRows() {
+        ExplorationMask mask = new ExplorationMask(33, 10);
+        assertEquals(33 * 4, mask.revealRect(0, 3, 32, 6, null));
+        assertFalse(mask.isExplored(32, 2));
+        assertTrue(mask.isExplored(0, 3));
+        assertTrue(mask.isExplored(32, 6));
+        assertFalse(mask.isExplored(0, 7));
+    }
+
+    @Test
+    @DisplayName("revealRadius should explore exactly the rooms within the distance")
+    void testRevealRadius() {
+        ExplorationMask mask = new ExplorationMask(50, 40);
+        int added = mask.revealRadius(10, 5, 7, null);
+        int expected = 0;
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 50; x++) {
+                boolean inside = (x - 10) * (x - 10) + (y - 5) * (y - 5) <= 49;
+                assertEquals(inside, mask.isExplored(x, y), "(" + x + "," + y + ")");
+                expected += inside ? 1 : 0;
+            }
+        }
+        assertEquals(expected, added);
+        assertEquals(1, new ExplorationMask(3, 3).revealRadius(1, 1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> mask.revealRadius(0, 0, -1, null));
+    }
+
+    @Test
+    @DisplayName("revealRadius should handle radii far larger than the mask")
+    void testRevealHugeRadius() {
+        ExplorationMask mask = new ExplorationMask(70, 70);
+        assertEquals(70 * 70, mask.revealRadius(-1000, 35, Integer.MAX_VALUE / 2, null));
+        assertEquals(1.0, mask.getExploredFraction());
+    }
+
+    @Test
+    @DisplayName("revealAll and clear should cover every room including the last partial word")
+    void testRevealAllAndClear() {
+        ExplorationMask mask = new ExplorationMask(13, 11);
+        mask.revealRect(0, 0, 0, 0, null);
+        assertEquals(13 * 11 - 1, mask.revealAll(null));
+        assertEquals(13 * 11, mask.getExploredCount());
+        assertTrue(mask.isExplored(12, 10));
+        assertFalse(mask.isExplored(13, 10));
+        mask.clear();
+        assertEquals(0, mask.getExploredCount());
+        assertEquals(-1, mask.nextExplored(0));
+    }
+
+    @Test
+    @DisplayName("nextExplored should walk the explored rooms in order")
+    void testNextExplored() {
+        ExplorationMask mask = new ExplorationMask(200, 3);
+        mask.revealRect(5, 0, 5, 0, null);
+        mask.revealRect(130, 1, 131, 1, null);
+        mask.revealRect(199, 2, 199, 2, null);
+        List<Integer> cells = new ArrayList<>();
+        for (int cell = mask.nextExplored(0); cell >= 0; cell = mask.nextExplored(cell + 1)) {
+            cells.add(cell);
+        }
+        assertEquals(List.of(5, 330, 331, 599), cells);
+        assertEquals(-1, mask.nextExplored(600));
+    }
+}
@@ -0,0 +1,100 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.EllerMaze;
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeFile;
+import main.Model.dungeon.MazeGenerators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeFileTest {
+
+    private Path myDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        myDirectory = Files.createTempDirectory("maze-file-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(myDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("A streamed maze file should hold the same doors Eller carves into a Maze")
+    void testStreamMatchesEller() throws IOException {
+        Path path = myDirectory.resolve("maze.ddm");
+        try (MazeFile file = MazeFile.create(path, 37, 23)) {
+            EllerMaze.stream(37, 23, new SplittableRandom(5), file);
+        }
+        Maze maze = new Maze(37, 23);
+        MazeGenerators.ELLER.generate(maze, new SplittableRandom(5));
+
+        try (MazeFile file = MazeFile.open(path)) {
+            assertEquals(37, file.getWidth());
+            assertEquals(23, file.getRowsWritten());
+            for (int y = 0; y < 23; y++) {
+                for (int x = 0; x < 37; x++) {
+                    assertEquals(maze.getDoors(maze.cell(x, y)), file.getDoors(x, y), "(" + x + ", " + y + ")");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("stream should hand rows to the sink in order, each finished")
+    void testStreamRowsInOrder() throws IOException {
+        List<Integer> rows = new ArrayList<>();
+        EllerMaze.stream(6, 4, new SplittableRandom(1), (theY, theDoors) -> {
+            rows.add(theY);
+            if (theY == 0) {
+                for (byte doors : theDoors) {
+                    assertEquals(0, doors & Maze.NORTH);
+                }
+            }
+        });
+        assertEquals(List.of(0, 1, 2, 3), rows);
+    }
+
+    @Test
+    @DisplayName("A maze file should only serve the rows written and reject rows out of order")
+    void testRowsWrittenBounds() throws IOException {
+        Path path = myDirectory.resolve("partial.ddm");
+        try (MazeFile file = MazeFile.create(path, 3, 5)) {
+            file.writeRow(0, new byte[] {Maze.EAST, Maze.EAST | Maze.WEST, Maze.WEST | Maze.SOUTH});
+            assertThrows(IllegalArgumentException.class, () -> file.writeRow(2, new byte[3]));
+        }
+        try (MazeFile file = MazeFile.open(path)) {
+            assertEquals(1, file.getRowsWritten());
+            assertEquals(Maze.WEST | Maze.SOUTH, file.getDoors(2, 0));
+            assertThrows(IllegalArgumentException.class, () -> file.getDoors(0, 1));
+            assertThrows(IllegalStateException.class, () -> file.writeRow(1, new byte[3]));
+        }
+    }
+
+    @Test
+    @DisplayName("open should refuse files that are not maze files")
+    void testOpenRejectsOtherFiles() throws IOException {
+        Path path = myDirectory.resolve("other.bin");
+        Files.write(path, new byte[] {'D', 'D', 'J', 1, 0, 0});
+        assertThrows(IOException.class, () -> MazeFile.open(path));
+    }
+}
@@ -0,0 +1,119 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeGenerator;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.RecursiveBacktracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MazeTest {
+
+    @Test
+    @DisplayName("carve should open the wall on both sides")
+    void testCarveOpensBothSides() {
+        Maze maze = new Maze(3, 2);
+        maze.carve(maze.cell(1, 0), maze.cell(2, 0));
+        maze.carve(maze.cell(1, 1), maze.cell(1, 0));
+        assertEquals(Maze.EAST | Maze.SOUTH, maze.getDoors(maze.cell(1, 0)));
+        assertEquals(Maze.WEST, maze.getDoors(maze.cell(2, 0)));
+        assertEquals(Maze.NORTH, maze.getDoors(maze.cell(1, 1)));
+        assertEquals(0, maze.getDoors(maze.cell(0, 0)));
+    }
+
+    @Test
+    @DisplayName("carve should reject cells that are not adjacent, including across a row edge")
+    void testCarveRejectsNonAdjacent() {
+        Maze maze = new Maze(3, 3);
+        assertThrows(IllegalArgumentException.class, () -> maze.carve(maze.cell(2, 0), maze.cell(0, 1)));
+        assertThrows(IllegalArgumentException.class, () -> maze.carve(maze.cell(0, 1), maze.cell(2, 0)));
+        assertThrows(IllegalArgumentException.class, () -> maze.carve(maze.cell(0, 0), maze.cell(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new Maze(0, 3));
+    }
+
+    @Test
+    @DisplayName("neighbors should list north, south, west, east within bounds")
+    void testNeighborsOrder() {
+        Maze maze = new Maze(3, 3);
+        int[] buffer = new int[4];
+        assertEquals(4, maze.neighbors(maze.cell(1, 1), buffer));
+        assertArrayEquals(new int[] {maze.cell(1, 0), maze.cell(1, 2), maze.cell(0, 1), maze.cell(2, 1)}, buffer);
+        assertEquals(2, maze.neighbors(maze.cell(2, 2), buffer));
+        assertEquals(maze.cell(2, 1), buffer[0]);
+        assertEquals(maze.cell(1, 2), buffer[1]);
+    }
+
+    @Test
+    @DisplayName("Every maze algorithm should carve a spanning tree reaching every cell")
+    void testGeneratorsCarveSpanningTrees() {
+        int[][] sizes = {{37, 23}, {1, 9}, {9, 1}, {1, 1}, {64, 64}};
+        for (MazeGenerator generator : MazeGenerators.getAll()) {
+            for (int[] size : sizes) {
+                Maze maze = new Maze(size[0], size[1]);
+                generator.generate(maze, new SplittableRandom(7));
+
+                int doors = 0;
+                for (int cell = 0; cell < maze.getCellCount(); cell++) {
+                    doors += Integer.bitCount(maze.getDoors(cell));
+                }
+                String label = generator.getName() + " " + size[0] + "x" + size[1];
+                assertEquals(2 * (maze.getCellCount() - 1), doors, label);
+                assertEquals(maze.getCellCount(), countReachable(maze), label);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Maze algorithms should be deterministic for a seed and found by name")
+    void testGeneratorsDeterministic() {
+        for (MazeGenerator generator : MazeGenerators.getAll()) {
+            Maze first = new Maze(20, 15);
+            Maze second = new Maze(20, 15);
+            generator.generate(first, new SplittableRandom(99));
+            generator.generate(second, new SplittableRandom(99));
+            for (int cell = 0; cell < first.getCellCount(); cell++) {
+                assertEquals(first.getDoors(cell), second.getDoors(cell), generator.getName());
+            }
+            assertSame(generator, MazeGenerators.forName(generator.getName()));
+        }
+        assertNull(MazeGenerators.forName("prim"));
+    }
+
+    @Test
+    @DisplayName("The backtracker should carve from the given start cell")
+    void testBacktrackerStartCell() {
+        Maze maze = new Maze(5, 5);
+        RecursiveBacktracker.carve(maze, maze.cell(2, 2), new SplittableRandom(3));
+        assertEquals(maze.getCellCount(), countReachable(maze));
+    }
+
+    private static int countReachable(final Maze theMaze) {
+        boolean[] seen = new boolean[theMaze.getCellCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        seen[0] = true;
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            reached++;
+            int doors = theMaze.getDoors(cell);
+            int[] next = {
+                    (doors & Maze.NORTH) != 0 ? cell - theMaze.getWidth() : -1,
+                    (doors & Maze.SOUTH) != 0 ? cell + theMaze.getWidth() : -1,
+                    (doors & Maze.WEST) != 0 ? cell - 1 : -1,
+                    (doors & Maze.EAST) != 0 ? cell + 1 : -1};
+            for (int neighbor : next) {
+                if (neighbor >= 0 && !seen[neighbor]) {
+                    seen[neighbor] = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return reached;
+    }
+}
@@ -0,0 +1,188 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.DistanceField;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Pathfinder;
+import main.Model.dungeon.Room;
+import main.Model.util.Point;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PathfinderTest {
+
+    /**
+     * A perfect maze with some walls knocked out, like a generated dungeon.
+     */
+    private static Maze loopyMaze(final int theWidth, final int theHeight, final long theSeed) {
+        Maze maze = new Maze(theWidth, theHeight);
+        SplittableRandom random = new SplittableRandom(theSeed);
+        MazeGenerators.BACKTRACKER.generate(maze, random);
+        int[] neighbors = new int[4];
+        for (int i = 0; i < theWidth * theHeight / 10; i++) {
+            int cell = maze.cell(random.nextInt(theWidth), random.nextInt(theHeight));
+            int count = maze.neighbors(cell, neighbors);
+            maze.carve(cell, neighbors[random.nextInt(count)]);
+        }
+        return maze;
+    }
+
+    private static void assertWalkable(final Maze theMaze, final List<Point> thePath, final Point theFrom,
+                                       final Point theTo) {
+        assertEquals(theFrom, thePath.get(0));
+        assertEquals(theTo, thePath.get(thePath.size() - 1));
+        for (int i = 1; i < thePath.size(); i++) {
+            Point a = thePath.get(i - 1);
+            Point b = thePath.get(i);
+            int doors = theMaze.getDoors(theMaze.cell(a.getX(), a.getY()));
+            int door = b.getX() > a.getX() ? Maze.EAST : b.getX() < a.getX() ? Maze.WEST
+                    : b.getY() > a.getY() ? Maze.SOUTH : Maze.NORTH;
+            assertEquals(1, Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY()), "step " + i);
+            assertTrue((doors & door) != 0, "no door at step " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("A* should find routes as short as the breadth-first distance")
+    void testAStarIsShortest() {
+        Maze maze = loopyMaze(60, 45, 3L);
+        Pathfinder pathfinder = new Pathfinder(maze, Pathfinder.DEFAULT_CLUSTER_SIZE);
+        SplittableRandom random = new SplittableRandom(11L);
+        for (int i = 0; i < 40; i++) {
+            Point from = new Point(random.nextInt(60), random.nextInt(45));
+            Point to = new Point(random.nextInt(60), random.nextInt(45));
+            List<Point> path = pathfinder.findPath(from, to);
+            assertWalkable(maze, path, from, to);
+            assertEquals(DistanceField.compute(maze, from.getX(), from.getY()).getDistance(to), path.size() - 1);
+        }
+    }
+
+    @Test
+    @DisplayName("HPA* should find walkable routes close to the shortest")
+    void testHierarchicalRoutes() {
+        Maze maze = loopyMaze(90, 70, 5L);
+        Pathfinder pathfinder = new Pathfinder(maze, 10);
+        SplittableRandom random = new SplittableRandom(13L);
+        long optimal = 0;
+        long found = 0;
+        for (int i = 0; i < 60; i++) {
+            Point from = new Point(random.nextInt(90), random.nextInt(70));
+            Point to = new Point(random.nextInt(90), random.nextInt(70));
+            List<Point> path = pathfinder.findPathHierarchical(from, to);
+            assertWalkable(maze, path, from, to);
+            int shortest = pathfinder.findPath(from, to).size() - 1;
+            assertTrue(path.size() - 1 >= shortest);
+            optimal += shortest;
+            found += path.size() - 1;
+        }
+        assertTrue(found <= optimal * 5 / 4, "routes " + found + " against shortest " + optimal);
+        assertTrue(pathfinder.getAbstractNodeCount() > 0);
+        assertEquals(List.of(new Point(4, 4)), pathfinder.findPathHierarchical(new Point(4, 4), new Point(4, 4)));
+    }
+
+    @Test
+    @DisplayName("Rooms behind walls should give an empty route")
+    void testUnreachable() {
+        Maze maze = new Maze(40, 40);
+        for (int x = 0; x + 1 < 40; x++) {
+            for (int y = 0; y < 40; y++) {
+                if (x != 19) {
+                    maze.carve(maze.cell(x, y), maze.cell(x + 1, y));
+                }
+                if (y + 1 < 40) {
+                    maze.carve(maze.cell(x, y), maze.cell(x, y + 1));
+                }
+            }
+        }
+        Pathfinder pathfinder = new Pathfinder(maze, 8);
+        assertTrue(pathfinder.findPath(new Point(0, 0), new Point(39, 39)).isEmpty());
+        assertTrue(pathfinder.findPathHierarchical(new Point(0, 0), new Point(39, 39)).isEmpty());
+        assertEquals(40, pathfinder.findPath(new Point(0, 0), new Point(19, 20)).size());
+        assertThrows(IllegalArgumentException.class, () -> pathfinder.findPath(new Point(0, 0), new Point(40, 0)));
+    }
+
+    @Test
+    @DisplayName("HPA* should skip doors that open on only one side of a cluster edge")
+    void testOneSidedDoors() {
+        Maze maze = new Maze(16, 8);
+        for (int x = 0; x < 16; x++) {
+            for (int y = 0; y < 8; y++) {
+                if (x + 1 < 16 && (x != 7 || y == 0)) {
+                    maze.carve(maze.cell(x, y), maze.cell(x + 1, y));
+                }
+                if (y + 1 < 8) {
+                    maze.carve(maze.cell(x, y), maze.cell(x, y + 1));
+                }
+            }
+        }
+        // One door back into cluster 0 and one out of it, each missing its other side
+        maze.setDoors(maze.cell(8, 4), maze.getDoors(maze.cell(8, 4)) | Maze.WEST);
+        maze.setDoors(maze.cell(7, 6), maze.getDoors(maze.cell(7, 6)) | Maze.EAST);
+        Pathfinder pathfinder = new Pathfinder(maze, 8);
+
+        Point west = new Point(3, 4);
+        Point east = new Point(12, 4);
+        List<Point> there = pathfinder.findPathHierarchical(west, east);
+        List<Point> back = pathfinder.findPathHierarchical(east, west);
+        assertFalse(there.isEmpty());
+        assertFalse(back.isEmpty());
+        assertWalkable(maze, there, west, east);
+        assertWalkable(maze, back, east, west);
+    }
+
+    @Test
+    @DisplayName("Changing doors in a dungeon should re-measure only the changed clusters")
+    void testDoorChangesInvalidate() {
+        Dungeon dungeon = new Dungeon(48, 48, "Normal", 21L);
+        Pathfinder pathfinder = dungeon.getPathfinder();
+        assertSame(pathfinder, dungeon.getPathfinder());
+        Point exit = dungeon.getExitPoint();
+        int before = pathfinder.findPathHierarchical(dungeon.getHeroSpawnPoint(), exit).size() - 1;
+        long builds = pathfinder.getClusterBuildCount();
+        assertEquals(9, builds);
+        assertTrue(before > 94);
+
+        // A straight corridor along the top row and down the right column
+        for (int x = 0; x + 1 < 48; x++) {
+            dungeon.getRoom(x, 0).setEastDoor(true);
+            dungeon.getRoom(x + 1, 0).setWestDoor(true);
+        }
+        for (int y = 0; y + 1 < 48; y++) {
+            dungeon.getRoom(47, y).setSouthDoor(true);
+            dungeon.getRoom(47, y + 1).setNorthDoor(true);
+        }
+        assertEquals(94, pathfinder.findPathHierarchical(dungeon.getHeroSpawnPoint(), exit).size() - 1);
+        assertEquals(94, pathfinder.findPath(dungeon.getHeroSpawnPoint(), exit).size() - 1);
+        assertEquals(94, dungeon.getSpawnDistances().getDistance(exit));
+        assertTrue(pathfinder.getClusterBuildCount() - builds <= 5);
+    }
+
+    @Test
+    @DisplayName("findPathToNearest should reach the closest matching room")
+    void testNearest() {
+        Dungeon dungeon = new Dungeon(30, 30, "Normal", 8L);
+        Point spawn = dungeon.getHeroSpawnPoint();
+        List<Point> path = dungeon.getPathfinder().findPathToNearest(spawn,
+                point -> dungeon.getRoom(point).hasPillar());
+        Room target = dungeon.getRoom(path.get(path.size() - 1));
+        assertTrue(target.hasPillar());
+
+        DistanceField distances = dungeon.getSpawnDistances();
+        int closest = Integer.MAX_VALUE;
+        for (int y = 0; y < 30; y++) {
+            for (int x = 0; x < 30; x++) {
+                if (dungeon.getRoom(x, y).hasPillar()) {
+                    closest = Math.min(closest, distances.getDistance(x, y));
+                }
+            }
+        }
+        assertEquals(closest, path.size() - 1);
+        assertTrue(dungeon.getPathfinder().findPathToNearest(spawn, point -> false).isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.PlacementDensities;
+import main.Model.dungeon.PlacementSampler;
+import main.Model.dungeon.Room;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlacementSamplerTest {
+
+    @Test
+    @DisplayName("The sampler should draw every candidate exactly once")
+    void testDrawsEachCellOnce() {
+        PlacementSampler sampler = new PlacementSampler(100);
+        for (int cell = 0; cell < 100; cell++) {
+            sampler.add(cell * 3);
+        }
+        SplittableRandom random = new SplittableRandom(1L);
+        Set<Integer> drawn = new HashSet<>();
+        while (sampler.remaining() > 0) {
+            int cell = sampler.next(random);
+            assertEquals(0, cell % 3);
+            assertTrue(drawn.add(cell));
+        }
+        assertEquals(100, drawn.size());
+        assertThrows(IllegalStateException.class, () -> sampler.next(random));
+    }
+
+    @Test
+    @DisplayName("The same stream should draw the same cells, and a reset sampler can be refilled")
+    void testDeterministicAndReusable() {
+        PlacementSampler first = new PlacementSampler(50);
+        PlacementSampler second = new PlacementSampler(50);
+        for (int cell = 0; cell < 50; cell++) {
+            first.add(cell);
+            second.add(cell);
+        }
+        SplittableRandom a = new SplittableRandom(7L);
+        SplittableRandom b = new SplittableRandom(7L);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(first.next(a), second.next(b));
+        }
+        first.reset();
+        assertEquals(0, first.remaining());
+        first.add(9);
+        assertEquals(9, first.next(a));
+        assertThrows(IllegalStateException.class, () -> {
+            PlacementSampler full = new PlacementSampler(1);
+            full.add(1);
+            full.add(2);
+        });
+        assertThrows(IllegalArgumentException.class, () -> new PlacementSampler(-1));
+    }
+
+    @Test
+    @DisplayName("Densities should follow the difficulty and default to Normal")
+    void testDensities() {
+        assertSame(PlacementDensities.HARD, PlacementDensities.forDifficulty("hard"));
+        assertSame(PlacementDensities.NORMAL, PlacementDensities.forDifficulty("Medium"));
+        assertSame(PlacementDensities.NORMAL, PlacementDensities.forDifficulty(null));
+        assertEquals(20, PlacementDensities.NORMAL.count(PlacementDensities.MONSTERS, 100));
+        assertTrue(PlacementDensities.HARD.count(PlacementDensities.MONSTERS, 1000)
+                > PlacementDensities.EASY.count(PlacementDensities.MONSTERS, 1000));
+    }
+
+    @Test
+    @DisplayName("A generated dungeon should hold exactly its difficulty's share of monsters and chests")
+    void testDungeonMatchesDensities() {
+        for (String difficulty : new String[] {"Easy", "Normal", "Hard"}) {
+            Dungeon dungeon = new Dungeon(70, 45, difficulty, 3L);
+            long rooms = 70L * 45;
+            PlacementDensities densities = PlacementDensities.forDifficulty(difficulty);
+            int monsters = 0;
+            int chests = 0;
+            for (int y = 0; y < dungeon.getHeight(); y++) {
+                for (int x = 0; x < dungeon.getWidth(); x++) {
+                    Room room = dungeon.getRoom(x, y);
+                    monsters += room.getRoomType() == RoomType.MONSTER ? 1 : 0;
+                    chests += room.getRoomType() == RoomType.TREASURE ? 1 : 0;
+                }
+            }
+            assertEquals(densities.count(PlacementDensities.MONSTERS, rooms), monsters, difficulty);
+            assertEquals(densities.count(PlacementDensities.CHESTS, rooms), chests, difficulty);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package test.Model.Dungeon;
+
+import main.Model.character.Character;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+import main.Model.element.DungeonElement;
+import main.Model.element.Pillar;
+import main.Model.util.PillarType;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoomFootprintTest {
+    private static final int SIZE = 500;
+    private static final long SEED = 77L;
+
+    @Test
+    @DisplayName("A packed 500x500 dungeon should retain a small share of what Room objects do")
+    void testDungeonFootprint() {
+        Dungeon packed = new Dungeon(SIZE, SIZE, "Medium", SEED, MazeGenerators.BACKTRACKER, Dungeon.Storage.PACKED);
+        Dungeon objects = new Dungeon(SIZE, SIZE, "Medium", SEED, MazeGenerators.BACKTRACKER, Dungeon.Storage.OBJECTS);
+        long rooms = (long) SIZE * SIZE;
+        long packedBytes = retainedRooms(packed);
+        long objectBytes = retainedRooms(objects);
+        System.out.printf("PACKED %d bytes (%.1f per room), OBJECTS %d bytes (%.1f per room)%n",
+                packedBytes, (double) packedBytes / rooms, objectBytes, (double) objectBytes / rooms);
+
+        // Every room without monsters or items would otherwise make an empty list for each
+        long missingLists = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                Room room = packed.getRoom(x, y);
+                missingLists += (room.hasMonsters() ? 0 : 1) + (room.getItems().isEmpty() ? 1 : 0);
+            }
+        }
+        long listBytes = missingLists * new SizeWalker().add(new ArrayList<>());
+        System.out.printf("Lazy lists save %d bytes (%d lists)%n", listBytes, missingLists);
+
+        assertTrue(packedBytes * 2 < objectBytes, "packed rooms should retain under half of Room objects");
+        assertTrue(listBytes > packedBytes / 2, "lists left unmade should outweigh half of the packed rooms");
+    }
+
+    @Test
+    @DisplayName("Rooms without monsters or items should share the empty lists instead of making their own")
+    void testEmptyRoomsShareLists() {
+        Dungeon dungeon = new Dungeon(SIZE, SIZE, "Medium", SEED);
+        List<?> none = Collections.emptyList();
+        int monsters = 0;
+        int items = 0;
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                Room room = dungeon.getRoom(x, y);
+                if (room.hasMonsters()) {
+                    monsters++;
+                } else {
+                    assertSame(none, room.getMonsters());
+                    assertEquals(0, room.monsterCount());
+                }
+                if (room.getItems().isEmpty()) {
+                    assertSame(none, room.getItems());
+                } else {
+                    items++;
+                }
+            }
+        }
+        assertTrue(monsters > 0);
+        assertTrue(items > 0);
+        assertTrue(monsters + items < SIZE * SIZE / 2, "most rooms should hold nothing");
+
+        Room empty = new Room(new Point(0, 0), RoomType.EMPTY);
+        assertSame(empty.getMonsters(), new Room(new Point(1, 0), RoomType.EMPTY).getItems());
+        assertFalse(empty.hasMonsters());
+        assertEquals(0, empty.monsterCount());
+        assertFalse(empty.hasUncollectedItems());
+    }
+
+    @Test
+    @DisplayName("A lone room should hold only its own bytes until it first holds something")
+    void testLoneRoomFootprint() {
+        Point position = new Point(SIZE, SIZE);
+        Room room = new Room(position, RoomType.EMPTY);
+        SizeWalker walker = new SizeWalker();
+        walker.exclude(position);
+        long empty = walker.add(room);
+        System.out.printf("Lone room: %d bytes%n", empty);
+        // The Room, its grid and one array for its byte and type
+        assertTrue(empty <= 104, empty + " bytes");
+
+        room.setPillar(new Pillar(PillarType.ABSTRACTION));
+        walker = new SizeWalker();
+        walker.exclude(position);
+        assertTrue(walker.add(room) > empty);
+    }
+
+    /**
+     * Gets the bytes the rooms of a dungeon hold on to besides the monsters, items, pillars
+     * and traps in them, which are the same objects in either storage: the room grid or
+     * chunks and all they reach, apart from the dungeon itself.
+     */
+    private static long retainedRooms(final Dungeon theDungeon) {
+        SizeWalker walker = new SizeWalker();
+        walker.exclude(theDungeon);
+        return walker.add(field(theDungeon, theDungeon.getStorage() == Dungeon.Storage.PACKED ? "myGrid" : "myChunks"));
+    }
+
+    private static Object field(final Object theObject, final String theName) {
+        try {
+            Field field = theObject.getClass().getDeclaredField(theName);
+            field.setAccessible(true);
+            return field.get(theObject);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Adds up the sizes of every object reachable from its roots, each counted once, as a
+     * 64-bit JVM with compressed references lays them out: a 12 byte header, 4 byte
+     * references, arrays with a 16 byte header, all rounded up to 8 bytes. The fields of
+     * JDK classes cannot be read, so strings, lists and maps are sized from what their
+     * public methods show. Enums, shared by every dungeon, and the monsters and elements in
+     * rooms, the same objects however rooms are stored, count nothing.
+     */
+    private static final class SizeWalker {
+        private static final int HEADER = 12;
+        private static final int ARRAY_HEADER = 16;
+        private static final int REFERENCE = 4;
+        private static final int LIST_CAPACITY = 10;
+
+        private final Set<Object> mySeen = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Class<?>, List<Field>> myFields = new HashMap<>();
+
+        void exclude(final Object theObject) {
+            mySeen.add(theObject);
+        }
+
+        long add(final Object theRoot) {
+            long bytes = 0;
+            ArrayDeque<Object> pending = new ArrayDeque<>();
+            push(pending, theRoot);
+            while (!pending.isEmpty()) {
+                bytes += visit(pending.pop(), pending);
+            }
+            return bytes;
+        }
+
+        private void push(final ArrayDeque<Object> thePending, final Object theObject) {
+            if (theObject != null && !(theObject instanceof Enum<?>) && !(theObject instanceof Class<?>)
+                    && !(theObject instanceof DungeonElement) && !(theObject instanceof Character)
+                    && mySeen.add(theObject)) {
+                thePending.push(theObject);
+            }
+        }
+
+        private long visit(final Object theObject, final ArrayDeque<Object> thePending) {
+            Class<?> type = theObject.getClass();
+            if (type.isArray()) {
+                int length = Array.getLength(theObject);
+                Class<?> component = type.getComponentType();
+                if (!component.isPrimitive()) {
+                    for (int i = 0; i < length; i++) {
+                        push(thePending, Array.get(theObject, i));
+                    }
+                }
+                return align(ARRAY_HEADER + (long) length * width(component));
+            }
+            if (theObject instanceof String string) {
+                return align(HEADER + 2 * REFERENCE) + align(ARRAY_HEADER + string.length());
+            }
+            if (theObject instanceof Collection<?> collection) {
+                collection.forEach(element -> push(thePending, element));
+                int capacity = collection.isEmpty() ? 0 : Math.max(LIST_CAPACITY, collection.size());
+                return align(HEADER + 3 * REFERENCE) + (capacity == 0 ? 0 : align(ARRAY_HEADER + capacity * REFERENCE));
+            }
+            if (type.getName().startsWith("java.")) {
+                throw new AssertionError("Cannot size " + type.getName());
+            }
+            long bytes = HEADER;
+            for (Field field : fields(type)) {
+                bytes += width(field.getType());
+                if (!field.getType().isPrimitive()) {
+                    try {
+                        push(thePending, field.get(theObject));
+                    } catch (IllegalAccessException e) {
+                        throw new AssertionError(e);
+                    }
+                }
+            }
+            return align(bytes);
+        }
+
+        private List<Field> fields(final Class<?> theType) {
+            return myFields.computeIfAbsent(theType, type -> {
+                List<Field> fields = new ArrayList<>();
+                for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                    for (Field field : c.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            field.setAccessible(true);
+                            fields.add(field);
+                        }
+                    }
+                }
+                return fields;
+            });
+        }
+
+        private static int width(final Class<?> theType) {
+            if (theType == long.class || theType == double.class) {
+                return 8;
+            }
+            if (theType == int.class || theType == float.class) {
+                return 4;
+            }
+            if (theType == short.class || theType == char.class) {
+                return 2;
+            }
+            if (theType == byte.class || theType == boolean.class) {
+                return 1;
+            }
+            return REFERENCE;
+        }
+
+        private static long align(final long theBytes) {
+            return (theBytes + 7) & ~7L;
+        }
+    }
+}
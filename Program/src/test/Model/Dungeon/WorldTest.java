@@ -0,0 +1,336 @@
+package test.Model.Dungeon;
+
+import main.Model.dungeon.ChunkFileStore;
+import main.Model.dungeon.ChunkManager;
+import main.Model.dungeon.ChunkStore;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.DungeonDelta;
+import main.Model.dungeon.EllerMaze;
+import main.Model.dungeon.Maze;
+import main.Model.dungeon.MazeFile;
+import main.Model.dungeon.MazeGenerators;
+import main.Model.dungeon.Room;
+import main.Model.util.Direction;
+import main.Model.util.Point;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WorldTest {
+    private static final int CHUNK = ChunkManager.DEFAULT_CHUNK_SIZE;
+
+    private Path myDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        myDirectory = Files.createTempDirectory("world-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(myDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Dungeon world(final String theStore, final int theMaxResident) {
+        return Dungeon.createWorld(3 * CHUNK + 5, 2 * CHUNK + 7, "Medium", 77L, MazeGenerators.BACKTRACKER,
+                new ChunkFileStore(myDirectory.resolve(theStore)), theMaxResident);
+    }
+
+    @Test
+    @DisplayName("A world should generate the same rooms whatever order its chunks are reached in")
+    void testChunksDeterministic() {
+        Dungeon forward = world("forward", 64);
+        Dungeon backward = world("backward", 64);
+        for (int y = backward.getHeight() - 1; y >= 0; y--) {
+            for (int x = backward.getWidth() - 1; x >= 0; x--) {
+                backward.getRoom(x, y);
+            }
+        }
+        for (int y = 0; y < forward.getHeight(); y++) {
+            for (int x = 0; x < forward.getWidth(); x++) {
+                Room a = forward.getRoom(x, y);
+                Room b = backward.getRoom(x, y);
+                assertEquals(new Point(x, y), a.getPosition());
+                assertEquals(a.getRoomType(), b.getRoomType(), "(" + x + ", " + y + ")");
+                assertEquals(a.hasNorthDoor(), b.hasNorthDoor());
+                assertEquals(a.hasEastDoor(), b.hasEastDoor());
+                assertEquals(a.hasSouthDoor(), b.hasSouthDoor());
+                assertEquals(a.hasWestDoor(), b.hasWestDoor());
+                assertEquals(a.hasPillar(), b.hasPillar());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Doors should match across chunk borders and every room should be reachable")
+    void testWorldConnected() {
+        Dungeon world = world("connected", 4);
+        int pillars = 0;
+        for (int y = 0; y < world.getHeight(); y++) {
+            for (int x = 0; x < world.getWidth(); x++) {
+                Room room = world.getRoom(x, y);
+                if (x + 1 < world.getWidth()) {
+                    assertEquals(room.hasEastDoor(), world.getRoom(x + 1, y).hasWestDoor(), "(" + x + ", " + y + ")");
+                } else {
+                    assertFalse(room.hasEastDoor());
+                }
+                if (y + 1 < world.getHeight()) {
+                    assertEquals(room.hasSouthDoor(), world.getRoom(x, y + 1).hasNorthDoor(), "(" + x + ", " + y + ")");
+                } else {
+                    assertFalse(room.hasSouthDoor());
+                }
+                pillars += world.getRoom(x, y).hasPillar() ? 1 : 0;
+            }
+        }
+        assertEquals(4, pillars);
+        assertEquals(4, world.getTotalPillars());
+        assertEquals(RoomType.ENTRANCE, world.getRoom(world.getHeroSpawnPoint()).getRoomType());
+        assertEquals(RoomType.EXIT, world.getRoom(world.getExitPoint()).getRoomType());
+
+        boolean[] seen = new boolean[world.getWidth() * world.getHeight()];
+        ArrayDeque<Point> queue = new ArrayDeque<>();
+        queue.add(new Point(0, 0));
+        seen[0] = true;
+        int reached = 0;
+        while (!queue.isEmpty()) {
+            Point point = queue.poll();
+            reached++;
+            Room room = world.getRoom(point);
+            Point[] next = {
+                    room.hasNorthDoor() ? new Point(point.getX(), point.getY() - 1) : null,
+                    room.hasSouthDoor() ? new Point(point.getX(), point.getY() + 1) : null,
+                    room.hasWestDoor() ? new Point(point.getX() - 1, point.getY()) : null,
+                    room.hasEastDoor() ? new Point(point.getX() + 1, point.getY()) : null};
+            for (Point neighbor : next) {
+                if (neighbor != null && !seen[neighbor.getY() * world.getWidth() + neighbor.getX()]) {
+                    seen[neighbor.getY() * world.getWidth() + neighbor.getX()] = true;
+                    queue.add(neighbor);
+                }
+            }
+        }
+        assertEquals(seen.length, reached);
+    }
+
+    @Test
+    @DisplayName("Changed chunks should survive eviction and memory should stay within the budget")
+    void testEvictionKeepsChanges() {
+        Dungeon world = world("evict", 2);
+        world.getRoom(3, 4).setVisited(true);
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkY = 0; chunkY < 3; chunkY++) {
+                world.getRoom(Math.min(chunkX * CHUNK, world.getWidth() - 1), chunkY * CHUNK);
+                assertTrue(world.getChunkManager().getResidentChunkCount() <= 2);
+            }
+        }
+        assertTrue(world.getChunkManager().getEvictionCount() > 0);
+        assertTrue(Files.exists(myDirectory.resolve("evict").resolve("chunk_0_0.bin")));
+        assertFalse(Files.exists(myDirectory.resolve("evict").resolve("chunk_1_0.bin")));
+
+        assertTrue(world.getRoom(3, 4).isVisited());
+        assertFalse(world.getRoom(4, 4).isVisited());
+    }
+
+    @Test
+    @DisplayName("A change to a room whose chunk was evicted should survive the next eviction and reload")
+    void testChangeAfterEvictionKept() {
+        Dungeon world = world("stale", 2);
+        Room stale = world.getRoom(3, 4);
+        for (int chunkX = 1; chunkX < 4; chunkX++) {
+            world.getRoom(Math.min(chunkX * CHUNK, world.getWidth() - 1), CHUNK);
+        }
+        long evictions = world.getChunkManager().getEvictionCount();
+        assertTrue(evictions > 0);
+
+        // The chunk comes back with the changed room in it
+        stale.setVisited(true);
+        assertSame(stale, world.getRoom(3, 4));
+        for (int chunkX = 1; chunkX < 4; chunkX++) {
+            world.getRoom(Math.min(chunkX * CHUNK, world.getWidth() - 1), CHUNK);
+        }
+        assertTrue(world.getChunkManager().getEvictionCount() > evictions);
+
+        Room reloaded = world.getRoom(3, 4);
+        assertNotSame(stale, reloaded);
+        assertTrue(reloaded.isVisited());
+        assertFalse(world.getRoom(4, 4).isVisited());
+    }
+
+    @Test
+    @DisplayName("The hero's chunk should stay in memory however many other chunks are reached")
+    void testHeroChunkPinned() {
+        Dungeon world = world("pinned", 3);
+        Room room = world.getRoom(3, 4);
+        world.prefetchAhead(new Point(3, 4), Direction.SOUTH);
+        world.getChunkManager().close();
+        for (int chunkX = 0; chunkX < 4; chunkX++) {
+            for (int chunkY = 1; chunkY < 3; chunkY++) {
+                world.getRoom(Math.min(chunkX * CHUNK, world.getWidth() - 1), chunkY * CHUNK);
+                assertTrue(world.getChunkManager().getResidentChunkCount() <= 3);
+            }
+        }
+        assertTrue(world.getChunkManager().getEvictionCount() > 0);
+        assertSame(room, world.getRoom(3, 4));
+    }
+
+    @Test
+    @DisplayName("flushChunks should save changes that a new world over the same store reads back")
+    void testFlushPersists() throws IOException {
+        Dungeon world = world("flush", 8);
+        world.getRoom(40, 10).setVisited(true);
+        world.flushChunks();
+
+        Dungeon reopened = world("flush", 8);
+        assertTrue(reopened.getRoom(40, 10).isVisited());
+        assertFalse(reopened.getRoom(41, 10).isVisited());
+    }
+
+    @Test
+    @DisplayName("A slow chunk save should neither block rooms nor lose changes made while it runs")
+    void testSaveOutsideLock() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChunkFileStore files = new ChunkFileStore(myDirectory.resolve("slow"));
+        ChunkStore slow = new ChunkStore() {
+            @Override
+            public DungeonDelta load(final int theChunkX, final int theChunkY) throws IOException {
+                return files.load(theChunkX, theChunkY);
+            }
+
+            @Override
+            public void save(final int theChunkX, final int theChunkY, final DungeonDelta theRooms)
+                    throws IOException {
+                saving.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                files.save(theChunkX, theChunkY, theRooms);
+            }
+        };
+        Dungeon world = Dungeon.createWorld(3 * CHUNK + 5, 2 * CHUNK + 7, "Medium", 77L,
+                MazeGenerators.BACKTRACKER, slow, 8);
+        world.getRoom(3, 4).setVisited(true);
+        Thread flush = new Thread(() -> {
+            try {
+                world.flushChunks();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        flush.setDaemon(true);
+        flush.start();
+        assertTrue(saving.await(10, TimeUnit.SECONDS));
+
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                assertEquals(1, world.getChunkManager().getResidentChunkCount());
+                world.getRoom(5, 6).setVisited(true);
+            });
+        } finally {
+            release.countDown();
+        }
+        flush.join();
+        world.flushChunks();
+
+        Dungeon reopened = world("slow", 8);
+        assertTrue(reopened.getRoom(3, 4).isVisited());
+        assertTrue(reopened.getRoom(5, 6).isVisited());
+    }
+
+    @Test
+    @DisplayName("prefetchAhead should load the next chunk in the travel direction in the background")
+    void testPrefetchAhead() throws InterruptedException {
+        Dungeon world = world("prefetch", 8);
+        ChunkManager chunks = world.getChunkManager();
+        world.getRoom(CHUNK - 1, 0);
+        world.prefetchAhead(new Point(CHUNK - 1, 0), Direction.EAST);
+        for (int i = 0; i < 200 && chunks.getPrefetchCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, chunks.getPrefetchCount());
+        long misses = chunks.getMissCount();
+        world.getRoom(CHUNK, 0);
+        assertEquals(misses, chunks.getMissCount());
+
+        // Nothing lies north of the top row
+        world.prefetchAhead(new Point(0, 0), Direction.NORTH);
+        chunks.close();
+        assertEquals(1, chunks.getPrefetchCount());
+    }
+
+    @Test
+    @DisplayName("A world should refuse to become a save payload")
+    void testWorldIsNotAPayload() {
+        Dungeon world = world("payload", 4);
+        assertTrue(world.isWorld());
+        assertNull(world.toSaveBytes());
+        assertFalse(new Dungeon(5, 5, "Easy", 1L).isWorld());
+    }
+
+    @Test
+    @DisplayName("A world on a maze file should keep the file's doors, matched across chunk borders")
+    void testMapWorld() throws IOException {
+        int width = 3 * CHUNK + 5;
+        int height = 2 * CHUNK + 7;
+        Path path = myDirectory.resolve("map.ddm");
+        try (MazeFile map = MazeFile.create(path, width, height)) {
+            EllerMaze.stream(width, height, new SplittableRandom(9L), map);
+        }
+        try (MazeFile map = MazeFile.open(path)) {
+            Dungeon world = Dungeon.createWorld(map, "Medium", 77L, new ChunkFileStore(myDirectory.resolve("map")), 4);
+            assertEquals(width, world.getWidth());
+            assertEquals(height, world.getHeight());
+            int pillars = 0;
+            int loops = 0;
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    Room room = world.getRoom(x, y);
+                    int doors = (room.hasNorthDoor() ? Maze.NORTH : 0) | (room.hasEastDoor() ? Maze.EAST : 0)
+                            | (room.hasSouthDoor() ? Maze.SOUTH : 0) | (room.hasWestDoor() ? Maze.WEST : 0);
+                    int mapped = map.getDoors(x, y);
+                    assertEquals(mapped, doors & mapped, "(" + x + ", " + y + ")");
+                    loops += Integer.bitCount(doors & ~mapped);
+                    if (x + 1 < width) {
+                        assertEquals(room.hasEastDoor(), world.getRoom(x + 1, y).hasWestDoor(),
+                                "(" + x + ", " + y + ")");
+                    }
+                    if (y + 1 < height) {
+                        assertEquals(room.hasSouthDoor(), world.getRoom(x, y + 1).hasNorthDoor(),
+                                "(" + x + ", " + y + ")");
+                    }
+                    pillars += room.hasPillar() ? 1 : 0;
+                }
+            }
+            assertTrue(loops > 0, "chunks should still add loops");
+            assertEquals(4, pillars);
+            assertEquals(RoomType.ENTRANCE, world.getRoom(world.getHeroSpawnPoint()).getRoomType());
+        }
+
+        try (MazeFile partial = MazeFile.create(myDirectory.resolve("partial.ddm"), width, height)) {
+            EllerMaze.stream(width, 1, new SplittableRandom(9L), partial);
+            assertThrows(IllegalArgumentException.class, () -> Dungeon.createWorld(partial, "Medium", 77L,
+                    new ChunkFileStore(myDirectory.resolve("partial")), 4));
+        }
+    }
+}
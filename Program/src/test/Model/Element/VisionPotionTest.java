@@ -100,6 +100,21 @@ public class VisionPotionTest {
         assertTrue(myDungeon.getRoom(4, 4).isVisited());
     }
 
+    @Test
+    void use_wideDungeonRevealsByWidthAndHeight() {
+        Dungeon wide = new Dungeon(20, 5, "Normal", 3L);
+        Hero hero = new HeroFactory().getHero("name", HeroType.THIEF, new Point(15, 4));
+        VisionPotion potion = new VisionPotion("Vision Potion", "Reveals Tiles", wide);
+        long before = wide.getExploredCount();
+        hero.pickupItem(potion);
+        hero.useItem(potion);
+        for (int x = 14; x <= 16; x++) {
+            assertTrue(wide.getRoom(x, 3).isVisited());
+            assertTrue(wide.getRoom(x, 4).isVisited());
+        }
+        assertTrue(wide.getExploredCount() - before <= 6);
+    }
+
     @Test
     void use_nullTest() {
         Hero nullHero = null;
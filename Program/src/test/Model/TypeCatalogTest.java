@@ -0,0 +1,61 @@
+package test.Model;
+
+import main.Model.TypeCatalog;
+import main.Model.TypeCatalog.HeroStats;
+import main.Model.TypeCatalog.MonsterStats;
+import main.Model.util.HeroType;
+import main.Model.util.MonsterType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeCatalogTest {
+
+    @Test
+    void getInstance_returnsSameCatalog() {
+        assertSame(TypeCatalog.getInstance(), TypeCatalog.getInstance());
+    }
+
+    @Test
+    void getMonsterStats_everyTypePresent() {
+        TypeCatalog catalog = TypeCatalog.getInstance();
+        for (MonsterType type : MonsterType.values()) {
+            MonsterStats stats = catalog.getMonsterStats(type);
+            assertNotNull(stats);
+            assertEquals(type.getName(), stats.getName());
+            assertEquals(type.getBaseAttack(), stats.getAttack());
+            assertEquals(type.isElite(), stats.isElite());
+        }
+    }
+
+    @Test
+    void getHeroStats_everyTypePresent() {
+        TypeCatalog catalog = TypeCatalog.getInstance();
+        for (HeroType type : HeroType.values()) {
+            HeroStats stats = catalog.getHeroStats(type);
+            assertNotNull(stats);
+            assertEquals(type.getBaseHealth(), stats.getBaseHealth());
+            assertEquals(type.getSpecialAttackDamage(), stats.getSpecialAttackDamage());
+        }
+    }
+
+    @Test
+    void getMonsterStats_nullType() {
+        assertThrows(NullPointerException.class, () -> TypeCatalog.getInstance().getMonsterStats(null));
+    }
+
+    @Test
+    void getHeroStats_nullType() {
+        assertThrows(IllegalArgumentException.class, () -> TypeCatalog.getInstance().getHeroStats(null));
+    }
+
+    @Test
+    void reload_replacesSharedInstance() {
+        TypeCatalog before = TypeCatalog.getInstance();
+        TypeCatalog after = TypeCatalog.reload();
+        assertNotSame(before, after);
+        assertSame(after, TypeCatalog.getInstance());
+        assertEquals(before.getMonsterStats(MonsterType.GIANT).getHealth(),
+                after.getMonsterStats(MonsterType.GIANT).getHealth());
+    }
+}
@@ -0,0 +1,59 @@
+package test.Model.Util;
+
+import main.Model.util.Coordinates;
+import main.Model.util.Point;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoordinatesTest {
+
+    @Test
+    void pack_roundTripsAnyInts() {
+        int[] values = {0, 1, -1, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int x : values) {
+            for (int y : values) {
+                long packed = Coordinates.pack(x, y);
+                assertEquals(x, Coordinates.x(packed), "x of (" + x + "," + y + ")");
+                assertEquals(y, Coordinates.y(packed), "y of (" + x + "," + y + ")");
+            }
+        }
+    }
+
+    @Test
+    void pack_isDistinctPerPosition() {
+        Set<Long> seen = new HashSet<>();
+        for (int y = -20; y < 20; y++) {
+            for (int x = -20; x < 20; x++) {
+                assertTrue(seen.add(Coordinates.pack(x, y)), "(" + x + "," + y + ") collides");
+            }
+        }
+    }
+
+    @Test
+    void pack_acceptsPoints() {
+        assertEquals(Coordinates.pack(7, -3), Coordinates.pack(new Point(7, -3)));
+        assertThrows(IllegalArgumentException.class, () -> Coordinates.pack(null));
+    }
+
+    @Test
+    void toPoint_givesCanonicalPoint() {
+        assertSame(Point.of(5, 6), Coordinates.toPoint(Coordinates.pack(5, 6)));
+        assertEquals(new Point(-5, 6), Coordinates.toPoint(Coordinates.pack(-5, 6)));
+    }
+
+    @Test
+    void hash_spreadsNeighboringPositions() {
+        // A 64x64 block of positions should fill most of 4096 slots
+        Set<Integer> slots = new HashSet<>();
+        for (int y = 0; y < 64; y++) {
+            for (int x = 0; x < 64; x++) {
+                slots.add(Coordinates.hash(Coordinates.pack(x, y)) & 4095);
+            }
+        }
+        assertTrue(slots.size() > 2048, "only " + slots.size() + " slots used");
+    }
+}
@@ -0,0 +1,104 @@
+package test.Model.Util;
+
+import main.Model.util.Coordinates;
+import main.Model.util.LongObjectMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+
+    @Test
+    void putAndGet_workForPackedPositions() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(Coordinates.pack(1, 2), "a");
+        map.put(Coordinates.pack(-1, 2), "b");
+        assertEquals("a", map.get(Coordinates.pack(1, 2)));
+        assertEquals("b", map.get(Coordinates.pack(-1, 2)));
+        assertNull(map.get(Coordinates.pack(2, 1)));
+        assertTrue(map.containsKey(Coordinates.pack(1, 2)));
+        assertFalse(map.containsKey(Coordinates.pack(2, 1)));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void put_replacesValueInPlace() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, "a");
+        map.put(2L, "b");
+        assertEquals("a", map.put(1L, "c"));
+        assertEquals(List.of("c", "b"), map.values());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void put_rejectsNullValues() {
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectMap<String>().put(1L, null));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectMap<String>(-1));
+    }
+
+    @Test
+    void values_keepInsertionOrderAcrossGrowth() {
+        LongObjectMap<Integer> map = new LongObjectMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(Coordinates.pack(i % 10, i / 10), i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, map.valueAt(i));
+            assertEquals(Coordinates.pack(i % 10, i / 10), map.keyAt(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> map.valueAt(100));
+    }
+
+    @Test
+    void remove_movesLastEntryIntoGap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.put(3L, "c");
+        assertEquals("a", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertEquals(List.of("c", "b"), map.values());
+        assertEquals("c", map.get(3L));
+        assertEquals("b", map.get(2L));
+    }
+
+    @Test
+    void clear_emptiesAndStaysUsable() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, "a");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1L));
+        map.put(1L, "b");
+        assertEquals("b", map.get(1L));
+    }
+
+    @Test
+    void randomOperations_matchHashMap() {
+        // Keys from a small range collide often, exercising probing and backward shifts
+        Random random = new Random(20261018L);
+        LongObjectMap<Integer> map = new LongObjectMap<>();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            long key = Coordinates.pack(random.nextInt(40) - 20, random.nextInt(40) - 20);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        for (int i = 0; i < map.size(); i++) {
+            assertEquals(expected.get(map.keyAt(i)), map.valueAt(i));
+        }
+    }
+}
@@ -3,6 +3,9 @@ package test.Model.Util;
 import main.Model.util.Point;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -254,4 +257,29 @@ class PointTest {
         assertDoesNotThrow(() -> maxPoint.equals(minPoint), "equals should handle extreme values.");
         assertDoesNotThrow(() -> maxPoint.hashCode(), "hashCode should handle extreme values.");
     }
+
+    @Test
+    void hashCode_matchesObjectsHash() {
+        assertEquals(Objects.hash(3, 4), point1.hashCode());
+        assertEquals(Objects.hash(-2, -3), negativePoint.hashCode());
+        assertEquals(Objects.hash(Integer.MAX_VALUE, Integer.MIN_VALUE),
+                new Point(Integer.MAX_VALUE, Integer.MIN_VALUE).hashCode());
+    }
+
+    @Test
+    void of_sharesPointsInsideCache() {
+        assertSame(Point.of(3, 4), Point.of(3, 4), "Cached positions should share one point.");
+        assertEquals(point1, Point.of(3, 4));
+        int last = Point.CACHE_LIMIT - 1;
+        assertSame(Point.of(last, last), Point.of(last, last));
+    }
+
+    @Test
+    void of_makesPointsOutsideCache() {
+        assertEquals(negativePoint, Point.of(-2, -3));
+        Point far = Point.of(Point.CACHE_LIMIT, 0);
+        assertEquals(Point.CACHE_LIMIT, far.getX());
+        assertEquals(0, far.getY());
+        assertEquals(far, Point.of(Point.CACHE_LIMIT, 0));
+    }
 }
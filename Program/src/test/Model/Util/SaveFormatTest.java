@@ -0,0 +1,83 @@
+package test.Model.Util;
+
+import main.Model.util.SaveFormat;
+import main.Model.util.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveFormatTest {
+
+    @Test
+    void varInt_roundTripsAndStaysShort() throws IOException {
+        int[] values = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE};
+        int[] sizes = {1, 1, 1, 2, 2, 2, 3, 5};
+        for (int i = 0; i < values.length; i++) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SaveFormat.writeVarInt(new DataOutputStream(bytes), values[i]);
+            assertEquals(sizes[i], bytes.size(), "size of " + values[i]);
+            assertEquals(values[i], SaveFormat.readVarInt(in(bytes)));
+        }
+    }
+
+    @Test
+    void varInt_rejectsNegative() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SaveFormat.writeVarInt(new DataOutputStream(new ByteArrayOutputStream()), -1));
+    }
+
+    @Test
+    void signedVarInt_roundTrips() throws IOException {
+        int[] values = {0, -1, 1, -64, 63, -65, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        for (int value : values) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            SaveFormat.writeSignedVarInt(new DataOutputStream(bytes), value);
+            assertEquals(value, SaveFormat.readSignedVarInt(in(bytes)));
+        }
+    }
+
+    @Test
+    void string_roundTrips() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        SaveFormat.writeString(out, "Spike Trap");
+        SaveFormat.writeString(out, "");
+        DataInputStream in = in(bytes);
+        assertEquals("Spike Trap", SaveFormat.readString(in));
+        assertEquals("", SaveFormat.readString(in));
+    }
+
+    @Test
+    void header_checksKindAndVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SaveFormat.writeHeader(new DataOutputStream(bytes), SaveFormat.KIND_DUNGEON);
+        assertTrue(SaveFormat.isBinary(bytes.toByteArray()));
+        assertEquals(SaveFormat.VERSION, SaveFormat.readHeader(in(bytes), SaveFormat.KIND_DUNGEON));
+        assertThrows(IOException.class, () -> SaveFormat.readHeader(in(bytes), SaveFormat.KIND_HERO));
+    }
+
+    @Test
+    void isBinary_falseForJson() {
+        assertFalse(SaveFormat.isBinary("{\"width\":10}".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(SaveFormat.isBinary(new byte[0]));
+        assertFalse(SaveFormat.isBinary(null));
+    }
+
+    @Test
+    void readOrdinal_rejectsOutOfRange() {
+        byte[] data = {(byte) RoomType.values().length};
+        assertThrows(IOException.class, () -> SaveFormat.readOrdinal(
+                new DataInputStream(new ByteArrayInputStream(data)), RoomType.values()));
+    }
+
+    private static DataInputStream in(final ByteArrayOutputStream theBytes) {
+        return new DataInputStream(new ByteArrayInputStream(theBytes.toByteArray()));
+    }
+}
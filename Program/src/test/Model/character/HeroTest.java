@@ -13,6 +13,8 @@ import main.Model.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -410,4 +412,50 @@ class HeroTest {
     void fromJson_nullCheck() {
         assertNull(Hero.fromJson("This will give error hopefully"));
     }
+
+    @Test
+    void toSaveBytes_roundTrip() {
+        myWarrior.addGold(37);
+        myWarrior.setPillarsActivated(2);
+        myWarrior.setPixelPosition(12.5, 40.25);
+        myWarrior.pickupItem(new HealthPotion("Health Potion", "Heals 50", 50));
+        myWarrior.pickupItem(new HealthPotion("Vision Potion", "Reveals nearby tiles", 0));
+
+        byte[] data = myWarrior.toSaveBytes();
+        assertTrue(SaveFormat.isBinary(data));
+
+        Hero hero = Hero.fromSaveBytes(data);
+        assertNotNull(hero);
+        assertEquals("Conan", hero.getName());
+        assertEquals(HeroType.WARRIOR, hero.getType());
+        assertEquals(myWarrior.getHealth(), hero.getHealth());
+        assertEquals(37, hero.getGold());
+        assertEquals(2, hero.getPillarsActivated());
+        assertEquals(12.5, hero.getPixelX());
+        assertEquals(40.25, hero.getPixelY());
+        assertEquals(2, hero.getInventory().size());
+        assertEquals("Health Potion", hero.getInventory().get(0).getName());
+        assertEquals("VisionPlaceholder", hero.getInventory().get(1).getName());
+    }
+
+    @Test
+    void toSaveBytes_smallerThanJson() {
+        assertTrue(myWarrior.toSaveBytes().length * 4 < myWarrior.toJson().length());
+    }
+
+    @Test
+    void fromSaveBytes_readsLegacyJson() {
+        Hero hero = Hero.fromSaveBytes(myWarrior.toJson().getBytes(StandardCharsets.UTF_8));
+        assertNotNull(hero);
+        assertEquals(myWarrior.toJson(), hero.toJson());
+    }
+
+    @Test
+    void fromSaveBytes_rejectsCorruptData() {
+        byte[] data = myWarrior.toSaveBytes();
+        assertNull(Hero.fromSaveBytes(Arrays.copyOf(data, data.length - 3)));
+        assertNull(Hero.fromSaveBytes(null));
+        data[2] = SaveFormat.KIND_DUNGEON;
+        assertNull(Hero.fromSaveBytes(data));
+    }
 }
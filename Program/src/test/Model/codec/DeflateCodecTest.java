@@ -0,0 +1,85 @@
+package test.Model.codec;
+
+import main.Model.codec.DeflateCodec;
+import main.Model.codec.PayloadCodec;
+import main.Model.codec.PayloadCodecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeflateCodecTest {
+    private static final byte[] PAYLOAD = "{\"roomType\":\"EMPTY\",\"hasNorthDoor\":true}".repeat(50)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void encode_roundTripsAtEveryLevel() throws IOException {
+        for (int level = 1; level <= 9; level++) {
+            DeflateCodec codec = new DeflateCodec(PayloadCodecs.DEFLATE_ID, level, null);
+            byte[] encoded = codec.encode(PAYLOAD);
+            assertTrue(encoded.length < PAYLOAD.length);
+            assertArrayEquals(PAYLOAD, codec.decode(encoded));
+        }
+    }
+
+    @Test
+    void encode_roundTripsEmptyPayload() throws IOException {
+        DeflateCodec codec = new DeflateCodec(PayloadCodecs.DEFLATE_ID, 6, null);
+        assertArrayEquals(new byte[0], codec.decode(codec.encode(new byte[0])));
+    }
+
+    @Test
+    void constructor_rejectsBadLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new DeflateCodec(1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new DeflateCodec(1, 10, null));
+    }
+
+    @Test
+    void dictionary_shrinksSmallPayloads() throws IOException {
+        byte[] dictionary = "\"roomType\":\"EMPTY\",\"hasNorthDoor\":true".getBytes(StandardCharsets.UTF_8);
+        byte[] small = "{\"roomType\":\"EMPTY\",\"hasNorthDoor\":false}".getBytes(StandardCharsets.UTF_8);
+        DeflateCodec primed = new DeflateCodec(9, 6, dictionary);
+        DeflateCodec plain = new DeflateCodec(PayloadCodecs.DEFLATE_ID, 6, null);
+
+        byte[] encoded = primed.encode(small);
+        assertTrue(encoded.length < plain.encode(small).length);
+        assertArrayEquals(small, primed.decode(encoded));
+        // any level decodes, the level only matters when encoding
+        assertArrayEquals(small, primed.withLevel(1).decode(encoded));
+    }
+
+    @Test
+    void decode_withoutDictionaryFails() {
+        byte[] dictionary = "roomType".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new DeflateCodec(9, 6, dictionary).encode(PAYLOAD);
+        assertThrows(IOException.class, () -> new DeflateCodec(PayloadCodecs.DEFLATE_ID, 6, null).decode(encoded));
+        assertThrows(IOException.class,
+                () -> new DeflateCodec(9, 6, "other".getBytes(StandardCharsets.UTF_8)).decode(encoded));
+    }
+
+    @Test
+    void decode_corruptPayloadFails() {
+        DeflateCodec codec = new DeflateCodec(PayloadCodecs.DEFLATE_ID, 6, null);
+        byte[] encoded = codec.encode(PAYLOAD);
+        assertThrows(IOException.class, () -> codec.decode(Arrays.copyOf(encoded, encoded.length / 2)));
+        assertThrows(IOException.class, () -> codec.decode(new byte[] {5, 1, 2, 3}));
+        assertThrows(IOException.class, () -> codec.decode(new byte[0]));
+    }
+
+    @Test
+    void payloadCodecs_parseSettings() throws IOException {
+        assertSame(PayloadCodecs.NONE, PayloadCodecs.parse("none"));
+        assertEquals("deflate:9", PayloadCodecs.parse("deflate:9").getName());
+        assertEquals("deflate:6", PayloadCodecs.parse("DEFLATE").getName());
+        assertEquals("dictionary:1", PayloadCodecs.parse("dictionary:0").getName());
+        assertEquals("dictionary:6", PayloadCodecs.parse("gzip").getName());
+        assertEquals(PayloadCodecs.DICTIONARY_ID, PayloadCodecs.parse("dictionary:9").getId());
+
+        PayloadCodec dictionary = PayloadCodecs.parse("dictionary:9");
+        assertArrayEquals(PAYLOAD, PayloadCodecs.forId(dictionary.getId()).decode(dictionary.encode(PAYLOAD)));
+        assertThrows(IOException.class, () -> PayloadCodecs.forId(99));
+    }
+}
@@ -0,0 +1,154 @@
+package test.Model.journal;
+
+import main.Model.character.Hero;
+import main.Model.character.HeroFactory;
+import main.Model.dungeon.Dungeon;
+import main.Model.dungeon.Room;
+import main.Model.journal.GameEvent;
+import main.Model.journal.GameJournal;
+import main.Model.util.HeroType;
+import main.Model.util.Point;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    private Path myDirectory;
+    private GameJournal myJournal;
+    private Dungeon myDungeon;
+    private Hero myHero;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        myDirectory = Files.createTempDirectory("journal-test");
+        myJournal = new GameJournal(myDirectory);
+        myDungeon = new Dungeon(10, 10, "Easy", true);
+        myHero = new HeroFactory().getHero("Conan", HeroType.WARRIOR, new Point(0, 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        myJournal.close();
+        try (Stream<Path> files = Files.walk(myDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    void recover_withoutSession_returnsNull() {
+        assertFalse(myJournal.hasRecoverableGame());
+        assertNull(myJournal.recover());
+    }
+
+    @Test
+    void recover_replaysEventsAfterCheckpoint() {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        Room first = visit(1, 0);
+        Room second = visit(2, 1);
+        myHero.addGold(25);
+        append(GameEvent.Type.ROOM_ENTERED, first);
+        append(GameEvent.Type.ROOM_ENTERED, second);
+
+        GameJournal.Recovery recovery = myJournal.recover();
+        assertNotNull(recovery);
+        assertEquals(2, recovery.getReplayedEvents());
+        assertEquals(myHero.getGold(), recovery.getHero().getGold());
+        assertTrue(recovery.getDungeon().getRoom(1, 0).isVisited());
+        assertTrue(recovery.getDungeon().getRoom(2, 1).isVisited());
+        assertEquals(1, myJournal.getSyncCount(), "both events should share one fsync");
+    }
+
+    @Test
+    void checkpoint_startsEmptyJournal() throws IOException {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        append(GameEvent.Type.ROOM_ENTERED, visit(1, 0));
+        myJournal.flush();
+        myJournal.checkpoint(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+
+        GameJournal.Recovery recovery = myJournal.recover();
+        assertEquals(0, recovery.getReplayedEvents());
+        assertTrue(recovery.getDungeon().getRoom(1, 0).isVisited());
+        assertEquals(2, myJournal.getCheckpointCount());
+        assertEquals(12, Files.size(myDirectory.resolve("game.journal")));
+    }
+
+    @Test
+    void recover_dropsTornTail() throws IOException {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        append(GameEvent.Type.ROOM_ENTERED, visit(1, 0));
+        append(GameEvent.Type.ROOM_ENTERED, visit(2, 1));
+        myJournal.flush();
+
+        // cut the last record short, as a crash in the middle of a write would
+        Path journal = myDirectory.resolve("game.journal");
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(journal) - 3);
+        }
+
+        GameJournal.Recovery recovery = myJournal.recover();
+        assertEquals(1, recovery.getReplayedEvents());
+        assertTrue(recovery.getDungeon().getRoom(1, 0).isVisited());
+        assertFalse(recovery.getDungeon().getRoom(2, 1).isVisited());
+    }
+
+    @Test
+    void recover_ignoresJournalOfOlderCheckpoint() throws IOException {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        append(GameEvent.Type.ROOM_ENTERED, visit(1, 0));
+        myJournal.flush();
+        byte[] oldJournal = Files.readAllBytes(myDirectory.resolve("game.journal"));
+
+        myJournal.checkpoint(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        myJournal.flush();
+        Files.write(myDirectory.resolve("game.journal"), oldJournal);
+
+        assertEquals(0, myJournal.recover().getReplayedEvents());
+    }
+
+    @Test
+    void endSession_deletesFilesAndIgnoresAppends() {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        myJournal.endSession();
+        append(GameEvent.Type.ROOM_ENTERED, visit(1, 0));
+        myJournal.flush();
+
+        assertFalse(myJournal.hasRecoverableGame());
+        assertEquals(0, myJournal.getWrittenCount());
+    }
+
+    @Test
+    void isCheckpointDue_afterInterval() {
+        myJournal.startSession(myHero.toSaveBytes(), myDungeon.toSaveBytes());
+        Room room = visit(1, 0);
+        for (int i = 0; i < GameJournal.CHECKPOINT_INTERVAL - 1; i++) {
+            append(GameEvent.Type.ROOM_ENTERED, room);
+        }
+        assertFalse(myJournal.isCheckpointDue());
+        append(GameEvent.Type.ROOM_ENTERED, room);
+        assertTrue(myJournal.isCheckpointDue());
+    }
+
+    private Room visit(final int theX, final int theY) {
+        Room room = myDungeon.getRoom(theX, theY);
+        room.setVisited(true);
+        return room;
+    }
+
+    private void append(final GameEvent.Type theType, final Room theRoom) {
+        myJournal.append(new GameEvent(theType, System.currentTimeMillis(), myHero.toSaveBytes(),
+                myDungeon.snapshotRooms(theRoom)));
+    }
+}